@@ -0,0 +1,19 @@
+package com.finitejs.modules.read;
+
+/**
+ * {@code BatchInputFormatter} can be used to format reader input before adding to
+ * {@link DataTable}, like {@link InputFormatter}, but values of a column are
+ * formatted in batches of rows, so that a single call formats many values.
+ */
+public interface BatchInputFormatter {
+
+	/**
+	 * Formats a batch of input strings of a column before adding to a {@link DataTable}.
+	 * Missing values are passed as null, and their output values are ignored.
+	 * 
+	 * @param inputValues  input string values in row order
+	 * @return output string values after formatting, in same order and with same length
+	 */
+	public String[] format(String[] inputValues);
+
+}
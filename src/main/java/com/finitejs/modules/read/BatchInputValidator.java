@@ -0,0 +1,20 @@
+package com.finitejs.modules.read;
+
+/**
+ * {@code BatchInputValidator} can be used to validate reader input before adding to
+ * {@link DataTable}, like {@link InputValidator}, but values of a column are
+ * validated in batches of rows, so that a single call validates many values.
+ * If a column is invalid in a row, that whole row will be discarded.
+ */
+public interface BatchInputValidator {
+
+	/**
+	 * Validates a batch of input strings of a column before adding to a {@link DataTable}.
+	 * Missing values are passed as null.
+	 * 
+	 * @param inputValues  input string values in row order
+	 * @return flags in same order and with same length, true if valid input value, else false
+	 */
+	public boolean[] validate(String[] inputValues);
+
+}
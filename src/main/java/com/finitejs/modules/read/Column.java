@@ -1,14 +1,61 @@
 package com.finitejs.modules.read;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.function.BinaryOperator;
+import java.util.function.IntBinaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.finitejs.modules.read.storage.BooleanStorage;
+import com.finitejs.modules.read.storage.ChunkedStorage;
+import com.finitejs.modules.read.storage.ColumnStorage;
+import com.finitejs.modules.read.storage.DateStorage;
+import com.finitejs.modules.read.storage.DateTimeStorage;
+import com.finitejs.modules.read.storage.DictionaryStorage;
+import com.finitejs.modules.read.storage.DirectNumberStorage;
+import com.finitejs.modules.read.storage.DirectTemporalStorage;
+import com.finitejs.modules.read.storage.NumberStorage;
+import com.finitejs.modules.read.storage.ObjectStorage;
+import com.finitejs.modules.read.storage.TemporalStorage;
+import com.finitejs.modules.read.storage.TimeStorage;
+import com.finitejs.modules.read.storage.ZonedDateTimeStorage;
+import com.finitejs.modules.read.types.BooleanType;
+import com.finitejs.modules.read.types.DateTimeType;
+import com.finitejs.modules.read.types.DateType;
+import com.finitejs.modules.read.types.NumberType;
+import com.finitejs.modules.read.types.StringType;
+import com.finitejs.modules.read.types.TimeType;
+import com.finitejs.modules.read.types.ZonedDateTimeType;
 
 /**
  * Class represents a column in {@link DataTable}.
+ * <p>
+ * String columns are dictionary encoded while number of distinct values is 
+ * within {@link DictionaryStorage#MAX_DICTIONARY_SIZE}, after that values 
+ * are stored as objects. Number columns are stored as primitive values, 
+ * which can be read without boxing, see {@link #getDouble(int)}. Date and 
+ * time columns are stored as primitive values since epoch, see 
+ * {@link TemporalStorage}, and values that cannot be stored so are 
+ * stored as objects. Boolean columns are stored as bits, see 
+ * {@link BooleanStorage}.
+ * </p>
+ * <p>
+ * Columns other than string columns are stored in chunks of at most 
+ * {@link ChunkedStorage#CHUNK_SIZE} values, see {@link ChunkedStorage}, 
+ * values are not copied when a column grows and a chunk that cannot 
+ * store a value is stored as objects without the other chunks.
+ * </p>
+ * <p>
+ * Off-heap columns keep number, date, time and date-time values in direct 
+ * buffers out of heap as they are added, see {@link DirectNumberStorage} and 
+ * {@link DirectTemporalStorage}. Bitmaps, dictionary codes and values stored 
+ * as objects remain in heap.
+ * </p>
  * 
  * @param <T>  type of the column
  */
@@ -24,14 +71,20 @@ public class Column<T> implements Iterable<T>{
 	 */
 	public static final String SORT_ORDER_DESC = "desc";
 	
+	/** Constant for maximum number of rows sorted by insertion sort */
+	private static final int INSERTION_SORT_SIZE = 32;
+	
 	/** Column header name */
 	private String name;
 	
 	/** Column type for type T*/
 	private ColumnType<T> type;
 	
-	/** List with column values */
-	private List<T> column;
+	/** Storage with column values */
+	private ColumnStorage<T> column;
+	
+	/** True if values are stored out of heap where possible */
+	private boolean offHeap;
 	
 	/**
 	 * Creates a new {@code Column} instance. 
@@ -39,11 +92,14 @@ public class Column<T> implements Iterable<T>{
 	 * 
 	 * @param name  column header name
 	 * @param type  column type
+	 * @param storage  storage with column values
+	 * @param offHeap  true if values are stored out of heap where possible
 	 */
-	private Column(String name, ColumnType<T> type){
-		column = new ArrayList<>();
+	private Column(String name, ColumnType<T> type, ColumnStorage<T> storage, boolean offHeap){
+		column = storage;
 		this.name = name;
 		this.type = type;
+		this.offHeap = offHeap;
 	}
 	
 	/**
@@ -52,6 +108,9 @@ public class Column<T> implements Iterable<T>{
 	 * @param value  value to be added
 	 */
 	public void add(T value){
+		if (!column.accepts(value)){
+			decode();
+		}
 		column.add(value);
 	}
 	
@@ -61,12 +120,433 @@ public class Column<T> implements Iterable<T>{
 	 * @param stringValue  string representation of the value to be added
 	 */
 	public void parseAndAdd(String stringValue){
+		if (type != null){
+			add(type.parse(stringValue));
+		}
+	}
+	
+	/**
+	 * Parse a part of a character sequence and adds to the column.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 */
+	public void parseAndAdd(CharSequence source, int offset, int length){
+		if (type != null){
+			// string values already in dictionary are added without creating a string
+			if (column instanceof DictionaryStorage && 
+					((DictionaryStorage) column).add(source, offset, length)){
+				return;
+			}
+			
+			// numbers are added without boxing
+			if (column instanceof ChunkedStorage && 
+					((ChunkedStorage<T>) column).addNumber(source, offset, length)){
+				return;
+			}
+			add(type.parse(source, offset, length));
+		}
+	}
+	
+	/**
+	 * Adds all values of another column of same type to this column.
+	 * 
+	 * @param otherColumn  column with values to be added
+	 */
+	public void addAll(Column<T> otherColumn){
+		if (column instanceof DictionaryStorage && otherColumn.column instanceof DictionaryStorage && 
+				((DictionaryStorage) column).addAll((DictionaryStorage) otherColumn.column)){
+			return;
+		}
+		
+		if (column instanceof ChunkedStorage && otherColumn.column instanceof ChunkedStorage){
+			((ChunkedStorage<T>) column).addAll((ChunkedStorage<T>) otherColumn.column);
+			return;
+		}
+		
+		for (T value : otherColumn.column){
+			add(value);
+		}
+	}
+	
+	/**
+	 * Parse a string value and replaces the column element at specified row index.
+	 * 
+	 * @param index  position of element to replace
+	 * @param stringValue  string representation of the new value
+	 */
+	public void parseAndSet(int index, String stringValue){
 		if (type != null){
 			T value = type.parse(stringValue);
-			column.add(value);
+			if (!column.accepts(value)){
+				decode();
+			}
+			column.set(index, value);
+		}
+	}
+	
+	/**
+	 * Replaces compact storage of the column with a chunked storage of 
+	 * objects, which can store any value.
+	 */
+	private void decode(){
+		column = new ChunkedStorage<>(ObjectStorage::new, column);
+	}
+	
+	/**
+	 * Checks whether column values are dictionary encoded.
+	 * 
+	 * @return true if dictionary encoded, else false
+	 */
+	public boolean isDictionaryEncoded(){
+		return column instanceof DictionaryStorage;
+	}
+	
+	/**
+	 * Returns dictionary code of column element at specified row index. 
+	 * Rows with same code have same value.
+	 * 
+	 * @param index  position of element
+	 * @return code of element, 0 if null
+	 * @throws IllegalStateException if column is not dictionary encoded
+	 */
+	public int getCode(int index){
+		if (!isDictionaryEncoded()){
+			throw new IllegalStateException("Column is not dictionary encoded");
+		}
+		return ((DictionaryStorage) column).getCode(index);
+	}
+	
+	/**
+	 * Returns number of codes used by a dictionary encoded column, 
+	 * including code 0 for null.
+	 * 
+	 * @return number of codes
+	 * @throws IllegalStateException if column is not dictionary encoded
+	 */
+	public int getCodeCount(){
+		if (!isDictionaryEncoded()){
+			throw new IllegalStateException("Column is not dictionary encoded");
+		}
+		return ((DictionaryStorage) column).getDictionary().size() + 1;
+	}
+	
+	/**
+	 * Returns distinct values of a dictionary encoded column in code order,
+	 * n<sup>th</sup> value has code {@code n + 1}.
+	 * 
+	 * @return dictionary values
+	 * @throws IllegalStateException if column is not dictionary encoded
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> getDictionary(){
+		if (!isDictionaryEncoded()){
+			throw new IllegalStateException("Column is not dictionary encoded");
+		}
+		return (List<T>) ((DictionaryStorage) column).getDictionary();
+	}
+	
+	/**
+	 * Returns number value of column element at specified row index, 
+	 * without boxing if values are stored as primitive values.
+	 * 
+	 * @param index  position of element
+	 * @return number value of element, {@code NaN} if null
+	 * @throws IllegalStateException if column is not a number column
+	 */
+	public double getDouble(int index){
+		if (column instanceof ChunkedStorage){
+			ChunkedStorage<T> storage = (ChunkedStorage<T>) column;
+			int chunkIndex = storage.getChunkIndex(index);
+			ColumnStorage<T> chunk = storage.getChunk(chunkIndex);
+			if (chunk instanceof NumberStorage){
+				return ((NumberStorage) chunk).getDouble(index - storage.getChunkStart(chunkIndex));
+			}
+			if (chunk instanceof DirectNumberStorage){
+				return ((DirectNumberStorage) chunk).getDouble(index - storage.getChunkStart(chunkIndex));
+			}
+		}
+		
+		if (!(type instanceof NumberType)){
+			throw new IllegalStateException("Column is not a number column");
+		}
+		
+		Double value = (Double) column.get(index);
+		return value == null ? Double.NaN : value;
+	}
+	
+	/**
+	 * Returns number values of a number column as an array. 
+	 * Chunks are copied in parallel.
+	 * 
+	 * @return number values in storage order, {@code NaN} for nulls
+	 * @throws IllegalStateException if column is not a number column
+	 */
+	public double[] getDoubles(){
+		double[] values = new double[column.size()];
+		if (column instanceof ChunkedStorage){
+			ChunkedStorage<T> storage = (ChunkedStorage<T>) column;
+			IntStream.range(0, storage.getChunkCount()).parallel().forEach(chunkIndex -> 
+					copyDoubles(storage.getChunk(chunkIndex), values, storage.getChunkStart(chunkIndex)));
+		}else{
+			copyDoubles(column, values, 0);
+		}
+		return values;
+	}
+	
+	/**
+	 * Copies number values of a storage to an array.
+	 * 
+	 * @param storage  storage with values of a number column
+	 * @param destination  array to copy values to
+	 * @param offset  starting position in the array
+	 * @throws IllegalStateException if column is not a number column
+	 */
+	private void copyDoubles(ColumnStorage<T> storage, double[] destination, int offset){
+		if (storage instanceof NumberStorage){
+			((NumberStorage) storage).getDoubles(0, storage.size(), destination, offset);
+			return;
+		}
+		if (storage instanceof DirectNumberStorage){
+			((DirectNumberStorage) storage).getDoubles(0, storage.size(), destination, offset);
+			return;
+		}
+		
+		if (!(type instanceof NumberType)){
+			throw new IllegalStateException("Column is not a number column");
+		}
+		
+		for (int i = 0; i < storage.size(); i++){
+			Double value = (Double) storage.get(i);
+			destination[offset + i] = value == null ? Double.NaN : value;
+		}
+	}
+
+	/**
+	 * Returns number of true values of a boolean column. Values stored 
+	 * as bits are counted a word at a time.
+	 * 
+	 * @return true count
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	public int countTrue(){
+		return countBooleans(Boolean.TRUE);
+	}
+	
+	/**
+	 * Returns number of false values of a boolean column.
+	 * 
+	 * @return false count
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	public int countFalse(){
+		return countBooleans(Boolean.FALSE);
+	}
+	
+	/**
+	 * Returns number of null values of a boolean column.
+	 * 
+	 * @return null count
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	public int countNull(){
+		return countBooleans(null);
+	}
+	
+	/**
+	 * Returns a new boolean column with values of this AND another column.
+	 * A null value is unknown, see {@link BooleanStorage}.
+	 * 
+	 * @param newName  name of the new column
+	 * @param otherColumn  boolean column with same number of values
+	 * @return combined column
+	 * @throws IllegalStateException if a column is not a boolean column
+	 * @throws IllegalArgumentException if sizes are different
+	 */
+	public Column<Boolean> and(String newName, Column<?> otherColumn){
+		return combine(newName, otherColumn, BooleanStorage::and, (a, b) -> 
+				Boolean.FALSE.equals(a) || Boolean.FALSE.equals(b) ? Boolean.FALSE : 
+				a == null || b == null ? null : Boolean.TRUE);
+	}
+	
+	/**
+	 * Returns a new boolean column with values of this OR another column.
+	 * A null value is unknown, see {@link BooleanStorage}.
+	 * 
+	 * @param newName  name of the new column
+	 * @param otherColumn  boolean column with same number of values
+	 * @return combined column
+	 * @throws IllegalStateException if a column is not a boolean column
+	 * @throws IllegalArgumentException if sizes are different
+	 */
+	public Column<Boolean> or(String newName, Column<?> otherColumn){
+		return combine(newName, otherColumn, BooleanStorage::or, (a, b) -> 
+				Boolean.TRUE.equals(a) || Boolean.TRUE.equals(b) ? Boolean.TRUE : 
+				a == null || b == null ? null : Boolean.FALSE);
+	}
+	
+	/**
+	 * Returns a new boolean column with values of NOT this column,
+	 * null values remain null.
+	 * 
+	 * @param newName  name of the new column
+	 * @return negated column
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	public Column<Boolean> not(String newName){
+		return combine(newName, this, (a, b) -> a.not(), (a, b) -> a == null ? null : !a);
+	}
+	
+	/**
+	 * Counts values of a boolean column equal to specified value.
+	 * 
+	 * @param value  value to count, can be null
+	 * @return number of values
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	private int countBooleans(Boolean value){
+		checkBooleanType();
+		
+		if (!(column instanceof ChunkedStorage)){
+			return countValues(column, value);
+		}
+		
+		ChunkedStorage<T> storage = (ChunkedStorage<T>) column;
+		int count = 0;
+		for (int chunkIndex = 0; chunkIndex < storage.getChunkCount(); chunkIndex++){
+			ColumnStorage<T> chunk = storage.getChunk(chunkIndex);
+			if (chunk instanceof BooleanStorage){
+				BooleanStorage booleanChunk = (BooleanStorage) chunk;
+				count += value == null ? booleanChunk.countNull() : 
+						value ? booleanChunk.countTrue() : booleanChunk.countFalse();
+			}else{
+				count += countValues(chunk, value);
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Counts values of a storage equal to specified value.
+	 * 
+	 * @param storage  storage with values
+	 * @param value  value to count, can be null
+	 * @return number of values
+	 */
+	private static int countValues(ColumnStorage<?> storage, Object value){
+		int count = 0;
+		for (Object storedValue : storage){
+			if (value == null ? storedValue == null : value.equals(storedValue)){
+				count++;
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Combines values of this and another boolean column into a new column.
+	 * Chunks are combined in parallel if both columns are stored in chunks of 
+	 * bits with same row boundaries, else values are combined row by row.
+	 * 
+	 * @param newName  name of the new column
+	 * @param otherColumn  boolean column with same number of values
+	 * @param chunkOperator  operator that combines two chunks
+	 * @param valueOperator  operator that combines two values
+	 * @return combined column
+	 * @throws IllegalStateException if a column is not a boolean column
+	 * @throws IllegalArgumentException if sizes are different
+	 */
+	@SuppressWarnings("unchecked")
+	private Column<Boolean> combine(String newName, Column<?> otherColumn, 
+			BinaryOperator<BooleanStorage> chunkOperator, BinaryOperator<Boolean> valueOperator){
+		
+		checkBooleanType();
+		otherColumn.checkBooleanType();
+		if (column.size() != otherColumn.column.size()){
+			throw new IllegalArgumentException("Columns have different sizes");
 		}
+		
+		Column<Boolean> newColumn = create(newName, (ColumnType<Boolean>) type, offHeap);
+		
+		if (hasAlignedBooleanChunks(otherColumn)){
+			ChunkedStorage<Boolean> storage = (ChunkedStorage<Boolean>) column;
+			ChunkedStorage<Boolean> otherStorage = (ChunkedStorage<Boolean>) otherColumn.column;
+			BooleanStorage[] chunks = new BooleanStorage[storage.getChunkCount()];
+			IntStream.range(0, chunks.length).parallel().forEach(chunkIndex -> 
+					chunks[chunkIndex] = chunkOperator.apply((BooleanStorage) storage.getChunk(chunkIndex), 
+							(BooleanStorage) otherStorage.getChunk(chunkIndex)));
+			
+			ChunkedStorage<Boolean> newStorage = (ChunkedStorage<Boolean>) newColumn.column;
+			for (BooleanStorage chunk : chunks){
+				newStorage.addChunk(chunk);
+			}
+		}else{
+			for (int i = 0; i < column.size(); i++){
+				newColumn.add(valueOperator.apply((Boolean) column.get(i), (Boolean) otherColumn.column.get(i)));
+			}
+		}
+		
+		return newColumn;
 	}
 	
+	/**
+	 * Checks whether this and another column are stored in chunks of bits 
+	 * with same row boundaries, so that chunks can be combined directly.
+	 * 
+	 * @param otherColumn  column with same number of values
+	 * @return true if chunks can be combined, else false
+	 */
+	private boolean hasAlignedBooleanChunks(Column<?> otherColumn){
+		if (!(column instanceof ChunkedStorage) || !(otherColumn.column instanceof ChunkedStorage)){
+			return false;
+		}
+		
+		ChunkedStorage<?> storage = (ChunkedStorage<?>) column;
+		ChunkedStorage<?> otherStorage = (ChunkedStorage<?>) otherColumn.column;
+		if (storage.getChunkCount() != otherStorage.getChunkCount()){
+			return false;
+		}
+		
+		for (int chunkIndex = 0; chunkIndex < storage.getChunkCount(); chunkIndex++){
+			if (!(storage.getChunk(chunkIndex) instanceof BooleanStorage) || 
+					!(otherStorage.getChunk(chunkIndex) instanceof BooleanStorage) || 
+					storage.getChunkStart(chunkIndex) != otherStorage.getChunkStart(chunkIndex)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks whether column is a boolean column.
+	 * 
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	private void checkBooleanType(){
+		if (!(type instanceof BooleanType)){
+			throw new IllegalStateException("Column is not a boolean column");
+		}
+	}
+	
+	/**
+	 * Creates a copy of this column with a new type. Existing values are
+	 * converted by formatting them with current type and parsing the
+	 * formatted strings with the new type.
+	 * 
+	 * @param newType  type of the new column
+	 * @return converted column, or null if new type is empty
+	 */
+	public <R> Column<R> convert(ColumnType<R> newType){
+		Column<R> convertedColumn = create(name, newType, offHeap);
+		if (convertedColumn != null){
+			for (T value : column){
+				convertedColumn.parseAndAdd(value == null ? null : type.format(value));
+			}
+		}
+		return convertedColumn;
+	}
+
 	/**
 	 * Returns column element at specified row index.
 	 * 
@@ -135,11 +615,70 @@ public class Column<T> implements Iterable<T>{
 	 * @return column instance, or null if type is empty
 	 */
 	public static <T> Column<T> create(String name, ColumnType<T> type){
+		return create(name, type, false);
+	}
+	
+	/**
+	 * Factory method for creating a new column, with values stored out 
+	 * of heap where possible if specified.
+	 * 
+	 * @param name  column header name
+	 * @param type  type of the column
+	 * @param offHeap  true to store values out of heap where possible
+	 * @return column instance, or null if type is empty
+	 */
+	public static <T> Column<T> create(String name, ColumnType<T> type, boolean offHeap){
 		// type cannot be null
 		if (type == null){
 			return null;
 		}
-		return new Column<T>(name, type);
+		return new Column<T>(name, type, createStorage(type, offHeap), offHeap);
+	}
+	
+	/**
+	 * Factory method for creating a column with values in an existing storage.
+	 * 
+	 * @param name  column header name
+	 * @param type  type of the column
+	 * @param storage  storage with column values
+	 * @return column instance, or null if type is empty
+	 */
+	static <T> Column<T> create(String name, ColumnType<T> type, ColumnStorage<T> storage){
+		if (type == null){
+			return null;
+		}
+		return new Column<T>(name, type, storage, false);
+	}
+	
+	/**
+	 * Creates an empty storage suitable for a column type.
+	 * 
+	 * @param type  type of the column
+	 * @param offHeap  true to store values in direct buffers where possible
+	 * @return column storage
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> ColumnStorage<T> createStorage(ColumnType<T> type, boolean offHeap){
+		if (type instanceof StringType){
+			return (ColumnStorage<T>) new DictionaryStorage();
+		}else if (type instanceof NumberType){
+			return (ColumnStorage<T>) (offHeap ? new ChunkedStorage<>(DirectNumberStorage::new) : 
+				new ChunkedStorage<>(NumberStorage::new));
+		}else if (type instanceof DateType){
+			return (ColumnStorage<T>) (offHeap ? new ChunkedStorage<>(DirectTemporalStorage::ofDates) : 
+				new ChunkedStorage<>(DateStorage::new));
+		}else if (type instanceof TimeType){
+			return (ColumnStorage<T>) (offHeap ? new ChunkedStorage<>(DirectTemporalStorage::ofTimes) : 
+				new ChunkedStorage<>(TimeStorage::new));
+		}else if (type instanceof DateTimeType){
+			return (ColumnStorage<T>) (offHeap ? new ChunkedStorage<>(DirectTemporalStorage::ofDateTimes) : 
+				new ChunkedStorage<>(DateTimeStorage::new));
+		}else if (type instanceof ZonedDateTimeType){
+			return (ColumnStorage<T>) new ChunkedStorage<>(ZonedDateTimeStorage::new);
+		}else if (type instanceof BooleanType){
+			return (ColumnStorage<T>) new ChunkedStorage<>(BooleanStorage::new);
+		}
+		return new ChunkedStorage<>(ObjectStorage::new);
 	}
 
 	@Override
@@ -208,6 +747,14 @@ public class Column<T> implements Iterable<T>{
 			comparator = comparator.reversed();
 		}
 		
+		if (isDictionaryEncoded()){
+			return sortCodes(comparator);
+		}
+		
+		if (isTemporal()){
+			return sortTemporal(SORT_ORDER_DESC.equals(sortOrder));
+		}
+		
 		List<String> columnValues = column
 				.stream()
 				.sorted(comparator)
@@ -216,4 +763,183 @@ public class Column<T> implements Iterable<T>{
 		
 		return columnValues;
 	}
+	
+	/**
+	 * Checks whether all chunks of the column store date or time values
+	 * as primitive values.
+	 * 
+	 * @return true if all chunks are temporal storages, else false
+	 */
+	private boolean isTemporal(){
+		if (!(column instanceof ChunkedStorage)){
+			return false;
+		}
+		
+		ChunkedStorage<T> storage = (ChunkedStorage<T>) column;
+		for (int chunkIndex = 0; chunkIndex < storage.getChunkCount(); chunkIndex++){
+			if (!(storage.getChunk(chunkIndex) instanceof TemporalStorage)){
+				return false;
+			}
+		}
+		return storage.getChunkCount() > 0;
+	}
+	
+	/**
+	 * Sorts values of a date or time column by sorting row indexes with 
+	 * primitive keys of the values, values are created only to format them.
+	 * 
+	 * @param descending  true to sort in descending direction
+	 * @return sorted column values list
+	 */
+	private List<String> sortTemporal(boolean descending){
+		ChunkedStorage<T> storage = (ChunkedStorage<T>) column;
+		int size = storage.size();
+		
+		// keys of all rows, and non-null rows separated from null rows
+		long[] keys = new long[size];
+		int[] rows = new int[size];
+		int[] nullRows = new int[size];
+		int rowCount = 0;
+		int nullCount = 0;
+		boolean hasZones = false;
+		for (int chunkIndex = 0; chunkIndex < storage.getChunkCount(); chunkIndex++){
+			TemporalStorage<T> chunk = (TemporalStorage<T>) storage.getChunk(chunkIndex);
+			hasZones |= chunk instanceof ZonedDateTimeStorage;
+			int chunkStart = storage.getChunkStart(chunkIndex);
+			for (int i = 0; i < chunk.size(); i++){
+				if (chunk.isNull(i)){
+					nullRows[nullCount++] = chunkStart + i;
+				}else{
+					keys[chunkStart + i] = chunk.getLong(i);
+					rows[rowCount++] = chunkStart + i;
+				}
+			}
+		}
+		
+		IntBinaryOperator rowComparator;
+		if (hasZones){
+			// same instant in different zones are ordered by the storage
+			rowComparator = (a, b) -> {
+				int result = Long.compare(keys[a], keys[b]);
+				if (result == 0){
+					int chunkIndex = storage.getChunkIndex(a);
+					int otherChunkIndex = storage.getChunkIndex(b);
+					TemporalStorage<T> chunk = (TemporalStorage<T>) storage.getChunk(chunkIndex);
+					TemporalStorage<T> otherChunk = (TemporalStorage<T>) storage.getChunk(otherChunkIndex);
+					result = chunk.compare(a - storage.getChunkStart(chunkIndex), 
+							otherChunk, b - storage.getChunkStart(otherChunkIndex));
+				}
+				return result;
+			};
+		}else{
+			rowComparator = (a, b) -> Long.compare(keys[a], keys[b]);
+		}
+		if (descending){
+			IntBinaryOperator ascendingComparator = rowComparator;
+			rowComparator = (a, b) -> ascendingComparator.applyAsInt(b, a);
+		}
+		sortRows(rows, new int[rowCount], 0, rowCount, rowComparator);
+		
+		// nulls are less than any other value
+		List<String> columnValues = new ArrayList<>(size);
+		if (!descending){
+			addFormattedValues(columnValues, nullRows, nullCount);
+		}
+		addFormattedValues(columnValues, rows, rowCount);
+		if (descending){
+			addFormattedValues(columnValues, nullRows, nullCount);
+		}
+		
+		return columnValues;
+	}
+	
+	/**
+	 * Adds formatted values of rows to a list.
+	 * 
+	 * @param columnValues  list to add values to
+	 * @param rows  row indexes
+	 * @param count  number of row indexes to add
+	 */
+	private void addFormattedValues(List<String> columnValues, int[] rows, int count){
+		for (int i = 0; i < count; i++){
+			columnValues.add(type.format(column.get(rows[i])));
+		}
+	}
+	
+	/**
+	 * Sorts a range of row indexes with a stable merge sort, without boxing.
+	 * 
+	 * @param rows  row indexes to sort
+	 * @param buffer  buffer of at least same length as the range
+	 * @param from  position of first row index to sort
+	 * @param to  position after last row index to sort
+	 * @param rowComparator  comparator of row indexes
+	 */
+	private static void sortRows(int[] rows, int[] buffer, int from, int to, IntBinaryOperator rowComparator){
+		
+		if (to - from <= INSERTION_SORT_SIZE){
+			for (int i = from + 1; i < to; i++){
+				int row = rows[i];
+				int j = i - 1;
+				while (j >= from && rowComparator.applyAsInt(rows[j], row) > 0){
+					rows[j + 1] = rows[j];
+					j--;
+				}
+				rows[j + 1] = row;
+			}
+			return;
+		}
+		
+		int middle = (from + to) >>> 1;
+		sortRows(rows, buffer, from, middle, rowComparator);
+		sortRows(rows, buffer, middle, to, rowComparator);
+		if (rowComparator.applyAsInt(rows[middle - 1], rows[middle]) <= 0){
+			// already in order
+			return;
+		}
+		
+		System.arraycopy(rows, from, buffer, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++){
+			if (right >= to || (left < middle && rowComparator.applyAsInt(buffer[left], buffer[right]) <= 0)){
+				rows[i] = buffer[left++];
+			}else{
+				rows[i] = buffer[right++];
+			}
+		}
+	}
+	
+	/**
+	 * Sorts values of a dictionary encoded column by sorting only the 
+	 * distinct values and repeating each value by its count.
+	 * 
+	 * @param comparator  comparator of values
+	 * @return sorted column values list
+	 */
+	@SuppressWarnings("unchecked")
+	private List<String> sortCodes(Comparator<T> comparator){
+		DictionaryStorage storage = (DictionaryStorage) column;
+		List<String> dictionary = storage.getDictionary();
+		int[] counts = storage.getCodeCounts();
+		
+		// code 0 is null
+		Integer[] sortedCodes = new Integer[counts.length];
+		for (int code = 0; code < counts.length; code++){
+			sortedCodes[code] = code;
+		}
+		Arrays.sort(sortedCodes, (a, b) -> comparator.compare(
+				(T) (a == 0 ? null : dictionary.get(a - 1)), 
+				(T) (b == 0 ? null : dictionary.get(b - 1))));
+		
+		List<String> columnValues = new ArrayList<>(column.size());
+		for (int code : sortedCodes){
+			String formattedValue = type.format((T) (code == 0 ? null : dictionary.get(code - 1)));
+			for (int i = 0; i < counts[code]; i++){
+				columnValues.add(formattedValue);
+			}
+		}
+		
+		return columnValues;
+	}
 }
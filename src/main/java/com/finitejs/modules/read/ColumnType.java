@@ -3,6 +3,7 @@ package com.finitejs.modules.read;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.finitejs.modules.read.types.AbstractDateType;
 import com.finitejs.modules.read.types.BooleanType;
 import com.finitejs.modules.read.types.DateTimeType;
 import com.finitejs.modules.read.types.DateType;
@@ -62,6 +63,20 @@ public interface ColumnType<T> {
 	 */
 	public T parse(String stringValue);
 	
+	/**
+	 * Parses a part of a character sequence compatible of the column type 
+	 * and returns a value of type T. Types can override this method to parse
+	 * values without creating intermediate strings.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return value of type T, or null if error in parsing with the column type
+	 */
+	public default T parse(CharSequence source, int offset, int length){
+		return parse(source.subSequence(offset, offset + length).toString());
+	}
+	
 	/**
 	 * Reverse process of {@code parse}. Returns string representation 
 	 * of the given value of type T.
@@ -161,6 +176,27 @@ public interface ColumnType<T> {
 		return type;
 	}
 	
+	/**
+	 * Get column type corresponding to a string value, checking a hint type
+	 * first. Hint is usually the type determined from previous values of the 
+	 * same column, so that format detection is skipped if the value is 
+	 * compatible with the date-time format of the column. Other hint types
+	 * are ignored, as they are checked quickly by {@link #findType(String)}.
+	 * 
+	 * @param stringValue  string value
+	 * @param hint  type to check first, or null
+	 * @return column type, or null type cannot be determined
+	 */
+	public static ColumnType<?> findType(String stringValue, ColumnType<?> hint){
+		
+		if (hint instanceof AbstractDateType && stringValue != null && 
+				!stringValue.isEmpty() && hint.parse(stringValue) != null){
+			return hint;
+		}
+		
+		return findType(stringValue);
+	}
+	
 	/**
 	 * Resolves conflict between two types. If conflict arises between 
 	 * two non-compatible types, then value will be stored as StringType.
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.finitejs.modules.read.types.NumberType;
+import com.finitejs.modules.read.types.StringType;
 import com.finitejs.modules.read.util.DataTableFormatter;
 
 /**
@@ -46,6 +47,15 @@ public class DataTable implements Iterable<List<Object>>{
 	/** Index column */
 	private Column<?> indexColumn;
 	
+	/** False if rows are not added to index */
+	private boolean indexEnabled;
+	
+	/** True if default row index of existing rows is built only when needed */
+	private boolean indexPending;
+	
+	/** True if values of new columns are stored out of heap where possible */
+	private boolean offHeap;
+	
 	private DataTable(){
 		rowCount = 0;
 		table = new ArrayList<>();
@@ -57,6 +67,7 @@ public class DataTable implements Iterable<List<Object>>{
 		// default index type is number
 		indexColumnName = DEFAULT_INDEX_COL_NAME;
 		indexColumn = Column.create(DEFAULT_INDEX_COL_NAME, NumberType.getType());
+		indexEnabled = true;
 	}
 	
 	/**
@@ -95,6 +106,7 @@ public class DataTable implements Iterable<List<Object>>{
 	 * @return index map
 	 */
 	public Map<String, List<Integer>> getIndexMap(){
+		buildPendingIndex();
 		return indexMap;
 	}
 	
@@ -161,9 +173,6 @@ public class DataTable implements Iterable<List<Object>>{
 		Iterator<Column<?>> tableItr = table.iterator();
 		Iterator<String> rowItr = rowData.iterator();
 		
-		// default index value is row index
-		String indexValue = NumberType.getType().format((double) rowCount);
-		
 		while(tableItr.hasNext()){
 			Column<?> column = tableItr.next();
 			
@@ -174,15 +183,31 @@ public class DataTable implements Iterable<List<Object>>{
 			}
 			
 			column.parseAndAdd(rowVal);
-			
-			if (indexColumnName.equals(column.getName())){
-				// last added value
-				indexValue = column.getFormattedValue(rowCount);
-			}
 		}
 		
-		// add to default index column
-		if (indexColumnName.equals(DEFAULT_INDEX_COL_NAME)){
+		indexRow();
+	}
+	
+	/**
+	 * Adds last added row to the index and increases row count.
+	 */
+	private void indexRow(){
+		
+		if (!indexEnabled){
+			rowCount++;
+			return;
+		}
+		
+		buildPendingIndex();
+		
+		// default index value is row index
+		String indexValue = NumberType.getType().format((double) rowCount);
+		
+		if (columnIndexMap.containsKey(indexColumnName)){
+			// last added value
+			indexValue = table.get(columnIndexMap.get(indexColumnName)).getFormattedValue(rowCount);
+		}else if (indexColumnName.equals(DEFAULT_INDEX_COL_NAME)){
+			// add to default index column
 			indexColumn.parseAndAdd(indexValue);
 		}
 		
@@ -199,6 +224,274 @@ public class DataTable implements Iterable<List<Object>>{
 		rowCount++;
 	}
 	
+	/**
+	 * Builds default row index of existing rows, if not built yet.
+	 */
+	private void buildPendingIndex(){
+		if (indexPending){
+			index(DEFAULT_INDEX_COL_NAME);
+		}
+	}
+	
+	/**
+	 * Disables adding rows to index. Used for temporary tables that collect
+	 * rows to be appended to another table, which indexes the rows again.
+	 */
+	void disableIndex(){
+		indexEnabled = false;
+	}
+	
+	/**
+	 * Adds all rows of another table to the end of this table. Columns are 
+	 * matched by position. If types of matching columns are different, 
+	 * both are changed to a preferred type.
+	 * 
+	 * @param otherTable  table with rows to be added
+	 * @throws IllegalArgumentException if column counts are different
+	 */
+	public void append(DataTable otherTable){
+		
+		if (otherTable == null || otherTable.getRowCount() == 0){
+			return;
+		}
+		
+		if (otherTable.getColumnCount() != getColumnCount()){
+			throw new IllegalArgumentException("Tables must have same number of columns.");
+		}
+		
+		for (int i = 0; i < table.size(); i++){
+			Column<?> column = table.get(i);
+			Column<?> otherColumn = otherTable.table.get(i);
+			
+			// resolve conflict
+			if (!column.getType().equals(otherColumn.getType())){
+				ColumnType<?> type = ColumnType.getPreferredType(column.getType(), otherColumn.getType());
+				
+				if (!column.getType().equals(type)){
+					convertColumn(i, type);
+					column = table.get(i);
+				}
+				
+				if (!otherColumn.getType().equals(type)){
+					otherColumn = otherColumn.convert(type);
+				}
+			}
+			
+			addAll(column, otherColumn);
+		}
+		
+		for (int i = 0; i < otherTable.getRowCount(); i++){
+			indexRow();
+		}
+	}
+	
+	/**
+	 * Adds values of a column to another column of same type.
+	 * 
+	 * @param column  column to which values are added
+	 * @param otherColumn  column with values to be added
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> void addAll(Column<T> column, Column<?> otherColumn){
+		column.addAll((Column<T>) otherColumn);
+	}
+	
+	/**
+	 * Adds list of string values as a new row of table. Values of columns
+	 * with an inferred type that cannot be parsed with the column type will
+	 * change that column to a preferred type, instead of storing null.
+	 * 
+	 * @param rowData  string representations of values in new row
+	 * @param inferredTypes  flags in column order, true if type of the column
+	 * was inferred from data and can be changed, or null if no types can be changed
+	 */
+	public void addRow(List<String> rowData, boolean[] inferredTypes){
+		
+		addRow(rowData);
+		
+		if (rowData == null || inferredTypes == null){
+			return;
+		}
+		
+		int dataIndex = rowCount - 1;
+		int columnCount = Math.min(Math.min(table.size(), rowData.size()), inferredTypes.length);
+		
+		for (int i = 0; i < columnCount; i++){
+			String rowVal = rowData.get(i);
+			
+			// null is stored only if value is not compatible with column type
+			if (inferredTypes[i] && rowVal != null && !rowVal.isEmpty() &&
+					table.get(i).get(dataIndex) == null){
+				retypeColumn(i, dataIndex, rowVal);
+			}
+		}
+	}
+	
+	/**
+	 * Adds fields of current record of a tokenizer as a new row of table. 
+	 * Values are parsed directly from the tokenizer buffer, except values 
+	 * with raw bytes that must be decoded first. Values of columns
+	 * with an inferred type that cannot be parsed with the column type will
+	 * change that column to a preferred type, instead of storing null.
+	 * 
+	 * @param tokenizer  tokenizer with current record as row values
+	 * @param inferredTypes  flags in column order, true if type of the column
+	 * was inferred from data and can be changed, or null if no types can be changed
+	 */
+	public void addRow(DelimitedTokenizer tokenizer, boolean[] inferredTypes){
+		
+		CharSequence source = tokenizer.getCharSequence();
+		int fieldCount = tokenizer.getFieldCount();
+		
+		for (int i = 0; i < table.size(); i++){
+			// fill horizontally with null if no value present
+			if (i < fieldCount && tokenizer.isDecodedField(i)){
+				table.get(i).parseAndAdd(source, tokenizer.getFieldOffset(i), tokenizer.getFieldLength(i));
+			}else if (i < fieldCount){
+				table.get(i).parseAndAdd(tokenizer.getField(i));
+			}else{
+				table.get(i).parseAndAdd(null);
+			}
+		}
+		
+		indexRow();
+		
+		if (inferredTypes == null){
+			return;
+		}
+		
+		int dataIndex = rowCount - 1;
+		int columnCount = Math.min(Math.min(table.size(), fieldCount), inferredTypes.length);
+		
+		for (int i = 0; i < columnCount; i++){
+			// null is stored only if value is not compatible with column type
+			if (inferredTypes[i] && tokenizer.getFieldLength(i) > 0 &&
+					table.get(i).get(dataIndex) == null){
+				retypeColumn(i, dataIndex, tokenizer.getField(i));
+			}
+		}
+	}
+	
+	/**
+	 * Adds lists of string values as rows of an empty table. Columns with an
+	 * inferred type that cannot parse a value are changed to a preferred type
+	 * after all rows are added, by parsing the string values of all rows
+	 * again, so that values are kept as written.
+	 * 
+	 * @param data  string representations of values, as list of rows
+	 * @param inferredTypes  flags in column order, true if type of the column
+	 * was inferred from data and can be changed, or null if no types can be changed
+	 * @throws IllegalStateException if table is not empty
+	 */
+	void addRows(List<List<String>> data, boolean[] inferredTypes){
+		
+		if (rowCount != 0){
+			throw new IllegalStateException("Rows can be added only to an empty table");
+		}
+		
+		// preferred types of columns with incompatible values
+		ColumnType<?>[] newTypes = new ColumnType<?>[table.size()];
+		
+		for (List<String> rowData : data){
+			addRow(rowData);
+			
+			if (rowData == null || inferredTypes == null){
+				continue;
+			}
+			
+			int dataIndex = rowCount - 1;
+			int columnCount = Math.min(Math.min(table.size(), rowData.size()), inferredTypes.length);
+			
+			for (int i = 0; i < columnCount; i++){
+				String rowVal = rowData.get(i);
+				
+				// null is stored only if value is not compatible with column type
+				if (inferredTypes[i] && rowVal != null && !rowVal.isEmpty() &&
+						table.get(i).get(dataIndex) == null){
+					ColumnType<?> type = newTypes[i] != null ? newTypes[i] : table.get(i).getType();
+					newTypes[i] = ColumnType.getPreferredType(type, ColumnType.findType(rowVal));
+				}
+			}
+		}
+		
+		for (int i = 0; i < newTypes.length; i++){
+			if (newTypes[i] == null){
+				continue;
+			}
+			
+			Column<?> column = table.get(i);
+			Column<?> parsedColumn = Column.create(column.getName(), newTypes[i], offHeap);
+			for (List<String> rowData : data){
+				if (rowData != null){
+					parsedColumn.parseAndAdd(i < rowData.size() ? rowData.get(i) : null);
+				}
+			}
+			
+			table.set(i, parsedColumn);
+			if (indexColumn == column){
+				// update index column reference
+				indexColumn = parsedColumn;
+			}
+			
+			if (indexColumnName.equals(column.getName())){
+				// rebuild index with parsed values
+				index(indexColumnName);
+			}
+		}
+	}
+	
+	/**
+	 * Changes type of a column to a type preferred for both current type and
+	 * a value not compatible with current type, and replaces that value.
+	 * Existing values are converted through their formatted strings, which
+	 * may not match their text as read, so this is used only when rows are
+	 * added one at a time, by streaming and parallel reads, where string
+	 * values of earlier rows are no longer available, see {@link #addRows}.
+	 * 
+	 * @param colIndex  index of the column
+	 * @param dataIndex  internal data row index of the value
+	 * @param value  string representation of the value
+	 */
+	private void retypeColumn(int colIndex, int dataIndex, String value){
+		
+		Column<?> column = table.get(colIndex);
+		ColumnType<?> newType = ColumnType.getPreferredType(
+				column.getType(), ColumnType.findType(value));
+		
+		convertColumn(colIndex, newType);
+		table.get(colIndex).parseAndSet(dataIndex, value);
+		
+		if (indexColumnName.equals(column.getName())){
+			// rebuild index with converted values
+			index(indexColumnName);
+		}
+	}
+	
+	/**
+	 * Changes type of the specified column. Existing values are converted
+	 * to the new type through their string representations.
+	 * 
+	 * @param colIndex  index of the specified column
+	 * @param type  new type of the column, if null column will not be changed
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 */
+	public void convertColumn(int colIndex, ColumnType<?> type){
+		
+		Column<?> column = table.get(colIndex);
+		Column<?> convertedColumn = column.convert(type);
+		
+		if (convertedColumn == null){
+			return;
+		}
+		
+		table.set(colIndex, convertedColumn);
+		
+		if (indexColumn == column){
+			// update index column reference
+			indexColumn = convertedColumn;
+		}
+	}
+	
 	/**
 	 * Adds a new column to the table.
 	 * 
@@ -215,16 +508,9 @@ public class DataTable implements Iterable<List<Object>>{
 			name = String.valueOf(getColumnCount());
 		}
 		
-		if (name.equals(DEFAULT_INDEX_COL_NAME)){
-			throw new IllegalArgumentException(
-					String.format("Cannot use %s as column name.", DEFAULT_INDEX_COL_NAME));
-		}
-		
-		if (columnIndexMap.containsKey(name)){
-			throw new IllegalArgumentException("Column names must be unique.");
-		}
+		checkNewColumnName(name);
 		
-		Column<?> column = Column.create(name, type);
+		Column<?> column = Column.create(name, type, offHeap);
 		
 		if (column == null){
 			return;
@@ -235,13 +521,6 @@ public class DataTable implements Iterable<List<Object>>{
 			columnItr = columnData.iterator();
 		}
 		
-		boolean isIndexColumn = false;
-		if (indexColumnName.equals(name)){
-			// update index column reference
-			indexColumn = column;
-			isIndexColumn = true;
-		}
-		
 		for (int i = 0; i < rowCount; i++){
 			
 			// fill vertically with null if no value present
@@ -251,10 +530,24 @@ public class DataTable implements Iterable<List<Object>>{
 			}
 			
 			column.parseAndAdd(colVal);
-			
-			// if this column is an index column
-			// then each row must be added to index map also
-			if (isIndexColumn){
+		}
+		
+		addColumn(column);
+	}
+	
+	/**
+	 * Adds a column with a value for each row to the table.
+	 * 
+	 * @param column  column to add, with a unique name
+	 */
+	private void addColumn(Column<?> column){
+		
+		String name = column.getName();
+		if (indexColumnName.equals(name)){
+			// update index column reference, and
+			// each row must be added to index map also
+			indexColumn = column;
+			for (int i = 0; i < rowCount; i++){
 				String indexValue = column.getFormattedValue(i);
 				
 				if (!indexMap.containsKey(indexValue)){
@@ -271,6 +564,23 @@ public class DataTable implements Iterable<List<Object>>{
 		columnIndexMap.put(name, table.size() - 1);
 	}
 	
+	/**
+	 * Checks whether a name can be used for a new column.
+	 * 
+	 * @param name  column name
+	 * @throws IllegalArgumentException if duplicate or reserved column name
+	 */
+	private void checkNewColumnName(String name){
+		if (name.equals(DEFAULT_INDEX_COL_NAME)){
+			throw new IllegalArgumentException(
+					String.format("Cannot use %s as column name.", DEFAULT_INDEX_COL_NAME));
+		}
+		
+		if (columnIndexMap.containsKey(name)){
+			throw new IllegalArgumentException("Column names must be unique.");
+		}
+	}
+	
 	/**
 	 * Adds a new column to the table.
 	 * 
@@ -333,6 +643,111 @@ public class DataTable implements Iterable<List<Object>>{
 		return colValues;
 	}
 	
+	/**
+	 * Get values of specified number column as an array, without 
+	 * boxing the values, see {@link Column#getDouble(int)}.
+	 * 
+	 * @param colIndex  index of the specified column
+	 * @return column values in row order, {@code NaN} for nulls
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 * @throws IllegalStateException if column is not a number column
+	 */
+	public double[] getDoubleColumn(int colIndex){
+		Column<?> column = table.get(colIndex);
+		double[] colValues = new double[indexOrderList.size()];
+		
+		// get values in correct order
+		for (int i = 0; i < colValues.length; i++){
+			colValues[i] = column.getDouble(indexOrderList.get(i));
+		}
+		
+		return colValues;
+	}
+	
+	/**
+	 * Returns number of true values of specified boolean column, 
+	 * see {@link Column#countTrue()}.
+	 * 
+	 * @param colIndex  index of the specified column
+	 * @return true count
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	public int countTrue(int colIndex){
+		return table.get(colIndex).countTrue();
+	}
+	
+	/**
+	 * Returns number of false values of specified boolean column.
+	 * 
+	 * @param colIndex  index of the specified column
+	 * @return false count
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	public int countFalse(int colIndex){
+		return table.get(colIndex).countFalse();
+	}
+	
+	/**
+	 * Returns number of null values of specified boolean column.
+	 * 
+	 * @param colIndex  index of the specified column
+	 * @return null count
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 * @throws IllegalStateException if column is not a boolean column
+	 */
+	public int countNull(int colIndex){
+		return table.get(colIndex).countNull();
+	}
+	
+	/**
+	 * Adds a new boolean column with values of two boolean columns 
+	 * combined with AND, see {@link Column#and(String, Column)}.
+	 * 
+	 * @param name  name of the new column
+	 * @param colIndex  index of first column
+	 * @param otherColIndex  index of second column
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 * @throws IllegalStateException if a column is not a boolean column
+	 * @throws IllegalArgumentException if duplicate column name
+	 */
+	public void addAndColumn(String name, int colIndex, int otherColIndex){
+		checkNewColumnName(name);
+		addColumn(table.get(colIndex).and(name, table.get(otherColIndex)));
+	}
+	
+	/**
+	 * Adds a new boolean column with values of two boolean columns 
+	 * combined with OR, see {@link Column#or(String, Column)}.
+	 * 
+	 * @param name  name of the new column
+	 * @param colIndex  index of first column
+	 * @param otherColIndex  index of second column
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 * @throws IllegalStateException if a column is not a boolean column
+	 * @throws IllegalArgumentException if duplicate column name
+	 */
+	public void addOrColumn(String name, int colIndex, int otherColIndex){
+		checkNewColumnName(name);
+		addColumn(table.get(colIndex).or(name, table.get(otherColIndex)));
+	}
+	
+	/**
+	 * Adds a new boolean column with negated values of a boolean 
+	 * column, see {@link Column#not(String)}.
+	 * 
+	 * @param name  name of the new column
+	 * @param colIndex  index of the column
+	 * @throws IndexOutOfBoundsException if column index out of range
+	 * @throws IllegalStateException if column is not a boolean column
+	 * @throws IllegalArgumentException if duplicate column name
+	 */
+	public void addNotColumn(String name, int colIndex){
+		checkNewColumnName(name);
+		addColumn(table.get(colIndex).not(name));
+	}
+	
 	/**
 	 * Get string representations of specified column values.
 	 * 
@@ -433,22 +848,63 @@ public class DataTable implements Iterable<List<Object>>{
 		// create a new index map
 		Map<String, List<Integer>> newIndexMap = new LinkedHashMap<>();
 		
-		// iterate through existing index order to find values 
-		// of new column in current order
-		for (int nextRowIndex : indexOrderList){
-			
-			String columnStrVal = column.getFormattedValue(nextRowIndex);
-			if (!newIndexMap.containsKey(columnStrVal)){
-				newIndexMap.put(columnStrVal, new ArrayList<>());
+		if (column.isDictionaryEncoded()){
+			indexCodes(column, newIndexMap);
+		}else{
+			// iterate through existing index order to find values 
+			// of new column in current order
+			for (int nextRowIndex : indexOrderList){
+				
+				String columnStrVal = column.getFormattedValue(nextRowIndex);
+				if (!newIndexMap.containsKey(columnStrVal)){
+					newIndexMap.put(columnStrVal, new ArrayList<>());
+				}
+				
+				newIndexMap.get(columnStrVal).add(nextRowIndex);
 			}
-			
-			newIndexMap.get(columnStrVal).add(nextRowIndex);
 		}
 		
 		// update index
 		indexMap = newIndexMap;
 		indexColumn = column;
 		indexColumnName = columnName;
+		indexPending = false;
+	}
+	
+	/**
+	 * Builds index map of a dictionary encoded column. Rows are grouped 
+	 * by their codes, so that each distinct value is formatted only once.
+	 * 
+	 * @param column  dictionary encoded column
+	 * @param newIndexMap  index map to which rows are added
+	 */
+	private void indexCodes(Column<?> column, Map<String, List<Integer>> newIndexMap){
+		
+		// row list of each code
+		List<List<Integer>> codeRowLists = new ArrayList<>(column.getCodeCount());
+		for (int i = 0; i < column.getCodeCount(); i++){
+			codeRowLists.add(null);
+		}
+		
+		// iterate through existing index order to find codes 
+		// of new column in current order
+		for (int nextRowIndex : indexOrderList){
+			int code = column.getCode(nextRowIndex);
+			List<Integer> rowList = codeRowLists.get(code);
+			
+			if (rowList == null){
+				// different codes can have same formatted value, like null and empty
+				String columnStrVal = column.getFormattedValue(nextRowIndex);
+				rowList = newIndexMap.get(columnStrVal);
+				if (rowList == null){
+					rowList = new ArrayList<>();
+					newIndexMap.put(columnStrVal, rowList);
+				}
+				codeRowLists.set(code, rowList);
+			}
+			
+			rowList.add(nextRowIndex);
+		}
 	}
 	
 	/**
@@ -575,8 +1031,28 @@ public class DataTable implements Iterable<List<Object>>{
 	 */
 	public static DataTable getTable(List<List<String>> data, 
 			List<ColumnType<?>> typeList, List<String> nameList, String indexColumnName){
+		return getTable(data, typeList, nameList, indexColumnName, false);
+	}
+	
+	/**
+	 * Creates a new {@code DataTable} instance with given name list, 
+	 * type list and data as list of list, with values stored out of 
+	 * heap where possible if specified, see {@link Column}.
+	 * 
+	 * @param data  tabular data as list of rows and each 
+	 * row as list of string values
+	 * @param typeList  column types, cannot be empty or null
+	 * @param nameList  column names, cannot be empty or null
+	 * @param indexColumn  name/header of the column to be used as index
+	 * @param offHeap  true to store values out of heap where possible
+	 * @return {@code DataTable} instance
+	 * @throws IllegalArgumentException if empty type list or name list
+	 */
+	static DataTable getTable(List<List<String>> data, List<ColumnType<?>> typeList, 
+			List<String> nameList, String indexColumnName, boolean offHeap){
 		
 		DataTable table = new DataTable();
+		table.offHeap = offHeap;
 		
 		// set index column
 		if (indexColumnName != null){
@@ -613,9 +1089,49 @@ public class DataTable implements Iterable<List<Object>>{
 		return table;
 	}
 	
+	/**
+	 * Creates a new {@code DataTable} instance with existing columns, 
+	 * each with values of all rows. Rows are indexed by row index, and
+	 * the index is built only when needed, so that columns are not accessed.
+	 * 
+	 * @param columns  columns of the table
+	 * @param rowCount  number of values in each column
+	 * @return {@code DataTable} instance
+	 * @throws IllegalArgumentException if duplicate column names or different number of values
+	 */
+	static DataTable getTable(List<Column<?>> columns, int rowCount){
+		
+		DataTable table = new DataTable();
+		
+		for (Column<?> column : columns){
+			String name = column.getName();
+			if (name.equals(DEFAULT_INDEX_COL_NAME) || table.columnIndexMap.containsKey(name)){
+				throw new IllegalArgumentException("Column names must be unique.");
+			}
+			
+			if (column.get().size() != rowCount){
+				throw new IllegalArgumentException("Columns must have same number of values.");
+			}
+			
+			table.table.add(column);
+			table.columnIndexMap.put(name, table.table.size() - 1);
+		}
+		
+		for (int i = 0; i < rowCount; i++){
+			table.indexOrderList.add(i);
+		}
+		table.rowCount = rowCount;
+		table.indexPending = true;
+		
+		return table;
+	}
+	
 	/**
 	 * Creates a new {@code DataTable} instance with given name list, 
-	 * type specifier list and data as list of list.
+	 * type specifier list and data as list of list. Types which are not 
+	 * predefined are determined from leading {@code PlainReader.DEFAULT_SAMPLE_SIZE}
+	 * rows, and changed to a preferred type if a later value is not compatible, 
+	 * in which case the column is parsed again from all string values.
 	 * 
 	 * @param data  tabular data as list of rows and each 
 	 * row as list of string values.
@@ -639,11 +1155,21 @@ public class DataTable implements Iterable<List<Object>>{
 			}
 		}
 		
-		List<ColumnType<?>> typeList = findDataTypes(data, predefinedTypeList);
+		List<ColumnType<?>> typeList = findDataTypes(data, predefinedTypeList, 
+				PlainReader.DEFAULT_SAMPLE_SIZE, TypeSampler.SAMPLE_FIRST);
 		if (typeList.size() == 0){
 			throw new IllegalArgumentException("Not able to determine type of data");
 		}
 		
+		// columns without any value in sample are considered as string columns
+		boolean[] inferredTypes = new boolean[typeList.size()];
+		for (int i = 0; i < typeList.size(); i++){
+			inferredTypes[i] = predefinedTypeList.size() <= i || predefinedTypeList.get(i) == null;
+			if (inferredTypes[i] && typeList.get(i) == null){
+				typeList.set(i, StringType.getType());
+			}
+		}
+		
 		if (nameList == null){
 			nameList = new ArrayList<>();
 		}
@@ -655,12 +1181,17 @@ public class DataTable implements Iterable<List<Object>>{
 			}
 		}
 		
-		return getTable(data, typeList, nameList, indexColumn);
+		DataTable table = getTable(null, typeList, nameList, indexColumn);
+		if (data != null){
+			table.addRows(data, inferredTypes);
+		}
+		
+		return table;
 	}
 	
 	/**
 	 * Dynamically find type of tabular data. If a predefined type exists for a column,
-	 * then type checking will be skipped for that column.
+	 * then type checking will be skipped for that column. All rows are checked.
 	 * 
 	 * @param data  tabular data as list of rows and each 
 	 * row as list of string values.
@@ -669,58 +1200,41 @@ public class DataTable implements Iterable<List<Object>>{
 	 */
 	public static List<ColumnType<?>> findDataTypes(
 			List<List<String>> data, List<ColumnType<?>> predefinedTypeList){
+		return findDataTypes(data, predefinedTypeList, 0, TypeSampler.SAMPLE_FIRST);
+	}
+	
+	/**
+	 * Dynamically find type of tabular data from a sample of rows. If a predefined 
+	 * type exists for a column, then type checking will be skipped for that column.
+	 * Rows which are not in the sample may have values that are not compatible
+	 * with the returned types, see {@link #addRow(List, boolean[])}.
+	 * 
+	 * @param data  tabular data as list of rows and each 
+	 * row as list of string values.
+	 * @param predefinedTypeList  list of predefined types in column order
+	 * @param sampleSize  number of rows in sample, zero or less for all rows
+	 * @param sampleMode  {@code TypeSampler.SAMPLE_FIRST} or 
+	 * {@code TypeSampler.SAMPLE_RESERVOIR}, see {@link TypeSampler}
+	 * @return list of types
+	 */
+	public static List<ColumnType<?>> findDataTypes(List<List<String>> data, 
+			List<ColumnType<?>> predefinedTypeList, int sampleSize, String sampleMode){
 		
-		List<ColumnType<?>> typeList = new ArrayList<>();
-		if (predefinedTypeList != null){
-			typeList.addAll(predefinedTypeList);
-		}
+		TypeSampler sampler = new TypeSampler(predefinedTypeList, sampleSize, sampleMode);
 		
 		// null check
 		if (data == null){
-			return typeList;
+			return sampler.getTypes();
 		}
 		
-		Iterator<List<String>> rowItr = data.iterator();
-		
-		while (rowItr.hasNext()){
-			List<String> rowData = rowItr.next();
-			
-			ColumnType<?> prevType = null;
-			ColumnType<?> curType = null;
-			Iterator<String> colItr = rowData.iterator();
+		for (List<String> rowData : data){
+			sampler.add(rowData);
 			
-			for (int i = 0; i < rowData.size(); i++){
-				
-				// check if type already defined
-				if (predefinedTypeList != null && predefinedTypeList.size() > i && 
-						predefinedTypeList.get(i) != null){
-					continue;
-				}
-				
-				// get previous type of the column
-				if (typeList.size() <= i){
-					// initialize type list with null
-					typeList.add(null);
-				}else{
-					prevType = typeList.get(i);
-				}
-				
-				// determine current type
-				curType = ColumnType.findType(colItr.next());
-				
-				// resolve conflict
-				if (prevType != null && curType != null && (!prevType.equals(curType))){
-					curType = ColumnType.getPreferredType(prevType, curType);
-					typeList.set(i, curType);
-				}
-				
-				// update new type
-				if (prevType == null && curType != null){
-					typeList.set(i, curType);
-				}
+			if (sampler.isComplete()){
+				break;
 			}
 		}
 		
-		return typeList;
+		return sampler.getTypes();
 	}
 }
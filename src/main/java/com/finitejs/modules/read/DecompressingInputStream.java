@@ -0,0 +1,244 @@
+package com.finitejs.modules.read;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Input stream that decompresses a GZIP or ZIP stream in a separate thread.
+ * <p>
+ * Decompressed bytes are passed to the reading thread in large chunks through
+ * a bounded queue, so that decompression and parsing overlap without keeping
+ * the whole content in memory. Chunk buffers are reused once read. Use
+ * {@link #wrap(InputStream)} to decompress a stream only if it is compressed.
+ * </p>
+ */
+public class DecompressingInputStream extends InputStream{
+
+	/**
+	 * Constant for number of bytes in a chunk of decompressed bytes.
+	 */
+	public static final int CHUNK_SIZE = 1 << 20;
+	
+	/**
+	 * Constant for number of chunks, decompressed or waiting to be filled.
+	 */
+	private static final int CHUNK_COUNT = 4;
+	
+	/** Constant for size of buffer used to read compressed bytes */
+	private static final int INPUT_BUFFER_SIZE = 1 << 16;
+	
+	/** Chunks filled with decompressed bytes */
+	private final BlockingQueue<Chunk> filledChunks;
+	
+	/** Empty chunk buffers to be filled */
+	private final BlockingQueue<byte[]> emptyBuffers;
+	
+	/** Thread that decompresses the source */
+	private final Thread thread;
+	
+	/** Chunk being read, or null if no chunk is taken yet */
+	private Chunk chunk;
+	
+	/** Position of next byte in the chunk being read */
+	private int position;
+	
+	/** True if all chunks are read or stream is closed */
+	private boolean finished;
+	
+	/**
+	 * Creates a new {@code DecompressingInputStream} and starts decompressing.
+	 * 
+	 * @param source  stream of decompressed bytes, read and closed
+	 * in a separate thread
+	 */
+	public DecompressingInputStream(InputStream source){
+		filledChunks = new ArrayBlockingQueue<>(CHUNK_COUNT + 1);
+		emptyBuffers = new ArrayBlockingQueue<>(CHUNK_COUNT);
+		for (int i = 0; i < CHUNK_COUNT; i++){
+			emptyBuffers.add(new byte[CHUNK_SIZE]);
+		}
+		
+		thread = new Thread(() -> decompress(source), "finitejs-reader-decompress");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	@Override
+	public int read() throws IOException{
+		if (!nextChunk()){
+			return -1;
+		}
+		return chunk.buffer[position++] & 0xFF;
+	}
+	
+	@Override
+	public int read(byte[] buffer, int offset, int length) throws IOException{
+		if (length == 0){
+			return 0;
+		}
+		if (!nextChunk()){
+			return -1;
+		}
+		
+		int count = Math.min(length, chunk.length - position);
+		System.arraycopy(chunk.buffer, position, buffer, offset, count);
+		position += count;
+		return count;
+	}
+	
+	@Override
+	public int available(){
+		return chunk != null ? chunk.length - position : 0;
+	}
+	
+	@Override
+	public void close(){
+		// source is closed by the decompressing thread
+		finished = true;
+		chunk = null;
+		thread.interrupt();
+	}
+	
+	/**
+	 * Takes next chunk if all bytes of current chunk are read, and returns
+	 * the buffer of read chunk for reuse.
+	 * 
+	 * @return true if a byte is available, false at end of stream
+	 * @throws IOException if error occurred when decompressing
+	 */
+	private boolean nextChunk() throws IOException{
+		while (!finished && (chunk == null || position >= chunk.length)){
+			if (chunk != null){
+				emptyBuffers.add(chunk.buffer);
+				chunk = null;
+			}
+			
+			Chunk nextChunk;
+			try{
+				nextChunk = filledChunks.take();
+			}catch (InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+			
+			if (nextChunk.error != null){
+				finished = true;
+				throw nextChunk.error;
+			}
+			if (nextChunk.buffer == null){
+				finished = true;
+			}else{
+				chunk = nextChunk;
+				position = 0;
+			}
+		}
+		return !finished;
+	}
+	
+	/**
+	 * Reads decompressed bytes into chunks and adds them to the queue.
+	 * Runs in a separate thread, and the last chunk added is an empty
+	 * chunk or a chunk with the error occurred.
+	 * 
+	 * @param source  stream of decompressed bytes
+	 */
+	private void decompress(InputStream source){
+		try{
+			try{
+				while (true){
+					byte[] buffer = emptyBuffers.take();
+					
+					// fills chunk completely, except the last one
+					int length = 0;
+					int count;
+					while (length < buffer.length &&
+							(count = source.read(buffer, length, buffer.length - length)) >= 0){
+						length += count;
+					}
+					
+					if (length == 0){
+						break;
+					}
+					filledChunks.put(new Chunk(buffer, length, null));
+				}
+				
+				// end of stream
+				filledChunks.put(new Chunk(null, 0, null));
+			}catch (IOException e){
+				filledChunks.put(new Chunk(null, 0, e));
+			}finally{
+				source.close();
+			}
+		}catch (InterruptedException e){
+			// stream is closed
+		}catch (IOException e){
+			// error on closing, ignored as all bytes are read
+		}
+	}
+	
+	/**
+	 * Returns a stream of decompressed bytes if a stream is compressed as
+	 * GZIP or ZIP, which is found from leading bytes. Only the first file
+	 * of a ZIP archive is read.
+	 * 
+	 * @param input  stream that may be compressed
+	 * @return {@code DecompressingInputStream} if compressed,
+	 * else a buffered stream of the input
+	 * @throws IOException if error occurs when reading compressed header
+	 */
+	public static InputStream wrap(InputStream input) throws IOException{
+		BufferedInputStream bufferedInput = new BufferedInputStream(input, INPUT_BUFFER_SIZE);
+		
+		bufferedInput.mark(4);
+		byte[] magic = new byte[4];
+		int length = 0;
+		int count;
+		while (length < magic.length && (count = bufferedInput.read(magic, length, magic.length - length)) >= 0){
+			length += count;
+		}
+		bufferedInput.reset();
+		
+		if (length >= 2 && (magic[0] & 0xFF) == 0x1F && (magic[1] & 0xFF) == 0x8B){
+			return new DecompressingInputStream(new GZIPInputStream(bufferedInput, INPUT_BUFFER_SIZE));
+		}
+		
+		if (length >= 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4){
+			ZipInputStream zipInput = new ZipInputStream(bufferedInput);
+			ZipEntry entry;
+			while ((entry = zipInput.getNextEntry()) != null && entry.isDirectory()){
+				// skips directories
+			}
+			return new DecompressingInputStream(zipInput);
+		}
+		
+		return bufferedInput;
+	}
+	
+	/**
+	 * Chunk of decompressed bytes, or end of stream if buffer is null.
+	 */
+	private static class Chunk{
+		
+		/** Buffer with decompressed bytes */
+		private final byte[] buffer;
+		
+		/** Number of bytes in the buffer */
+		private final int length;
+		
+		/** Error occurred when decompressing, or null */
+		private final IOException error;
+		
+		public Chunk(byte[] buffer, int length, IOException error){
+			this.buffer = buffer;
+			this.length = length;
+			this.error = error;
+		}
+	}
+
+}
@@ -0,0 +1,720 @@
+package com.finitejs.modules.read;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tokenizer that splits delimiter separated text into records and fields,
+ * following RFC 4180 quoting rules.
+ * <p>
+ * Text is read into a reusable character buffer and each field is represented
+ * by its offset and length in that buffer, so that typed values can be parsed
+ * without creating intermediate strings. A field starting with a quote character
+ * can contain delimiters, line breaks and escaped quotes ({@code ""}), which are
+ * decoded in place. Records are separated by {@code \n}, {@code \r\n} or {@code \r}.
+ * </p>
+ * <p>
+ * Buffer contents and field boundaries are valid only until next call to {@code next()}.
+ * </p>
+ * <p>
+ * A projection can be set to select fields by index, then other fields are 
+ * skipped while scanning and are not stored or decoded.
+ * </p>
+ * <p>
+ * If source is a {@link RawByteReader}, buffer contains raw bytes of UTF-8 text 
+ * and delimiter and comment string are matched as UTF-8 bytes. Fields with only 
+ * ASCII bytes are same as text and can be parsed from the buffer, other fields 
+ * are decoded when returned as strings, see {@link #isDecodedField(int)}.
+ * </p>
+ */
+public class DelimitedTokenizer {
+
+	/**
+	 * Constant for default buffer size in characters.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+	
+	/**
+	 * Constant for quote character.
+	 */
+	public static final char QUOTE = '"';
+	
+	/** Constant for initial number of fields in a record */
+	private static final int INITIAL_FIELD_COUNT = 16;
+	
+	/** Source of text */
+	private Reader reader;
+	
+	/** Delimiter string */
+	private String delimiterText;
+	
+	/** Comment string, or null if comments are disabled */
+	private String commentText;
+	
+	/** Delimiter characters */
+	private char[] delimiter;
+	
+	/** Comment string characters, or null if comments are disabled */
+	private char[] commentString;
+	
+	/** True if buffer contains raw bytes of UTF-8 text */
+	private boolean rawBytes;
+	
+	/** Character buffer */
+	private char[] buffer;
+	
+	/** Character sequence view of the buffer */
+	private CharBuffer bufferSequence;
+	
+	/** Number of valid characters in buffer */
+	private int limit;
+	
+	/** Position of next record in buffer */
+	private int position;
+	
+	/** True if reader has no more characters */
+	private boolean endOfInput;
+	
+	/** Starting position of current record in buffer */
+	private int recordStart;
+	
+	/** Number of fields in current record */
+	private int fieldCount;
+	
+	/** Number of fields found in current record, including skipped fields */
+	private int sourceFieldCount;
+	
+	/** Flags for fields selected by projection, or null if all fields are selected */
+	private boolean[] selectedFields;
+	
+	/** Offsets of fields in current record */
+	private int[] fieldOffsets;
+	
+	/** Lengths of fields in current record */
+	private int[] fieldLengths;
+	
+	/** Flags for quoted fields in current record */
+	private boolean[] quotedFields;
+	
+	/**
+	 * Creates a new {@code DelimitedTokenizer} instance.
+	 * 
+	 * @param reader  source of text
+	 * @param delimiter  delimiter to separate fields in a record,
+	 * used as a literal string
+	 * @throws IllegalArgumentException if delimiter is empty
+	 */
+	public DelimitedTokenizer(Reader reader, String delimiter){
+		this(reader, delimiter, DEFAULT_BUFFER_SIZE);
+	}
+	
+	/**
+	 * Creates a new {@code DelimitedTokenizer} instance with specified
+	 * initial buffer size. Buffer grows if a record does not fit in it.
+	 * 
+	 * @param reader  source of text
+	 * @param delimiter  delimiter to separate fields in a record,
+	 * used as a literal string
+	 * @param bufferSize  initial buffer size in characters
+	 * @throws IllegalArgumentException if delimiter is empty
+	 */
+	public DelimitedTokenizer(Reader reader, String delimiter, int bufferSize){
+		
+		if (delimiter == null || delimiter.isEmpty()){
+			throw new IllegalArgumentException("Delimiter cannot be empty.");
+		}
+		
+		this.reader = reader;
+		this.delimiterText = delimiter;
+		this.rawBytes = reader instanceof RawByteReader;
+		this.delimiter = toBufferChars(delimiter);
+		
+		buffer = new char[Math.max(bufferSize, 2 * this.delimiter.length)];
+		bufferSequence = CharBuffer.wrap(buffer);
+		limit = 0;
+		position = 0;
+		endOfInput = false;
+		
+		fieldCount = 0;
+		fieldOffsets = new int[INITIAL_FIELD_COUNT];
+		fieldLengths = new int[INITIAL_FIELD_COUNT];
+		quotedFields = new boolean[INITIAL_FIELD_COUNT];
+	}
+	
+	/**
+	 * Set a comment string. Records starting with comment string will be skipped.
+	 * 
+	 * @param commentString  comment string, or null to disable comments
+	 */
+	public void setCommentString(String commentString){
+		if (commentString != null && !commentString.isEmpty()){
+			this.commentText = commentString;
+			this.commentString = toBufferChars(commentString);
+		}else{
+			this.commentText = null;
+			this.commentString = null;
+		}
+	}
+	
+	/**
+	 * Set whether source characters are raw bytes of UTF-8 text, like 
+	 * characters of a {@link RawByteReader} or text copied from such 
+	 * a tokenizer with {@code appendRecord}.
+	 * 
+	 * @param rawBytes  true if source characters are raw bytes
+	 */
+	public void setRawBytes(boolean rawBytes){
+		this.rawBytes = rawBytes;
+		delimiter = toBufferChars(delimiterText);
+		setCommentString(commentText);
+		
+		if (buffer.length < 2 * delimiter.length){
+			buffer = Arrays.copyOf(buffer, 2 * delimiter.length);
+			bufferSequence = CharBuffer.wrap(buffer);
+		}
+	}
+	
+	/**
+	 * Checks whether buffer contains raw bytes of UTF-8 text.
+	 * 
+	 * @return true if buffer contains raw bytes, else false
+	 */
+	public boolean isRawBytes(){
+		return rawBytes;
+	}
+	
+	/**
+	 * Set field indexes selected from each record. Selected fields are returned
+	 * in the order of the record, other fields are skipped.
+	 * 
+	 * @param fieldIndexes  indexes of selected fields, or null to select all fields
+	 */
+	public void setProjection(int[] fieldIndexes){
+		if (fieldIndexes == null){
+			selectedFields = null;
+			return;
+		}
+		
+		int maxIndex = -1;
+		for (int fieldIndex : fieldIndexes){
+			maxIndex = Math.max(maxIndex, fieldIndex);
+		}
+		
+		selectedFields = new boolean[maxIndex + 1];
+		for (int fieldIndex : fieldIndexes){
+			if (fieldIndex >= 0){
+				selectedFields[fieldIndex] = true;
+			}
+		}
+	}
+	
+	/**
+	 * Reads next record.
+	 * 
+	 * @return true if a record is read, false if no more records
+	 * @throws IOException if error occurs when reading
+	 */
+	public boolean next() throws IOException{
+		
+		if (!nextRaw()){
+			return false;
+		}
+		
+		decodeQuotedFields();
+		return true;
+	}
+	
+	/**
+	 * Reads next record without decoding quoted fields. Field boundaries
+	 * include enclosing quotes and escape characters, and the raw text of
+	 * the record can be copied with {@code appendRecord}.
+	 * 
+	 * @return true if a record is read, false if no more records
+	 * @throws IOException if error occurs when reading
+	 */
+	public boolean nextRaw() throws IOException{
+		
+		while (true){
+			int result = scanRecord();
+			
+			if (result > 0){
+				// complete record
+				return true;
+			}
+			
+			if (result == 0){
+				// comment
+				continue;
+			}
+			
+			// record incomplete, read more characters and scan again
+			if (endOfInput){
+				fieldCount = 0;
+				return false;
+			}
+			fill();
+		}
+	}
+	
+	/**
+	 * Appends raw text of current record read by {@code nextRaw} to a string 
+	 * builder, followed by a line break. Tokenizing the appended text returns 
+	 * the same record. If buffer contains raw bytes, appended characters are 
+	 * also raw bytes.
+	 * 
+	 * @param target  string builder to append
+	 */
+	public void appendRecord(StringBuilder target){
+		int recordEnd = position;
+		
+		// line break of the record is not copied
+		if (recordEnd > recordStart && buffer[recordEnd - 1] == '\n'){
+			recordEnd--;
+		}
+		if (recordEnd > recordStart && buffer[recordEnd - 1] == '\r'){
+			recordEnd--;
+		}
+		
+		target.append(buffer, recordStart, recordEnd - recordStart).append('\n');
+	}
+	
+	/**
+	 * Returns number of fields in current record.
+	 * 
+	 * @return number of fields
+	 */
+	public int getFieldCount(){
+		return fieldCount;
+	}
+	
+	/**
+	 * Returns character buffer that contains fields of current record.
+	 * 
+	 * @return character buffer
+	 */
+	public char[] getBuffer(){
+		return buffer;
+	}
+	
+	/**
+	 * Returns a character sequence view of the buffer. Field offsets
+	 * are valid indexes in this sequence.
+	 * 
+	 * @return buffer as character sequence
+	 */
+	public CharSequence getCharSequence(){
+		return bufferSequence;
+	}
+	
+	/**
+	 * Returns offset of specified field in buffer.
+	 * 
+	 * @param index  field index in current record
+	 * @return field offset
+	 * @throws ArrayIndexOutOfBoundsException if invalid field index
+	 */
+	public int getFieldOffset(int index){
+		checkFieldIndex(index);
+		return fieldOffsets[index];
+	}
+	
+	/**
+	 * Returns length of specified field in buffer.
+	 * 
+	 * @param index  field index in current record
+	 * @return field length
+	 * @throws ArrayIndexOutOfBoundsException if invalid field index
+	 */
+	public int getFieldLength(int index){
+		checkFieldIndex(index);
+		return fieldLengths[index];
+	}
+	
+	/**
+	 * Checks whether characters of specified field in buffer are decoded text. 
+	 * Only fields with non-ASCII bytes in a buffer of raw bytes are not decoded,
+	 * such fields must be read with {@code getField}.
+	 * 
+	 * @param index  field index in current record
+	 * @return true if field characters are text, else false
+	 * @throws ArrayIndexOutOfBoundsException if invalid field index
+	 */
+	public boolean isDecodedField(int index){
+		checkFieldIndex(index);
+		return !rawBytes || isAscii(fieldOffsets[index], fieldLengths[index]);
+	}
+	
+	/**
+	 * Returns specified field as a string.
+	 * 
+	 * @param index  field index in current record
+	 * @return field value
+	 * @throws ArrayIndexOutOfBoundsException if invalid field index
+	 */
+	public String getField(int index){
+		checkFieldIndex(index);
+		return decode(fieldOffsets[index], fieldLengths[index]);
+	}
+	
+	/**
+	 * Returns all fields in current record as strings.
+	 * 
+	 * @return list of field values
+	 */
+	public List<String> getFields(){
+		List<String> fields = new ArrayList<>(fieldCount);
+		for (int i = 0; i < fieldCount; i++){
+			fields.add(decode(fieldOffsets[i], fieldLengths[i]));
+		}
+		return fields;
+	}
+	
+	/**
+	 * Scans next record from current position and updates field boundaries.
+	 * Buffer is not modified while scanning, so that an incomplete record
+	 * can be scanned again after reading more characters.
+	 * 
+	 * @return 1 if complete record, 0 if comment is skipped,
+	 * -1 if more characters are required
+	 */
+	private int scanRecord(){
+		
+		int p = position;
+		fieldCount = 0;
+		sourceFieldCount = 0;
+		
+		if (p >= limit){
+			return -1;
+		}
+		
+		// check for comment
+		if (commentString != null && buffer[p] == commentString[0]){
+			if (limit - p < commentString.length && !endOfInput){
+				return -1;
+			}
+			
+			if (matches(p, commentString)){
+				int lineEnd = findLineEnd(p);
+				if (lineEnd < 0){
+					return -1;
+				}
+				position = lineEnd;
+				return 0;
+			}
+		}
+		
+		recordStart = p;
+		int fieldStart = p;
+		boolean quoted = false;
+		boolean inQuotes = false;
+		char delimiterStart = delimiter[0];
+		
+		while (true){
+			
+			if (p >= limit){
+				if (!endOfInput){
+					return -1;
+				}
+				
+				// last record without line break
+				addField(fieldStart, p, quoted);
+				position = p;
+				return 1;
+			}
+			
+			char c = buffer[p];
+			
+			if (inQuotes){
+				if (c == QUOTE){
+					if (p + 1 >= limit && !endOfInput){
+						return -1;
+					}
+					
+					if (p + 1 < limit && buffer[p + 1] == QUOTE){
+						// escaped quote
+						p += 2;
+						continue;
+					}
+					
+					// closing quote
+					inQuotes = false;
+				}
+				p++;
+				continue;
+			}
+			
+			if (c == QUOTE && p == fieldStart){
+				// opening quote
+				quoted = true;
+				inQuotes = true;
+				p++;
+				continue;
+			}
+			
+			if (c == delimiterStart){
+				if (delimiter.length == 1){
+					addField(fieldStart, p, quoted);
+					p++;
+					fieldStart = p;
+					quoted = false;
+					continue;
+				}
+				
+				if (limit - p < delimiter.length && !endOfInput){
+					return -1;
+				}
+				
+				if (matches(p, delimiter)){
+					addField(fieldStart, p, quoted);
+					p += delimiter.length;
+					fieldStart = p;
+					quoted = false;
+					continue;
+				}
+			}
+			
+			if (c == '\n' || c == '\r'){
+				if (c == '\r' && p + 1 >= limit && !endOfInput){
+					return -1;
+				}
+				
+				addField(fieldStart, p, quoted);
+				
+				// skip line break
+				p++;
+				if (c == '\r' && p < limit && buffer[p] == '\n'){
+					p++;
+				}
+				
+				position = p;
+				return 1;
+			}
+			
+			p++;
+		}
+	}
+	
+	/**
+	 * Returns position after the line break of the line at specified position.
+	 * 
+	 * @param p  position in buffer
+	 * @return position of next line, or -1 if more characters are required
+	 */
+	private int findLineEnd(int p){
+		while (p < limit){
+			char c = buffer[p++];
+			if (c == '\n'){
+				return p;
+			}
+			if (c == '\r'){
+				if (p < limit){
+					return buffer[p] == '\n' ? p + 1 : p;
+				}
+				return endOfInput ? p : -1;
+			}
+		}
+		return endOfInput ? p : -1;
+	}
+	
+	/**
+	 * Checks whether buffer contains specified characters at specified position.
+	 * 
+	 * @param p  position in buffer
+	 * @param chars  characters to check
+	 * @return true if characters are present, else false
+	 */
+	private boolean matches(int p, char[] chars){
+		if (limit - p < chars.length){
+			return false;
+		}
+		for (int i = 0; i < chars.length; i++){
+			if (buffer[p + i] != chars[i]){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Adds a field to current record, if it is selected by projection.
+	 * 
+	 * @param start  starting position of the field
+	 * @param end  ending position of the field, exclusive
+	 * @param quoted  true if field starts with a quote
+	 */
+	private void addField(int start, int end, boolean quoted){
+		int sourceIndex = sourceFieldCount++;
+		if (selectedFields != null && 
+				(sourceIndex >= selectedFields.length || !selectedFields[sourceIndex])){
+			return;
+		}
+		
+		if (fieldCount == fieldOffsets.length){
+			int newLength = fieldCount * 2;
+			fieldOffsets = Arrays.copyOf(fieldOffsets, newLength);
+			fieldLengths = Arrays.copyOf(fieldLengths, newLength);
+			quotedFields = Arrays.copyOf(quotedFields, newLength);
+		}
+		
+		fieldOffsets[fieldCount] = start;
+		fieldLengths[fieldCount] = end - start;
+		quotedFields[fieldCount] = quoted;
+		fieldCount++;
+	}
+	
+	/**
+	 * Removes enclosing quotes and escape characters from quoted fields
+	 * of current record. Decoded value is written in place.
+	 */
+	private void decodeQuotedFields(){
+		
+		for (int i = 0; i < fieldCount; i++){
+			
+			if (!quotedFields[i]){
+				continue;
+			}
+			
+			int start = fieldOffsets[i];
+			int end = start + fieldLengths[i];
+			
+			// skip opening quote
+			int read = start + 1;
+			int write = start;
+			boolean inQuotes = true;
+			
+			while (read < end){
+				char c = buffer[read++];
+				if (inQuotes && c == QUOTE){
+					if (read < end && buffer[read] == QUOTE){
+						// escaped quote
+						buffer[write++] = QUOTE;
+						read++;
+					}else{
+						// closing quote, remaining characters are used as such
+						inQuotes = false;
+					}
+					continue;
+				}
+				buffer[write++] = c;
+			}
+			
+			fieldLengths[i] = write - start;
+		}
+	}
+	
+	/**
+	 * Reads more characters into buffer. Current record is moved to start
+	 * of the buffer, and buffer size is doubled if it is full.
+	 * 
+	 * @throws IOException if error occurs when reading
+	 */
+	private void fill() throws IOException{
+		
+		if (position > 0){
+			// discard characters of previous records
+			System.arraycopy(buffer, position, buffer, 0, limit - position);
+			limit -= position;
+			position = 0;
+		}
+		
+		if (limit == buffer.length){
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			bufferSequence = CharBuffer.wrap(buffer);
+		}
+		
+		int count = reader.read(buffer, limit, buffer.length - limit);
+		if (count < 0){
+			endOfInput = true;
+		}else{
+			limit += count;
+		}
+	}
+	
+	/**
+	 * Returns characters in buffer as a string, raw bytes 
+	 * are decoded as UTF-8 if not ASCII.
+	 * 
+	 * @param offset  starting position in buffer
+	 * @param length  number of characters
+	 * @return string value
+	 */
+	private String decode(int offset, int length){
+		if (!rawBytes || isAscii(offset, length)){
+			return new String(buffer, offset, length);
+		}
+		
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++){
+			bytes[i] = (byte) buffer[offset + i];
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Checks whether characters in buffer are ASCII.
+	 * 
+	 * @param offset  starting position in buffer
+	 * @param length  number of characters
+	 * @return true if all characters are ASCII, else false
+	 */
+	private boolean isAscii(int offset, int length){
+		int end = offset + length;
+		for (int i = offset; i < end; i++){
+			if (buffer[i] >= 0x80){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns characters of a string as they appear in buffer, 
+	 * which are UTF-8 bytes if buffer contains raw bytes.
+	 * 
+	 * @param value  string value
+	 * @return buffer characters
+	 */
+	private char[] toBufferChars(String value){
+		return toBufferChars(value, rawBytes);
+	}
+	
+	/**
+	 * Returns characters of a string as they appear in a buffer, 
+	 * which are UTF-8 bytes if the buffer contains raw bytes.
+	 * Also used by {@link RecordSplitter}.
+	 * 
+	 * @param value  string value
+	 * @param rawBytes  true if buffer contains raw bytes
+	 * @return buffer characters
+	 */
+	static char[] toBufferChars(String value, boolean rawBytes){
+		if (!rawBytes){
+			return value.toCharArray();
+		}
+		
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		char[] chars = new char[bytes.length];
+		for (int i = 0; i < bytes.length; i++){
+			chars[i] = (char) (bytes[i] & 0xFF);
+		}
+		return chars;
+	}
+	
+	/**
+	 * Checks whether field index is valid for current record.
+	 * 
+	 * @param index  field index
+	 * @throws ArrayIndexOutOfBoundsException if invalid field index
+	 */
+	private void checkFieldIndex(int index){
+		if (index < 0 || index >= fieldCount){
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+	}
+
+}
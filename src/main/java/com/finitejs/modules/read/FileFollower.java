@@ -0,0 +1,364 @@
+package com.finitejs.modules.read;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows a local file that grows by appending lines, like a log file, and
+ * adds new rows to a {@link DataTable} with the settings of a {@link PlainReader}.
+ * <p>
+ * Byte position after the last complete line read is remembered, and each poll
+ * parses only complete lines added after that position, with column names and
+ * types of the table. A partial last line is read after its line break is written.
+ * If the file becomes smaller than the remembered position, it is considered
+ * replaced and lines are read again from the beginning, skipping header.
+ * Until the table has rows, polls read the file from the beginning, so
+ * that column types are determined from the first rows.
+ * </p>
+ * <p>
+ * File can be polled at a fixed interval in a separate daemon thread with
+ * {@code start}, or directly with {@code poll}. Table is modified in the polling
+ * thread while synchronized on the table. File is read as UTF-8 text and quoted
+ * values cannot contain line breaks, as new parts of the file are split at
+ * line breaks.
+ * </p>
+ */
+public class FileFollower {
+
+	/**
+	 * Constant for default polling interval in milliseconds.
+	 */
+	public static final long DEFAULT_POLL_INTERVAL = 1000;
+	
+	/** Constant for size of the buffer used to find line breaks. */
+	private static final int SCAN_BUFFER_SIZE = 8192;
+	
+	/** Reader settings used to read the file */
+	private PlainReader reader;
+	
+	/** File to follow */
+	private File file;
+	
+	/** Delimiter to separate columns in a row */
+	private String delimiter;
+	
+	/** True if first non-comment row is header */
+	private boolean isHeaderPresent;
+	
+	/** Table to which rows are added */
+	private DataTable table;
+	
+	/** Indexes of projected columns resolved from the file, or null for all columns */
+	private int[] projectionIndexes;
+	
+	/** Byte position after the last complete line read */
+	private long offset;
+	
+	/** Listener called when rows are added, or null */
+	private volatile FollowListener listener;
+	
+	/** Executor that polls the file, or null if not started */
+	private ScheduledExecutorService executor;
+	
+	/** Error occurred when polling in executor, or null */
+	private volatile IOException error;
+	
+	/**
+	 * Creates a new {@code FileFollower} instance.
+	 * 
+	 * @param reader  reader with settings to be used
+	 * @param file  file to follow
+	 * @param delimiter  delimiter to separate columns in a row
+	 * @param isHeaderPresent  true if first non-comment row is header
+	 * row with column names, else false
+	 */
+	public FileFollower(PlainReader reader, File file, String delimiter, boolean isHeaderPresent){
+		this.reader = reader;
+		this.file = file;
+		this.delimiter = delimiter;
+		this.isHeaderPresent = isHeaderPresent;
+		this.offset = 0;
+	}
+	
+	/**
+	 * Reads complete lines currently in the file and returns them as a
+	 * {@link DataTable}, to which new rows are added later.
+	 * 
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading file
+	 */
+	public synchronized DataTable read() throws IOException{
+		try (FileChannel channel = FileChannel.open(file.toPath())){
+			long end = findLastLineEnd(channel, 0, channel.size());
+			PlainReader.SequentialResult result = 
+					reader.readSequentialResult(openRange(0, end), delimiter, isHeaderPresent);
+			table = result.table;
+			projectionIndexes = result.projectionIndexes;
+			offset = end;
+		}
+		return table;
+	}
+	
+	/**
+	 * Reads complete lines added to the file after last read and adds
+	 * them to the table. Listener is called if any rows are added.
+	 * 
+	 * @return number of rows added
+	 * @throws IOException if error occurs when reading file
+	 * @throws IllegalStateException if file is not read yet
+	 */
+	public synchronized int poll() throws IOException{
+		
+		if (table == null){
+			throw new IllegalStateException("File is not read yet");
+		}
+		
+		DataTable newTable;
+		try (FileChannel channel = FileChannel.open(file.toPath())){
+			
+			long size = channel.size();
+			boolean replaced = size < offset;
+			long start = replaced || table.getRowCount() == 0 ? 0 : offset;
+			
+			long end = findLastLineEnd(channel, start, size);
+			if (end <= start || (!replaced && end <= offset)){
+				return 0;
+			}
+			
+			if (start == 0 && table.getRowCount() == 0){
+				// column types are determined from the first rows
+				PlainReader.SequentialResult result = 
+						reader.readSequentialResult(openRange(0, end), delimiter, isHeaderPresent);
+				newTable = result.table;
+				projectionIndexes = result.projectionIndexes;
+				synchronized (table){
+					updateColumns(newTable);
+				}
+			}else{
+				newTable = readRows(start, end);
+			}
+			offset = end;
+		}
+		
+		int rowCount = newTable.getRowCount();
+		if (rowCount == 0){
+			return 0;
+		}
+		
+		synchronized (table){
+			table.append(newTable);
+		}
+		
+		if (listener != null && !listener.rowsAdded(table, rowCount)){
+			stop();
+		}
+		
+		return rowCount;
+	}
+	
+	/**
+	 * Starts polling the file in a separate daemon thread,
+	 * until stopped or an error occurs.
+	 * 
+	 * @param pollInterval  time between polls in milliseconds
+	 * @throws IllegalStateException if file is not read yet
+	 */
+	public synchronized void start(long pollInterval){
+		
+		if (table == null){
+			throw new IllegalStateException("File is not read yet");
+		}
+		
+		if (executor != null){
+			return;
+		}
+		
+		error = null;
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "finitejs-reader-follow");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+		long interval = pollInterval > 0 ? pollInterval : DEFAULT_POLL_INTERVAL;
+		executor.scheduleWithFixedDelay(() -> {
+			try{
+				poll();
+			}catch (IOException e){
+				error = e;
+				stop();
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Stops polling the file.
+	 */
+	public synchronized void stop(){
+		if (executor != null){
+			executor.shutdown();
+			executor = null;
+		}
+	}
+	
+	/**
+	 * Checks whether the file is polled in a separate thread.
+	 * 
+	 * @return true if polling, else false
+	 */
+	public synchronized boolean isFollowing(){
+		return executor != null;
+	}
+	
+	/**
+	 * Set a listener called when rows are added.
+	 * 
+	 * @param listener  listener, or null to remove
+	 */
+	public void setListener(FollowListener listener){
+		this.listener = listener;
+	}
+	
+	/**
+	 * Returns table to which rows are added.
+	 * 
+	 * @return {@link DataTable}, or null if file is not read yet
+	 */
+	public DataTable getTable(){
+		return table;
+	}
+	
+	/**
+	 * Returns byte position after the last complete line read.
+	 * 
+	 * @return byte position
+	 */
+	public synchronized long getOffset(){
+		return offset;
+	}
+	
+	/**
+	 * Returns error that stopped polling in separate thread.
+	 * 
+	 * @return error, or null if no error occurred
+	 */
+	public IOException getError(){
+		return error;
+	}
+	
+	/**
+	 * Parses complete lines in a byte range with column names and types of the table.
+	 * 
+	 * @param start  starting byte position
+	 * @param end  ending byte position, exclusive
+	 * @return table with rows in the range
+	 * @throws IOException if error occurs when reading file
+	 */
+	private DataTable readRows(long start, long end) throws IOException{
+		
+		List<String> nameList;
+		List<ColumnType<?>> typeList;
+		synchronized (table){
+			nameList = table.getNames();
+			typeList = table.getTypes();
+		}
+		boolean[] inferredTypes = reader.getInferredTypes(typeList.size());
+		
+		try (RawByteReader rangeReader = openRange(start, end)){
+			DelimitedTokenizer tokenizer = new DelimitedTokenizer(rangeReader, delimiter);
+			tokenizer.setCommentString(reader.getCommentString());
+			
+			if (start == 0 && isHeaderPresent){
+				// file is replaced, header is already read
+				tokenizer.next();
+			}
+			
+			return reader.readRows(tokenizer, typeList, nameList, inferredTypes, projectionIndexes);
+		}
+	}
+	
+	/**
+	 * Changes columns of the table without rows to columns of another table.
+	 * 
+	 * @param newTable  table with new columns
+	 */
+	private void updateColumns(DataTable newTable){
+		
+		List<String> nameList = newTable.getNames();
+		List<ColumnType<?>> typeList = newTable.getTypes();
+		
+		for (int i = 0; i < typeList.size(); i++){
+			if (i >= table.getColumnCount()){
+				table.addColumn(nameList.get(i), typeList.get(i), null);
+			}else if (!table.getTypes().get(i).equals(typeList.get(i))){
+				table.convertColumn(i, typeList.get(i));
+			}
+		}
+	}
+	
+	/**
+	 * Opens a raw byte reader to a byte range of the file.
+	 * 
+	 * @param start  starting byte position
+	 * @param end  ending byte position, exclusive
+	 * @return raw byte reader
+	 * @throws IOException if error occurs when opening file
+	 */
+	private RawByteReader openRange(long start, long end) throws IOException{
+		FileInputStream inputStream = new FileInputStream(file);
+		try{
+			inputStream.getChannel().position(start);
+		}catch (IOException e){
+			inputStream.close();
+			throw e;
+		}
+		return new RawByteReader(new MappedFileReader.BoundedInputStream(inputStream, end - start));
+	}
+	
+	/**
+	 * Returns byte position after the last line break in a part of file.
+	 * 
+	 * @param channel  file channel
+	 * @param start  starting byte position
+	 * @param end  ending byte position, exclusive
+	 * @return position after last line break, or start position if no line break
+	 * @throws IOException if error occurs when reading file
+	 */
+	private static long findLastLineEnd(FileChannel channel, long start, long end) throws IOException{
+		
+		ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+		long position = end;
+		
+		while (position > start){
+			int length = (int) Math.min(SCAN_BUFFER_SIZE, position - start);
+			position -= length;
+			
+			scanBuffer.clear();
+			scanBuffer.limit(length);
+			int count = 0;
+			while (count < length){
+				int read = channel.read(scanBuffer, position + count);
+				if (read <= 0){
+					break;
+				}
+				count += read;
+			}
+			
+			for (int i = count - 1; i >= 0; i--){
+				if (scanBuffer.get(i) == '\n'){
+					return position + i + 1;
+				}
+			}
+		}
+		
+		return start;
+	}
+
+}
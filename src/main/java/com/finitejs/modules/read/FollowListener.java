@@ -0,0 +1,21 @@
+package com.finitejs.modules.read;
+
+/**
+ * {@code FollowListener} can be used to get notified when rows are 
+ * added to a {@link DataTable} by a {@link FileFollower}.
+ * <p>
+ * Listener is called in the thread that polls the file.
+ * </p>
+ */
+public interface FollowListener {
+
+	/**
+	 * Called after new rows are added to the end of a table.
+	 * 
+	 * @param table  table to which rows are added
+	 * @param rowCount  number of rows added
+	 * @return false to stop following the file, else true
+	 */
+	public boolean rowsAdded(DataTable table, int rowCount);
+
+}
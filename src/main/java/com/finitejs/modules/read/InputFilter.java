@@ -0,0 +1,25 @@
+package com.finitejs.modules.read;
+
+/**
+ * {@code InputFilter} can be used to discard rows while reading, based on raw
+ * values of a column. Filters are applied before values are parsed, validated
+ * or formatted, and value is passed as a part of the reader buffer, so that
+ * rejected rows are discarded without creating any strings.
+ * <p>
+ * Filters must be thread safe to use with parallel parsing.
+ * </p>
+ */
+public interface InputFilter {
+
+	/**
+	 * Checks whether a row must be kept based on the raw value of a column.
+	 * Missing values are passed as empty values.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return true if row must be kept, false if row must be discarded
+	 */
+	public boolean accept(CharSequence source, int offset, int length);
+
+}
@@ -0,0 +1,310 @@
+package com.finitejs.modules.read;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a local file in parallel with the settings of a {@link PlainReader}.
+ * <p>
+ * Header and a leading sample of rows are read first to determine column
+ * names and types, random sampling is not used. Remaining part of the file is split into byte
+ * ranges of complete records, each range is memory mapped and parsed into a separate
+ * {@link DataTable} on a fork-join pool, and the tables are appended to the
+ * result in file order.
+ * </p>
+ * <p>
+ * Record boundaries are found by scanning the file once for quotes and line 
+ * breaks, see {@link RecordSplitter}, so that quoted values can contain line 
+ * breaks. Each range is parsed as soon as its end is found.
+ * </p>
+ * <p>
+ * File is read as UTF-8 text, values are parsed from raw bytes and only 
+ * non-ASCII values are decoded, see {@link RawByteReader}.
+ * </p>
+ */
+public class MappedFileReader {
+
+	/**
+	 * Constant for maximum size of a byte range parsed by a single task.
+	 */
+	public static final int MAX_RANGE_SIZE = 64 * 1024 * 1024;
+	
+	/**
+	 * Constant for number of byte ranges created for each thread,
+	 * to balance load between threads.
+	 */
+	private static final int RANGES_PER_THREAD = 4;
+	
+	/** Constant for minimum size of a byte range. */
+	private static final int MIN_RANGE_SIZE = 8192;
+	
+	/** Reader settings used to read the file */
+	private PlainReader reader;
+	
+	/** File to read */
+	private File file;
+	
+	/** Delimiter to separate columns in a row */
+	private String delimiter;
+	
+	/** Number of threads used for parsing */
+	private int parallelism;
+	
+	/**
+	 * Creates a new {@code MappedFileReader} instance.
+	 * 
+	 * @param reader  reader with settings to be used
+	 * @param file  file to read
+	 * @param delimiter  delimiter to separate columns in a row
+	 * @param parallelism  number of threads used for parsing
+	 */
+	public MappedFileReader(PlainReader reader, File file, String delimiter, int parallelism){
+		this.reader = reader;
+		this.file = file;
+		this.delimiter = delimiter;
+		this.parallelism = parallelism < 1 ? 1 : parallelism;
+	}
+	
+	/**
+	 * Reads the file and returns the whole data as a {@link DataTable}.
+	 * 
+	 * @param isHeaderPresent  true if first non-comment row is header
+	 * row with column names, else false
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading file
+	 */
+	public DataTable read(boolean isHeaderPresent) throws IOException{
+		
+		long fileSize = file.length();
+		
+		// header and leading sample rows determines column names and types,
+		// whole file is read as sample if all rows are used
+		long sampleEnd = fileSize;
+		if (reader.getSampleSize() > 0){
+			sampleEnd = findRecordEnd(reader.getSampleSize() + (isHeaderPresent ? 1 : 0));
+		}
+		
+		PlainReader.SequentialResult sample;
+		try (InputStream sampleStream = new BoundedInputStream(
+				new BufferedInputStream(new FileInputStream(file)), sampleEnd)){
+			sample = reader.readSequentialResult(new RawByteReader(sampleStream), delimiter, isHeaderPresent);
+		}
+		
+		DataTable table = sample.table;
+		
+		if (sampleEnd >= fileSize || table.getColumnCount() == 0){
+			return table;
+		}
+		
+		List<String> nameList = table.getNames();
+		List<ColumnType<?>> typeList = table.getTypes();
+		boolean[] inferredTypes = reader.getInferredTypes(typeList.size());
+		int[] projectionIndexes = sample.projectionIndexes;
+		
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+				InputStream rangeStream = new FileInputStream(file)){
+			
+			// remaining part is scanned once for record boundaries
+			skipFully(rangeStream, sampleEnd);
+			RecordSplitter splitter = new RecordSplitter(
+					new RawByteReader(rangeStream), delimiter, reader.getCommentString());
+			long rangeSize = getRangeSize(fileSize - sampleEnd);
+			
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try{
+				List<Future<DataTable>> rangeTables = new ArrayList<>();
+				long start = sampleEnd;
+				long length;
+				while ((length = splitter.skipBlock(rangeSize, Long.MAX_VALUE)) > 0){
+					long rangeStart = start;
+					long rangeEnd = start + length;
+					rangeTables.add(pool.submit(
+							() -> readRange(channel, rangeStart, rangeEnd, typeList, nameList, 
+									inferredTypes, projectionIndexes)));
+					start = rangeEnd;
+				}
+				
+				// append in file order, while other ranges are parsed
+				for (Future<DataTable> rangeTable : rangeTables){
+					table.append(rangeTable.get());
+				}
+			}catch (InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}catch (ExecutionException e){
+				if (e.getCause() instanceof IOException){
+					throw (IOException) e.getCause();
+				}
+				throw new IOException(e.getCause());
+			}finally{
+				pool.shutdownNow();
+			}
+		}
+		
+		return table;
+	}
+	
+	/**
+	 * Parses rows in a byte range of the file into a new {@link DataTable}.
+	 * 
+	 * @param channel  file channel
+	 * @param start  starting byte position of the range
+	 * @param end  ending byte position of the range, exclusive
+	 * @param typeList  column types
+	 * @param nameList  column names
+	 * @param inferredTypes  flags for columns with inferred type
+	 * @param projectionIndexes  indexes of projected columns, or null for all columns
+	 * @return table with rows in the range
+	 * @throws IOException if error occurs when reading file
+	 */
+	private DataTable readRange(FileChannel channel, long start, long end, List<ColumnType<?>> typeList,
+			List<String> nameList, boolean[] inferredTypes, int[] projectionIndexes) throws IOException{
+		
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(
+				new RawByteReader(new ByteBufferInputStream(buffer)), delimiter);
+		tokenizer.setCommentString(reader.getCommentString());
+		
+		return reader.readRows(tokenizer, typeList, nameList, inferredTypes, projectionIndexes);
+	}
+	
+	/**
+	 * Returns the byte position after specified number of records, 
+	 * comments are not counted.
+	 * 
+	 * @param recordCount  number of records
+	 * @return byte position of next record, or file size if file has less records
+	 * @throws IOException if error occurs when reading file
+	 */
+	private long findRecordEnd(int recordCount) throws IOException{
+		if (recordCount <= 0){
+			return 0;
+		}
+		
+		try (InputStream inputStream = new FileInputStream(file)){
+			RecordSplitter splitter = new RecordSplitter(
+					new RawByteReader(inputStream), delimiter, reader.getCommentString());
+			return splitter.skipBlock(Long.MAX_VALUE, recordCount);
+		}
+	}
+	
+	/**
+	 * Returns minimum size of byte ranges for a part of file, so that 
+	 * there are enough ranges for all threads.
+	 * 
+	 * @param size  size of the part in bytes
+	 * @return minimum range size in bytes
+	 */
+	private long getRangeSize(long size){
+		long rangeCount = Math.max((long) parallelism * RANGES_PER_THREAD, (size + MAX_RANGE_SIZE - 1) / MAX_RANGE_SIZE);
+		return Math.max(MIN_RANGE_SIZE, (size + rangeCount - 1) / rangeCount);
+	}
+	
+	/**
+	 * Skips specified number of bytes of an input stream.
+	 * 
+	 * @param inputStream  input stream
+	 * @param count  number of bytes to skip
+	 * @throws IOException if error occurs when reading file
+	 */
+	private static void skipFully(InputStream inputStream, long count) throws IOException{
+		while (count > 0){
+			long skipped = inputStream.skip(count);
+			if (skipped <= 0){
+				if (inputStream.read() < 0){
+					return;
+				}
+				skipped = 1;
+			}
+			count -= skipped;
+		}
+	}
+	
+	/**
+	 * Input stream that reads bytes from a byte buffer.
+	 */
+	private static class ByteBufferInputStream extends InputStream{
+		
+		/** Buffer to read */
+		private ByteBuffer buffer;
+		
+		public ByteBufferInputStream(ByteBuffer buffer){
+			this.buffer = buffer;
+		}
+		
+		@Override
+		public int read(){
+			return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len){
+			if (!buffer.hasRemaining()){
+				return -1;
+			}
+			int count = Math.min(len, buffer.remaining());
+			buffer.get(b, off, count);
+			return count;
+		}
+	}
+	
+	/**
+	 * Input stream that reads only a limited number of bytes from another stream.
+	 * Also used by {@link FileFollower}.
+	 */
+	static class BoundedInputStream extends InputStream{
+		
+		/** Underlying stream */
+		private InputStream inputStream;
+		
+		/** Number of bytes remaining */
+		private long remaining;
+		
+		public BoundedInputStream(InputStream inputStream, long limit){
+			this.inputStream = inputStream;
+			this.remaining = limit;
+		}
+		
+		@Override
+		public int read() throws IOException{
+			if (remaining <= 0){
+				return -1;
+			}
+			int b = inputStream.read();
+			if (b != -1){
+				remaining--;
+			}
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException{
+			if (remaining <= 0){
+				return -1;
+			}
+			int count = inputStream.read(b, off, (int) Math.min(len, remaining));
+			if (count > 0){
+				remaining -= count;
+			}
+			return count;
+		}
+		
+		@Override
+		public void close() throws IOException{
+			inputStream.close();
+		}
+	}
+
+}
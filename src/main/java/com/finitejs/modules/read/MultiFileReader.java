@@ -0,0 +1,211 @@
+package com.finitejs.modules.read;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads multiple files with the settings of a {@link PlainReader} into a
+ * single {@link DataTable}.
+ * <p>
+ * Each file is parsed into a separate {@link DataTable} on a fork-join pool,
+ * and the tables are appended to the table of the first file in the given order.
+ * Columns are matched by position, and if types of matching columns are
+ * different, both are changed to a preferred type, see
+ * {@link ColumnType#getPreferredType(ColumnType, ColumnType)}. Files without
+ * columns are skipped.
+ * </p>
+ * <p>
+ * Paths can contain glob patterns, like {@code data/events-2026-10-*.csv},
+ * which are expanded to matching local files sorted by path.
+ * </p>
+ */
+public class MultiFileReader {
+
+	/** Constant for characters with special meaning in a glob pattern */
+	private static final String GLOB_CHARACTERS = "*?[{";
+	
+	/** Reader settings used to read the files */
+	private PlainReader reader;
+	
+	/** Paths of files to read, in order */
+	private List<String> paths;
+	
+	/** Delimiter to separate columns in a row */
+	private String delimiter;
+	
+	/** Number of threads used for parsing */
+	private int parallelism;
+	
+	/**
+	 * Creates a new {@code MultiFileReader} instance.
+	 * 
+	 * @param reader  reader with settings to be used
+	 * @param paths  paths to the files, can also be URLs or glob patterns
+	 * @param delimiter  delimiter to separate columns in a row
+	 * @param parallelism  number of threads used for parsing
+	 * @throws IOException if a glob pattern cannot be expanded
+	 */
+	public MultiFileReader(PlainReader reader, List<String> paths, String delimiter, int parallelism) throws IOException{
+		this.reader = reader;
+		this.delimiter = delimiter;
+		this.parallelism = parallelism < 1 ? 1 : parallelism;
+		
+		this.paths = new ArrayList<>();
+		for (String path : paths){
+			if (isGlob(path)){
+				this.paths.addAll(expandGlob(path));
+			}else{
+				this.paths.add(path);
+			}
+		}
+	}
+	
+	/**
+	 * Reads the files and returns the whole data as a {@link DataTable}.
+	 * 
+	 * @param isHeaderPresent  true if first non-comment row of each file
+	 * is header row with column names, else false
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading files
+	 * @throws IllegalArgumentException if files have different number of columns
+	 */
+	public DataTable read(boolean isHeaderPresent) throws IOException{
+		
+		if (paths.isEmpty()){
+			throw new FileNotFoundException("No files to read");
+		}
+		
+		ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, paths.size()));
+		try{
+			List<Future<DataTable>> fileTables = new ArrayList<>();
+			for (String path : paths){
+				fileTables.add(pool.submit(() -> reader.readSequential(
+						new RawByteReader(PlainReader.openStream(path)), delimiter, isHeaderPresent)));
+			}
+			
+			// append in given order, while other files are parsed
+			DataTable table = null;
+			for (int i = 0; i < fileTables.size(); i++){
+				DataTable fileTable = fileTables.get(i).get();
+				fileTables.set(i, null);
+				
+				if (table == null || table.getColumnCount() == 0){
+					table = fileTable;
+				}else if (fileTable.getColumnCount() > 0){
+					table.append(fileTable);
+				}
+			}
+			
+			return table;
+		}catch (InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}catch (ExecutionException e){
+			if (e.getCause() instanceof IOException){
+				throw (IOException) e.getCause();
+			}
+			if (e.getCause() instanceof RuntimeException){
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		}finally{
+			pool.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Returns paths of files to read, with glob patterns expanded.
+	 * 
+	 * @return file paths
+	 */
+	public List<String> getPaths(){
+		return paths;
+	}
+	
+	/**
+	 * Checks whether a path is a glob pattern. URLs are not patterns, and 
+	 * a path of an existing file is read as such, even if its name has 
+	 * glob characters.
+	 * 
+	 * @param path  path to check
+	 * @return true if glob pattern, else false
+	 */
+	public static boolean isGlob(String path){
+		if (path == null || path.contains("://") || new File(path).exists()){
+			return false;
+		}
+		
+		for (int i = 0; i < path.length(); i++){
+			if (GLOB_CHARACTERS.indexOf(path.charAt(i)) >= 0){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns paths of local files matching a glob pattern, sorted by path.
+	 * Directory part of the pattern before first special character is searched,
+	 * and {@code **} matches across directories.
+	 * 
+	 * @param pattern  glob pattern
+	 * @return paths of matching files
+	 * @throws IOException if error occurs when listing files
+	 * @throws FileNotFoundException if no files match
+	 */
+	public static List<String> expandGlob(String pattern) throws IOException{
+		
+		// base directory is the part before first glob character
+		int globStart = 0;
+		while (globStart < pattern.length() && GLOB_CHARACTERS.indexOf(pattern.charAt(globStart)) < 0){
+			globStart++;
+		}
+		int separator = Math.max(pattern.lastIndexOf('/', globStart), pattern.lastIndexOf(File.separatorChar, globStart));
+		Path baseDir = separator < 0 ? Paths.get(".") : Paths.get(separator == 0 ? "/" : pattern.substring(0, separator));
+		
+		// depth of the remaining pattern, unlimited if it matches across directories
+		String globPart = pattern.substring(separator + 1);
+		int depth = globPart.contains("**") ? Integer.MAX_VALUE : globPart.split("[/\\\\]").length;
+		
+		Path normalizedPattern = separator < 0 ? baseDir.resolve(pattern) : Paths.get(pattern);
+		String matcherPattern = normalizedPattern.toString();
+		if (File.separatorChar == '\\'){
+			// backslash is an escape character in glob
+			matcherPattern = matcherPattern.replace("\\", "\\\\");
+		}
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + matcherPattern);
+		
+		if (!Files.isDirectory(baseDir)){
+			throw new FileNotFoundException("No files match " + pattern);
+		}
+		
+		List<String> matchedPaths;
+		try (Stream<Path> pathStream = Files.walk(baseDir, depth)){
+			matchedPaths = pathStream
+					.filter(p -> Files.isRegularFile(p) && matcher.matches(p))
+					.map(Path::toString)
+					.sorted()
+					.collect(Collectors.toList());
+		}
+		
+		if (matchedPaths.isEmpty()){
+			throw new FileNotFoundException("No files match " + pattern);
+		}
+		
+		return matchedPaths;
+	}
+
+}
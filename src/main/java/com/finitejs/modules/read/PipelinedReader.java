@@ -0,0 +1,236 @@
+package com.finitejs.modules.read;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a text source in stages with the settings of a {@link PlainReader}.
+ * <p>
+ * A separate thread reads the source and splits it into batches of complete
+ * records, which are only scanned for record boundaries, see {@link RecordSplitter},
+ * so that quoted values can contain line breaks and each record is tokenized
+ * once. Header and leading sample of rows are parsed first to determine column
+ * names and types. Remaining batches are tokenized and parsed into separate
+ * {@link DataTable} instances on a fork-join pool, and the tables are appended
+ * to the result in source order. Stages are connected by bounded queues, so
+ * that reading and parsing overlap without keeping the whole source in memory.
+ * </p>
+ */
+public class PipelinedReader {
+
+	/**
+	 * Constant for minimum number of characters in a batch parsed by a single task.
+	 */
+	public static final int BATCH_LENGTH = 256 * 1024;
+	
+	/**
+	 * Constant for number of batches waiting in each queue for each thread.
+	 */
+	private static final int BATCHES_PER_THREAD = 2;
+	
+	/** Reader settings used to read the source */
+	private PlainReader reader;
+	
+	/** Delimiter to separate columns in a row */
+	private String delimiter;
+	
+	/** Number of threads used for parsing */
+	private int parallelism;
+	
+	/**
+	 * Creates a new {@code PipelinedReader} instance.
+	 * 
+	 * @param reader  reader with settings to be used
+	 * @param delimiter  delimiter to separate columns in a row
+	 * @param parallelism  number of threads used for parsing
+	 */
+	public PipelinedReader(PlainReader reader, String delimiter, int parallelism){
+		this.reader = reader;
+		this.delimiter = delimiter;
+		this.parallelism = parallelism < 1 ? 1 : parallelism;
+	}
+	
+	/**
+	 * Reads the source and returns the whole data as a {@link DataTable}.
+	 * Source is closed after reading.
+	 * 
+	 * @param input  reader to the source, can be a {@link RawByteReader}
+	 * @param isHeaderPresent  true if first non-comment row is header
+	 * row with column names, else false
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading source
+	 */
+	public DataTable read(Reader input, boolean isHeaderPresent) throws IOException{
+		
+		// batches copy raw bytes as such
+		boolean rawBytes = input instanceof RawByteReader;
+		
+		// first batch has header and sample rows, or all rows if all are sampled
+		int sampleRecordCount = reader.getSampleSize() > 0 ?
+				reader.getSampleSize() + (isHeaderPresent ? 1 : 0) : 0;
+		
+		int queueSize = parallelism * BATCHES_PER_THREAD;
+		BlockingQueue<Batch> batchQueue = new ArrayBlockingQueue<>(queueSize);
+		
+		Thread inputThread = new Thread(
+				() -> readBatches(input, batchQueue, sampleRecordCount), "finitejs-reader-input");
+		inputThread.setDaemon(true);
+		inputThread.start();
+		
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try{
+			// header and sample rows determines column names and types
+			Batch sampleBatch = takeBatch(batchQueue);
+			boolean endOfSource = sampleBatch.text == null;
+			
+			char[] sampleText = endOfSource ? new char[0] : sampleBatch.text;
+			PlainReader.SequentialResult sample = reader.readSequentialResult(rawBytes ? 
+					new RawByteReader(new ByteArrayInputStream(new String(sampleText).getBytes(StandardCharsets.ISO_8859_1))) : 
+					new CharArrayReader(sampleText), delimiter, isHeaderPresent);
+			
+			DataTable table = sample.table;
+			List<String> nameList = table.getNames();
+			List<ColumnType<?>> typeList = table.getTypes();
+			boolean[] inferredTypes = reader.getInferredTypes(typeList.size());
+			int[] projectionIndexes = sample.projectionIndexes;
+			
+			Deque<Future<DataTable>> batchTables = new ArrayDeque<>();
+			Batch batch;
+			while (!endOfSource && (batch = takeBatch(batchQueue)).text != null){
+				char[] text = batch.text;
+				batchTables.add(pool.submit(() -> readBatch(text, rawBytes, typeList, nameList, 
+						inferredTypes, projectionIndexes)));
+				
+				// append in source order, limiting number of parsed tables waiting
+				while (batchTables.size() >= queueSize){
+					table.append(batchTables.poll().get());
+				}
+			}
+			
+			while (!batchTables.isEmpty()){
+				table.append(batchTables.poll().get());
+			}
+			
+			return table;
+		}catch (InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}catch (ExecutionException e){
+			if (e.getCause() instanceof IOException){
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		}finally{
+			// stops reading if parsing failed
+			inputThread.interrupt();
+			pool.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Reads records from the source and adds them to the queue in batches.
+	 * Runs in a separate thread, and the last batch added is an empty batch
+	 * or a batch with the error occurred.
+	 * 
+	 * @param input  reader to the source
+	 * @param batchQueue  queue for batches
+	 * @param firstBatchSize  number of records in first batch, zero or less for all records
+	 */
+	private void readBatches(Reader input, BlockingQueue<Batch> batchQueue, int firstBatchSize){
+		
+		try{
+			try{
+				// records are found with same rules used for parsing
+				RecordSplitter splitter = new RecordSplitter(input, delimiter, reader.getCommentString());
+				
+				int length = firstBatchSize > 0 ? 
+						splitter.nextBlock(Integer.MAX_VALUE, firstBatchSize) : 
+						splitter.nextBlock(Integer.MAX_VALUE, Long.MAX_VALUE);
+				while (length > 0){
+					int start = splitter.getBlockStart();
+					batchQueue.put(new Batch(Arrays.copyOfRange(splitter.getBuffer(), start, start + length), null));
+					length = splitter.nextBlock(BATCH_LENGTH, Long.MAX_VALUE);
+				}
+				
+				// end of source
+				batchQueue.put(new Batch(null, null));
+			}catch (IOException e){
+				batchQueue.put(new Batch(null, e));
+			}finally{
+				input.close();
+			}
+		}catch (InterruptedException e){
+			// parsing is stopped
+		}catch (IOException e){
+			// error on closing, ignored as all records are read
+		}
+	}
+	
+	/**
+	 * Takes next batch from the queue.
+	 * 
+	 * @param batchQueue  queue for batches
+	 * @return next batch, with null text if no more records
+	 * @throws IOException if error occurred when reading source
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private static Batch takeBatch(BlockingQueue<Batch> batchQueue) throws IOException, InterruptedException{
+		Batch batch = batchQueue.take();
+		if (batch.error != null){
+			throw batch.error;
+		}
+		return batch;
+	}
+	
+	/**
+	 * Parses records in a batch into a new {@link DataTable}.
+	 * 
+	 * @param text  characters of complete records in the batch
+	 * @param rawBytes  true if text contains raw bytes of UTF-8 text
+	 * @param typeList  column types
+	 * @param nameList  column names
+	 * @param inferredTypes  flags for columns with inferred type
+	 * @param projectionIndexes  indexes of projected columns, or null for all columns
+	 * @return table with rows in the batch
+	 * @throws IOException if error occurs when parsing
+	 */
+	private DataTable readBatch(char[] text, boolean rawBytes, List<ColumnType<?>> typeList,
+			List<String> nameList, boolean[] inferredTypes, int[] projectionIndexes) throws IOException{
+		
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(new CharArrayReader(text), delimiter);
+		tokenizer.setRawBytes(rawBytes);
+		tokenizer.setCommentString(reader.getCommentString());
+		
+		return reader.readRows(tokenizer, typeList, nameList, inferredTypes, projectionIndexes);
+	}
+	
+	/**
+	 * Batch of records passed between threads.
+	 */
+	private static class Batch{
+		
+		/** Characters of complete records, null if no more records */
+		private char[] text;
+		
+		/** Error occurred when reading source, or null */
+		private IOException error;
+		
+		public Batch(char[] text, IOException error){
+			this.text = text;
+			this.error = error;
+		}
+	}
+
+}
@@ -1,17 +1,24 @@
 package com.finitejs.modules.read;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.TreeSet;
 
 import com.finitejs.modules.core.NetUtils;
+import com.finitejs.modules.read.formatter.ChainedFormatter;
+import com.finitejs.modules.read.types.StringType;
+import com.finitejs.modules.read.util.StringUtils;
 
 /**
  * {@code PlainReader} can be used to read file formats like CSV, TSV, 
@@ -33,6 +40,36 @@ public class PlainReader {
 	 */
 	public static final String DEFAULT_DELIMITER = ",";
 	
+	/**
+	 * Constant for default number of rows used to determine column types.
+	 */
+	public static final int DEFAULT_SAMPLE_SIZE = 1000;
+	
+	/**
+	 * Constant for number of rows passed to batch formatters and validators in a call.
+	 */
+	public static final int INPUT_BATCH_SIZE = 4096;
+	
+	/**
+	 * Constant for storage mode that keeps column values in heap.
+	 */
+	public static final String STORAGE_HEAP = "heap";
+	
+	/**
+	 * Constant for storage mode that keeps column values out of heap, 
+	 * in direct buffers.
+	 */
+	public static final String STORAGE_OFFHEAP = "offheap";
+	
+	/** Constant for package name prefix of built-in filters */
+	private static final String FILTER_PACKAGE = "com.finitejs.modules.read.filter.";
+	
+	/** Constant for package name prefix of built-in formatters */
+	private static final String FORMATTER_PACKAGE = "com.finitejs.modules.read.formatter.";
+	
+	/** Constant for package name prefix of built-in validators */
+	private static final String VALIDATOR_PACKAGE = "com.finitejs.modules.read.validator.";
+	
 	/** 
 	 * Predefined column type list. If a column type is predefined, 
 	 * then dynamic type checking is skipped for that column. Table column index
@@ -59,15 +96,83 @@ public class PlainReader {
 	 */
 	private List<InputValidator> inputValidatorList;
 	
+	/**
+	 * {@link InputFilter} to be used for each column. Table column index
+	 * is matched with column filter index in this list.
+	 */
+	private List<InputFilter> inputFilterList;
+	
+	/**
+	 * {@link BatchInputFormatter} to be used for each column. Table column index
+	 * is matched with column formatter index in this list.
+	 */
+	private List<BatchInputFormatter> batchInputFormatterList;
+	
+	/**
+	 * {@link BatchInputValidator} to be used for each column. Table column index
+	 * is matched with column validator index in this list.
+	 */
+	private List<BatchInputValidator> batchInputValidatorList;
+	
 	/** Comment string used */
 	private String commentString;
 	
+	/** 
+	 * Streaming mode. If enabled, column types are determined from a leading
+	 * sample of rows and remaining rows are added directly to the table.
+	 */
+	private boolean streaming;
+	
+	/** Number of threads used to parse local files */
+	private int parallelism;
+	
+	/** Number of rows used to determine column types, zero or less for all rows */
+	private int sampleSize;
+	
+	/** Sampling mode used to select rows for determining column types */
+	private String sampleMode;
+	
+	/** Names or indexes of columns to read, or null to read all columns */
+	private List<String> projection;
+	
+	/** Maximum number of rows to read after skipped rows, negative for all rows */
+	private int rowLimit;
+	
+	/** Number of rows skipped after header */
+	private int skipRowCount;
+	
+	/** Starting byte position of the part of file to read */
+	private long byteOffset;
+	
+	/** Number of bytes in the part of file to read, zero or less to read until end */
+	private long byteLength;
+	
+	/** Cache of tables read from local files, or null if tables are not cached */
+	private TableCache cache;
+	
+	/** Storage mode of tables read */
+	private String storage;
+	
 	private PlainReader(){
 		predefinedTypeList = new ArrayList<>();
 		preDefinedNameList = new ArrayList<>();
 		inputFormatterList = new ArrayList<>();
 		inputValidatorList = new ArrayList<>();
+		inputFilterList = new ArrayList<>();
+		batchInputFormatterList = new ArrayList<>();
+		batchInputValidatorList = new ArrayList<>();
 		commentString = DEFAULT_COMMENT_STRING;
+		streaming = false;
+		parallelism = 1;
+		sampleSize = DEFAULT_SAMPLE_SIZE;
+		sampleMode = TypeSampler.SAMPLE_FIRST;
+		projection = null;
+		rowLimit = -1;
+		skipRowCount = 0;
+		byteOffset = 0;
+		byteLength = 0;
+		cache = null;
+		storage = STORAGE_HEAP;
 	}
 	
 	/**
@@ -210,6 +315,114 @@ public class PlainReader {
 		
 	}
 	
+	/**
+	 * Set a {@link BatchInputFormatter} for a column with specified index. Values 
+	 * are formatted in batches of {@code INPUT_BATCH_SIZE} rows, after formatting
+	 * with {@link InputFormatter} of the column if present.
+	 * 
+	 * @param columnIndex  index of the column to which the formatter is set
+	 * @param batchInputFormatter  {@link BatchInputFormatter} to use
+	 */
+	public void setBatchFormatter(int columnIndex, BatchInputFormatter batchInputFormatter){
+		// initialize with null
+		if (batchInputFormatterList.size() <= columnIndex){
+			for (int i = batchInputFormatterList.size(); i <= columnIndex; i++){
+				batchInputFormatterList.add(null);
+			}
+		}
+		
+		batchInputFormatterList.set(columnIndex, batchInputFormatter);
+	}
+	
+	/**
+	 * Set {@link BatchInputFormatter} for columns. Table column index is matched with 
+	 * column formatter index in this list.
+	 * 
+	 * @param batchInputFormatterArray  list of {@link BatchInputFormatter} to be used
+	 */
+	public void setBatchFormatter(BatchInputFormatter[] batchInputFormatterArray){
+		
+		// clear formatter list
+		batchInputFormatterList.clear();
+		// copy values
+		for (int i = 0; i < batchInputFormatterArray.length; i++){
+			batchInputFormatterList.add(batchInputFormatterArray[i]);
+		}
+		
+	}
+	
+	/**
+	 * Set a {@link BatchInputValidator} for a column with specified index. Values 
+	 * are validated in batches of {@code INPUT_BATCH_SIZE} rows, before applying 
+	 * any {@link InputValidator} or {@link InputFormatter}.
+	 * 
+	 * @param columnIndex  index of the column to which the validator is set
+	 * @param batchInputValidator  {@link BatchInputValidator} to use
+	 */
+	public void setBatchValidator(int columnIndex, BatchInputValidator batchInputValidator){
+		// initialize with null
+		if (batchInputValidatorList.size() <= columnIndex){
+			for (int i = batchInputValidatorList.size(); i <= columnIndex; i++){
+				batchInputValidatorList.add(null);
+			}
+		}
+		
+		batchInputValidatorList.set(columnIndex, batchInputValidator);
+	}
+	
+	/**
+	 * Set {@link BatchInputValidator} for columns. Table column index is matched with 
+	 * column validator index in this list.
+	 * 
+	 * @param batchInputValidatorArray  list of {@link BatchInputValidator} to be used
+	 */
+	public void setBatchValidator(BatchInputValidator[] batchInputValidatorArray){
+		
+		// clear validator list
+		batchInputValidatorList.clear();
+		// copy values
+		for (int i = 0; i < batchInputValidatorArray.length; i++){
+			batchInputValidatorList.add(batchInputValidatorArray[i]);
+		}
+		
+	}
+	
+	/**
+	 * Set an {@link InputFilter} for a column with specified index. Filters are
+	 * applied to raw values before parsing, validating or formatting, and if 
+	 * any filter rejects a value then the whole row will be discarded.
+	 * 
+	 * @param columnIndex  index of the column to which the filter is set
+	 * @param inputFilter  {@link InputFilter} to use
+	 */
+	public void setFilter(int columnIndex, InputFilter inputFilter){
+		// initialize with null
+		if (inputFilterList.size() <= columnIndex){
+			for (int i = inputFilterList.size(); i <= columnIndex; i++){
+				inputFilterList.add(null);
+			}
+		}
+		
+		inputFilterList.set(columnIndex, inputFilter);
+	}
+	
+	/**
+	 * Set {@link InputFilter} for columns. Table column index is matched with 
+	 * column filter index in this list.
+	 * 
+	 * @param inputFilterArray  list of {@link InputFilter} to be used
+	 */
+	public void setFilter(InputFilter[] inputFilterArray){
+		
+		// clear filter list
+		inputFilterList.clear();
+		// copy values
+		for (int i = 0; i < inputFilterArray.length; i++){
+			inputFilterList.add(inputFilterArray[i]);
+		}
+		
+	}
+	
 	/**
 	 * Set a comment string to use while reading. Lines starting with comment 
 	 * string will be ignored.
@@ -225,6 +438,171 @@ public class PlainReader {
 		}
 	}
 	
+	/**
+	 * Enable or disable streaming mode. In streaming mode, column types are 
+	 * determined from leading rows of the sample size and remaining 
+	 * rows are parsed directly into the table as they are read, instead of 
+	 * keeping whole file in memory as strings. If a later value is not 
+	 * compatible with the determined type, type of that column is changed 
+	 * to a preferred type.
+	 * 
+	 * @param streaming  true to enable streaming mode, else false
+	 */
+	public void setStreaming(boolean streaming){
+		this.streaming = streaming;
+	}
+	
+	/**
+	 * Set number of threads used to parse files. If more than one thread is used,
+	 * local files are memory mapped and split into byte ranges which are parsed
+	 * in parallel, see {@link MappedFileReader}. Other sources like URLs are read
+	 * by a separate thread and batches of rows are parsed in parallel, see 
+	 * {@link PipelinedReader}. Multiple files are parsed concurrently, see 
+	 * {@link MultiFileReader}. Input formatters, validators and filters, including
+	 * batch formatters and validators, must be thread safe to use with parallel parsing.
+	 * 
+	 * @param parallelism  number of threads, 1 to disable parallel parsing
+	 */
+	public void setParallelism(int parallelism){
+		this.parallelism = parallelism < 1 ? 1 : parallelism;
+	}
+	
+	/**
+	 * Set number of rows used to determine column types. Types of other rows 
+	 * are not checked, and if a value is not compatible with the determined
+	 * type, type of that column is changed to a preferred type when the value 
+	 * is added. Default is {@code DEFAULT_SAMPLE_SIZE}.
+	 * 
+	 * @param sampleSize  number of rows, zero or less to check all rows
+	 */
+	public void setSampleSize(int sampleSize){
+		this.sampleSize = sampleSize;
+	}
+	
+	/**
+	 * Set sampling mode used to select rows for determining column types.
+	 * Random rows are sampled only when whole file is kept in memory, 
+	 * in streaming mode leading rows are always used.
+	 * 
+	 * @param sampleMode  {@code TypeSampler.SAMPLE_FIRST} for leading rows or 
+	 * {@code TypeSampler.SAMPLE_RESERVOIR} for random rows, if invalid
+	 * then leading rows are sampled
+	 */
+	public void setSampleMode(String sampleMode){
+		this.sampleMode = TypeSampler.SAMPLE_RESERVOIR.equals(sampleMode) ? 
+				TypeSampler.SAMPLE_RESERVOIR : TypeSampler.SAMPLE_FIRST;
+	}
+	
+	/**
+	 * Set columns to read. Other columns are skipped by the tokenizer, and are
+	 * not parsed, type checked or stored. Columns are selected by header names, 
+	 * or by column indexes in file if header is not present, and are stored in
+	 * file order. Column indexes used with other settings, like types, names, 
+	 * formatters, validators and filters, refer to columns of the resulting table.
+	 * 
+	 * @param columnArray  names or indexes of columns to read, 
+	 * or null to read all columns
+	 */
+	public void setProjection(String[] columnArray){
+		
+		if (columnArray == null || columnArray.length == 0){
+			// read all columns
+			projection = null;
+			return;
+		}
+		
+		projection = new ArrayList<>();
+		for (int i = 0; i < columnArray.length; i++){
+			projection.add(columnArray[i]);
+		}
+	}
+	
+	/**
+	 * Set maximum number of rows to read. Reading stops as soon as the limit is
+	 * reached, and column types are determined only from the rows read. Rows are 
+	 * counted before applying filters and validators, skipped rows are not counted.
+	 * 
+	 * @param rowLimit  maximum number of rows, negative to read all rows
+	 */
+	public void setRowLimit(int rowLimit){
+		this.rowLimit = rowLimit < 0 ? -1 : rowLimit;
+	}
+	
+	/**
+	 * Set number of rows to skip after header. Skipped rows are not parsed.
+	 * 
+	 * @param skipRowCount  number of rows to skip
+	 */
+	public void setSkipRows(int skipRowCount){
+		this.skipRowCount = skipRowCount < 0 ? 0 : skipRowCount;
+	}
+	
+	/**
+	 * Set a part of the file to read in bytes. Rows starting in the part are read,
+	 * so a partial row at the start is skipped and the row at the end is completed.
+	 * Header is read from start of the file. As parts are split at line breaks,
+	 * quoted values cannot contain line breaks around the limits of the part.
+	 * Parts of compressed files are positions in decompressed content.
+	 * 
+	 * @param byteOffset  starting byte position
+	 * @param byteLength  number of bytes, zero or less to read until end of file
+	 */
+	public void setByteRange(long byteOffset, long byteLength){
+		this.byteOffset = byteOffset < 0 ? 0 : byteOffset;
+		this.byteLength = byteLength < 0 ? 0 : byteLength;
+	}
+	
+	/**
+	 * Set a cache of tables read from local files. If a file is not modified 
+	 * after it was read with same settings, table is loaded from cache instead 
+	 * of parsing the file, see {@link TableCache}. Files are not cached if 
+	 * batch formatters or validators, or input functions other than built-in 
+	 * formatters, validators and filters are used, as they cannot be compared.
+	 * 
+	 * @param cache  table cache, or null to disable caching
+	 */
+	public void setCache(TableCache cache){
+		this.cache = cache;
+	}
+	
+	/**
+	 * Set storage mode of tables read. In off-heap mode, number, date, time 
+	 * and date-time values are stored in direct buffers out of heap as rows 
+	 * are parsed, so that values are never held in heap, see {@link Column}.
+	 * Tables loaded from cache are memory mapped in both modes.
+	 * 
+	 * @param storage  {@code STORAGE_HEAP} or {@code STORAGE_OFFHEAP}, 
+	 * or null for {@code STORAGE_HEAP}
+	 * @throws IllegalArgumentException if storage mode is invalid
+	 */
+	public void setStorage(String storage){
+		if (storage == null || STORAGE_HEAP.equals(storage)){
+			this.storage = STORAGE_HEAP;
+		}else if (STORAGE_OFFHEAP.equals(storage)){
+			this.storage = STORAGE_OFFHEAP;
+		}else{
+			throw new IllegalArgumentException("Invalid storage mode - " + storage);
+		}
+	}
+	
+	/**
+	 * Returns number of rows used to determine column types.
+	 * 
+	 * @return sample size, zero or less if all rows are used
+	 */
+	public int getSampleSize(){
+		return sampleSize;
+	}
+	
+	/**
+	 * Returns comment string used while reading.
+	 * 
+	 * @return comment string, or null if comments are disabled
+	 */
+	public String getCommentString(){
+		return commentString;
+	}
+	
 	/**
 	 * Read the specified file and returns the whole data as a {@link DataTable}.
 	 * Default delimiter will be used to separate columns and first non-comment row
@@ -254,7 +632,16 @@ public class PlainReader {
 	
 	/**
 	 * Read the specified file and returns the whole data as a {@link DataTable}.
-	 * Specified custom delimiter will be used to separate columns.
+	 * Specified custom delimiter will be used to separate columns. Values 
+	 * enclosed in double quotes can contain delimiters and line breaks, 
+	 * see {@link DelimitedTokenizer}. File is read as UTF-8 text, values are 
+	 * parsed from raw bytes and only non-ASCII values are decoded, 
+	 * see {@link RawByteReader}. GZIP and ZIP compressed files are 
+	 * decompressed in a separate thread while parsing, and only the first 
+	 * file of a ZIP archive is read. If path is a glob pattern, all matching files 
+	 * are read into a single table, see {@link #read(String[], String, boolean)}.
+	 * Local files are loaded from cache if a cache is set, see {@link #setCache(TableCache)}, 
+	 * and values are kept out of heap in off-heap storage mode, see {@link #setStorage(String)}.
 	 * 
 	 * @param path  path to the file, it can also be a URL
 	 * @param delimiter  custom delimiter to separate columns in a row
@@ -266,167 +653,888 @@ public class PlainReader {
 	public DataTable read(String path, 
 			String delimiter, boolean isHeaderPresent) throws IOException{
 		
-		BufferedReader reader = null;
+		if (MultiFileReader.isGlob(path)){
+			return read(new String[]{path}, delimiter, isHeaderPresent);
+		}
 		
-		if (NetUtils.isValidURL(path)){
-			URL url = new URL(path);
-			reader = new BufferedReader(new InputStreamReader(url.openStream()));
-		}else{
-			File file = new File(path);
-			if (!file.exists()){
-				throw new FileNotFoundException();
+		String settingsKey = cache != null ? getSettingsKey(delimiter, isHeaderPresent) : null;
+		File file = new File(path);
+		
+		if (settingsKey != null && !NetUtils.isValidURL(path) && file.isFile()){
+			// entry is found before reading, as the file may be modified
+			File entry = cache.getEntry(file, settingsKey);
+			DataTable table = cache.load(entry);
+			
+			if (table == null){
+				table = parse(path, delimiter, isHeaderPresent);
+				try{
+					cache.save(entry, table);
+				}catch (IOException e){
+					// table is read even if it cannot be cached
+				}
 			}
 			
-			reader = new BufferedReader(new FileReader(file));
+			return table;
 		}
 		
-		return read(reader, delimiter, isHeaderPresent);
+		return parse(path, delimiter, isHeaderPresent);
 	}
 	
 	/**
-	 * Read the file from the specified reader and returns the whole data as a 
-	 * {@link DataTable}. Specified custom delimiter will be used to separate columns.
+	 * Parses the specified file and returns the whole data as a {@link DataTable}.
 	 * 
-	 * @param reader  buffered input stream reader to the file
+	 * @param path  path to the file, it can also be a URL
 	 * @param delimiter  custom delimiter to separate columns in a row
 	 * @param isHeaderPresent  true if first non-comment row is header 
 	 * row with column names, else false
 	 * @return {@link DataTable}
 	 * @throws IOException if error occurs when reading file
 	 */
-	public DataTable read(BufferedReader reader, 
-			String delimiter, boolean isHeaderPresent) throws IOException {
+	private DataTable parse(String path, 
+			String delimiter, boolean isHeaderPresent) throws IOException{
 		
-		List<List<String>> csvData = new ArrayList<>();
-		List<ColumnType<?>> typeList = new ArrayList<>(predefinedTypeList);
-		List<String> nameList = new ArrayList<>(preDefinedNameList);
+		if (byteOffset > 0 || byteLength > 0){
+			// read only a part of the file, header is read separately
+			return readSequential(openByteRange(path, delimiter, isHeaderPresent), 
+					delimiter, isHeaderPresent);
+		}
 		
-		String line = null;
-		int columnSize = 0;
-		List<String> rowData = null;
+		InputStream input = openStream(path);
 		
-		// store CSV data in a dynamic array of string array
-		// also determine data type and number of columns
-		while((line = reader.readLine()) != null){
-			
-			// check for comment
-			if (commentString != null && line.startsWith(commentString)){
-				// discard line
-				continue;
-			}
-			
-			rowData = Arrays.asList(line.split(delimiter));
-			columnSize = columnSize < rowData.size() ? rowData.size() : columnSize;
-			
-			if (isHeaderPresent){
-				// consider row as header with column names
-				for (int i = 0; i < rowData.size(); i++){
-					if (nameList.size() <= i){
-						// initialize names list with null
-						nameList.add(null);
-					}
-					
-					// check for predefined headers
-					if (nameList.get(i) == null){
-						nameList.set(i, rowData.get(i));
-					}
-				}
-				
-				// header already read
-				isHeaderPresent = false;
-				continue;
-			}
-			
-			ColumnType<?> prevType = null;
-			ColumnType<?> curType = null;
-			InputFormatter inputFormatter = null;
-			InputValidator inputValidator = null;
-			boolean validRow = true;
-			
-			// find type
-			for (int i = 0; i < rowData.size(); i++){
-				
-				// apply validators if present before formatter
-				if (inputValidatorList.size() > i && inputValidatorList.get(i) != null){
-					inputValidator = inputValidatorList.get(i);
-					
-					// check for validity of row value
-					// if any of the value is not valid then whole
-					// row will be discarded
-					if (!inputValidator.validate(rowData.get(i))){
-						validRow = false;
-						break;
-					}
-				}
-				
-				// check for formatters
-				if (inputFormatterList.size() > i && inputFormatterList.get(i) != null){
-					inputFormatter = inputFormatterList.get(i);
-					
-					// format row value with formatter
-					rowData.set(i, inputFormatter.format(rowData.get(i)));
-				}
-				
-				// check if type already defined
-				if (predefinedTypeList.size() > i && predefinedTypeList.get(i) != null){
-					continue;
-				}
-				
-				// get previous type of the column
-				if (typeList.size() <= i){
-					// initialize type list with null
-					typeList.add(null);
-				}else{
-					prevType = typeList.get(i);
-				}
-				
-				// determine current type
-				curType = ColumnType.findType(rowData.get(i));
-				
-				// resolve conflict
-				if (prevType != null && curType != null && (!prevType.equals(curType))){
-					curType = ColumnType.getPreferredType(prevType, curType);
-					typeList.set(i, curType);
-				}
-				
-				// update new type
-				if (prevType == null && curType != null){
-					typeList.set(i, curType);
-				}
-			}
-			
-			if (validRow){
-				csvData.add(rowData);
-			}
+		if (parallelism > 1 && !isPartialRead() && !NetUtils.isValidURL(path) && 
+				!(input instanceof DecompressingInputStream)){
+			// parse memory mapped byte ranges in parallel
+			input.close();
+			return new MappedFileReader(this, new File(path), delimiter, parallelism).read(isHeaderPresent);
+		}
+		
+		// compressed files are decompressed in a separate thread
+		return readSource(new RawByteReader(input), delimiter, isHeaderPresent);
+	}
+	
+	/**
+	 * Read the specified files and returns the whole data as a single {@link DataTable}.
+	 * Paths can be glob patterns, which are expanded to matching local files sorted 
+	 * by path. Files are parsed concurrently and appended in the given order, 
+	 * see {@link MultiFileReader}. If parallelism is not set, one thread per 
+	 * processor is used unless input formatters or validators are present, 
+	 * which may not be thread safe.
+	 * 
+	 * @param paths  paths to the files, can also be URLs or glob patterns
+	 * @param delimiter  custom delimiter to separate columns in a row
+	 * @param isHeaderPresent  true if first non-comment row of each file 
+	 * is header row with column names, else false
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading files
+	 * @throws IllegalArgumentException if files have different number of columns, 
+	 * or rows are limited or skipped, or a byte range is set
+	 */
+	public DataTable read(String[] paths, 
+			String delimiter, boolean isHeaderPresent) throws IOException{
+		
+		if (paths == null || paths.length == 0){
+			throw new IllegalArgumentException("Paths cannot be empty");
 		}
 		
-		reader.close();
+		if (isPartialRead()){
+			throw new IllegalArgumentException("Partial reads cannot be used with multiple files");
+		}
 		
-		// add column index as default names
-		if (nameList.size() < columnSize){
-			for (int i = nameList.size(); i < columnSize; i++){
-				nameList.add(String.valueOf(i));
-			}
+		int fileParallelism = parallelism;
+		if (fileParallelism == 1 && !hasInputFunctions()){
+			fileParallelism = Runtime.getRuntime().availableProcessors();
 		}
 		
-		// index null, default will be taken
-		DataTable dTable = DataTable.getTable(csvData, typeList, nameList, null);
+		List<String> pathList = new ArrayList<>();
+		for (String path : paths){
+			pathList.add(path);
+		}
 		
-		return dTable;
+		return new MultiFileReader(this, pathList, delimiter, fileParallelism).read(isHeaderPresent);
 	}
 	
 	/**
-	 * Returns a new {@code PlainReader} instance.
+	 * Read complete lines of the specified local file and returns a {@link FileFollower},
+	 * which can add rows appended to the file later to the same {@link DataTable}.
+	 * Specified custom delimiter will be used to separate columns.
 	 * 
-	 * @return {@code PlainReader} instance
+	 * @param path  path to the local file
+	 * @param delimiter  custom delimiter to separate columns in a row
+	 * @param isHeaderPresent  true if first non-comment row is header 
+	 * row with column names, else false
+	 * @return {@link FileFollower} with the table read
+	 * @throws IOException if error occurs when reading file
+	 * @throws IllegalArgumentException if rows are limited or skipped, or a byte range is set
 	 */
-	public static PlainReader get(){
-		return new PlainReader();
+	public FileFollower follow(String path, 
+			String delimiter, boolean isHeaderPresent) throws IOException{
+		
+		if (isPartialRead()){
+			throw new IllegalArgumentException("Partial reads cannot be followed");
+		}
+		
+		File file = new File(path);
+		if (!file.exists()){
+			throw new FileNotFoundException();
+		}
+		
+		FileFollower follower = new FileFollower(this, file, delimiter, isHeaderPresent);
+		follower.read();
+		return follower;
 	}
 	
 	/**
-	 * Returns a new {@code PlainReader} instance with specified type list.
-	 * 
+	 * Read the file from the specified reader and returns the whole data as a 
+	 * {@link DataTable}. Specified custom delimiter will be used to separate columns.
+	 * 
+	 * @param reader  buffered input stream reader to the file
+	 * @param delimiter  custom delimiter to separate columns in a row, 
+	 * used as a literal string
+	 * @param isHeaderPresent  true if first non-comment row is header 
+	 * row with column names, else false
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading file
+	 */
+	public DataTable read(BufferedReader reader, 
+			String delimiter, boolean isHeaderPresent) throws IOException {
+		return readSource(reader, delimiter, isHeaderPresent);
+	}
+	
+	/**
+	 * Read the file from the specified reader, in parallel if enabled, 
+	 * and returns the whole data as a {@link DataTable}.
+	 * 
+	 * @param reader  reader to the file, can be a {@link RawByteReader}
+	 * @param delimiter  custom delimiter to separate columns in a row, 
+	 * used as a literal string
+	 * @param isHeaderPresent  true if first non-comment row is header 
+	 * row with column names, else false
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading file
+	 */
+	private DataTable readSource(Reader reader, 
+			String delimiter, boolean isHeaderPresent) throws IOException {
+		
+		if (parallelism > 1 && !isPartialRead()){
+			// read and parse in separate threads
+			return new PipelinedReader(this, delimiter, parallelism).read(reader, isHeaderPresent);
+		}
+		
+		return readSequential(reader, delimiter, isHeaderPresent);
+	}
+	
+	/**
+	 * Read the file from the specified reader in current thread and returns 
+	 * the whole data as a {@link DataTable}.
+	 * 
+	 * @param reader  reader to the file, can be a {@link RawByteReader}
+	 * @param delimiter  custom delimiter to separate columns in a row, 
+	 * used as a literal string
+	 * @param isHeaderPresent  true if first non-comment row is header 
+	 * row with column names, else false
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading file
+	 */
+	DataTable readSequential(Reader reader, 
+			String delimiter, boolean isHeaderPresent) throws IOException {
+		return readSequentialResult(reader, delimiter, isHeaderPresent).table;
+	}
+	
+	/**
+	 * Read the file from the specified reader in current thread and returns 
+	 * the data with the projection resolved from its header, so that other 
+	 * parts of the same file can be read with {@code readRows}.
+	 * 
+	 * @param reader  reader to the file, can be a {@link RawByteReader}
+	 * @param delimiter  custom delimiter to separate columns in a row, 
+	 * used as a literal string
+	 * @param isHeaderPresent  true if first non-comment row is header 
+	 * row with column names, else false
+	 * @return table with the resolved projection
+	 * @throws IOException if error occurs when reading file
+	 */
+	SequentialResult readSequentialResult(Reader reader, 
+			String delimiter, boolean isHeaderPresent) throws IOException {
+		
+		List<List<String>> sampleData = new ArrayList<>();
+		List<String> nameList = new ArrayList<>(preDefinedNameList);
+		
+		DataTable dTable = null;
+		boolean[] inferredTypes = null;
+		
+		int columnSize = 0;
+		List<String> rowData = null;
+		boolean stringValuesRequired = hasInputFunctions();
+		
+		// reservoir sample needs all rows, so streaming always samples leading rows
+		TypeSampler sampler = new TypeSampler(predefinedTypeList, sampleSize, 
+				streaming ? TypeSampler.SAMPLE_FIRST : sampleMode);
+		
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(reader, delimiter);
+		tokenizer.setCommentString(commentString);
+		
+		// resolved projection is kept local, as files can be read concurrently
+		int[] fileProjectionIndexes = null;
+		if (projection != null && !isHeaderPresent){
+			// columns are selected by index, which are also the default names
+			fileProjectionIndexes = resolveProjection(null);
+			tokenizer.setProjection(fileProjectionIndexes);
+			
+			for (int i = 0; i < fileProjectionIndexes.length; i++){
+				if (nameList.size() <= i){
+					nameList.add(null);
+				}
+				if (nameList.get(i) == null){
+					nameList.set(i, String.valueOf(fileProjectionIndexes[i]));
+				}
+			}
+		}
+		
+		int skippedRowCount = 0;
+		int readRowCount = 0;
+		
+		// rows are prepared in batches if batch functions are present
+		int batchSize = hasBatchFunctions() ? INPUT_BATCH_SIZE : 1;
+		List<List<String>> batchRows = new ArrayList<>();
+		boolean endOfRows = false;
+		
+		try{
+			// store rows in a dynamic array of string array and
+			// determine data type and number of columns from a sample,
+			// in streaming mode rows after the sample are added directly 
+			// to the table, reading stops when row limit is reached
+			while (!endOfRows){
+				
+				endOfRows = !((isHeaderPresent || rowLimit < 0 || readRowCount < rowLimit) && tokenizer.next());
+				
+				if (!endOfRows){
+					
+					if (!isHeaderPresent){
+						if (skippedRowCount < skipRowCount){
+							skippedRowCount++;
+							continue;
+						}
+						readRowCount++;
+						
+						// discard rows rejected by filters, before parsing
+						if (!acceptRow(tokenizer)){
+							continue;
+						}
+					}
+					
+					if (dTable != null && !stringValuesRequired){
+						// types are already determined from sample,
+						// parse values directly from tokenizer
+						dTable.addRow(tokenizer, inferredTypes);
+						continue;
+					}
+					
+					rowData = tokenizer.getFields();
+					
+					if (isHeaderPresent){
+						if (projection != null){
+							// select columns by header names, remaining rows are projected by tokenizer
+							fileProjectionIndexes = resolveProjection(rowData);
+							tokenizer.setProjection(fileProjectionIndexes);
+							
+							List<String> projectedRow = new ArrayList<>();
+							for (int index : fileProjectionIndexes){
+								if (index < rowData.size()){
+									projectedRow.add(rowData.get(index));
+								}
+							}
+							rowData = projectedRow;
+						}
+						
+						columnSize = columnSize < rowData.size() ? rowData.size() : columnSize;
+						
+						// consider row as header with column names
+						for (int i = 0; i < rowData.size(); i++){
+							if (nameList.size() <= i){
+								// initialize names list with null
+								nameList.add(null);
+							}
+							
+							// check for predefined headers
+							if (nameList.get(i) == null){
+								nameList.set(i, rowData.get(i));
+							}
+						}
+						
+						// header already read
+						isHeaderPresent = false;
+						continue;
+					}
+					
+					batchRows.add(rowData);
+					if (batchRows.size() < batchSize){
+						continue;
+					}
+				}
+				
+				// apply validators and formatters
+				prepareRows(batchRows);
+				
+				for (List<String> preparedRow : batchRows){
+					
+					if (dTable != null){
+						// types are already determined from sample
+						dTable.addRow(preparedRow, inferredTypes);
+						continue;
+					}
+					
+					columnSize = columnSize < preparedRow.size() ? preparedRow.size() : columnSize;
+					sampler.add(preparedRow);
+					sampleData.add(preparedRow);
+					
+					if (streaming && sampler.isComplete()){
+						// lock types and stream remaining rows into table
+						inferredTypes = getInferredTypes(columnSize);
+						dTable = createTable(sampleData, sampler.getTypes(), nameList, columnSize, inferredTypes);
+						sampleData = null;
+					}
+				}
+				batchRows.clear();
+			}
+		}finally{
+			reader.close();
+		}
+		
+		if (dTable == null){
+			inferredTypes = getInferredTypes(columnSize);
+			dTable = createTable(sampleData, sampler.getTypes(), nameList, columnSize, inferredTypes);
+		}
+		
+		return new SequentialResult(dTable, fileProjectionIndexes);
+	}
+	
+	/**
+	 * Checks whether only a part of the source is read, which is done 
+	 * sequentially so that reading can stop early.
+	 * 
+	 * @return true if rows are limited or skipped, or a byte range is set
+	 */
+	private boolean isPartialRead(){
+		return rowLimit >= 0 || skipRowCount > 0 || byteOffset > 0 || byteLength > 0;
+	}
+	
+	/**
+	 * Checks whether column values of tables read are stored out of heap.
+	 * 
+	 * @return true if storage mode is {@code STORAGE_OFFHEAP}
+	 */
+	private boolean isOffHeap(){
+		return STORAGE_OFFHEAP.equals(storage);
+	}
+	
+	/**
+	 * Returns a key of all settings that affect the table read from a file,
+	 * used to find the table in cache. Input functions are described by their
+	 * string representations, which only built-in functions provide.
+	 * 
+	 * @param delimiter  delimiter to separate columns in a row
+	 * @param isHeaderPresent  true if first non-comment row is header row
+	 * @return settings key, or null if functions which cannot be described are used
+	 */
+	private String getSettingsKey(String delimiter, boolean isHeaderPresent){
+		
+		if (hasBatchFunctions()){
+			return null;
+		}
+		
+		String formatters = describeFunctions(inputFormatterList);
+		String validators = describeFunctions(inputValidatorList);
+		String filters = describeFunctions(inputFilterList);
+		if (formatters == null || validators == null || filters == null){
+			return null;
+		}
+		
+		List<String> typeStringList = new ArrayList<>();
+		for (ColumnType<?> type : predefinedTypeList){
+			typeStringList.add(type != null ? type.toString() : null);
+		}
+		
+		return String.join("\n", 
+				StringUtils.quote(delimiter), 
+				String.valueOf(isHeaderPresent), 
+				StringUtils.quote(commentString), 
+				StringUtils.quote(typeStringList), 
+				StringUtils.quote(preDefinedNameList), 
+				projection != null ? StringUtils.quote(projection) : "null", 
+				formatters, validators, filters, 
+				String.valueOf(streaming), 
+				String.valueOf(sampleSize), 
+				sampleMode, 
+				String.valueOf(rowLimit), 
+				String.valueOf(skipRowCount), 
+				String.valueOf(byteOffset), 
+				String.valueOf(byteLength));
+	}
+	
+	/**
+	 * Returns string representations of input functions in column order.
+	 * 
+	 * @param functions  input functions, can contain null
+	 * @return string representations, or null if a function is not built-in
+	 */
+	private static String describeFunctions(List<?> functions){
+		List<String> descriptions = new ArrayList<>();
+		for (Object function : functions){
+			if (function != null && !isBuiltInFunction(function)){
+				return null;
+			}
+			descriptions.add(String.valueOf(function));
+		}
+		return "[" + String.join(", ", descriptions) + "]";
+	}
+	
+	/**
+	 * Checks whether an input function is a built-in formatter, validator
+	 * or filter, including chains of built-in formatters.
+	 * 
+	 * @param function  input function
+	 * @return true if built-in, else false
+	 */
+	private static boolean isBuiltInFunction(Object function){
+		if (function instanceof ChainedFormatter){
+			for (InputFormatter formatter : ((ChainedFormatter) function).getFormatters()){
+				if (formatter == null || !isBuiltInFunction(formatter)){
+					return false;
+				}
+			}
+			return true;
+		}
+		
+		String className = function.getClass().getName();
+		return className.startsWith(FILTER_PACKAGE) || className.startsWith(FORMATTER_PACKAGE) || 
+				className.startsWith(VALIDATOR_PACKAGE);
+	}
+	
+	/**
+	 * Opens a reader to the byte range of a file. If header is present and range
+	 * does not start at beginning of file, header is read from the beginning and
+	 * added before the rows of the range.
+	 * 
+	 * @param path  path to the file, it can also be a URL
+	 * @param delimiter  delimiter to separate columns in a row
+	 * @param isHeaderPresent  true if first non-comment row is header 
+	 * row with column names, else false
+	 * @return raw byte reader to header and rows in the range
+	 * @throws IOException if error occurs when reading file
+	 */
+	private Reader openByteRange(String path, 
+			String delimiter, boolean isHeaderPresent) throws IOException{
+		
+		InputStream rangeStream = new ByteRangeInputStream(
+				openStream(path), byteOffset, byteLength);
+		
+		if (isHeaderPresent && byteOffset > 0){
+			StringBuilder headerText = new StringBuilder();
+			
+			try (Reader headerReader = new RawByteReader(openStream(path))){
+				DelimitedTokenizer tokenizer = new DelimitedTokenizer(headerReader, delimiter);
+				tokenizer.setCommentString(commentString);
+				if (tokenizer.nextRaw()){
+					tokenizer.appendRecord(headerText);
+				}
+			}
+			
+			rangeStream = new SequenceInputStream(
+					new ByteArrayInputStream(headerText.toString().getBytes(StandardCharsets.ISO_8859_1)), rangeStream);
+		}
+		
+		return new RawByteReader(rangeStream);
+	}
+	
+	/**
+	 * Opens an input stream to a file or URL. GZIP and ZIP compressed 
+	 * content is decompressed, see {@link DecompressingInputStream}.
+	 * 
+	 * @param path  path to the file, it can also be a URL
+	 * @return buffered or decompressing input stream
+	 * @throws IOException if error occurs when opening file
+	 */
+	static InputStream openStream(String path) throws IOException{
+		InputStream input;
+		if (NetUtils.isValidURL(path)){
+			input = new URL(path).openStream();
+		}else{
+			File file = new File(path);
+			if (!file.exists()){
+				throw new FileNotFoundException();
+			}
+			input = new FileInputStream(file);
+		}
+		
+		try{
+			return DecompressingInputStream.wrap(input);
+		}catch (IOException e){
+			input.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Reads remaining records of a tokenizer into a new table with already
+	 * determined column names and types. Used to parse parts of a file in 
+	 * parallel, rows are not indexed as the table must be appended to another.
+	 * 
+	 * @param tokenizer  tokenizer positioned before the records
+	 * @param typeList  column types
+	 * @param nameList  column names
+	 * @param inferredTypes  flags for columns with inferred type
+	 * @param projectionIndexes  indexes of projected columns resolved by 
+	 * {@code readSequentialResult}, or null if all columns are read
+	 * @return table with the records
+	 * @throws IOException if error occurs when reading
+	 */
+	DataTable readRows(DelimitedTokenizer tokenizer, List<ColumnType<?>> typeList, 
+			List<String> nameList, boolean[] inferredTypes, int[] projectionIndexes) throws IOException{
+		
+		// rows are indexed when the table is appended
+		DataTable table = DataTable.getTable(null, typeList, nameList, null, isOffHeap());
+		table.disableIndex();
+		boolean stringValuesRequired = hasInputFunctions();
+		
+		if (projectionIndexes != null){
+			tokenizer.setProjection(projectionIndexes);
+		}
+		
+		// rows are prepared in batches if batch functions are present
+		int batchSize = hasBatchFunctions() ? INPUT_BATCH_SIZE : 1;
+		List<List<String>> batchRows = new ArrayList<>();
+		boolean endOfRows = false;
+		
+		while (!endOfRows){
+			
+			endOfRows = !tokenizer.next();
+			
+			if (!endOfRows){
+				if (!acceptRow(tokenizer)){
+					continue;
+				}
+				
+				if (!stringValuesRequired){
+					// parse values directly from tokenizer
+					table.addRow(tokenizer, inferredTypes);
+					continue;
+				}
+				
+				batchRows.add(tokenizer.getFields());
+				if (batchRows.size() < batchSize){
+					continue;
+				}
+			}
+			
+			prepareRows(batchRows);
+			for (List<String> rowData : batchRows){
+				table.addRow(rowData, inferredTypes);
+			}
+			batchRows.clear();
+		}
+		
+		return table;
+	}
+	
+	/**
+	 * Returns indexes of projected columns in the file.
+	 * 
+	 * @param header  column names in header, or null if header is not present
+	 * @return column indexes in file order
+	 * @throws IllegalArgumentException if a column is not found
+	 */
+	private int[] resolveProjection(List<String> header){
+		
+		TreeSet<Integer> indexSet = new TreeSet<>();
+		for (String column : projection){
+			
+			int index = header != null ? header.indexOf(column) : -1;
+			if (index == -1){
+				// column index
+				try{
+					index = Integer.parseInt(column.trim());
+				}catch(NumberFormatException e){
+					index = -1;
+				}
+			}
+			
+			if (index < 0){
+				throw new IllegalArgumentException("Invalid column name - " + column);
+			}
+			indexSet.add(index);
+		}
+		
+		int[] indexes = new int[indexSet.size()];
+		int i = 0;
+		for (int index : indexSet){
+			indexes[i++] = index;
+		}
+		
+		return indexes;
+	}
+	
+	/**
+	 * Applies filters to raw values of current record of a tokenizer.
+	 * 
+	 * @param tokenizer  tokenizer with current record as row values
+	 * @return true if row must be kept, false if row must be discarded
+	 */
+	private boolean acceptRow(DelimitedTokenizer tokenizer){
+		
+		int fieldCount = tokenizer.getFieldCount();
+		CharSequence source = tokenizer.getCharSequence();
+		
+		for (int i = 0; i < inputFilterList.size(); i++){
+			InputFilter inputFilter = inputFilterList.get(i);
+			if (inputFilter == null){
+				continue;
+			}
+			
+			// missing values are empty
+			boolean accepted;
+			if (i >= fieldCount){
+				accepted = inputFilter.accept(source, 0, 0);
+			}else if (tokenizer.isDecodedField(i)){
+				accepted = inputFilter.accept(source, tokenizer.getFieldOffset(i), tokenizer.getFieldLength(i));
+			}else{
+				// raw bytes are decoded first
+				String value = tokenizer.getField(i);
+				accepted = inputFilter.accept(value, 0, value.length());
+			}
+			if (!accepted){
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Checks whether any input formatters or validators are set, 
+	 * which requires row values as strings.
+	 * 
+	 * @return true if formatters or validators are present, else false
+	 */
+	boolean hasInputFunctions(){
+		for (InputValidator inputValidator : inputValidatorList){
+			if (inputValidator != null){
+				return true;
+			}
+		}
+		for (InputFormatter inputFormatter : inputFormatterList){
+			if (inputFormatter != null){
+				return true;
+			}
+		}
+		return hasBatchFunctions();
+	}
+	
+	/**
+	 * Checks whether any batch formatters or validators are set.
+	 * 
+	 * @return true if batch formatters or validators are present, else false
+	 */
+	private boolean hasBatchFunctions(){
+		for (BatchInputValidator batchInputValidator : batchInputValidatorList){
+			if (batchInputValidator != null){
+				return true;
+			}
+		}
+		for (BatchInputFormatter batchInputFormatter : batchInputFormatterList){
+			if (batchInputFormatter != null){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Applies validators and formatters to a batch of rows. Batch validators
+	 * are applied first, then validators and formatters of each row, and then 
+	 * batch formatters. Invalid rows are removed from the batch, and formatted 
+	 * values replace the input values in the rows.
+	 * 
+	 * @param rows  batch of rows, updated with valid rows
+	 * @throws IllegalArgumentException if a batch function returns invalid number of values
+	 */
+	private void prepareRows(List<List<String>> rows){
+		
+		if (rows.isEmpty()){
+			return;
+		}
+		
+		// validate raw values in batches
+		boolean[] validRows = null;
+		for (int i = 0; i < batchInputValidatorList.size(); i++){
+			BatchInputValidator batchInputValidator = batchInputValidatorList.get(i);
+			if (batchInputValidator == null){
+				continue;
+			}
+			
+			boolean[] validValues = batchInputValidator.validate(getColumnValues(rows, i));
+			if (validValues == null || validValues.length != rows.size()){
+				throw new IllegalArgumentException("Batch validator must return a value for each input value");
+			}
+			
+			if (validRows == null){
+				validRows = validValues.clone();
+			}else{
+				for (int j = 0; j < validRows.length; j++){
+					validRows[j] = validRows[j] && validValues[j];
+				}
+			}
+		}
+		
+		// keep valid rows in order
+		int validCount = 0;
+		for (int j = 0; j < rows.size(); j++){
+			List<String> rowData = rows.get(j);
+			if ((validRows == null || validRows[j]) && prepareRow(rowData)){
+				rows.set(validCount++, rowData);
+			}
+		}
+		rows.subList(validCount, rows.size()).clear();
+		
+		if (rows.isEmpty()){
+			return;
+		}
+		
+		// format values of valid rows in batches
+		for (int i = 0; i < batchInputFormatterList.size(); i++){
+			BatchInputFormatter batchInputFormatter = batchInputFormatterList.get(i);
+			if (batchInputFormatter == null){
+				continue;
+			}
+			
+			String[] formattedValues = batchInputFormatter.format(getColumnValues(rows, i));
+			if (formattedValues == null || formattedValues.length != rows.size()){
+				throw new IllegalArgumentException("Batch formatter must return a value for each input value");
+			}
+			
+			// output of missing values are ignored
+			for (int j = 0; j < rows.size(); j++){
+				List<String> rowData = rows.get(j);
+				if (i < rowData.size()){
+					rowData.set(i, formattedValues[j]);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns values of a column in a batch of rows.
+	 * 
+	 * @param rows  batch of rows
+	 * @param colIndex  index of the column
+	 * @return values in row order, null for missing values
+	 */
+	private static String[] getColumnValues(List<List<String>> rows, int colIndex){
+		String[] values = new String[rows.size()];
+		for (int j = 0; j < values.length; j++){
+			List<String> rowData = rows.get(j);
+			values[j] = colIndex < rowData.size() ? rowData.get(colIndex) : null;
+		}
+		return values;
+	}
+	
+	/**
+	 * Applies validators and formatters to row values. Formatted values
+	 * replace the input values in the row.
+	 * 
+	 * @param rowData  row values
+	 * @return true if valid row, false if row must be discarded
+	 */
+	boolean prepareRow(List<String> rowData){
+		
+		for (int i = 0; i < rowData.size(); i++){
+			
+			// apply validators if present before formatter
+			if (inputValidatorList.size() > i && inputValidatorList.get(i) != null){
+				
+				// check for validity of row value
+				// if any of the value is not valid then whole
+				// row will be discarded
+				if (!inputValidatorList.get(i).validate(rowData.get(i))){
+					return false;
+				}
+			}
+			
+			// check for formatters
+			if (inputFormatterList.size() > i && inputFormatterList.get(i) != null){
+				// format row value with formatter
+				rowData.set(i, inputFormatterList.get(i).format(rowData.get(i)));
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns flags for columns whose type is inferred from data.
+	 * 
+	 * @param columnSize  number of columns
+	 * @return flags in column order, true if type is not predefined
+	 */
+	boolean[] getInferredTypes(int columnSize){
+		boolean[] inferredTypes = new boolean[columnSize];
+		for (int i = 0; i < columnSize; i++){
+			inferredTypes[i] = predefinedTypeList.size() <= i || predefinedTypeList.get(i) == null;
+		}
+		return inferredTypes;
+	}
+	
+	/**
+	 * Creates a table with determined column names and types, and adds the 
+	 * rows read so far. A column with a value not compatible with its sampled 
+	 * type is parsed again from these rows, see {@link DataTable#addRows}.
+	 * 
+	 * @param data  rows read so far
+	 * @param typeList  column types
+	 * @param nameList  column names
+	 * @param columnSize  number of columns
+	 * @param inferredTypes  flags for columns with inferred type
+	 * @return {@link DataTable}
+	 */
+	private DataTable createTable(List<List<String>> data, List<ColumnType<?>> typeList, 
+			List<String> nameList, int columnSize, boolean[] inferredTypes){
+		
+		// add column index as default names
+		if (nameList.size() < columnSize){
+			for (int i = nameList.size(); i < columnSize; i++){
+				nameList.add(String.valueOf(i));
+			}
+		}
+		
+		// columns without any value are considered as string columns
+		for (int i = 0; i < columnSize; i++){
+			if (typeList.size() <= i){
+				typeList.add(null);
+			}
+			
+			if (inferredTypes[i] && typeList.get(i) == null){
+				typeList.set(i, StringType.getType());
+			}
+		}
+		
+		// index null, default will be taken
+		DataTable dTable = DataTable.getTable(null, typeList, nameList, null, isOffHeap());
+		dTable.addRows(data, inferredTypes);
+		
+		return dTable;
+	}
+	
+	/**
+	 * Returns a new {@code PlainReader} instance.
+	 * 
+	 * @return {@code PlainReader} instance
+	 */
+	public static PlainReader get(){
+		return new PlainReader();
+	}
+	
+	/**
+	 * Returns a new {@code PlainReader} instance with specified type list.
+	 * 
 	 * @param typeStringArray  list of string representation of types in column order
 	 * @return {@code PlainReader} instance
 	 */
@@ -456,4 +1564,154 @@ public class PlainReader {
 		return reader;
 	}
 	
+	/**
+	 * Input stream that reads lines starting in a byte range of another stream.
+	 * Partial line at the start of the range is skipped, and line at the end 
+	 * of the range is read completely.
+	 */
+	private static class ByteRangeInputStream extends InputStream{
+		
+		/** Underlying stream */
+		private InputStream inputStream;
+		
+		/** Starting byte position of the range */
+		private long start;
+		
+		/** Ending byte position of the range, exclusive */
+		private long end;
+		
+		/** Byte position in underlying stream */
+		private long position;
+		
+		/** Last byte read, line break if no bytes are read */
+		private int lastByte;
+		
+		/** True if start of the range is found */
+		private boolean started;
+		
+		/** True if all lines in the range are read */
+		private boolean finished;
+		
+		public ByteRangeInputStream(InputStream inputStream, long start, long length){
+			this.inputStream = inputStream;
+			this.start = start;
+			this.end = length > 0 ? start + length : Long.MAX_VALUE;
+			this.position = 0;
+			this.lastByte = '\n';
+			this.started = false;
+			this.finished = false;
+		}
+		
+		@Override
+		public int read() throws IOException{
+			byte[] b = new byte[1];
+			int count = read(b, 0, 1);
+			return count > 0 ? (b[0] & 0xFF) : -1;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException{
+			if (!started){
+				skipToStart();
+			}
+			if (finished){
+				return -1;
+			}
+			if (len == 0){
+				return 0;
+			}
+			
+			if (position < end){
+				int count = inputStream.read(b, off, (int) Math.min(len, end - position));
+				if (count < 0){
+					finished = true;
+					return -1;
+				}
+				if (count > 0){
+					position += count;
+					lastByte = b[off + count - 1];
+				}
+				return count;
+			}
+			
+			// complete the line at the end of the range
+			if (lastByte == '\n'){
+				finished = true;
+				return -1;
+			}
+			
+			int count = 0;
+			while (count < len){
+				int c = inputStream.read();
+				if (c == -1 || c == '\n'){
+					if (c == '\n'){
+						b[off + count++] = (byte) c;
+					}
+					finished = true;
+					break;
+				}
+				b[off + count++] = (byte) c;
+			}
+			
+			return count > 0 ? count : -1;
+		}
+		
+		/**
+		 * Skips bytes before the range and the partial line at start of the range.
+		 * 
+		 * @throws IOException if error occurs when reading
+		 */
+		private void skipToStart() throws IOException{
+			started = true;
+			if (start == 0){
+				return;
+			}
+			
+			// line starts at the range start if previous byte is a line break
+			while (position < start - 1){
+				long count = inputStream.skip(start - 1 - position);
+				if (count <= 0){
+					if (inputStream.read() == -1){
+						finished = true;
+						return;
+					}
+					count = 1;
+				}
+				position += count;
+			}
+			
+			int c;
+			while ((c = inputStream.read()) != -1){
+				position++;
+				if (c == '\n'){
+					return;
+				}
+			}
+			finished = true;
+		}
+		
+		@Override
+		public void close() throws IOException{
+			inputStream.close();
+		}
+	}
+	
+	/**
+	 * Table read sequentially from a file, with indexes of projected 
+	 * columns in the file resolved from its header.
+	 */
+	static class SequentialResult{
+		
+		/** Table with rows read */
+		final DataTable table;
+		
+		/** Indexes of projected columns in the file, or null if all columns are read */
+		final int[] projectionIndexes;
+		
+		SequentialResult(DataTable table, int[] projectionIndexes){
+			this.table = table;
+			this.projectionIndexes = projectionIndexes;
+		}
+	}
+
 }
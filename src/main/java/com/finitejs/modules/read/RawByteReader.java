@@ -0,0 +1,58 @@
+package com.finitejs.modules.read;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Reader that maps each byte of an input stream to a character with 
+ * same value, without decoding characters.
+ * <p>
+ * Used to tokenize UTF-8 text directly from bytes. ASCII bytes are same as 
+ * their characters, and bytes of multi-byte characters are never ASCII, so that
+ * delimiters, quotes, line breaks, numbers and most dates can be found and parsed 
+ * in raw bytes. {@link DelimitedTokenizer} decodes only fields that contain 
+ * non-ASCII bytes, when they are required as strings.
+ * </p>
+ */
+public class RawByteReader extends Reader{
+
+	/** Source of bytes */
+	private InputStream input;
+	
+	/** Reusable byte buffer */
+	private byte[] bytes;
+	
+	/**
+	 * Creates a new {@code RawByteReader} for an input stream.
+	 * 
+	 * @param input  source of bytes
+	 */
+	public RawByteReader(InputStream input){
+		this.input = input;
+		bytes = new byte[0];
+	}
+	
+	@Override
+	public int read(char[] buffer, int offset, int length) throws IOException{
+		if (length == 0){
+			return 0;
+		}
+		
+		if (bytes.length < length){
+			bytes = new byte[length];
+		}
+		
+		int count = input.read(bytes, 0, length);
+		for (int i = 0; i < count; i++){
+			buffer[offset + i] = (char) (bytes[i] & 0xFF);
+		}
+		return count;
+	}
+	
+	@Override
+	public void close() throws IOException{
+		input.close();
+	}
+
+}
@@ -0,0 +1,329 @@
+package com.finitejs.modules.read;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits delimiter separated text into blocks of complete records, with the
+ * quoting and comment rules of {@link DelimitedTokenizer}. Records are only
+ * scanned for quotes, delimiters and line breaks, fields are not stored or
+ * decoded, so that splitting is cheaper than tokenizing and each block can
+ * be tokenized independently, for example by a different thread.
+ * <p>
+ * Positions are counted in characters of the source, which are bytes if
+ * source is a {@link RawByteReader}.
+ * </p>
+ */
+class RecordSplitter {
+
+	/** Constant for initial buffer size in characters */
+	private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+	
+	/** Source of text */
+	private Reader reader;
+	
+	/** Delimiter characters */
+	private char[] delimiter;
+	
+	/** Comment string characters, or null if comments are disabled */
+	private char[] commentString;
+	
+	/** Character buffer */
+	private char[] buffer;
+	
+	/** Number of valid characters in buffer */
+	private int limit;
+	
+	/** Position of next record in buffer */
+	private int position;
+	
+	/** Starting position of current block in buffer */
+	private int blockStart;
+	
+	/** True if reader has no more characters */
+	private boolean endOfInput;
+	
+	/** True if last scanned record is a comment */
+	private boolean comment;
+	
+	/**
+	 * Creates a new {@code RecordSplitter} instance.
+	 * 
+	 * @param reader  source of text, can be a {@link RawByteReader}
+	 * @param delimiter  delimiter to separate fields in a record
+	 * @param commentString  comment string, or null to disable comments
+	 * @throws IllegalArgumentException if delimiter is empty
+	 */
+	public RecordSplitter(Reader reader, String delimiter, String commentString){
+		
+		if (delimiter == null || delimiter.isEmpty()){
+			throw new IllegalArgumentException("Delimiter cannot be empty.");
+		}
+		
+		boolean rawBytes = reader instanceof RawByteReader;
+		this.reader = reader;
+		this.delimiter = DelimitedTokenizer.toBufferChars(delimiter, rawBytes);
+		if (commentString != null && !commentString.isEmpty()){
+			this.commentString = DelimitedTokenizer.toBufferChars(commentString, rawBytes);
+		}
+		
+		buffer = new char[Math.max(INITIAL_BUFFER_SIZE, 2 * this.delimiter.length)];
+	}
+	
+	/**
+	 * Reads next block of complete records, which ends at the first record
+	 * boundary after specified number of characters or records. Characters
+	 * of the block are in buffer from {@link #getBlockStart()} and are valid
+	 * only until next call.
+	 * 
+	 * @param minLength  minimum number of characters in block, unless source ends
+	 * @param maxRecordCount  maximum number of records in block, comments are not counted
+	 * @return number of characters in block, 0 if no more records
+	 * @throws IOException if error occurs when reading
+	 */
+	public int nextBlock(int minLength, long maxRecordCount) throws IOException{
+		return (int) scan(minLength, maxRecordCount, true);
+	}
+	
+	/**
+	 * Skips next block of complete records, which ends at the first record
+	 * boundary after specified number of characters or records. Characters
+	 * of the block are not kept in buffer.
+	 * 
+	 * @param minLength  minimum number of characters in block, unless source ends
+	 * @param maxRecordCount  maximum number of records in block, comments are not counted
+	 * @return number of characters skipped, 0 if no more records
+	 * @throws IOException if error occurs when reading
+	 */
+	public long skipBlock(long minLength, long maxRecordCount) throws IOException{
+		return scan(minLength, maxRecordCount, false);
+	}
+	
+	/**
+	 * Returns character buffer that contains the last block read.
+	 * 
+	 * @return character buffer
+	 */
+	public char[] getBuffer(){
+		return buffer;
+	}
+	
+	/**
+	 * Returns starting position of the last block read in buffer.
+	 * 
+	 * @return starting position
+	 */
+	public int getBlockStart(){
+		return blockStart;
+	}
+	
+	/**
+	 * Scans records from current position until block is complete.
+	 * 
+	 * @param minLength  minimum number of characters in block
+	 * @param maxRecordCount  maximum number of records in block
+	 * @param keepBlock  true to keep all characters of block in buffer
+	 * @return number of characters in block
+	 * @throws IOException if error occurs when reading
+	 */
+	private long scan(long minLength, long maxRecordCount, boolean keepBlock) throws IOException{
+		
+		blockStart = position;
+		
+		// characters of the block that are not kept in buffer
+		long skippedLength = 0;
+		long recordCount = 0;
+		
+		while (skippedLength + position - blockStart < minLength && recordCount < maxRecordCount){
+			int recordEnd = scanRecord(position);
+			
+			if (recordEnd >= 0){
+				position = recordEnd;
+				if (!comment){
+					recordCount++;
+				}
+				continue;
+			}
+			
+			// record incomplete, read more characters and scan again
+			if (endOfInput){
+				break;
+			}
+			if (!keepBlock){
+				skippedLength += position - blockStart;
+				blockStart = position;
+			}
+			fill();
+		}
+		
+		return skippedLength + position - blockStart;
+	}
+	
+	/**
+	 * Finds end of the record at specified position. Buffer is not modified,
+	 * so that an incomplete record can be scanned again after reading more
+	 * characters.
+	 * 
+	 * @param p  starting position of the record
+	 * @return position after the record and its line break,
+	 * or -1 if more characters are required
+	 */
+	private int scanRecord(int p){
+		
+		comment = false;
+		
+		if (p >= limit){
+			return -1;
+		}
+		
+		// check for comment
+		if (commentString != null && buffer[p] == commentString[0]){
+			if (limit - p < commentString.length && !endOfInput){
+				return -1;
+			}
+			
+			if (matches(p, commentString)){
+				comment = true;
+				return findLineEnd(p);
+			}
+		}
+		
+		int fieldStart = p;
+		boolean inQuotes = false;
+		char delimiterStart = delimiter[0];
+		
+		while (true){
+			
+			if (p >= limit){
+				// last record without line break
+				return endOfInput ? p : -1;
+			}
+			
+			char c = buffer[p];
+			
+			if (inQuotes){
+				if (c == DelimitedTokenizer.QUOTE){
+					if (p + 1 >= limit && !endOfInput){
+						return -1;
+					}
+					
+					if (p + 1 < limit && buffer[p + 1] == DelimitedTokenizer.QUOTE){
+						// escaped quote
+						p += 2;
+						continue;
+					}
+					
+					// closing quote
+					inQuotes = false;
+				}
+				p++;
+				continue;
+			}
+			
+			if (c == DelimitedTokenizer.QUOTE && p == fieldStart){
+				// opening quote
+				inQuotes = true;
+				p++;
+				continue;
+			}
+			
+			if (c == delimiterStart){
+				if (limit - p < delimiter.length && !endOfInput){
+					return -1;
+				}
+				
+				if (matches(p, delimiter)){
+					p += delimiter.length;
+					fieldStart = p;
+					continue;
+				}
+			}
+			
+			if (c == '\n' || c == '\r'){
+				if (c == '\r' && p + 1 >= limit && !endOfInput){
+					return -1;
+				}
+				
+				// skip line break
+				p++;
+				if (c == '\r' && p < limit && buffer[p] == '\n'){
+					p++;
+				}
+				return p;
+			}
+			
+			p++;
+		}
+	}
+	
+	/**
+	 * Returns position after the line break of the line at specified position.
+	 * 
+	 * @param p  position in buffer
+	 * @return position of next line, or -1 if more characters are required
+	 */
+	private int findLineEnd(int p){
+		while (p < limit){
+			char c = buffer[p++];
+			if (c == '\n'){
+				return p;
+			}
+			if (c == '\r'){
+				if (p < limit){
+					return buffer[p] == '\n' ? p + 1 : p;
+				}
+				return endOfInput ? p : -1;
+			}
+		}
+		return endOfInput ? p : -1;
+	}
+	
+	/**
+	 * Checks whether buffer contains specified characters at specified position.
+	 * 
+	 * @param p  position in buffer
+	 * @param chars  characters to check
+	 * @return true if characters are present, else false
+	 */
+	private boolean matches(int p, char[] chars){
+		if (limit - p < chars.length){
+			return false;
+		}
+		for (int i = 0; i < chars.length; i++){
+			if (buffer[p + i] != chars[i]){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Reads more characters into buffer. Current block is moved to start
+	 * of the buffer, and buffer size is doubled if it is full.
+	 * 
+	 * @throws IOException if error occurs when reading
+	 */
+	private void fill() throws IOException{
+		
+		if (blockStart > 0){
+			// discard characters before current block
+			System.arraycopy(buffer, blockStart, buffer, 0, limit - blockStart);
+			limit -= blockStart;
+			position -= blockStart;
+			blockStart = 0;
+		}
+		
+		if (limit == buffer.length){
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+		}
+		
+		int count = reader.read(buffer, limit, buffer.length - limit);
+		if (count < 0){
+			endOfInput = true;
+		}else{
+			limit += count;
+		}
+	}
+
+}
@@ -0,0 +1,213 @@
+package com.finitejs.modules.read;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of tables read from local files. Tables are saved as table files in
+ * a cache directory, see {@link TableFile}, and loaded instead of parsing
+ * the files again.
+ * <p>
+ * Each entry is named with a SHA-256 digest of the absolute path, size and
+ * modification time of the file and a key of reader settings, so that modified
+ * files and files read with different settings are parsed again. Total size of
+ * entries is limited, and least recently used entries are deleted when the
+ * limit is exceeded. Last use time of an entry is kept as its modification time.
+ * </p>
+ * <p>
+ * Entries are written to a temporary file and moved, so that a directory
+ * can be shared by multiple processes. Columns of loaded tables are mapped
+ * immediately, so that deleting an entry later does not affect the tables.
+ * </p>
+ */
+public class TableCache {
+
+	/**
+	 * Constant for default maximum total size of entries in bytes.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 1L << 30;
+	
+	/**
+	 * Constant for name of default cache directory in temporary directory.
+	 */
+	public static final String DEFAULT_DIRECTORY_NAME = "finitejs-cache";
+	
+	/** Constant for file extension of entries */
+	private static final String ENTRY_EXTENSION = ".fjt";
+	
+	/** Directory with entries */
+	private File directory;
+	
+	/** Maximum total size of entries in bytes */
+	private long maxSize;
+	
+	/**
+	 * Creates a new {@code TableCache} with default directory and size.
+	 */
+	public TableCache(){
+		this(new File(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY_NAME).getPath(), DEFAULT_MAX_SIZE);
+	}
+	
+	/**
+	 * Creates a new {@code TableCache}.
+	 * 
+	 * @param directory  path to the cache directory, created when needed
+	 * @param maxSize  maximum total size of entries in bytes,
+	 * zero or less for {@code DEFAULT_MAX_SIZE}
+	 */
+	public TableCache(String directory, long maxSize){
+		this.directory = new File(directory);
+		this.maxSize = maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+	}
+	
+	/**
+	 * Returns entry of a file read with specified settings. Entry depends on
+	 * current size and modification time of the file, and should be found
+	 * before reading the file.
+	 * 
+	 * @param file  local file
+	 * @param settingsKey  key of reader settings
+	 * @return entry file, which may not exist
+	 */
+	public File getEntry(File file, String settingsKey){
+		String key = String.join("\n", file.getAbsolutePath(), String.valueOf(file.length()),
+				String.valueOf(file.lastModified()), settingsKey);
+		
+		byte[] digest;
+		try{
+			digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+		}catch (NoSuchAlgorithmException e){
+			// SHA-256 is supported by all Java platforms
+			throw new IllegalStateException(e);
+		}
+		
+		StringBuilder name = new StringBuilder();
+		for (byte b : digest){
+			name.append(String.format("%02x", b));
+		}
+		name.append(ENTRY_EXTENSION);
+		
+		return new File(directory, name.toString());
+	}
+	
+	/**
+	 * Loads table of an entry and marks the entry as used. Invalid entries,
+	 * like entries of older format versions, are deleted.
+	 * 
+	 * @param entry  entry file
+	 * @return {@link DataTable}, or null if entry does not exist or is invalid
+	 */
+	public DataTable load(File entry){
+		
+		if (!entry.isFile()){
+			return null;
+		}
+		
+		DataTable table;
+		try{
+			table = TableFile.load(entry.getPath());
+			TableFile.mapColumns(table);
+		}catch (IOException | UncheckedIOException e){
+			entry.delete();
+			return null;
+		}
+		
+		entry.setLastModified(System.currentTimeMillis());
+		return table;
+	}
+	
+	/**
+	 * Saves a table as an entry, and deletes least recently used entries
+	 * if total size exceeds the limit.
+	 * 
+	 * @param entry  entry file
+	 * @param table  table to save
+	 * @throws IOException if error occurs when writing entry
+	 */
+	public void save(File entry, DataTable table) throws IOException{
+		
+		if (!directory.isDirectory() && !directory.mkdirs()){
+			throw new IOException("Cannot create cache directory: " + directory);
+		}
+		
+		File tempFile = File.createTempFile("table", ".tmp", directory);
+		try{
+			TableFile.save(table, tempFile.getPath());
+			Files.move(tempFile.toPath(), entry.toPath(),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}finally{
+			// already moved if saved
+			tempFile.delete();
+		}
+		
+		evict();
+	}
+	
+	/**
+	 * Deletes least recently used entries until total size of entries is
+	 * within the limit. Entries which cannot be deleted are skipped.
+	 */
+	public void evict(){
+		
+		File[] entries = directory.listFiles((dir, name) -> name.endsWith(ENTRY_EXTENSION));
+		if (entries == null){
+			return;
+		}
+		
+		long totalSize = 0;
+		Map<File, Long> lastUsedTimes = new HashMap<>();
+		for (File entry : entries){
+			totalSize += entry.length();
+			lastUsedTimes.put(entry, entry.lastModified());
+		}
+		
+		if (totalSize <= maxSize){
+			return;
+		}
+		
+		// least recently used first
+		List<File> entryList = Arrays.asList(entries);
+		entryList.sort(Comparator.comparing(lastUsedTimes::get));
+		
+		for (File entry : entryList){
+			if (totalSize <= maxSize){
+				break;
+			}
+			
+			long size = entry.length();
+			if (entry.delete()){
+				totalSize -= size;
+			}
+		}
+	}
+	
+	/**
+	 * Returns cache directory.
+	 * 
+	 * @return cache directory
+	 */
+	public File getDirectory(){
+		return directory;
+	}
+	
+	/**
+	 * Returns maximum total size of entries.
+	 * 
+	 * @return maximum size in bytes
+	 */
+	public long getMaxSize(){
+		return maxSize;
+	}
+
+}
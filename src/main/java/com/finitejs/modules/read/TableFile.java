@@ -0,0 +1,777 @@
+package com.finitejs.modules.read;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import com.finitejs.modules.read.storage.ColumnStorage;
+import com.finitejs.modules.read.storage.DictionaryStorage;
+import com.finitejs.modules.read.storage.MappedStorage;
+import com.finitejs.modules.read.types.BooleanType;
+import com.finitejs.modules.read.types.DateTimeType;
+import com.finitejs.modules.read.types.DateType;
+import com.finitejs.modules.read.types.NumberType;
+import com.finitejs.modules.read.types.StringType;
+import com.finitejs.modules.read.types.TimeType;
+
+/**
+ * Saves a {@link DataTable} to a binary columnar file and loads it back
+ * without parsing values again.
+ * <p>
+ * File starts with {@link #MAGIC} and format version, followed by a block
+ * of each column, and ends with a footer with the schema. Footer has row count,
+ * and name, type, encoding, position and length of each column block, and is
+ * followed by its own position and {@link #MAGIC}. Each block starts at a
+ * multiple of 8 bytes with a null bitmap, see {@link MappedStorage}, and
+ * values are stored as
+ * <li>{@code double} values for number columns</li>
+ * <li>a bitmap with a set bit for each true value for boolean columns</li>
+ * <li>{@code long} epoch days for date columns</li>
+ * <li>{@code long} nanos of day for time columns</li>
+ * <li>{@code long} epoch seconds in UTC followed by {@code int} nanos of
+ * second for date-time columns</li>
+ * <li>{@code char} codes followed by a dictionary of UTF-8 values for string columns
+ * with at most {@link DictionaryStorage#MAX_DICTIONARY_SIZE} distinct values</li>
+ * <li>UTF-8 values formatted with column type for other columns</li>
+ * </p>
+ * <p>
+ * Loaded columns are backed by {@link MappedStorage}, so each block is memory
+ * mapped only when a value of that column is accessed first, and columns are
+ * copied to heap storage when modified. Rows are saved in current order of
+ * the table, and loaded table is indexed by row index. A block cannot be larger
+ * than 2GB.
+ * </p>
+ */
+public class TableFile {
+
+	/**
+	 * Constant for bytes at start and end of a table file.
+	 */
+	public static final String MAGIC = "FJTB";
+	
+	/**
+	 * Constant for current format version.
+	 */
+	public static final int VERSION = 1;
+	
+	/** Constant for encoding of number columns */
+	private static final byte ENCODING_NUMBER = 1;
+	
+	/** Constant for encoding of boolean columns */
+	private static final byte ENCODING_BOOLEAN = 2;
+	
+	/** Constant for encoding of date columns */
+	private static final byte ENCODING_EPOCH_DAY = 3;
+	
+	/** Constant for encoding of time columns */
+	private static final byte ENCODING_NANO_OF_DAY = 4;
+	
+	/** Constant for encoding of date-time columns */
+	private static final byte ENCODING_EPOCH_SECOND = 5;
+	
+	/** Constant for encoding of string columns with few distinct values */
+	private static final byte ENCODING_DICTIONARY = 6;
+	
+	/** Constant for encoding of values as formatted strings */
+	private static final byte ENCODING_TEXT = 7;
+	
+	/** Constant for alignment of blocks in bytes */
+	private static final int ALIGNMENT = 8;
+	
+	/** Constant for length of footer position and magic at end of file */
+	private static final int TRAILER_LENGTH = 12;
+	
+	private TableFile(){}
+	
+	/**
+	 * Saves a table to a file, replacing the file if it exists.
+	 * 
+	 * @param table  table to save
+	 * @param path  path to the file
+	 * @throws IOException if error occurs when writing file
+	 * @throws IllegalArgumentException if a column is too large to save
+	 */
+	public static void save(DataTable table, String path) throws IOException{
+		
+		int[] rowOrder = getRowOrder(table);
+		List<Column<?>> columns = table.getColumnList();
+		
+		ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+		DataOutputStream footer = new DataOutputStream(footerBytes);
+		footer.writeInt(rowOrder.length);
+		footer.writeInt(columns.size());
+		
+		try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)){
+			
+			ByteBuffer header = ByteBuffer.allocate(ALIGNMENT);
+			header.put(MAGIC.getBytes(StandardCharsets.US_ASCII));
+			header.putInt(VERSION);
+			header.flip();
+			write(channel, header);
+			
+			for (Column<?> column : columns){
+				byte encoding = getEncoding(column.getType());
+				ByteBuffer block = encode(column, encoding, rowOrder);
+				if (block == null){
+					// too many distinct values for dictionary
+					encoding = ENCODING_TEXT;
+					block = encode(column, encoding, rowOrder);
+				}
+				
+				long position = channel.position();
+				long length = block.remaining();
+				write(channel, block);
+				
+				// next block starts at alignment
+				int padding = (int) (align(channel.position()) - channel.position());
+				write(channel, ByteBuffer.allocate(padding));
+				
+				footer.writeUTF(column.getName());
+				footer.writeUTF(column.getType().toString());
+				footer.writeByte(encoding);
+				footer.writeLong(position);
+				footer.writeLong(length);
+			}
+			
+			footer.writeLong(channel.position());
+			footer.write(MAGIC.getBytes(StandardCharsets.US_ASCII));
+			write(channel, ByteBuffer.wrap(footerBytes.toByteArray()));
+		}
+	}
+	
+	/**
+	 * Loads a table from a file saved with {@link #save(DataTable, String)}.
+	 * Only the footer is read, column blocks are mapped when accessed.
+	 * 
+	 * @param path  path to the file
+	 * @return {@link DataTable}
+	 * @throws IOException if error occurs when reading file, or file is not a valid table file
+	 */
+	public static DataTable load(String path) throws IOException{
+		
+		Path filePath = Paths.get(path);
+		try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)){
+			
+			long fileSize = channel.size();
+			if (fileSize < ALIGNMENT + TRAILER_LENGTH){
+				throw new IOException("Not a table file: " + path);
+			}
+			
+			ByteBuffer header = read(channel, 0, ALIGNMENT);
+			ByteBuffer trailer = read(channel, fileSize - TRAILER_LENGTH, TRAILER_LENGTH);
+			long footerPosition = trailer.getLong();
+			if (!hasMagic(header) || !hasMagic(trailer) ||
+					footerPosition < ALIGNMENT || footerPosition > fileSize - TRAILER_LENGTH){
+				throw new IOException("Not a table file: " + path);
+			}
+			
+			int version = header.getInt();
+			if (version != VERSION){
+				throw new IOException("Unsupported table file version: " + version);
+			}
+			
+			ByteBuffer footerBuffer = read(channel, footerPosition, (int) (fileSize - TRAILER_LENGTH - footerPosition));
+			DataInputStream footer = new DataInputStream(new ByteArrayInputStream(footerBuffer.array()));
+			
+			int rowCount = footer.readInt();
+			int columnCount = footer.readInt();
+			
+			List<Column<?>> columns = new ArrayList<>();
+			for (int i = 0; i < columnCount; i++){
+				String name = footer.readUTF();
+				String typeString = footer.readUTF();
+				byte encoding = footer.readByte();
+				long position = footer.readLong();
+				long length = footer.readLong();
+				
+				ColumnType<?> type = ColumnType.getType(typeString);
+				if (type == null || (encoding != ENCODING_TEXT && encoding != getEncoding(type)) ||
+						position < ALIGNMENT || length < MappedStorage.getBitmapLength(rowCount) ||
+						position + length > footerPosition){
+					throw new IOException("Invalid column in table file: " + name);
+				}
+				
+				columns.add(createColumn(name, type, createStorage(filePath, type, encoding, position, length, rowCount)));
+			}
+			
+			return DataTable.getTable(columns, rowCount);
+		}
+	}
+	
+	/**
+	 * Maps all columns of a loaded table, so that the table does not
+	 * depend on the file remaining unchanged.
+	 * 
+	 * @param table  loaded table
+	 * @throws UncheckedIOException if error occurs when mapping file
+	 */
+	static void mapColumns(DataTable table){
+		for (Column<?> column : table.getColumnList()){
+			if (column.get() instanceof MappedStorage){
+				((MappedStorage<?>) column.get()).map();
+			}
+		}
+	}
+	
+	/**
+	 * Returns internal data row indexes in current order of the table.
+	 * 
+	 * @param table  table
+	 * @return data row indexes
+	 */
+	private static int[] getRowOrder(DataTable table){
+		List<Integer> indexOrderList = table.getIndexOrderList();
+		int[] rowOrder = new int[table.getRowCount()];
+		for (int i = 0; i < rowOrder.length; i++){
+			rowOrder[i] = i < indexOrderList.size() ? indexOrderList.get(i) : i;
+		}
+		return rowOrder;
+	}
+	
+	/**
+	 * Returns encoding of a column type.
+	 * 
+	 * @param type  column type
+	 * @return encoding
+	 */
+	private static byte getEncoding(ColumnType<?> type){
+		if (type instanceof NumberType){
+			return ENCODING_NUMBER;
+		}else if (type instanceof BooleanType){
+			return ENCODING_BOOLEAN;
+		}else if (type instanceof DateType){
+			return ENCODING_EPOCH_DAY;
+		}else if (type instanceof TimeType){
+			return ENCODING_NANO_OF_DAY;
+		}else if (type instanceof DateTimeType){
+			return ENCODING_EPOCH_SECOND;
+		}else if (type instanceof StringType){
+			return ENCODING_DICTIONARY;
+		}
+		return ENCODING_TEXT;
+	}
+	
+	/**
+	 * Encodes values of a column in table order as a block.
+	 * 
+	 * @param column  column to encode
+	 * @param encoding  encoding of the column type, or {@code ENCODING_TEXT}
+	 * @param rowOrder  data row indexes in table order
+	 * @return block, or null if too many distinct values for dictionary encoding
+	 * @throws IllegalArgumentException if column is too large
+	 */
+	private static ByteBuffer encode(Column<?> column, byte encoding, int[] rowOrder){
+		switch (encoding){
+		case ENCODING_NUMBER:
+			return encodeNumbers(column, rowOrder);
+		case ENCODING_BOOLEAN:
+			return encodeBooleans(column, rowOrder);
+		case ENCODING_EPOCH_DAY:
+			return encodeLongs(column, rowOrder, value -> ((LocalDate) value).toEpochDay());
+		case ENCODING_NANO_OF_DAY:
+			return encodeLongs(column, rowOrder, value -> ((LocalTime) value).toNanoOfDay());
+		case ENCODING_EPOCH_SECOND:
+			return encodeDateTimes(column, rowOrder);
+		case ENCODING_DICTIONARY:
+			return encodeDictionary(column, rowOrder);
+		default:
+			return encodeText(column, rowOrder);
+		}
+	}
+	
+	/**
+	 * Encodes number values as {@code double} values.
+	 * 
+	 * @param column  column to encode
+	 * @param rowOrder  data row indexes in table order
+	 * @return block
+	 */
+	private static ByteBuffer encodeNumbers(Column<?> column, int[] rowOrder){
+		ByteBuffer block = allocate(rowOrder.length, 8L * rowOrder.length);
+		int valuesPosition = MappedStorage.getBitmapLength(rowOrder.length);
+		
+		for (int i = 0; i < rowOrder.length; i++){
+			Double value = (Double) column.get(rowOrder[i]);
+			if (value == null){
+				MappedStorage.setBit(block, 0, i);
+			}else{
+				block.putDouble(valuesPosition + i * 8, value);
+			}
+		}
+		return block;
+	}
+	
+	/**
+	 * Encodes boolean values as a bitmap.
+	 * 
+	 * @param column  column to encode
+	 * @param rowOrder  data row indexes in table order
+	 * @return block
+	 */
+	private static ByteBuffer encodeBooleans(Column<?> column, int[] rowOrder){
+		int bitmapLength = MappedStorage.getBitmapLength(rowOrder.length);
+		ByteBuffer block = allocate(rowOrder.length, bitmapLength);
+		
+		for (int i = 0; i < rowOrder.length; i++){
+			Boolean value = (Boolean) column.get(rowOrder[i]);
+			if (value == null){
+				MappedStorage.setBit(block, 0, i);
+			}else if (value){
+				MappedStorage.setBit(block, bitmapLength, i);
+			}
+		}
+		return block;
+	}
+	
+	/**
+	 * Encodes values as {@code long} values.
+	 * 
+	 * @param column  column to encode
+	 * @param rowOrder  data row indexes in table order
+	 * @param toLong  function that converts a value to long
+	 * @return block
+	 */
+	private static ByteBuffer encodeLongs(Column<?> column, int[] rowOrder, ToLongFunction<Object> toLong){
+		ByteBuffer block = allocate(rowOrder.length, 8L * rowOrder.length);
+		int valuesPosition = MappedStorage.getBitmapLength(rowOrder.length);
+		
+		for (int i = 0; i < rowOrder.length; i++){
+			Object value = column.get(rowOrder[i]);
+			if (value == null){
+				MappedStorage.setBit(block, 0, i);
+			}else{
+				block.putLong(valuesPosition + i * 8, toLong.applyAsLong(value));
+			}
+		}
+		return block;
+	}
+	
+	/**
+	 * Encodes date-time values as {@code long} epoch seconds
+	 * followed by {@code int} nanos of second.
+	 * 
+	 * @param column  column to encode
+	 * @param rowOrder  data row indexes in table order
+	 * @return block
+	 */
+	private static ByteBuffer encodeDateTimes(Column<?> column, int[] rowOrder){
+		ByteBuffer block = allocate(rowOrder.length, 12L * rowOrder.length);
+		int valuesPosition = MappedStorage.getBitmapLength(rowOrder.length);
+		int nanosPosition = valuesPosition + rowOrder.length * 8;
+		
+		for (int i = 0; i < rowOrder.length; i++){
+			LocalDateTime value = (LocalDateTime) column.get(rowOrder[i]);
+			if (value == null){
+				MappedStorage.setBit(block, 0, i);
+			}else{
+				block.putLong(valuesPosition + i * 8, value.toEpochSecond(ZoneOffset.UTC));
+				block.putInt(nanosPosition + i * 4, value.getNano());
+			}
+		}
+		return block;
+	}
+	
+	/**
+	 * Encodes string values as {@code char} codes followed by dictionary
+	 * size, {@code int} offsets of values and UTF-8 values. Dictionary
+	 * of a dictionary encoded column is used as it is.
+	 * 
+	 * @param column  column to encode
+	 * @param rowOrder  data row indexes in table order
+	 * @return block, or null if too many distinct values
+	 */
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer encodeDictionary(Column<?> column, int[] rowOrder){
+		
+		char[] codes = new char[rowOrder.length];
+		List<String> dictionary;
+		
+		if (column.isDictionaryEncoded()){
+			dictionary = (List<String>) column.getDictionary();
+			for (int i = 0; i < rowOrder.length; i++){
+				codes[i] = (char) column.getCode(rowOrder[i]);
+			}
+		}else{
+			dictionary = new ArrayList<>();
+			Map<String, Integer> codeMap = new HashMap<>();
+			for (int i = 0; i < rowOrder.length; i++){
+				String value = (String) column.get(rowOrder[i]);
+				if (value == null){
+					continue;
+				}
+				
+				Integer code = codeMap.get(value);
+				if (code == null){
+					if (dictionary.size() >= DictionaryStorage.MAX_DICTIONARY_SIZE){
+						return null;
+					}
+					dictionary.add(value);
+					code = dictionary.size();
+					codeMap.put(value, code);
+				}
+				codes[i] = (char) code.intValue();
+			}
+		}
+		
+		List<byte[]> encodedValues = new ArrayList<>(dictionary.size());
+		long valuesLength = 0;
+		for (String value : dictionary){
+			byte[] encodedValue = value.getBytes(StandardCharsets.UTF_8);
+			encodedValues.add(encodedValue);
+			valuesLength += encodedValue.length;
+		}
+		
+		long dictionaryPosition = align(MappedStorage.getBitmapLength(rowOrder.length) + 2L * rowOrder.length);
+		ByteBuffer block = allocate(rowOrder.length, dictionaryPosition - MappedStorage.getBitmapLength(rowOrder.length) +
+				4L * (dictionary.size() + 2) + valuesLength);
+		
+		int codesPosition = MappedStorage.getBitmapLength(rowOrder.length);
+		for (int i = 0; i < codes.length; i++){
+			if (codes[i] == 0){
+				MappedStorage.setBit(block, 0, i);
+			}
+			block.putChar(codesPosition + i * 2, codes[i]);
+		}
+		
+		block.position((int) dictionaryPosition);
+		putStrings(block, encodedValues);
+		block.rewind();
+		
+		return block;
+	}
+	
+	/**
+	 * Encodes values formatted with column type as number of values, 
+	 * {@code int} offsets of values and UTF-8 values.
+	 * 
+	 * @param column  column to encode
+	 * @param rowOrder  data row indexes in table order
+	 * @return block
+	 */
+	private static ByteBuffer encodeText(Column<?> column, int[] rowOrder){
+		
+		List<byte[]> encodedValues = new ArrayList<>(rowOrder.length);
+		long valuesLength = 0;
+		for (int i = 0; i < rowOrder.length; i++){
+			byte[] encodedValue = null;
+			if (column.get(rowOrder[i]) != null){
+				encodedValue = column.getFormattedValue(rowOrder[i]).getBytes(StandardCharsets.UTF_8);
+				valuesLength += encodedValue.length;
+			}
+			encodedValues.add(encodedValue);
+		}
+		
+		ByteBuffer block = allocate(rowOrder.length, 4L * (rowOrder.length + 2) + valuesLength);
+		for (int i = 0; i < rowOrder.length; i++){
+			if (encodedValues.get(i) == null){
+				MappedStorage.setBit(block, 0, i);
+			}
+		}
+		
+		block.position(MappedStorage.getBitmapLength(rowOrder.length));
+		putStrings(block, encodedValues);
+		block.rewind();
+		
+		return block;
+	}
+	
+	/**
+	 * Puts strings to a buffer at current position as number of strings,
+	 * followed by end offset of each string and bytes of strings.
+	 * Null strings are put as empty strings.
+	 * 
+	 * @param block  buffer with enough remaining space
+	 * @param encodedValues  UTF-8 bytes of strings
+	 */
+	private static void putStrings(ByteBuffer block, List<byte[]> encodedValues){
+		block.putInt(encodedValues.size());
+		
+		int offset = 0;
+		block.putInt(offset);
+		for (byte[] encodedValue : encodedValues){
+			offset += encodedValue == null ? 0 : encodedValue.length;
+			block.putInt(offset);
+		}
+		
+		for (byte[] encodedValue : encodedValues){
+			if (encodedValue != null){
+				block.put(encodedValue);
+			}
+		}
+	}
+	
+	/**
+	 * Allocates a block with null bitmap followed by values.
+	 * 
+	 * @param size  number of values
+	 * @param valuesLength  number of bytes for values
+	 * @return block
+	 * @throws IllegalArgumentException if block is larger than 2GB
+	 */
+	private static ByteBuffer allocate(int size, long valuesLength){
+		long length = MappedStorage.getBitmapLength(size) + valuesLength;
+		if (length > Integer.MAX_VALUE){
+			throw new IllegalArgumentException("Column is too large to save");
+		}
+		return ByteBuffer.allocate((int) length).order(ByteOrder.LITTLE_ENDIAN);
+	}
+	
+	/**
+	 * Creates a storage for a column block.
+	 * 
+	 * @param path  table file
+	 * @param type  column type
+	 * @param encoding  encoding of the block
+	 * @param position  starting byte position of the block
+	 * @param length  number of bytes in the block
+	 * @param size  number of values
+	 * @return storage
+	 */
+	private static MappedStorage<?> createStorage(Path path, ColumnType<?> type, byte encoding,
+			long position, long length, int size){
+		switch (encoding){
+		case ENCODING_NUMBER:
+			return new NumberBlock(path, position, length, size);
+		case ENCODING_BOOLEAN:
+			return new BooleanBlock(path, position, length, size);
+		case ENCODING_EPOCH_DAY:
+			return new LongBlock<>(path, position, length, size, LocalDate::ofEpochDay);
+		case ENCODING_NANO_OF_DAY:
+			return new LongBlock<>(path, position, length, size, LocalTime::ofNanoOfDay);
+		case ENCODING_EPOCH_SECOND:
+			return new DateTimeBlock(path, position, length, size);
+		case ENCODING_DICTIONARY:
+			return new DictionaryBlock(path, position, length, size);
+		default:
+			return new TextBlock<>(path, position, length, size, type);
+		}
+	}
+	
+	/**
+	 * Creates a column with a storage of same type.
+	 * 
+	 * @param name  column name
+	 * @param type  column type
+	 * @param storage  storage with values of the type
+	 * @return column
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Column<T> createColumn(String name, ColumnType<T> type, MappedStorage<?> storage){
+		return Column.create(name, type, (ColumnStorage<T>) storage);
+	}
+	
+	/**
+	 * Returns a position rounded up to block alignment.
+	 * 
+	 * @param position  byte position
+	 * @return aligned position
+	 */
+	private static long align(long position){
+		return (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+	
+	/**
+	 * Checks whether a buffer has magic bytes at current position,
+	 * and moves position after them.
+	 * 
+	 * @param buffer  buffer to check
+	 * @return true if magic bytes are present, else false
+	 */
+	private static boolean hasMagic(ByteBuffer buffer){
+		byte[] magic = new byte[MAGIC.length()];
+		buffer.get(magic);
+		return MAGIC.equals(new String(magic, StandardCharsets.US_ASCII));
+	}
+	
+	/**
+	 * Writes all remaining bytes of a buffer to a channel.
+	 * 
+	 * @param channel  file channel
+	 * @param buffer  buffer to write
+	 * @throws IOException if error occurs when writing
+	 */
+	private static void write(FileChannel channel, ByteBuffer buffer) throws IOException{
+		while (buffer.hasRemaining()){
+			channel.write(buffer);
+		}
+	}
+	
+	/**
+	 * Reads bytes from a position of a channel.
+	 * 
+	 * @param channel  file channel
+	 * @param position  starting byte position
+	 * @param length  number of bytes to read
+	 * @return buffer with the bytes
+	 * @throws IOException if error occurs when reading, or end of file is reached
+	 */
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException{
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()){
+			if (channel.read(buffer, position + buffer.position()) < 0){
+				throw new IOException("Unexpected end of table file");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+	
+	/**
+	 * Decodes a string stored with {@code putStrings}.
+	 * 
+	 * @param block  mapped block
+	 * @param stringsPosition  position of number of strings in block
+	 * @param index  index of the string
+	 * @return decoded string
+	 */
+	private static String getString(ByteBuffer block, int stringsPosition, int index){
+		int count = block.getInt(stringsPosition);
+		int start = block.getInt(stringsPosition + 4 + index * 4);
+		int end = block.getInt(stringsPosition + 8 + index * 4);
+		
+		byte[] bytes = new byte[end - start];
+		ByteBuffer view = block.duplicate();
+		view.position(stringsPosition + 8 + count * 4 + start);
+		view.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Mapped storage of number values.
+	 */
+	private static class NumberBlock extends MappedStorage<Double>{
+		
+		NumberBlock(Path path, long position, long length, int size){
+			super(path, position, length, size);
+		}
+		
+		@Override
+		protected Double getValue(ByteBuffer mappedBlock, int index){
+			return mappedBlock.getDouble(getValuesPosition() + index * 8);
+		}
+	}
+	
+	/**
+	 * Mapped storage of boolean values.
+	 */
+	private static class BooleanBlock extends MappedStorage<Boolean>{
+		
+		BooleanBlock(Path path, long position, long length, int size){
+			super(path, position, length, size);
+		}
+		
+		@Override
+		protected Boolean getValue(ByteBuffer mappedBlock, int index){
+			return getBit(mappedBlock, getValuesPosition(), index);
+		}
+	}
+	
+	/**
+	 * Mapped storage of values stored as {@code long} values.
+	 * 
+	 * @param <T>  type of stored values
+	 */
+	private static class LongBlock<T> extends MappedStorage<T>{
+		
+		/** Function that converts a long value to stored value */
+		private final LongFunction<T> fromLong;
+		
+		LongBlock(Path path, long position, long length, int size, LongFunction<T> fromLong){
+			super(path, position, length, size);
+			this.fromLong = fromLong;
+		}
+		
+		@Override
+		protected T getValue(ByteBuffer mappedBlock, int index){
+			return fromLong.apply(mappedBlock.getLong(getValuesPosition() + index * 8));
+		}
+	}
+	
+	/**
+	 * Mapped storage of date-time values.
+	 */
+	private static class DateTimeBlock extends MappedStorage<LocalDateTime>{
+		
+		DateTimeBlock(Path path, long position, long length, int size){
+			super(path, position, length, size);
+		}
+		
+		@Override
+		protected LocalDateTime getValue(ByteBuffer mappedBlock, int index){
+			long epochSecond = mappedBlock.getLong(getValuesPosition() + index * 8);
+			int nano = mappedBlock.getInt(getValuesPosition() + size() * 8 + index * 4);
+			return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+		}
+	}
+	
+	/**
+	 * Mapped storage of dictionary encoded strings. Dictionary is
+	 * decoded when a value is accessed first.
+	 */
+	private static class DictionaryBlock extends MappedStorage<String>{
+		
+		/** Decoded dictionary, or null if not decoded yet */
+		private volatile String[] dictionary;
+		
+		DictionaryBlock(Path path, long position, long length, int size){
+			super(path, position, length, size);
+		}
+		
+		@Override
+		protected String getValue(ByteBuffer mappedBlock, int index){
+			String[] values = dictionary;
+			if (values == null){
+				int dictionaryPosition = (int) align(getValuesPosition() + 2L * size());
+				values = new String[mappedBlock.getInt(dictionaryPosition)];
+				for (int i = 0; i < values.length; i++){
+					values[i] = getString(mappedBlock, dictionaryPosition, i);
+				}
+				dictionary = values;
+			}
+			return values[mappedBlock.getChar(getValuesPosition() + index * 2) - 1];
+		}
+	}
+	
+	/**
+	 * Mapped storage of values stored as formatted strings.
+	 * 
+	 * @param <T>  type of stored values
+	 */
+	private static class TextBlock<T> extends MappedStorage<T>{
+		
+		/** Type used to parse values */
+		private final ColumnType<T> type;
+		
+		TextBlock(Path path, long position, long length, int size, ColumnType<T> type){
+			super(path, position, length, size);
+			this.type = type;
+		}
+		
+		@Override
+		protected T getValue(ByteBuffer mappedBlock, int index){
+			return type.parse(getString(mappedBlock, getValuesPosition(), index));
+		}
+	}
+
+}
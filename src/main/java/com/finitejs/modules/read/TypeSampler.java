@@ -0,0 +1,182 @@
+package com.finitejs.modules.read;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.finitejs.modules.read.types.StringType;
+
+/**
+ * Determines column types from a sample of rows.
+ * <p>
+ * Sample can be the leading rows or a uniform random sample of all rows
+ * selected with reservoir sampling. Type of a column is locked once it
+ * is determined as {@link StringType}, as no other type is preferred
+ * over it. Rows that are not in the sample are not type checked, so values
+ * in them must be checked while adding to the table, for example with
+ * {@link DataTable#addRow(List, boolean[])}.
+ * </p>
+ */
+public class TypeSampler {
+
+	/**
+	 * Constant for sampling leading rows.
+	 */
+	public static final String SAMPLE_FIRST = "first";
+	
+	/**
+	 * Constant for sampling random rows with reservoir sampling.
+	 */
+	public static final String SAMPLE_RESERVOIR = "reservoir";
+	
+	/** Constant for seed of random sampling, so that sample is repeatable */
+	private static final long RANDOM_SEED = 4180L;
+	
+	/** Predefined column types, which are not checked */
+	private List<ColumnType<?>> predefinedTypeList;
+	
+	/** Column types determined so far */
+	private List<ColumnType<?>> typeList;
+	
+	/** Maximum number of rows in sample, zero or less for all rows */
+	private int sampleSize;
+	
+	/** Sampling mode */
+	private String sampleMode;
+	
+	/** Number of rows added */
+	private long rowCount;
+	
+	/** Rows selected by reservoir sampling, and not yet checked */
+	private List<List<String>> reservoir;
+	
+	/** Random generator for reservoir sampling */
+	private Random random;
+	
+	/**
+	 * Creates a new {@code TypeSampler} instance.
+	 * 
+	 * @param predefinedTypeList  predefined types in column order, or null
+	 * @param sampleSize  maximum number of rows in sample, zero or less for all rows
+	 * @param sampleMode  {@code SAMPLE_FIRST} or {@code SAMPLE_RESERVOIR},
+	 * if invalid then leading rows are sampled
+	 */
+	public TypeSampler(List<ColumnType<?>> predefinedTypeList, int sampleSize, String sampleMode){
+		this.predefinedTypeList = new ArrayList<>();
+		if (predefinedTypeList != null){
+			this.predefinedTypeList.addAll(predefinedTypeList);
+		}
+		
+		this.typeList = new ArrayList<>(this.predefinedTypeList);
+		this.sampleSize = sampleSize;
+		this.sampleMode = SAMPLE_RESERVOIR.equals(sampleMode) && sampleSize > 0 ?
+				SAMPLE_RESERVOIR : SAMPLE_FIRST;
+		this.rowCount = 0;
+		
+		if (SAMPLE_RESERVOIR.equals(this.sampleMode)){
+			reservoir = new ArrayList<>();
+			random = new Random(RANDOM_SEED);
+		}
+	}
+	
+	/**
+	 * Adds a row to the sampler. Row is type checked only if it is
+	 * selected for the sample.
+	 * 
+	 * @param rowData  row values
+	 */
+	public void add(List<String> rowData){
+		rowCount++;
+		
+		if (reservoir != null){
+			if (reservoir.size() < sampleSize){
+				reservoir.add(rowData);
+			}else{
+				// replace a sampled row with decreasing probability
+				long position = (long) (random.nextDouble() * rowCount);
+				if (position < sampleSize){
+					reservoir.set((int) position, rowData);
+				}
+			}
+			return;
+		}
+		
+		if (!isComplete()){
+			updateTypes(rowData);
+		}
+	}
+	
+	/**
+	 * Checks whether sample of leading rows is complete, so that
+	 * types will not change with more rows.
+	 * 
+	 * @return true if sample is complete, else false
+	 */
+	public boolean isComplete(){
+		return reservoir == null && sampleSize > 0 && rowCount >= sampleSize;
+	}
+	
+	/**
+	 * Returns column types determined from sampled rows.
+	 * Types of columns without any value in sample are null.
+	 * 
+	 * @return list of types in column order
+	 */
+	public List<ColumnType<?>> getTypes(){
+		
+		if (reservoir != null){
+			for (List<String> rowData : reservoir){
+				updateTypes(rowData);
+			}
+			reservoir.clear();
+		}
+		
+		return new ArrayList<>(typeList);
+	}
+	
+	/**
+	 * Updates column types with types of values in a row.
+	 * Predefined types and types locked as string are not changed.
+	 * 
+	 * @param rowData  row values
+	 */
+	private void updateTypes(List<String> rowData){
+		
+		for (int i = 0; i < rowData.size(); i++){
+			
+			// check if type already defined
+			if (predefinedTypeList.size() > i && predefinedTypeList.get(i) != null){
+				continue;
+			}
+			
+			// get previous type of the column
+			ColumnType<?> prevType = null;
+			if (typeList.size() <= i){
+				// initialize type list with null
+				typeList.add(null);
+			}else{
+				prevType = typeList.get(i);
+			}
+			
+			// string type is preferred for any conflict
+			if (prevType instanceof StringType){
+				continue;
+			}
+			
+			// determine current type, previous type of the column is checked first
+			ColumnType<?> curType = ColumnType.findType(rowData.get(i), prevType);
+			
+			// resolve conflict
+			if (prevType != null && curType != null && (!prevType.equals(curType))){
+				curType = ColumnType.getPreferredType(prevType, curType);
+				typeList.set(i, curType);
+			}
+			
+			// update new type
+			if (prevType == null && curType != null){
+				typeList.set(i, curType);
+			}
+		}
+	}
+
+}
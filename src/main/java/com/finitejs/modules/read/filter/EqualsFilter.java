@@ -0,0 +1,63 @@
+package com.finitejs.modules.read.filter;
+
+import com.finitejs.modules.read.InputFilter;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * Input filter that keeps rows whose value is equal to a specified string.
+ * <p>
+ * Example :
+ * <pre>
+ * InputFilter filter = new EqualsFilter("CPU");
+ * </pre>
+ * Above {@code filter} keeps only rows with value {@code CPU} in the column.
+ * </p>
+ */
+public class EqualsFilter implements InputFilter{
+
+	/** Value to compare */
+	private String value;
+	
+	/**
+	 * Creates a new {@code EqualsFilter} with the value to compare.
+	 * 
+	 * @param value  value to compare
+	 */
+	public EqualsFilter(String value){
+		this.value = value != null ? value : "";
+	}
+	
+	@Override
+	public boolean accept(CharSequence source, int offset, int length){
+		return contentEquals(value, source, offset, length);
+	}
+	
+	/**
+	 * Compares a string with a part of a character sequence.
+	 * 
+	 * @param value  string to compare
+	 * @param source  character sequence that contains the other value
+	 * @param offset  starting index of the other value in source
+	 * @param length  number of characters in the other value
+	 * @return true if both values have same characters, else false
+	 */
+	static boolean contentEquals(String value, CharSequence source, int offset, int length){
+		if (value.length() != length){
+			return false;
+		}
+		
+		for (int i = 0; i < length; i++){
+			if (value.charAt(i) != source.charAt(offset + i)){
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public String toString(){
+		return "equals(" + StringUtils.quote(value) + ")";
+	}
+
+}
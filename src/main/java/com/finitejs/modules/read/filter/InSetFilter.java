@@ -0,0 +1,98 @@
+package com.finitejs.modules.read.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.finitejs.modules.read.InputFilter;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * Input filter that keeps rows whose value is one of a set of strings.
+ * Values are looked up in a hash table with the hash code of the raw
+ * value, without creating a string.
+ * <p>
+ * Example :
+ * <pre>
+ * InputFilter filter = new InSetFilter(new String[]{"CPU", "RAM"});
+ * </pre>
+ * Above {@code filter} keeps only rows with value {@code CPU} or {@code RAM}
+ * in the column.
+ * </p>
+ */
+public class InSetFilter implements InputFilter{
+
+	/** Hash table of values, values with same bucket index are in same bucket */
+	private String[][] buckets;
+	
+	/** Mask to find bucket index from hash code */
+	private int mask;
+	
+	/**
+	 * Creates a new {@code InSetFilter} with the set of values.
+	 * 
+	 * @param values  values to keep
+	 */
+	public InSetFilter(String[] values){
+		Set<String> valueSet = new LinkedHashSet<>();
+		if (values != null){
+			for (String value : values){
+				valueSet.add(value != null ? value : "");
+			}
+		}
+		
+		// power of two with at most half of the buckets used
+		int bucketCount = Integer.highestOneBit(Math.max(1, valueSet.size()) * 2 - 1) * 2;
+		buckets = new String[bucketCount][];
+		mask = bucketCount - 1;
+		
+		for (String value : valueSet){
+			int index = value.hashCode() & mask;
+			String[] bucket = buckets[index];
+			if (bucket == null){
+				bucket = new String[]{value};
+			}else{
+				bucket = Arrays.copyOf(bucket, bucket.length + 1);
+				bucket[bucket.length - 1] = value;
+			}
+			buckets[index] = bucket;
+		}
+	}
+	
+	@Override
+	public boolean accept(CharSequence source, int offset, int length){
+		
+		// same hash code as String
+		int hash = 0;
+		for (int i = 0; i < length; i++){
+			hash = 31 * hash + source.charAt(offset + i);
+		}
+		
+		String[] bucket = buckets[hash & mask];
+		if (bucket == null){
+			return false;
+		}
+		
+		for (String value : bucket){
+			if (EqualsFilter.contentEquals(value, source, offset, length)){
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public String toString(){
+		List<String> values = new ArrayList<>();
+		for (String[] bucket : buckets){
+			if (bucket != null){
+				values.addAll(Arrays.asList(bucket));
+			}
+		}
+		return "in(" + StringUtils.quoteSorted(values) + ")";
+	}
+
+}
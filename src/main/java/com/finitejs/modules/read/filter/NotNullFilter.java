@@ -0,0 +1,21 @@
+package com.finitejs.modules.read.filter;
+
+import com.finitejs.modules.read.InputFilter;
+
+/**
+ * Input filter that keeps rows with a value in the column, rows with
+ * empty or missing values are discarded.
+ */
+public class NotNullFilter implements InputFilter{
+
+	@Override
+	public boolean accept(CharSequence source, int offset, int length){
+		return length > 0;
+	}
+	
+	@Override
+	public String toString(){
+		return "notNull";
+	}
+
+}
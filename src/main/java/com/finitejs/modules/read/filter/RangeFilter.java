@@ -0,0 +1,54 @@
+package com.finitejs.modules.read.filter;
+
+import com.finitejs.modules.read.InputFilter;
+import com.finitejs.modules.read.util.NumberScanner;
+
+/**
+ * Input filter that keeps rows whose value is a number within a range.
+ * Both limits are inclusive, and rows with values that are not numbers
+ * are discarded.
+ * <p>
+ * Example :
+ * <pre>
+ * InputFilter filter = new RangeFilter(0, 100);
+ * </pre>
+ * Above {@code filter} keeps only rows with a value from {@code 0}
+ * to {@code 100} in the column.
+ * </p>
+ */
+public class RangeFilter implements InputFilter{
+
+	/** Minimum value */
+	private double min;
+	
+	/** Maximum value */
+	private double max;
+	
+	/**
+	 * Creates a new {@code RangeFilter} with limits of the range.
+	 * 
+	 * @param min  minimum value, {@code Double.NEGATIVE_INFINITY} for no minimum
+	 * @param max  maximum value, {@code Double.POSITIVE_INFINITY} for no maximum
+	 */
+	public RangeFilter(double min, double max){
+		this.min = min;
+		this.max = max;
+	}
+	
+	@Override
+	public boolean accept(CharSequence source, int offset, int length){
+		NumberScanner scanner = NumberScanner.get();
+		if (!scanner.scan(source, offset, length)){
+			return false;
+		}
+		
+		double value = scanner.getValue();
+		return value >= min && value <= max;
+	}
+	
+	@Override
+	public String toString(){
+		return "range(" + min + ", " + max + ")";
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.finitejs.modules.read.filter;
+
+import java.util.regex.Pattern;
+
+import com.finitejs.modules.read.InputFilter;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * Input filter that keeps rows whose value contains a match of a
+ * regular expression. Value is matched in the reader buffer without
+ * creating a string.
+ * <p>
+ * Example :
+ * <pre>
+ * InputFilter filter = new RegExFilter("^\\d{4}-01-\\d{2}$");
+ * </pre>
+ * Above {@code filter} keeps only rows with a date in January in the column.
+ * </p>
+ */
+public class RegExFilter implements InputFilter{
+
+	/** Compiled RegEx pattern used to match. */
+	private Pattern pattern;
+	
+	/**
+	 * Creates a new {@code RegExFilter} based on a RegEx pattern.
+	 * 
+	 * @param regex  regular expression to use
+	 */
+	public RegExFilter(String regex){
+		this.pattern = Pattern.compile(regex);
+	}
+	
+	@Override
+	public boolean accept(CharSequence source, int offset, int length){
+		return pattern.matcher(source.subSequence(offset, offset + length)).find();
+	}
+	
+	@Override
+	public String toString(){
+		return "regex(" + StringUtils.quote(pattern.pattern()) + ")";
+	}
+
+}
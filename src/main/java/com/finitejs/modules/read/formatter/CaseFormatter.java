@@ -0,0 +1,57 @@
+package com.finitejs.modules.read.formatter;
+
+import java.util.Locale;
+
+import com.finitejs.modules.read.InputFormatter;
+
+/**
+ * 
+ * Input formatter that converts values to lower case or upper case.
+ * Conversion is independent of the default locale.
+ * 
+ */
+public class CaseFormatter implements InputFormatter{
+
+	/**
+	 * Constant for converting to lower case.
+	 */
+	public static final String LOWER_CASE = "lowercase";
+	
+	/**
+	 * Constant for converting to upper case.
+	 */
+	public static final String UPPER_CASE = "uppercase";
+	
+	/** True if converted to upper case, else lower case */
+	private boolean upperCase;
+	
+	/**
+	 * Creates a new {@code CaseFormatter} with the case to convert.
+	 * 
+	 * @param letterCase  {@code LOWER_CASE} or {@code UPPER_CASE}
+	 * @throws IllegalArgumentException if case is invalid
+	 */
+	public CaseFormatter(String letterCase){
+		if (UPPER_CASE.equals(letterCase)){
+			upperCase = true;
+		}else if (LOWER_CASE.equals(letterCase)){
+			upperCase = false;
+		}else{
+			throw new IllegalArgumentException("Invalid case");
+		}
+	}
+	
+	@Override
+	public String format(String inputValue) {
+		if (inputValue == null){
+			return null;
+		}
+		return upperCase ? inputValue.toUpperCase(Locale.ROOT) : inputValue.toLowerCase(Locale.ROOT);
+	}
+	
+	@Override
+	public String toString(){
+		return upperCase ? UPPER_CASE : LOWER_CASE;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.finitejs.modules.read.formatter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.finitejs.modules.read.InputFormatter;
+
+/**
+ * 
+ * Input formatter that applies a list of formatters in order, so that
+ * more than one formatter can be used for a column.
+ * <p>
+ * Example :
+ * <pre>
+ * InputFormatter formatter = new ChainedFormatter(new InputFormatter[]{
+ * 		new TrimFormatter(), new StripFormatter("$,")});
+ * </pre>
+ * Above {@code formatter} can be used to convert value {@code " $1,200 "} to {@code 1200}.
+ * </p>
+ * 
+ */
+public class ChainedFormatter implements InputFormatter{
+
+	/** Formatters applied in order */
+	private InputFormatter[] formatters;
+	
+	/**
+	 * Creates a new {@code ChainedFormatter} with a list of formatters.
+	 * 
+	 * @param formatters  formatters to apply in order
+	 */
+	public ChainedFormatter(InputFormatter[] formatters){
+		this.formatters = formatters != null ? formatters.clone() : new InputFormatter[0];
+	}
+	
+	@Override
+	public String format(String inputValue) {
+		String formattedValue = inputValue;
+		for (InputFormatter formatter : formatters){
+			formattedValue = formatter.format(formattedValue);
+		}
+		return formattedValue;
+	}
+	
+	/**
+	 * Returns formatters applied in order.
+	 * 
+	 * @return formatters
+	 */
+	public InputFormatter[] getFormatters(){
+		return formatters.clone();
+	}
+	
+	@Override
+	public String toString(){
+		List<String> descriptions = new ArrayList<>();
+		for (InputFormatter formatter : formatters){
+			descriptions.add(String.valueOf(formatter));
+		}
+		return "chain(" + String.join(", ", descriptions) + ")";
+	}
+
+}
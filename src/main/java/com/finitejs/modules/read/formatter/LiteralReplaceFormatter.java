@@ -0,0 +1,82 @@
+package com.finitejs.modules.read.formatter;
+
+import com.finitejs.modules.read.InputFormatter;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * 
+ * Input formatter that replaces all occurrences of a literal string,
+ * without using regular expressions.
+ * <p>
+ * Example :
+ * <pre>
+ * InputFormatter formatter = new LiteralReplaceFormatter("N/A", "");
+ * </pre>
+ * Above {@code formatter} can be used to convert value {@code N/A} to an empty value.
+ * </p>
+ * 
+ */
+public class LiteralReplaceFormatter implements InputFormatter{
+
+	/** String to replace */
+	private String target;
+	
+	/** Replacement string */
+	private String replacement;
+	
+	/**
+	 * Creates a new {@code LiteralReplaceFormatter} based on
+	 * a string to replace and replacement.
+	 * 
+	 * @param target  string to replace
+	 * @param replacement  replacement string
+	 * @throws IllegalArgumentException if string to replace is empty
+	 */
+	public LiteralReplaceFormatter(String target, String replacement){
+		if (target == null || target.isEmpty()){
+			throw new IllegalArgumentException("String to replace cannot be empty.");
+		}
+		this.target = target;
+		this.replacement = replacement != null ? replacement : "";
+	}
+	
+	@Override
+	public String format(String inputValue) {
+		if (inputValue == null){
+			return null;
+		}
+		return replace(inputValue, target, replacement);
+	}
+	
+	/**
+	 * Replaces all occurrences of a literal string in a value.
+	 * 
+	 * @param value  value in which strings are replaced
+	 * @param target  string to replace, not empty
+	 * @param replacement  replacement string
+	 * @return value after replacing, same instance if no occurrences
+	 */
+	static String replace(String value, String target, String replacement){
+		int index = value.indexOf(target);
+		if (index == -1){
+			return value;
+		}
+		
+		StringBuilder result = new StringBuilder(value.length());
+		int start = 0;
+		do{
+			result.append(value, start, index).append(replacement);
+			start = index + target.length();
+			index = value.indexOf(target, start);
+		}while (index != -1);
+		
+		result.append(value, start, value.length());
+		return result.toString();
+	}
+	
+	@Override
+	public String toString(){
+		return "replace(" + StringUtils.quote(target) + ", " + StringUtils.quote(replacement) + ")";
+	}
+
+}
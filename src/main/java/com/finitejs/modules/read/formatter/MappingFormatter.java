@@ -0,0 +1,63 @@
+package com.finitejs.modules.read.formatter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.finitejs.modules.read.InputFormatter;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * 
+ * Input formatter that replaces whole values found in a map with the
+ * mapped values. Other values are not changed.
+ * <p>
+ * Example :
+ * <pre>
+ * Map&lt;String, String&gt; valueMap = new HashMap&lt;&gt;();
+ * valueMap.put("N/A", "");
+ * valueMap.put("-", "");
+ * InputFormatter formatter = new MappingFormatter(valueMap);
+ * </pre>
+ * Above {@code formatter} can be used to convert values {@code N/A} and {@code -} 
+ * to empty values.
+ * </p>
+ * 
+ */
+public class MappingFormatter implements InputFormatter{
+
+	/** Mapped values */
+	private Map<String, String> valueMap;
+	
+	/**
+	 * Creates a new {@code MappingFormatter} based on a map of values.
+	 * 
+	 * @param valueMap  map of input values to output values
+	 */
+	public MappingFormatter(Map<String, String> valueMap){
+		this.valueMap = new HashMap<>();
+		if (valueMap != null){
+			this.valueMap.putAll(valueMap);
+		}
+	}
+	
+	@Override
+	public String format(String inputValue) {
+		if (inputValue == null || !valueMap.containsKey(inputValue)){
+			return inputValue;
+		}
+		return valueMap.get(inputValue);
+	}
+	
+	@Override
+	public String toString(){
+		List<String> entries = new ArrayList<>();
+		for (Map.Entry<String, String> entry : valueMap.entrySet()){
+			entries.add(StringUtils.quote(entry.getKey()) + ": " + StringUtils.quote(entry.getValue()));
+		}
+		entries.sort(null);
+		return "map(" + String.join(", ", entries) + ")";
+	}
+
+}
@@ -3,6 +3,7 @@ package com.finitejs.modules.read.formatter;
 import java.util.regex.Pattern;
 
 import com.finitejs.modules.read.InputFormatter;
+import com.finitejs.modules.read.util.StringUtils;
 
 /**
  * 
@@ -15,16 +16,26 @@ import com.finitejs.modules.read.InputFormatter;
  * </pre>
  * Above {@code formatter} can be used to convert value {@code 2014-04-14} to {@code 14-04-2014 00:00:00}.
  * </p>
+ * <p>
+ * If the pattern and replacement have no special characters, values are
+ * replaced as literal strings without matching the regular expression.
+ * </p>
  * 
  */
 public class RegExFormatter implements InputFormatter{
 
+	/** Constant for characters with special meaning in a regular expression */
+	private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+	
 	/** Compiled RegEx pattern used to format. */
 	private Pattern pattern;
 	
 	/** Replacement string */
 	private String replacement;
 	
+	/** Pattern as a literal string if it has no special characters, else null */
+	private String literal;
+	
 	/**
 	 * Creates a new {@code RegExFormatter} based on 
 	 * a RegEx pattern and replacement.
@@ -35,15 +46,44 @@ public class RegExFormatter implements InputFormatter{
 	public RegExFormatter(String regex, String replacement){
 		this.pattern = Pattern.compile(regex);
 		this.replacement = replacement;
+		
+		// replace as literal strings if possible
+		if (!regex.isEmpty() && isLiteral(regex, REGEX_META_CHARACTERS) && 
+				replacement != null && isLiteral(replacement, "\\$")){
+			this.literal = regex;
+		}
 	}
 	
 	@Override
 	public String format(String inputValue) {
 		String formattedValue = null;
-		if (inputValue != null && pattern != null){
+		if (inputValue != null && literal != null){
+			formattedValue = LiteralReplaceFormatter.replace(inputValue, literal, replacement);
+		}else if (inputValue != null && pattern != null){
 			formattedValue = pattern.matcher(inputValue).replaceAll(replacement);
 		}
 		return formattedValue;
 	}
+	
+	/**
+	 * Checks whether a string has no special characters.
+	 * 
+	 * @param value  string to check
+	 * @param specialCharacters  special characters
+	 * @return true if string can be used as a literal, else false
+	 */
+	private static boolean isLiteral(String value, String specialCharacters){
+		for (int i = 0; i < value.length(); i++){
+			if (specialCharacters.indexOf(value.charAt(i)) != -1){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	@Override
+	public String toString(){
+		return "regex(" + StringUtils.quote(pattern.pattern()) + ", " + StringUtils.quote(replacement) + ")";
+	}
 
 }
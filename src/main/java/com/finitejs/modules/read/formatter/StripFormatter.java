@@ -0,0 +1,64 @@
+package com.finitejs.modules.read.formatter;
+
+import com.finitejs.modules.read.InputFormatter;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * 
+ * Input formatter that removes all occurrences of specified characters.
+ * <p>
+ * Example :
+ * <pre>
+ * InputFormatter formatter = new StripFormatter("$,");
+ * </pre>
+ * Above {@code formatter} can be used to convert value {@code $1,200} to {@code 1200}.
+ * </p>
+ * 
+ */
+public class StripFormatter implements InputFormatter{
+
+	/** Characters to remove */
+	private String characters;
+	
+	/**
+	 * Creates a new {@code StripFormatter} with characters to remove.
+	 * 
+	 * @param characters  characters to remove
+	 */
+	public StripFormatter(String characters){
+		this.characters = characters != null ? characters : "";
+	}
+	
+	@Override
+	public String format(String inputValue) {
+		if (inputValue == null){
+			return null;
+		}
+		
+		// find first character to remove
+		int index = 0;
+		while (index < inputValue.length() && characters.indexOf(inputValue.charAt(index)) == -1){
+			index++;
+		}
+		if (index == inputValue.length()){
+			return inputValue;
+		}
+		
+		StringBuilder result = new StringBuilder(inputValue.length());
+		result.append(inputValue, 0, index);
+		for (int i = index + 1; i < inputValue.length(); i++){
+			char c = inputValue.charAt(i);
+			if (characters.indexOf(c) == -1){
+				result.append(c);
+			}
+		}
+		
+		return result.toString();
+	}
+	
+	@Override
+	public String toString(){
+		return "strip(" + StringUtils.quote(characters) + ")";
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.finitejs.modules.read.formatter;
+
+import com.finitejs.modules.read.InputFormatter;
+
+/**
+ * 
+ * Input formatter that removes leading and trailing whitespaces.
+ * 
+ */
+public class TrimFormatter implements InputFormatter{
+
+	@Override
+	public String format(String inputValue) {
+		return inputValue != null ? inputValue.trim() : null;
+	}
+	
+	@Override
+	public String toString(){
+		return "trim";
+	}
+
+}
@@ -0,0 +1,283 @@
+package com.finitejs.modules.read.storage;
+
+import java.util.Arrays;
+
+/**
+ * Column storage for booleans as bits, with a separate bitmap of null
+ * values, so that each value takes two bits. Can store any boolean or null.
+ * <p>
+ * Values are counted and combined a word of 64 values at a time. Combining
+ * storages follows three-valued logic, a null value is unknown: false AND
+ * null is false, true OR null is true, other combinations with null are null.
+ * </p>
+ */
+public class BooleanStorage extends ColumnStorage<Boolean>{
+
+	/** Constant for initial capacity in words */
+	private static final int INITIAL_WORD_COUNT = 1;
+	
+	/** Bitmap with a set bit for each true value */
+	private long[] valueBits;
+	
+	/** Bitmap with a set bit for each null value */
+	private long[] nullBits;
+	
+	/** Number of values */
+	private int size;
+	
+	/**
+	 * Creates a new empty {@code BooleanStorage}.
+	 */
+	public BooleanStorage(){
+		valueBits = new long[INITIAL_WORD_COUNT];
+		nullBits = new long[INITIAL_WORD_COUNT];
+	}
+	
+	/**
+	 * Creates a new {@code BooleanStorage} with bitmaps.
+	 * 
+	 * @param valueBits  bitmap of true values
+	 * @param nullBits  bitmap of null values
+	 * @param size  number of values
+	 */
+	private BooleanStorage(long[] valueBits, long[] nullBits, int size){
+		this.valueBits = valueBits;
+		this.nullBits = nullBits;
+		this.size = size;
+		clearUnusedBits();
+	}
+	
+	@Override
+	public boolean add(Boolean value){
+		ensureCapacity(size + 1);
+		if (value == null){
+			nullBits[size >>> 6] |= 1L << size;
+		}else if (value){
+			valueBits[size >>> 6] |= 1L << size;
+		}
+		size++;
+		return true;
+	}
+	
+	@Override
+	public Boolean set(int index, Boolean value){
+		Boolean previousValue = get(index);
+		
+		int word = index >>> 6;
+		long bit = 1L << index;
+		nullBits[word] &= ~bit;
+		valueBits[word] &= ~bit;
+		if (value == null){
+			nullBits[word] |= bit;
+		}else if (value){
+			valueBits[word] |= bit;
+		}
+		
+		return previousValue;
+	}
+	
+	@Override
+	public Boolean get(int index){
+		return isNull(index) ? null : getBoolean(index);
+	}
+	
+	/**
+	 * Returns value at specified row index without boxing.
+	 * 
+	 * @param index  position of the value
+	 * @return true if value is true, false if false or null
+	 */
+	public boolean getBoolean(int index){
+		checkIndex(index);
+		return (valueBits[index >>> 6] & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Checks whether value at specified row index is null.
+	 * 
+	 * @param index  position of the value
+	 * @return true if null, else false
+	 */
+	public boolean isNull(int index){
+		checkIndex(index);
+		return (nullBits[index >>> 6] & (1L << index)) != 0;
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Returns number of true values.
+	 * 
+	 * @return true count
+	 */
+	public int countTrue(){
+		return countBits(valueBits);
+	}
+	
+	/**
+	 * Returns number of null values.
+	 * 
+	 * @return null count
+	 */
+	public int countNull(){
+		return countBits(nullBits);
+	}
+	
+	/**
+	 * Returns number of false values.
+	 * 
+	 * @return false count
+	 */
+	public int countFalse(){
+		return size - countTrue() - countNull();
+	}
+	
+	/**
+	 * Returns a new storage with values of this AND another storage.
+	 * 
+	 * @param other  storage with same number of values
+	 * @return combined storage
+	 * @throws IllegalArgumentException if sizes are different
+	 */
+	public BooleanStorage and(BooleanStorage other){
+		checkSize(other);
+		
+		int wordCount = getWordCount(size);
+		long[] resultValueBits = new long[wordCount];
+		long[] resultNullBits = new long[wordCount];
+		for (int i = 0; i < wordCount; i++){
+			long trueBits = valueBits[i] & other.valueBits[i];
+			long falseBits = getFalseBits(i) | other.getFalseBits(i);
+			resultValueBits[i] = trueBits;
+			resultNullBits[i] = ~(trueBits | falseBits);
+		}
+		
+		return new BooleanStorage(resultValueBits, resultNullBits, size);
+	}
+	
+	/**
+	 * Returns a new storage with values of this OR another storage.
+	 * 
+	 * @param other  storage with same number of values
+	 * @return combined storage
+	 * @throws IllegalArgumentException if sizes are different
+	 */
+	public BooleanStorage or(BooleanStorage other){
+		checkSize(other);
+		
+		int wordCount = getWordCount(size);
+		long[] resultValueBits = new long[wordCount];
+		long[] resultNullBits = new long[wordCount];
+		for (int i = 0; i < wordCount; i++){
+			long trueBits = valueBits[i] | other.valueBits[i];
+			long falseBits = getFalseBits(i) & other.getFalseBits(i);
+			resultValueBits[i] = trueBits;
+			resultNullBits[i] = ~(trueBits | falseBits);
+		}
+		
+		return new BooleanStorage(resultValueBits, resultNullBits, size);
+	}
+	
+	/**
+	 * Returns a new storage with values of NOT this storage,
+	 * null values remain null.
+	 * 
+	 * @return negated storage
+	 */
+	public BooleanStorage not(){
+		int wordCount = getWordCount(size);
+		long[] resultValueBits = new long[wordCount];
+		long[] resultNullBits = Arrays.copyOf(nullBits, wordCount);
+		for (int i = 0; i < wordCount; i++){
+			resultValueBits[i] = getFalseBits(i);
+		}
+		
+		return new BooleanStorage(resultValueBits, resultNullBits, size);
+	}
+	
+	/**
+	 * Returns bits of false values in a word.
+	 * 
+	 * @param word  index of the word
+	 * @return bitmap word with a set bit for each false value
+	 */
+	private long getFalseBits(int word){
+		return ~(valueBits[word] | nullBits[word]);
+	}
+	
+	/**
+	 * Clears bits after the last value, which are set by combinations.
+	 */
+	private void clearUnusedBits(){
+		int usedBits = size & 63;
+		if (usedBits != 0){
+			long mask = (1L << usedBits) - 1;
+			valueBits[size >>> 6] &= mask;
+			nullBits[size >>> 6] &= mask;
+		}
+	}
+	
+	/**
+	 * Checks whether another storage has same number of values.
+	 * 
+	 * @param other  storage to check
+	 */
+	private void checkSize(BooleanStorage other){
+		if (other.size != size){
+			throw new IllegalArgumentException("Storages have different sizes");
+		}
+	}
+	
+	/**
+	 * Checks whether an index is within the stored values.
+	 * 
+	 * @param index  index to check
+	 */
+	private void checkIndex(int index){
+		if (index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+	
+	/**
+	 * Grows bitmaps to hold at least specified number of values.
+	 * 
+	 * @param capacity  minimum capacity
+	 */
+	private void ensureCapacity(int capacity){
+		int wordCount = getWordCount(capacity);
+		if (wordCount > valueBits.length){
+			int newWordCount = Math.max(wordCount, valueBits.length + (valueBits.length >> 1) + 1);
+			valueBits = Arrays.copyOf(valueBits, newWordCount);
+			nullBits = Arrays.copyOf(nullBits, newWordCount);
+		}
+	}
+	
+	/**
+	 * Returns number of set bits in a bitmap.
+	 * 
+	 * @param bits  bitmap
+	 * @return number of set bits
+	 */
+	private static int countBits(long[] bits){
+		int count = 0;
+		for (long word : bits){
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+	
+	/**
+	 * Returns number of bitmap words required for specified number of values.
+	 * 
+	 * @param capacity  number of values
+	 * @return number of words
+	 */
+	private static int getWordCount(int capacity){
+		return (capacity + 63) >>> 6;
+	}
+
+}
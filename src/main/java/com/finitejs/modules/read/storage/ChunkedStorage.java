@@ -0,0 +1,344 @@
+package com.finitejs.modules.read.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Column storage that keeps values in a list of chunks, each chunk is a
+ * storage of at most {@link #CHUNK_SIZE} values. Values are appended to the
+ * last chunk and a new chunk is started when it is full, so that values are
+ * never copied to a larger array as the storage grows.
+ * <p>
+ * Chunks are created with a chunk factory, a chunk that cannot store a value
+ * is replaced with a storage of objects, so that any value can be stored.
+ * Large chunks of another chunked storage are appended without copying by
+ * sharing them, see {@link #addAll(ChunkedStorage)}, and a shared chunk is
+ * copied only before it is modified.
+ * </p>
+ * <p>
+ * Chunks can be read independently, for example by different threads,
+ * see {@link #getChunk(int)} and {@link #getChunkStart(int)}. Chunk of a
+ * row is found with a shift while all chunks except the last are full,
+ * else by searching row indexes of first values of chunks, starting with
+ * the chunk found last so that reading rows in order does not search.
+ * </p>
+ *
+ * @param <T>  type of stored values
+ */
+public class ChunkedStorage<T> extends ColumnStorage<T>{
+
+	/** Constant for shift of a row index to position of its chunk, when chunks are full */
+	static final int CHUNK_SHIFT = 16;
+	
+	/**
+	 * Constant for maximum number of values in a chunk.
+	 */
+	public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	
+	/** Constant for minimum size of a chunk of another storage to share it */
+	private static final int MIN_SHARED_CHUNK_SIZE = CHUNK_SIZE / 2;
+	
+	/** Constant for initial capacity of chunk start array */
+	private static final int INITIAL_CHUNK_COUNT = 4;
+	
+	/** Factory of storages for new chunks */
+	private Supplier<? extends ColumnStorage<T>> chunkFactory;
+	
+	/** Chunks in row order */
+	private List<Chunk<T>> chunks;
+	
+	/** Row index of first value of each chunk */
+	private int[] chunkStarts;
+	
+	/** Whether all chunks except the last are full */
+	private boolean isAligned;
+	
+	/** Number of values */
+	private int size;
+	
+	/** Position of the chunk found by last search, when chunks are not full */
+	private int recentChunkIndex;
+	
+	/**
+	 * Creates a new empty {@code ChunkedStorage}.
+	 * 
+	 * @param chunkFactory  factory of empty storages for new chunks
+	 */
+	public ChunkedStorage(Supplier<? extends ColumnStorage<T>> chunkFactory){
+		this.chunkFactory = chunkFactory;
+		chunks = new ArrayList<>();
+		chunkStarts = new int[INITIAL_CHUNK_COUNT];
+		isAligned = true;
+	}
+	
+	/**
+	 * Creates a new {@code ChunkedStorage} with values of a collection.
+	 * 
+	 * @param chunkFactory  factory of empty storages for new chunks
+	 * @param values  values to store
+	 */
+	public ChunkedStorage(Supplier<? extends ColumnStorage<T>> chunkFactory, Collection<? extends T> values){
+		this(chunkFactory);
+		for (T value : values){
+			add(value);
+		}
+	}
+	
+	@Override
+	public boolean add(T value){
+		Chunk<T> chunk = chunks.get(getAppendChunkIndex());
+		if (!chunk.storage.accepts(value)){
+			chunk.storage = new ObjectStorage<>(chunk.storage);
+		}
+		chunk.storage.add(value);
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Parses a number from a part of a character sequence and adds it 
+	 * without boxing, if the chunk values are appended to stores numbers.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return true if added, false if last chunk does not store numbers
+	 */
+	public boolean addNumber(CharSequence source, int offset, int length){
+		ColumnStorage<T> storage = chunks.get(getAppendChunkIndex()).storage;
+		if (storage instanceof NumberStorage){
+			((NumberStorage) storage).add(source, offset, length);
+		}else if (storage instanceof DirectNumberStorage){
+			((DirectNumberStorage) storage).add(source, offset, length);
+		}else{
+			return false;
+		}
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Adds all values of another chunked storage. Chunks of at least half
+	 * of {@link #CHUNK_SIZE} values are shared by both storages, values
+	 * of smaller chunks are copied.
+	 * 
+	 * @param other  storage with values to add
+	 */
+	public void addAll(ChunkedStorage<T> other){
+		
+		// copy of the list, in case other storage is this storage
+		List<Chunk<T>> otherChunks = new ArrayList<>(other.chunks);
+		for (Chunk<T> otherChunk : otherChunks){
+			int otherSize = otherChunk.storage.size();
+			if (otherSize >= MIN_SHARED_CHUNK_SIZE){
+				otherChunk.isShared = true;
+				addChunk(otherChunk);
+			}else{
+				int from = 0;
+				while (from < otherSize){
+					Chunk<T> chunk = chunks.get(getAppendChunkIndex());
+					int to = Math.min(otherSize, from + CHUNK_SIZE - chunk.storage.size());
+					copyValues(chunk, otherChunk.storage, from, to);
+					size += to - from;
+					from = to;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds a storage as a new chunk after the last chunk, without copying 
+	 * its values. Storage should have at most {@link #CHUNK_SIZE} values, 
+	 * and should not be modified after.
+	 * 
+	 * @param storage  storage with values of the chunk
+	 * @throws IllegalArgumentException if storage has too many values
+	 */
+	public void addChunk(ColumnStorage<T> storage){
+		if (storage.size() > CHUNK_SIZE){
+			throw new IllegalArgumentException("Chunk cannot have more than " + CHUNK_SIZE + " values");
+		}
+		addChunk(new Chunk<>(storage));
+	}
+	
+	@Override
+	public T set(int index, T value){
+		int chunkIndex = getChunkIndex(index);
+		Chunk<T> chunk = chunks.get(chunkIndex);
+		if (chunk.isShared){
+			Chunk<T> copiedChunk = new Chunk<>(chunkFactory.get());
+			copyValues(copiedChunk, chunk.storage, 0, chunk.storage.size());
+			chunks.set(chunkIndex, copiedChunk);
+			chunk = copiedChunk;
+		}
+		
+		if (!chunk.storage.accepts(value)){
+			chunk.storage = new ObjectStorage<>(chunk.storage);
+		}
+		return chunk.storage.set(index - chunkStarts[chunkIndex], value);
+	}
+	
+	@Override
+	public T get(int index){
+		int chunkIndex = getChunkIndex(index);
+		return chunks.get(chunkIndex).storage.get(index - chunkStarts[chunkIndex]);
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Returns number of chunks.
+	 * 
+	 * @return chunk count
+	 */
+	public int getChunkCount(){
+		return chunks.size();
+	}
+	
+	/**
+	 * Returns storage of a chunk. Returned storage should only be read,
+	 * it may be shared with another chunked storage.
+	 * 
+	 * @param chunkIndex  position of the chunk
+	 * @return storage with values of the chunk
+	 */
+	public ColumnStorage<T> getChunk(int chunkIndex){
+		return chunks.get(chunkIndex).storage;
+	}
+	
+	/**
+	 * Returns row index of first value of a chunk.
+	 * 
+	 * @param chunkIndex  position of the chunk
+	 * @return row index in this storage
+	 */
+	public int getChunkStart(int chunkIndex){
+		if (chunkIndex < 0 || chunkIndex >= chunks.size()){
+			throw new IndexOutOfBoundsException("Index: " + chunkIndex + ", Size: " + chunks.size());
+		}
+		return chunkStarts[chunkIndex];
+	}
+	
+	/**
+	 * Returns position of the chunk with value at specified row index.
+	 * 
+	 * @param index  position of the value
+	 * @return position of the chunk
+	 */
+	public int getChunkIndex(int index){
+		if (index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		
+		if (isAligned){
+			return index >>> CHUNK_SHIFT;
+		}
+		
+		// rows are mostly read in order, so check the last chunk found first
+		int chunkIndex = recentChunkIndex;
+		if (index >= chunkStarts[chunkIndex] && 
+				(chunkIndex + 1 == chunks.size() || index < chunkStarts[chunkIndex + 1])){
+			return chunkIndex;
+		}
+		
+		chunkIndex = Arrays.binarySearch(chunkStarts, 0, chunks.size(), index);
+		if (chunkIndex < 0){
+			chunkIndex = -chunkIndex - 2;
+		}else{
+			// skip empty chunks that start at same row
+			while (chunkIndex + 1 < chunks.size() && chunkStarts[chunkIndex + 1] == index){
+				chunkIndex++;
+			}
+		}
+		recentChunkIndex = chunkIndex;
+		return chunkIndex;
+	}
+	
+	/**
+	 * Returns position of the last chunk, after starting a new chunk
+	 * if there are no chunks, or last chunk is full or shared.
+	 * 
+	 * @return position of a chunk with space for a value
+	 */
+	private int getAppendChunkIndex(){
+		int lastChunkIndex = chunks.size() - 1;
+		if (lastChunkIndex < 0 || chunks.get(lastChunkIndex).isShared ||
+				chunks.get(lastChunkIndex).storage.size() >= CHUNK_SIZE){
+			addChunk(new Chunk<>(chunkFactory.get()));
+			lastChunkIndex++;
+		}
+		return lastChunkIndex;
+	}
+	
+	/**
+	 * Adds a chunk after the last chunk.
+	 * 
+	 * @param chunk  chunk to add
+	 */
+	private void addChunk(Chunk<T> chunk){
+		if (!chunks.isEmpty() && size != chunks.size() * CHUNK_SIZE){
+			isAligned = false;
+		}
+		
+		if (chunks.size() == chunkStarts.length){
+			chunkStarts = Arrays.copyOf(chunkStarts, chunkStarts.length * 2);
+		}
+		chunkStarts[chunks.size()] = size;
+		chunks.add(chunk);
+		size += chunk.storage.size();
+	}
+	
+	/**
+	 * Copies a range of values of a storage to a chunk.
+	 * 
+	 * @param chunk  chunk to copy values to, not shared
+	 * @param source  storage with values to copy
+	 * @param from  position of first value to copy
+	 * @param to  position after last value to copy
+	 */
+	private static <T> void copyValues(Chunk<T> chunk, ColumnStorage<T> source, int from, int to){
+		if (chunk.storage instanceof NumberStorage && source instanceof NumberStorage){
+			((NumberStorage) chunk.storage).addAll((NumberStorage) source, from, to);
+			return;
+		}
+		
+		for (int i = from; i < to; i++){
+			T value = source.get(i);
+			if (!chunk.storage.accepts(value)){
+				chunk.storage = new ObjectStorage<>(chunk.storage);
+			}
+			chunk.storage.add(value);
+		}
+	}
+	
+	/**
+	 * Chunk of values with a flag that is set when the chunk
+	 * is shared by two storages.
+	 * 
+	 * @param <T>  type of stored values
+	 */
+	private static class Chunk<T>{
+		
+		/** Storage with values of the chunk */
+		private ColumnStorage<T> storage;
+		
+		/** Whether chunk is shared, and should not be modified */
+		private boolean isShared;
+		
+		/**
+		 * Creates a new unshared chunk.
+		 * 
+		 * @param storage  storage with values of the chunk
+		 */
+		private Chunk(ColumnStorage<T> storage){
+			this.storage = storage;
+		}
+	}
+
+}
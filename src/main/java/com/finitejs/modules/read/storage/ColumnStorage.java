@@ -0,0 +1,34 @@
+package com.finitejs.modules.read.storage;
+
+import java.util.AbstractList;
+
+/**
+ * Base class for storing values of a {@link com.finitejs.modules.read.Column}.
+ * Storage is a list, values are appended with {@code add} and can be 
+ * replaced with {@code set}, other modifications are not supported.
+ * <p>
+ * Some storages keep values in a compact form and can store only a subset 
+ * of values, {@link #accepts(Object)} should be checked before adding a value.
+ * </p>
+ * 
+ * @param <T>  type of stored values
+ */
+public abstract class ColumnStorage<T> extends AbstractList<T>{
+
+	/**
+	 * Checks whether a value can be added to this storage.
+	 * 
+	 * @param value  value to check
+	 * @return true if value can be stored, else false
+	 */
+	public boolean accepts(T value){
+		return true;
+	}
+	
+	@Override
+	public abstract boolean add(T value);
+	
+	@Override
+	public abstract T set(int index, T value);
+	
+}
@@ -0,0 +1,53 @@
+package com.finitejs.modules.read.storage;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Column storage for dates as {@code int} days since epoch.
+ * Dates with more days than an {@code int} can hold are not accepted.
+ */
+public class DateStorage extends TemporalStorage<LocalDate>{
+
+	/** Days since epoch in row order */
+	private int[] epochDays;
+	
+	/**
+	 * Creates a new empty {@code DateStorage}.
+	 */
+	public DateStorage(){
+		epochDays = new int[INITIAL_CAPACITY];
+	}
+	
+	@Override
+	public long getLong(int index){
+		return epochDays[index];
+	}
+	
+	@Override
+	protected boolean canEncode(LocalDate value){
+		long epochDay = value.toEpochDay();
+		return epochDay >= Integer.MIN_VALUE && epochDay <= Integer.MAX_VALUE;
+	}
+	
+	@Override
+	protected void setValue(int index, LocalDate value){
+		epochDays[index] = (int) value.toEpochDay();
+	}
+	
+	@Override
+	protected LocalDate getValue(int index){
+		return LocalDate.ofEpochDay(epochDays[index]);
+	}
+	
+	@Override
+	protected int getCapacity(){
+		return epochDays.length;
+	}
+	
+	@Override
+	protected void grow(int capacity){
+		epochDays = Arrays.copyOf(epochDays, capacity);
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.finitejs.modules.read.storage;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Column storage for date-times as {@code long} microseconds since epoch,
+ * taking date-times as UTC. Date-times with nanoseconds, or out of the
+ * range of microseconds an {@code long} can hold, are not accepted.
+ */
+public class DateTimeStorage extends TemporalStorage<LocalDateTime>{
+
+	/** Microseconds since epoch in row order */
+	private long[] epochMicros;
+	
+	/**
+	 * Creates a new empty {@code DateTimeStorage}.
+	 */
+	public DateTimeStorage(){
+		epochMicros = new long[INITIAL_CAPACITY];
+	}
+	
+	@Override
+	public long getLong(int index){
+		return epochMicros[index];
+	}
+	
+	@Override
+	protected boolean canEncode(LocalDateTime value){
+		return isMicrosInRange(value.toEpochSecond(ZoneOffset.UTC), value.getNano());
+	}
+	
+	@Override
+	protected void setValue(int index, LocalDateTime value){
+		epochMicros[index] = toMicros(value.toEpochSecond(ZoneOffset.UTC), value.getNano());
+	}
+	
+	@Override
+	protected LocalDateTime getValue(int index){
+		long micros = epochMicros[index];
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1000000L), 
+				(int) Math.floorMod(micros, 1000000L) * 1000, ZoneOffset.UTC);
+	}
+	
+	@Override
+	protected int getCapacity(){
+		return epochMicros.length;
+	}
+	
+	@Override
+	protected void grow(int capacity){
+		epochMicros = Arrays.copyOf(epochMicros, capacity);
+	}
+	
+	/**
+	 * Checks whether a time since epoch can be stored as microseconds 
+	 * without losing precision.
+	 * 
+	 * @param epochSecond  seconds since epoch
+	 * @param nano  nanoseconds of second
+	 * @return true if microseconds fit in a {@code long}, else false
+	 */
+	static boolean isMicrosInRange(long epochSecond, int nano){
+		return nano % 1000 == 0 && 
+				epochSecond > Long.MIN_VALUE / 1000000L && epochSecond < Long.MAX_VALUE / 1000000L;
+	}
+	
+	/**
+	 * Returns microseconds since epoch of a time in range.
+	 * 
+	 * @param epochSecond  seconds since epoch
+	 * @param nano  nanoseconds of second
+	 * @return microseconds since epoch
+	 */
+	static long toMicros(long epochSecond, int nano){
+		return epochSecond * 1000000L + nano / 1000;
+	}
+
+}
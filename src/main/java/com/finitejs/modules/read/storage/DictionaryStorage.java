@@ -0,0 +1,367 @@
+package com.finitejs.modules.read.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Column storage for strings with few distinct values. Each distinct value 
+ * is stored once in a dictionary and rows store only a code of the value.
+ * <p>
+ * Code {@code 0} represents null, and code {@code n} represents 
+ * n<sup>th</sup> value in dictionary. Codes are stored as {@code char} values, 
+ * so that the dictionary can have at most {@link #MAX_DICTIONARY_SIZE} values.
+ * Values that would exceed the limit are not accepted.
+ * </p>
+ */
+public class DictionaryStorage extends ColumnStorage<String>{
+
+	/**
+	 * Constant for maximum number of distinct values in dictionary.
+	 */
+	public static final int MAX_DICTIONARY_SIZE = Character.MAX_VALUE;
+	
+	/** Constant for initial capacity of code array */
+	private static final int INITIAL_CAPACITY = 16;
+	
+	/** Distinct values in code order */
+	private List<String> dictionary;
+	
+	/** Open addressing hash table with codes of dictionary values, 0 if empty */
+	private int[] slots;
+	
+	/** Codes of values in row order, in chunks of {@link ChunkedStorage#CHUNK_SIZE} codes */
+	private char[][] codeChunks;
+	
+	/** Number of values */
+	private int size;
+	
+	/**
+	 * Creates a new empty {@code DictionaryStorage}.
+	 */
+	public DictionaryStorage(){
+		dictionary = new ArrayList<>();
+		slots = new int[INITIAL_CAPACITY];
+		codeChunks = new char[][]{new char[INITIAL_CAPACITY]};
+	}
+	
+	@Override
+	public boolean accepts(String value){
+		return value == null || dictionary.size() < MAX_DICTIONARY_SIZE || findCode(value) != 0;
+	}
+	
+	@Override
+	public boolean add(String value){
+		int code = getOrAddCode(value);
+		if (code < 0){
+			throw new IllegalStateException("Dictionary is full");
+		}
+		
+		appendCode(code);
+		return true;
+	}
+	
+	/**
+	 * Adds a value from a part of a character sequence, without creating 
+	 * a string if the value is already in dictionary.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return true if added, false if dictionary is full
+	 */
+	public boolean add(CharSequence source, int offset, int length){
+		int hash = hash(source, offset, length);
+		int mask = slots.length - 1;
+		
+		int index = hash & mask;
+		while (slots[index] != 0){
+			String value = dictionary.get(slots[index] - 1);
+			if (regionEquals(value, source, offset, length)){
+				appendCode(slots[index]);
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		
+		if (dictionary.size() >= MAX_DICTIONARY_SIZE){
+			return false;
+		}
+		
+		appendCode(addValue(source.subSequence(offset, offset + length).toString(), index));
+		return true;
+	}
+	
+	/**
+	 * Adds all values of another dictionary storage by mapping its codes 
+	 * to codes of this dictionary.
+	 * 
+	 * @param other  storage with values to add
+	 * @return true if added, false if dictionary is full and nothing is added
+	 */
+	public boolean addAll(DictionaryStorage other){
+		
+		// check size first, so that nothing is added if full
+		int newValueCount = 0;
+		for (String value : other.dictionary){
+			if (findCode(value) == 0){
+				newValueCount++;
+			}
+		}
+		
+		if (dictionary.size() + newValueCount > MAX_DICTIONARY_SIZE){
+			return false;
+		}
+		
+		char[] codeMap = new char[other.dictionary.size() + 1];
+		for (int i = 0; i < other.dictionary.size(); i++){
+			codeMap[i + 1] = (char) getOrAddCode(other.dictionary.get(i));
+		}
+		
+		ensureCapacity(size + other.size);
+		for (int i = 0; i < other.size; i++){
+			setCode(size++, codeMap[other.getCode(i)]);
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public String set(int index, String value){
+		String previousValue = get(index);
+		
+		int code = getOrAddCode(value);
+		if (code < 0){
+			throw new IllegalStateException("Dictionary is full");
+		}
+		
+		setCode(index, code);
+		return previousValue;
+	}
+	
+	@Override
+	public String get(int index){
+		int code = getCode(index);
+		return code == 0 ? null : dictionary.get(code - 1);
+	}
+	
+	/**
+	 * Returns code of the value at specified row index.
+	 * 
+	 * @param index  position of the value
+	 * @return code of the value, 0 if null
+	 */
+	public int getCode(int index){
+		if (index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return codeChunks[index >>> ChunkedStorage.CHUNK_SHIFT][index & (ChunkedStorage.CHUNK_SIZE - 1)];
+	}
+	
+	/**
+	 * Returns distinct values in code order, first value has code 1.
+	 * 
+	 * @return dictionary values
+	 */
+	public List<String> getDictionary(){
+		return Collections.unmodifiableList(dictionary);
+	}
+	
+	/**
+	 * Returns number of rows of each code.
+	 * 
+	 * @return counts indexed by code, including code 0 for nulls
+	 */
+	public int[] getCodeCounts(){
+		int[] counts = new int[dictionary.size() + 1];
+		for (int chunkIndex = 0; chunkIndex << ChunkedStorage.CHUNK_SHIFT < size; chunkIndex++){
+			char[] codes = codeChunks[chunkIndex];
+			int chunkSize = Math.min(ChunkedStorage.CHUNK_SIZE, size - (chunkIndex << ChunkedStorage.CHUNK_SHIFT));
+			for (int i = 0; i < chunkSize; i++){
+				counts[codes[i]]++;
+			}
+		}
+		return counts;
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Returns code of the value, adds value to dictionary if not present.
+	 * 
+	 * @param value  value to find
+	 * @return code of the value, -1 if not present and dictionary is full
+	 */
+	private int getOrAddCode(String value){
+		if (value == null){
+			return 0;
+		}
+		
+		int mask = slots.length - 1;
+		int index = spread(value.hashCode()) & mask;
+		while (slots[index] != 0){
+			if (value.equals(dictionary.get(slots[index] - 1))){
+				return slots[index];
+			}
+			index = (index + 1) & mask;
+		}
+		
+		if (dictionary.size() >= MAX_DICTIONARY_SIZE){
+			return -1;
+		}
+		
+		return addValue(value, index);
+	}
+	
+	/**
+	 * Returns code of the value.
+	 * 
+	 * @param value  value to find
+	 * @return code of the value, 0 if not present
+	 */
+	private int findCode(String value){
+		int mask = slots.length - 1;
+		int index = spread(value.hashCode()) & mask;
+		while (slots[index] != 0){
+			if (value.equals(dictionary.get(slots[index] - 1))){
+				return slots[index];
+			}
+			index = (index + 1) & mask;
+		}
+		return 0;
+	}
+	
+	/**
+	 * Adds a new value to dictionary at an empty hash table slot.
+	 * 
+	 * @param value  value to add
+	 * @param slotIndex  index of empty slot for the value
+	 * @return code of the value
+	 */
+	private int addValue(String value, int slotIndex){
+		dictionary.add(value);
+		int code = dictionary.size();
+		slots[slotIndex] = code;
+		
+		// at most half of the slots used
+		if (dictionary.size() * 2 > slots.length){
+			rehash(slots.length * 2);
+		}
+		
+		return code;
+	}
+	
+	/**
+	 * Rebuilds hash table with a new capacity.
+	 * 
+	 * @param capacity  new number of slots, power of two
+	 */
+	private void rehash(int capacity){
+		slots = new int[capacity];
+		int mask = capacity - 1;
+		for (int code = 1; code <= dictionary.size(); code++){
+			int index = spread(dictionary.get(code - 1).hashCode()) & mask;
+			while (slots[index] != 0){
+				index = (index + 1) & mask;
+			}
+			slots[index] = code;
+		}
+	}
+	
+	/**
+	 * Appends a code to code chunks.
+	 * 
+	 * @param code  code to append
+	 */
+	private void appendCode(int code){
+		ensureCapacity(size + 1);
+		setCode(size++, code);
+	}
+	
+	/**
+	 * Replaces code at specified row index, within capacity.
+	 * 
+	 * @param index  position of the code
+	 * @param code  new code
+	 */
+	private void setCode(int index, int code){
+		codeChunks[index >>> ChunkedStorage.CHUNK_SHIFT][index & (ChunkedStorage.CHUNK_SIZE - 1)] = (char) code;
+	}
+	
+	/**
+	 * Grows code chunks to hold at least specified number of codes. Only 
+	 * the last chunk grows by copying, other chunks are full.
+	 * 
+	 * @param capacity  minimum capacity
+	 */
+	private void ensureCapacity(int capacity){
+		int chunkCount = (capacity + ChunkedStorage.CHUNK_SIZE - 1) >>> ChunkedStorage.CHUNK_SHIFT;
+		if (chunkCount > codeChunks.length){
+			codeChunks = Arrays.copyOf(codeChunks, chunkCount);
+		}
+		
+		for (int i = size >>> ChunkedStorage.CHUNK_SHIFT; i < chunkCount; i++){
+			int length = Math.min(ChunkedStorage.CHUNK_SIZE, capacity - (i << ChunkedStorage.CHUNK_SHIFT));
+			char[] codes = codeChunks[i];
+			if (codes == null){
+				codeChunks[i] = new char[Math.min(ChunkedStorage.CHUNK_SIZE, Math.max(length, INITIAL_CAPACITY))];
+			}else if (length > codes.length){
+				codeChunks[i] = Arrays.copyOf(codes, Math.min(ChunkedStorage.CHUNK_SIZE, 
+						Math.max(length, codes.length + (codes.length >> 1))));
+			}
+		}
+	}
+	
+	/**
+	 * Returns spread hash code of a part of a character sequence, 
+	 * same as spread hash code of the string of those characters.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return hash code
+	 */
+	private static int hash(CharSequence source, int offset, int length){
+		int hash = 0;
+		for (int i = 0; i < length; i++){
+			hash = 31 * hash + source.charAt(offset + i);
+		}
+		return spread(hash);
+	}
+	
+	/**
+	 * Spreads higher bits of hash code to lower bits used as slot index.
+	 * 
+	 * @param hash  hash code
+	 * @return spread hash code
+	 */
+	private static int spread(int hash){
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * Checks whether a string is equal to a part of a character sequence.
+	 * 
+	 * @param value  string to compare
+	 * @param source  character sequence that contains the other value
+	 * @param offset  starting index of the other value in source
+	 * @param length  number of characters in the other value
+	 * @return true if equal, else false
+	 */
+	private static boolean regionEquals(String value, CharSequence source, int offset, int length){
+		if (value.length() != length){
+			return false;
+		}
+		for (int i = 0; i < length; i++){
+			if (value.charAt(i) != source.charAt(offset + i)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
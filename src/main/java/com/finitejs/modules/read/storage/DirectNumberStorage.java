@@ -0,0 +1,203 @@
+package com.finitejs.modules.read.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import com.finitejs.modules.read.util.NumberScanner;
+
+/**
+ * Column storage for numbers as {@code double} values in a direct buffer
+ * out of heap, with a separate bitmap of null values in heap. Used as chunks
+ * of columns in off-heap storage mode, so that values are stored out of heap
+ * as they are parsed. Can store any number or null.
+ * <p>
+ * Buffer grows by copying values to a larger direct buffer, at most to the
+ * size of a chunk. Values can be read without boxing like values of
+ * {@link NumberStorage}.
+ * </p>
+ */
+public class DirectNumberStorage extends ColumnStorage<Double>{
+
+	/** Constant for initial capacity of value buffer */
+	private static final int INITIAL_CAPACITY = 1024;
+	
+	/** Values in row order, 0 for null values */
+	private DoubleBuffer values;
+	
+	/** Bitmap with a set bit for each null value */
+	private long[] nullBits;
+	
+	/** Number of values */
+	private int size;
+	
+	/** Reusable scanner to parse values */
+	private NumberScanner scanner;
+	
+	/**
+	 * Creates a new empty {@code DirectNumberStorage}.
+	 */
+	public DirectNumberStorage(){
+		values = allocate(INITIAL_CAPACITY);
+		nullBits = new long[getWordCount(INITIAL_CAPACITY)];
+	}
+	
+	@Override
+	public boolean add(Double value){
+		ensureCapacity(size + 1);
+		if (value == null){
+			nullBits[size >>> 6] |= 1L << size;
+		}else{
+			values.put(size, value);
+		}
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Adds a non-null value without boxing.
+	 * 
+	 * @param value  value to add
+	 */
+	public void addDouble(double value){
+		ensureCapacity(size + 1);
+		values.put(size++, value);
+	}
+	
+	/**
+	 * Parses a number from a part of a character sequence and adds it,
+	 * invalid numbers are added as null.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 */
+	public void add(CharSequence source, int offset, int length){
+		if (scanner == null){
+			scanner = new NumberScanner();
+		}
+		
+		if (scanner.scan(source, offset, length)){
+			addDouble(scanner.getValue());
+		}else{
+			add((Double) null);
+		}
+	}
+	
+	@Override
+	public Double set(int index, Double value){
+		Double previousValue = get(index);
+		
+		int word = index >>> 6;
+		long bit = 1L << index;
+		if (value == null){
+			nullBits[word] |= bit;
+			values.put(index, 0);
+		}else{
+			nullBits[word] &= ~bit;
+			values.put(index, value);
+		}
+		
+		return previousValue;
+	}
+	
+	@Override
+	public Double get(int index){
+		return isNull(index) ? null : values.get(index);
+	}
+	
+	/**
+	 * Checks whether value at specified row index is null.
+	 * 
+	 * @param index  position of the value
+	 * @return true if null, else false
+	 */
+	public boolean isNull(int index){
+		if (index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return (nullBits[index >>> 6] & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Returns value at specified row index without boxing.
+	 * 
+	 * @param index  position of the value
+	 * @return value, or {@code NaN} if null
+	 */
+	public double getDouble(int index){
+		return isNull(index) ? Double.NaN : values.get(index);
+	}
+	
+	/**
+	 * Copies a range of values to an array, null values are copied as {@code NaN}.
+	 * 
+	 * @param from  position of first value to copy
+	 * @param to  position after last value to copy
+	 * @param destination  array to copy values to
+	 * @param offset  starting position in the array
+	 */
+	public void getDoubles(int from, int to, double[] destination, int offset){
+		if (from < 0 || to > size || from > to){
+			throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size);
+		}
+		
+		// buffer position is not shared with other readers
+		DoubleBuffer source = values.duplicate();
+		source.clear();
+		source.position(from);
+		source.get(destination, offset, to - from);
+		
+		for (int i = from; i < to; i++){
+			if ((nullBits[i >>> 6] & (1L << i)) != 0){
+				destination[offset + i - from] = Double.NaN;
+			}
+		}
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Grows value buffer and bitmap to hold at least specified number of values.
+	 * 
+	 * @param capacity  minimum capacity
+	 */
+	private void ensureCapacity(int capacity){
+		if (capacity > values.capacity()){
+			int newCapacity = Math.max(capacity, Math.min(ChunkedStorage.CHUNK_SIZE, values.capacity() * 2));
+			DoubleBuffer newValues = allocate(newCapacity);
+			DoubleBuffer source = values.duplicate();
+			source.clear();
+			source.limit(size);
+			newValues.put(source);
+			newValues.clear();
+			values = newValues;
+			nullBits = Arrays.copyOf(nullBits, getWordCount(newCapacity));
+		}
+	}
+	
+	/**
+	 * Allocates a direct buffer for values.
+	 * 
+	 * @param capacity  number of values
+	 * @return direct buffer in native byte order
+	 */
+	private static DoubleBuffer allocate(int capacity){
+		return ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+	}
+	
+	/**
+	 * Returns number of bitmap words required for specified number of values.
+	 * 
+	 * @param capacity  number of values
+	 * @return number of words
+	 */
+	private static int getWordCount(int capacity){
+		return (capacity + 63) >>> 6;
+	}
+
+}
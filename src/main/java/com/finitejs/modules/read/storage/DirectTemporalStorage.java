@@ -0,0 +1,134 @@
+package com.finitejs.modules.read.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Column storage for date and time values as {@code long} keys in a direct
+ * buffer out of heap, with the null bitmap of {@link TemporalStorage} in heap.
+ * Used as chunks of columns in off-heap storage mode, so that values are
+ * stored out of heap as they are parsed.
+ * <p>
+ * Keys are same as keys of the heap storages, days since epoch for dates,
+ * nanoseconds of day for times and microseconds since epoch for date-times,
+ * so that values not accepted by a heap storage are not accepted here either.
+ * Buffer grows by copying keys to a larger direct buffer, at most to the size
+ * of a chunk.
+ * </p>
+ *
+ * @param <T>  type of stored values
+ */
+public class DirectTemporalStorage<T> extends TemporalStorage<T>{
+
+	/** Constant for initial capacity of key buffer */
+	private static final int DIRECT_INITIAL_CAPACITY = 1024;
+	
+	/** Function that checks whether a non-null value can be encoded */
+	private final Predicate<T> canEncode;
+	
+	/** Function that converts a value to its key */
+	private final ToLongFunction<T> toKey;
+	
+	/** Function that converts a key to its value */
+	private final LongFunction<T> fromKey;
+	
+	/** Keys in row order */
+	private LongBuffer keys;
+	
+	/**
+	 * Creates a new empty {@code DirectTemporalStorage}.
+	 * 
+	 * @param canEncode  function that checks whether a non-null value can be encoded
+	 * @param toKey  function that converts a value to its key
+	 * @param fromKey  function that converts a key to its value
+	 */
+	public DirectTemporalStorage(Predicate<T> canEncode, ToLongFunction<T> toKey, LongFunction<T> fromKey){
+		this.canEncode = canEncode;
+		this.toKey = toKey;
+		this.fromKey = fromKey;
+	}
+	
+	/**
+	 * Creates a new empty storage for dates as days since epoch.
+	 * 
+	 * @return date storage
+	 */
+	public static DirectTemporalStorage<LocalDate> ofDates(){
+		return new DirectTemporalStorage<>(value -> true, LocalDate::toEpochDay, LocalDate::ofEpochDay);
+	}
+	
+	/**
+	 * Creates a new empty storage for times as nanoseconds of day.
+	 * 
+	 * @return time storage
+	 */
+	public static DirectTemporalStorage<LocalTime> ofTimes(){
+		return new DirectTemporalStorage<>(value -> true, LocalTime::toNanoOfDay, LocalTime::ofNanoOfDay);
+	}
+	
+	/**
+	 * Creates a new empty storage for date-times as microseconds since epoch,
+	 * taking date-times as UTC.
+	 * 
+	 * @return date-time storage
+	 */
+	public static DirectTemporalStorage<LocalDateTime> ofDateTimes(){
+		return new DirectTemporalStorage<>(
+				value -> DateTimeStorage.isMicrosInRange(value.toEpochSecond(ZoneOffset.UTC), value.getNano()),
+				value -> DateTimeStorage.toMicros(value.toEpochSecond(ZoneOffset.UTC), value.getNano()),
+				micros -> LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1000000L),
+						(int) Math.floorMod(micros, 1000000L) * 1000, ZoneOffset.UTC));
+	}
+	
+	@Override
+	public long getLong(int index){
+		return keys.get(index);
+	}
+	
+	@Override
+	protected boolean canEncode(T value){
+		return canEncode.test(value);
+	}
+	
+	@Override
+	protected void setValue(int index, T value){
+		keys.put(index, toKey.applyAsLong(value));
+	}
+	
+	@Override
+	protected T getValue(int index){
+		return fromKey.apply(keys.get(index));
+	}
+	
+	@Override
+	protected int getCapacity(){
+		// buffer is allocated when first value is added, as fields
+		// are not set when the constructor of base class runs
+		return keys == null ? 0 : keys.capacity();
+	}
+	
+	@Override
+	protected void grow(int capacity){
+		int newCapacity = keys == null ? Math.max(capacity, DIRECT_INITIAL_CAPACITY) :
+				Math.max(capacity, Math.min(ChunkedStorage.CHUNK_SIZE, keys.capacity() * 2));
+		LongBuffer newKeys = ByteBuffer.allocateDirect(newCapacity * Long.BYTES)
+				.order(ByteOrder.nativeOrder()).asLongBuffer();
+		if (keys != null){
+			LongBuffer source = keys.duplicate();
+			source.clear();
+			source.limit(size());
+			newKeys.put(source);
+			newKeys.clear();
+		}
+		keys = newKeys;
+	}
+
+}
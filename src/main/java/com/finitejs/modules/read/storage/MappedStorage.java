@@ -0,0 +1,192 @@
+package com.finitejs.modules.read.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only column storage for values in a block of a file, which is
+ * memory mapped when a value is accessed first. Columns that are never
+ * accessed are never mapped or read from disk.
+ * <p>
+ * Block starts with a null bitmap, with a set bit for each null value,
+ * followed by values in a layout decided by subclasses. Bitmap length
+ * is a multiple of 8 bytes, see {@link #getBitmapLength(int)}, so that
+ * values following it are aligned. Values are in little-endian byte order.
+ * </p>
+ * <p>
+ * Values cannot be added or replaced, {@link #accepts(Object)} returns false
+ * for all values, so that columns change to a modifiable storage before
+ * any modification.
+ * </p>
+ *
+ * @param <T>  type of stored values
+ */
+public abstract class MappedStorage<T> extends ColumnStorage<T>{
+
+	/** File that contains the block */
+	private final Path path;
+	
+	/** Starting byte position of the block in file */
+	private final long position;
+	
+	/** Number of bytes in the block */
+	private final long length;
+	
+	/** Number of values */
+	private final int size;
+	
+	/** Mapped block, or null if not mapped yet */
+	private volatile ByteBuffer block;
+	
+	/**
+	 * Creates a new {@code MappedStorage} for a block of a file.
+	 * 
+	 * @param path  file that contains the block
+	 * @param position  starting byte position of the block
+	 * @param length  number of bytes in the block
+	 * @param size  number of values
+	 */
+	protected MappedStorage(Path path, long position, long length, int size){
+		this.path = path;
+		this.position = position;
+		this.length = length;
+		this.size = size;
+	}
+	
+	@Override
+	public boolean accepts(T value){
+		return false;
+	}
+	
+	@Override
+	public boolean add(T value){
+		throw new UnsupportedOperationException("Mapped storage cannot be modified");
+	}
+	
+	@Override
+	public T set(int index, T value){
+		throw new UnsupportedOperationException("Mapped storage cannot be modified");
+	}
+	
+	@Override
+	public T get(int index){
+		if (index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		
+		ByteBuffer mappedBlock = getBlock();
+		if (getBit(mappedBlock, 0, index)){
+			return null;
+		}
+		return getValue(mappedBlock, index);
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Checks whether the block is mapped.
+	 * 
+	 * @return true if mapped, else false
+	 */
+	public boolean isMapped(){
+		return block != null;
+	}
+	
+	/**
+	 * Maps the block if not mapped yet. Mapping remains valid if the file
+	 * is deleted or replaced later.
+	 * 
+	 * @throws UncheckedIOException if error occurs when mapping file
+	 */
+	public void map(){
+		getBlock();
+	}
+	
+	/**
+	 * Returns the block, mapping it if not mapped yet.
+	 * 
+	 * @return mapped block
+	 * @throws UncheckedIOException if error occurs when mapping file
+	 */
+	protected ByteBuffer getBlock(){
+		ByteBuffer mappedBlock = block;
+		if (mappedBlock == null){
+			synchronized (this){
+				mappedBlock = block;
+				if (mappedBlock == null){
+					// mapping remains valid after channel is closed
+					try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+						mappedBlock = channel.map(FileChannel.MapMode.READ_ONLY, position, length)
+								.order(ByteOrder.LITTLE_ENDIAN);
+					}catch (IOException e){
+						throw new UncheckedIOException(e);
+					}
+					block = mappedBlock;
+				}
+			}
+		}
+		return mappedBlock;
+	}
+	
+	/**
+	 * Returns byte position of values in the block, after null bitmap.
+	 * 
+	 * @return byte position of values
+	 */
+	protected int getValuesPosition(){
+		return getBitmapLength(size);
+	}
+	
+	/**
+	 * Returns a non-null value from the mapped block.
+	 * 
+	 * @param mappedBlock  mapped block
+	 * @param index  position of the value
+	 * @return value at the position
+	 */
+	protected abstract T getValue(ByteBuffer mappedBlock, int index);
+	
+	/**
+	 * Returns length in bytes of a bitmap with one bit for each value,
+	 * rounded up to a multiple of 8 bytes.
+	 * 
+	 * @param size  number of values
+	 * @return bitmap length in bytes
+	 */
+	public static int getBitmapLength(int size){
+		return (int) (((size + 63L) / 64) * 8);
+	}
+	
+	/**
+	 * Checks whether bit of a value is set in a bitmap.
+	 * 
+	 * @param buffer  buffer that contains the bitmap
+	 * @param bitmapPosition  byte position of the bitmap in buffer
+	 * @param index  position of the value
+	 * @return true if bit is set, else false
+	 */
+	public static boolean getBit(ByteBuffer buffer, int bitmapPosition, int index){
+		return (buffer.get(bitmapPosition + (index >>> 3)) & (1 << (index & 7))) != 0;
+	}
+	
+	/**
+	 * Sets bit of a value in a bitmap.
+	 * 
+	 * @param buffer  buffer that contains the bitmap
+	 * @param bitmapPosition  byte position of the bitmap in buffer
+	 * @param index  position of the value
+	 */
+	public static void setBit(ByteBuffer buffer, int bitmapPosition, int index){
+		int bytePosition = bitmapPosition + (index >>> 3);
+		buffer.put(bytePosition, (byte) (buffer.get(bytePosition) | (1 << (index & 7))));
+	}
+
+}
@@ -0,0 +1,249 @@
+package com.finitejs.modules.read.storage;
+
+import java.util.Arrays;
+
+import com.finitejs.modules.read.util.NumberScanner;
+
+/**
+ * Column storage for numbers as primitive {@code double} values,
+ * with a separate bitmap of null values. Can store any number or null.
+ * <p>
+ * Values can be read without boxing using {@link #getDouble(int)} and
+ * {@link #getDoubles(int, int, double[], int)}, null values are read as
+ * {@code NaN} by these methods.
+ * </p>
+ */
+public class NumberStorage extends ColumnStorage<Double>{
+
+	/** Constant for initial capacity of value array */
+	private static final int INITIAL_CAPACITY = 16;
+	
+	/** Values in row order, 0 for null values */
+	private double[] values;
+	
+	/** Bitmap with a set bit for each null value */
+	private long[] nullBits;
+	
+	/** Number of values */
+	private int size;
+	
+	/** Reusable scanner to parse values */
+	private NumberScanner scanner;
+	
+	/**
+	 * Creates a new empty {@code NumberStorage}.
+	 */
+	public NumberStorage(){
+		values = new double[INITIAL_CAPACITY];
+		nullBits = new long[getWordCount(INITIAL_CAPACITY)];
+	}
+	
+	@Override
+	public boolean add(Double value){
+		ensureCapacity(size + 1);
+		if (value == null){
+			setNull(size);
+		}else{
+			values[size] = value;
+		}
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Adds a non-null value without boxing.
+	 * 
+	 * @param value  value to add
+	 */
+	public void addDouble(double value){
+		ensureCapacity(size + 1);
+		values[size++] = value;
+	}
+	
+	/**
+	 * Parses a number from a part of a character sequence and adds it,
+	 * invalid numbers are added as null.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 */
+	public void add(CharSequence source, int offset, int length){
+		if (scanner == null){
+			scanner = new NumberScanner();
+		}
+		
+		if (scanner.scan(source, offset, length)){
+			addDouble(scanner.getValue());
+		}else{
+			add((Double) null);
+		}
+	}
+	
+	/**
+	 * Adds all values of another number storage.
+	 * 
+	 * @param other  storage with values to add
+	 */
+	public void addAll(NumberStorage other){
+		addAll(other, 0, other.size);
+	}
+	
+	/**
+	 * Adds a range of values of another number storage.
+	 * 
+	 * @param other  storage with values to add
+	 * @param from  position of first value to add
+	 * @param to  position after last value to add
+	 */
+	public void addAll(NumberStorage other, int from, int to){
+		if (from < 0 || to > other.size || from > to){
+			throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + other.size);
+		}
+		
+		int count = to - from;
+		ensureCapacity(size + count);
+		System.arraycopy(other.values, from, values, size, count);
+		for (int i = 0; i < count; i++){
+			if (other.isNull(from + i)){
+				setNull(size + i);
+			}
+		}
+		size += count;
+	}
+	
+	@Override
+	public Double set(int index, Double value){
+		Double previousValue = get(index);
+		
+		int word = index >>> 6;
+		long bit = 1L << index;
+		if (value == null){
+			nullBits[word] |= bit;
+			values[index] = 0;
+		}else{
+			nullBits[word] &= ~bit;
+			values[index] = value;
+		}
+		
+		return previousValue;
+	}
+	
+	@Override
+	public Double get(int index){
+		return isNull(index) ? null : values[index];
+	}
+	
+	/**
+	 * Checks whether value at specified row index is null.
+	 * 
+	 * @param index  position of the value
+	 * @return true if null, else false
+	 */
+	public boolean isNull(int index){
+		checkIndex(index);
+		return (nullBits[index >>> 6] & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Returns value at specified row index without boxing.
+	 * 
+	 * @param index  position of the value
+	 * @return value, or {@code NaN} if null
+	 */
+	public double getDouble(int index){
+		return isNull(index) ? Double.NaN : values[index];
+	}
+	
+	/**
+	 * Copies a range of values to an array, null values are copied as {@code NaN}.
+	 * 
+	 * @param from  position of first value to copy
+	 * @param to  position after last value to copy
+	 * @param destination  array to copy values to
+	 * @param offset  starting position in the array
+	 */
+	public void getDoubles(int from, int to, double[] destination, int offset){
+		if (from < 0 || to > size || from > to){
+			throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size);
+		}
+		
+		if (from == to){
+			return;
+		}
+		
+		System.arraycopy(values, from, destination, offset, to - from);
+		
+		// only words with null values are checked bit by bit
+		for (int word = from >>> 6; word <= (to - 1) >>> 6; word++){
+			if (nullBits[word] != 0){
+				int start = Math.max(from, word << 6);
+				int end = Math.min(to, (word + 1) << 6);
+				for (int i = start; i < end; i++){
+					if ((nullBits[word] & (1L << i)) != 0){
+						destination[offset + i - from] = Double.NaN;
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns a copy of all values, null values are copied as {@code NaN}.
+	 * 
+	 * @return values in row order
+	 */
+	public double[] toDoubleArray(){
+		double[] array = new double[size];
+		getDoubles(0, size, array, 0);
+		return array;
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Marks value at specified row index as null.
+	 * 
+	 * @param index  position of the value
+	 */
+	private void setNull(int index){
+		nullBits[index >>> 6] |= 1L << index;
+	}
+	
+	/**
+	 * Checks whether an index is within the stored values.
+	 * 
+	 * @param index  index to check
+	 */
+	private void checkIndex(int index){
+		if (index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+	
+	/**
+	 * Grows value array and bitmap to hold at least specified number of values.
+	 * 
+	 * @param capacity  minimum capacity
+	 */
+	private void ensureCapacity(int capacity){
+		if (capacity > values.length){
+			values = Arrays.copyOf(values, Math.max(capacity, values.length + (values.length >> 1)));
+			nullBits = Arrays.copyOf(nullBits, getWordCount(values.length));
+		}
+	}
+	
+	/**
+	 * Returns number of bitmap words required for specified number of values.
+	 * 
+	 * @param capacity  number of values
+	 * @return number of words
+	 */
+	private static int getWordCount(int capacity){
+		return (capacity + 63) >>> 6;
+	}
+
+}
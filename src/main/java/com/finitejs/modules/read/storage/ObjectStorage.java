@@ -0,0 +1,54 @@
+package com.finitejs.modules.read.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Column storage that keeps each value as an object in a list. 
+ * Can store any value.
+ * 
+ * @param <T>  type of stored values
+ */
+public class ObjectStorage<T> extends ColumnStorage<T>{
+
+	/** List with values */
+	private List<T> values;
+	
+	/**
+	 * Creates a new empty {@code ObjectStorage}.
+	 */
+	public ObjectStorage(){
+		values = new ArrayList<>();
+	}
+	
+	/**
+	 * Creates a new {@code ObjectStorage} with values of a collection.
+	 * 
+	 * @param values  values to store
+	 */
+	public ObjectStorage(Collection<? extends T> values){
+		this.values = new ArrayList<>(values);
+	}
+	
+	@Override
+	public boolean add(T value){
+		return values.add(value);
+	}
+	
+	@Override
+	public T set(int index, T value){
+		return values.set(index, value);
+	}
+	
+	@Override
+	public T get(int index){
+		return values.get(index);
+	}
+	
+	@Override
+	public int size(){
+		return values.size();
+	}
+
+}
@@ -0,0 +1,201 @@
+package com.finitejs.modules.read.storage;
+
+import java.util.Arrays;
+
+/**
+ * Base class for storing date and time values as primitive values,
+ * like days or microseconds since epoch, with a separate bitmap of
+ * null values. Objects are created only when values are read.
+ * <p>
+ * Each non-null value has a {@code long} key, see {@link #getLong(int)},
+ * and keys have same order as values, so that values can be compared
+ * without creating objects. Values that cannot be encoded, like values
+ * out of range or with more precision, are not accepted.
+ * </p>
+ *
+ * @param <T>  type of stored values
+ */
+public abstract class TemporalStorage<T> extends ColumnStorage<T>{
+
+	/** Constant for initial capacity of value arrays */
+	protected static final int INITIAL_CAPACITY = 16;
+	
+	/** Bitmap with a set bit for each null value */
+	private long[] nullBits;
+	
+	/** Number of values */
+	private int size;
+	
+	/**
+	 * Creates a new empty {@code TemporalStorage}.
+	 */
+	protected TemporalStorage(){
+		nullBits = new long[getWordCount(INITIAL_CAPACITY)];
+	}
+	
+	@Override
+	public boolean accepts(T value){
+		return value == null || canEncode(value);
+	}
+	
+	@Override
+	public boolean add(T value){
+		if (!accepts(value)){
+			throw new IllegalArgumentException("Value cannot be encoded: " + value);
+		}
+		
+		ensureCapacity(size + 1);
+		if (value == null){
+			nullBits[size >>> 6] |= 1L << size;
+		}else{
+			setValue(size, value);
+		}
+		size++;
+		return true;
+	}
+	
+	@Override
+	public T set(int index, T value){
+		T previousValue = get(index);
+		if (!accepts(value)){
+			throw new IllegalArgumentException("Value cannot be encoded: " + value);
+		}
+		
+		if (value == null){
+			nullBits[index >>> 6] |= 1L << index;
+		}else{
+			nullBits[index >>> 6] &= ~(1L << index);
+			setValue(index, value);
+		}
+		
+		return previousValue;
+	}
+	
+	@Override
+	public T get(int index){
+		return isNull(index) ? null : getValue(index);
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Checks whether value at specified row index is null.
+	 * 
+	 * @param index  position of the value
+	 * @return true if null, else false
+	 */
+	public boolean isNull(int index){
+		if (index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return (nullBits[index >>> 6] & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Compares values at two row indexes without creating objects,
+	 * null is less than any other value.
+	 * 
+	 * @param index  position of first value
+	 * @param otherIndex  position of second value
+	 * @return negative, zero or positive if first value is less than,
+	 * equal to or greater than second value
+	 */
+	public int compare(int index, int otherIndex){
+		return compare(index, this, otherIndex);
+	}
+	
+	/**
+	 * Compares value at a row index with value of another storage of
+	 * same type without creating objects, null is less than any other value.
+	 * Used to compare values in different chunks of a column.
+	 * 
+	 * @param index  position of first value
+	 * @param other  storage with second value
+	 * @param otherIndex  position of second value in other storage
+	 * @return negative, zero or positive if first value is less than,
+	 * equal to or greater than second value
+	 */
+	public int compare(int index, TemporalStorage<T> other, int otherIndex){
+		boolean isNull = isNull(index);
+		boolean isOtherNull = other.isNull(otherIndex);
+		if (isNull || isOtherNull){
+			return Boolean.compare(isOtherNull, isNull);
+		}
+		return Long.compare(getLong(index), other.getLong(otherIndex));
+	}
+	
+	/**
+	 * Returns key of a non-null value at specified row index. Keys
+	 * have same order as values.
+	 * 
+	 * @param index  position of the value
+	 * @return key of the value, undefined if null
+	 */
+	public abstract long getLong(int index);
+	
+	/**
+	 * Checks whether a non-null value can be encoded.
+	 * 
+	 * @param value  value to check
+	 * @return true if value can be stored, else false
+	 */
+	protected abstract boolean canEncode(T value);
+	
+	/**
+	 * Encodes a non-null value at specified row index.
+	 * 
+	 * @param index  position of the value, within capacity
+	 * @param value  value to encode
+	 */
+	protected abstract void setValue(int index, T value);
+	
+	/**
+	 * Decodes a non-null value at specified row index.
+	 * 
+	 * @param index  position of the value
+	 * @return decoded value
+	 */
+	protected abstract T getValue(int index);
+	
+	/**
+	 * Returns number of values that can be encoded without growing arrays.
+	 * 
+	 * @return capacity
+	 */
+	protected abstract int getCapacity();
+	
+	/**
+	 * Grows arrays of encoded values to at least a new capacity.
+	 * 
+	 * @param capacity  new capacity
+	 */
+	protected abstract void grow(int capacity);
+	
+	/**
+	 * Grows arrays to hold at least specified number of values.
+	 * 
+	 * @param capacity  minimum capacity
+	 */
+	private void ensureCapacity(int capacity){
+		int currentCapacity = getCapacity();
+		if (capacity > currentCapacity){
+			int newCapacity = Math.max(capacity, currentCapacity + (currentCapacity >> 1));
+			grow(newCapacity);
+			nullBits = Arrays.copyOf(nullBits, getWordCount(getCapacity()));
+		}
+	}
+	
+	/**
+	 * Returns number of bitmap words required for specified number of values.
+	 * 
+	 * @param capacity  number of values
+	 * @return number of words
+	 */
+	private static int getWordCount(int capacity){
+		return (capacity + 63) >>> 6;
+	}
+
+}
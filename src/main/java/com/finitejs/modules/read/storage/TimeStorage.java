@@ -0,0 +1,52 @@
+package com.finitejs.modules.read.storage;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Column storage for times as {@code long} nanoseconds of day.
+ * Can store any time.
+ */
+public class TimeStorage extends TemporalStorage<LocalTime>{
+
+	/** Nanoseconds of day in row order */
+	private long[] nanosOfDay;
+	
+	/**
+	 * Creates a new empty {@code TimeStorage}.
+	 */
+	public TimeStorage(){
+		nanosOfDay = new long[INITIAL_CAPACITY];
+	}
+	
+	@Override
+	public long getLong(int index){
+		return nanosOfDay[index];
+	}
+	
+	@Override
+	protected boolean canEncode(LocalTime value){
+		return true;
+	}
+	
+	@Override
+	protected void setValue(int index, LocalTime value){
+		nanosOfDay[index] = value.toNanoOfDay();
+	}
+	
+	@Override
+	protected LocalTime getValue(int index){
+		return LocalTime.ofNanoOfDay(nanosOfDay[index]);
+	}
+	
+	@Override
+	protected int getCapacity(){
+		return nanosOfDay.length;
+	}
+	
+	@Override
+	protected void grow(int capacity){
+		nanosOfDay = Arrays.copyOf(nanosOfDay, capacity);
+	}
+
+}
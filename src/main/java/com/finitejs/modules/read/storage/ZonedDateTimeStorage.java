@@ -0,0 +1,114 @@
+package com.finitejs.modules.read.storage;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column storage for zoned date-times as {@code long} microseconds since 
+ * epoch with a code of the time zone. Each distinct zone is stored once
+ * in a dictionary, like {@link DictionaryStorage}.
+ * <p>
+ * Date-times with nanoseconds or out of the range of microseconds an 
+ * {@code long} can hold, and date-times with a new zone when dictionary 
+ * has {@link #MAX_ZONE_COUNT} zones are not accepted.
+ * </p>
+ */
+public class ZonedDateTimeStorage extends TemporalStorage<ZonedDateTime>{
+
+	/**
+	 * Constant for maximum number of distinct zones in dictionary.
+	 */
+	public static final int MAX_ZONE_COUNT = Character.MAX_VALUE + 1;
+	
+	/** Microseconds since epoch in row order */
+	private long[] epochMicros;
+	
+	/** Zone codes in row order */
+	private char[] zoneCodes;
+	
+	/** Distinct zones in code order */
+	private List<ZoneId> zones;
+	
+	/** Codes of distinct zones */
+	private Map<ZoneId, Integer> zoneCodeMap;
+	
+	/**
+	 * Creates a new empty {@code ZonedDateTimeStorage}.
+	 */
+	public ZonedDateTimeStorage(){
+		epochMicros = new long[INITIAL_CAPACITY];
+		zoneCodes = new char[INITIAL_CAPACITY];
+		zones = new ArrayList<>();
+		zoneCodeMap = new HashMap<>();
+	}
+	
+	@Override
+	public long getLong(int index){
+		return epochMicros[index];
+	}
+	
+	@Override
+	public int compare(int index, TemporalStorage<ZonedDateTime> other, int otherIndex){
+		int result = super.compare(index, other, otherIndex);
+		if (result == 0 && !isNull(index) && !getZone(index).equals(other.get(otherIndex).getZone())){
+			// same instant in different zones are ordered by local date-time and zone
+			result = get(index).compareTo(other.get(otherIndex));
+		}
+		return result;
+	}
+	
+	@Override
+	protected boolean canEncode(ZonedDateTime value){
+		return DateTimeStorage.isMicrosInRange(value.toEpochSecond(), value.getNano()) && 
+				(zones.size() < MAX_ZONE_COUNT || zoneCodeMap.containsKey(value.getZone()));
+	}
+	
+	@Override
+	protected void setValue(int index, ZonedDateTime value){
+		epochMicros[index] = DateTimeStorage.toMicros(value.toEpochSecond(), value.getNano());
+		
+		Integer code = zoneCodeMap.get(value.getZone());
+		if (code == null){
+			code = zones.size();
+			zones.add(value.getZone());
+			zoneCodeMap.put(value.getZone(), code);
+		}
+		zoneCodes[index] = (char) code.intValue();
+	}
+	
+	@Override
+	protected ZonedDateTime getValue(int index){
+		long micros = epochMicros[index];
+		Instant instant = Instant.ofEpochSecond(Math.floorDiv(micros, 1000000L), 
+				Math.floorMod(micros, 1000000L) * 1000);
+		return ZonedDateTime.ofInstant(instant, getZone(index));
+	}
+	
+	/**
+	 * Returns zone of a non-null value at specified row index.
+	 * 
+	 * @param index  position of the value
+	 * @return zone of the value
+	 */
+	private ZoneId getZone(int index){
+		return zones.get(zoneCodes[index]);
+	}
+	
+	@Override
+	protected int getCapacity(){
+		return epochMicros.length;
+	}
+	
+	@Override
+	protected void grow(int capacity){
+		epochMicros = Arrays.copyOf(epochMicros, capacity);
+		zoneCodes = Arrays.copyOf(zoneCodes, capacity);
+	}
+
+}
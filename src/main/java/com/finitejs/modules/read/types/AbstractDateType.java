@@ -1,7 +1,15 @@
 package com.finitejs.modules.read.types;
 
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.finitejs.modules.read.ColumnType;
 
@@ -69,6 +77,42 @@ public abstract class AbstractDateType<T extends TemporalAccessor> implements Co
 		"HH:mm"
 	};
 	
+	/**
+	 * Shared {@code DateTimeFormatter} instances for each format.
+	 * Formatters are immutable and thread safe.
+	 */
+	private static final ConcurrentHashMap<String, DateTimeFormatter> FORMATTER_CACHE = 
+			new ConcurrentHashMap<>();
+	
+	/**
+	 * Detector for default date formats.
+	 */
+	protected static final DateFormatDetector DATE_FORMAT_DETECTOR = new DateFormatDetector(
+			DEFAULT_DATE_FORMATS, Arrays.asList(LocalDate.of(2014, 1, 2)));
+	
+	/**
+	 * Detector for default date-time formats.
+	 */
+	protected static final DateFormatDetector DATETIME_FORMAT_DETECTOR = new DateFormatDetector(
+			DEFAULT_DATETIME_FORMATS, Arrays.asList(LocalDateTime.of(2014, 1, 2, 13, 4, 5, 123456789)));
+	
+	/**
+	 * Detector for default time formats.
+	 */
+	protected static final DateFormatDetector TIME_FORMAT_DETECTOR = new DateFormatDetector(
+			DEFAULT_TIME_FORMATS, Arrays.asList(LocalTime.of(13, 4, 5)));
+	
+	/**
+	 * Detector for default zoned date-time formats. Reference values with 
+	 * zero, positive and negative offsets are used, as zone formats print 
+	 * them differently.
+	 */
+	protected static final DateFormatDetector ZONEDDATETIME_FORMAT_DETECTOR = new DateFormatDetector(
+			DEFAULT_ZONEDDATETIME_FORMATS, Arrays.asList(
+					ZonedDateTime.of(2014, 1, 2, 13, 4, 5, 0, ZoneId.of("UTC")),
+					ZonedDateTime.of(2014, 1, 2, 13, 4, 5, 0, ZoneId.of("Asia/Kolkata")),
+					ZonedDateTime.of(2014, 1, 2, 13, 4, 5, 0, ZoneId.of("America/Los_Angeles"))));
+	
 	/** 
 	 * {@code DateTimeFormatter} corresponding to the type.
 	 * Each date-time type corresponds to a single format.
@@ -91,6 +135,38 @@ public abstract class AbstractDateType<T extends TemporalAccessor> implements Co
 		return stringValue;
 	}
 	
+	/**
+	 * Returns a shared {@code DateTimeFormatter} for the specified format.
+	 * 
+	 * @param format  date-time format
+	 * @return formatter for the format
+	 * @throws IllegalArgumentException if format is invalid
+	 */
+	protected static DateTimeFormatter getFormatter(String format){
+		DateTimeFormatter formatter = FORMATTER_CACHE.get(format);
+		if (formatter == null){
+			formatter = DateTimeFormatter.ofPattern(format);
+			FORMATTER_CACHE.putIfAbsent(format, formatter);
+		}
+		return formatter;
+	}
+	
+	/**
+	 * Checks whether a value matches the layout of a formatter, without
+	 * resolving the parsed fields. Used to skip parsing that would throw
+	 * an exception.
+	 * 
+	 * @param stringValue  value to check
+	 * @param formatter  formatter
+	 * @return true if whole value matches the formatter layout, else false
+	 */
+	protected static boolean matchesLayout(String stringValue, DateTimeFormatter formatter){
+		ParsePosition position = new ParsePosition(0);
+		TemporalAccessor parsed = formatter.parseUnresolved(stringValue, position);
+		return parsed != null && position.getErrorIndex() < 0 && 
+				position.getIndex() == stringValue.length();
+	}
+	
 	/**
 	 * Checks for equality of two date-time types and types are
 	 * equal only if there formats are equal.
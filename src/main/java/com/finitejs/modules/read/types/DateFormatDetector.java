@@ -0,0 +1,160 @@
+package com.finitejs.modules.read.types;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Detects candidate date-time formats of a value from its shape.
+ * <p>
+ * Shape signature of a value is the value with each run of digits replaced
+ * by {@code 9}, each run of letters replaced by {@code a} and other characters
+ * unchanged. For example signature of {@code 2014-01-02 01:04 PM} is
+ * {@code 9-9-9 9:9 a}. Signatures of formats are created by formatting
+ * reference values with each format, so a value is only parsed with the
+ * formats that can produce its signature.
+ * </p>
+ * <p>
+ * Formats with zone names or zone IDs, like {@code zzz} or {@code VV}, are
+ * candidates for values of any shape, as zone IDs like {@code Asia/Calcutta}
+ * have shapes that cannot be produced from reference values.
+ * </p>
+ */
+public class DateFormatDetector {
+
+	/** Constant for maximum length of a value considered as date-time */
+	private static final int MAX_VALUE_LENGTH = 64;
+	
+	/** Candidate formats for each signature, in order of the format list */
+	private Map<String, List<String>> candidateMap;
+	
+	/** Supported formats in order of preference */
+	private String[] formats;
+	
+	/** Formats that are candidates for values of any shape */
+	private Set<String> anyShapeFormats;
+	
+	/**
+	 * Creates a new {@code DateFormatDetector} instance.
+	 * 
+	 * @param formats  supported formats in order of preference
+	 * @param referenceValues  values used to create signatures of formats
+	 */
+	public DateFormatDetector(String[] formats, List<? extends TemporalAccessor> referenceValues){
+		candidateMap = new HashMap<>();
+		this.formats = formats.clone();
+		anyShapeFormats = new HashSet<>();
+		
+		for (String format : formats){
+			if (hasZoneText(format)){
+				anyShapeFormats.add(format);
+			}
+			
+			DateTimeFormatter formatter = AbstractDateType.getFormatter(format);
+			
+			for (TemporalAccessor referenceValue : referenceValues){
+				String signature = getSignature(formatter.format(referenceValue));
+				
+				List<String> candidates = candidateMap.get(signature);
+				if (candidates == null){
+					candidates = new ArrayList<>();
+					candidateMap.put(signature, candidates);
+				}
+				if (!candidates.contains(format)){
+					candidates.add(format);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns formats that can match the specified value.
+	 * 
+	 * @param stringValue  value to check
+	 * @return candidate formats in order of preference, empty if none
+	 */
+	public List<String> getCandidateFormats(String stringValue){
+		if (stringValue == null || stringValue.isEmpty() || stringValue.length() > MAX_VALUE_LENGTH){
+			return Collections.emptyList();
+		}
+		
+		List<String> candidates = candidateMap.get(getSignature(stringValue));
+		if (candidates == null){
+			candidates = Collections.emptyList();
+		}
+		
+		if (anyShapeFormats.isEmpty()){
+			return candidates;
+		}
+		
+		// add formats for any shape, keeping the order of preference
+		List<String> allCandidates = new ArrayList<>();
+		for (String format : formats){
+			if (candidates.contains(format) || anyShapeFormats.contains(format)){
+				allCandidates.add(format);
+			}
+		}
+		
+		return allCandidates;
+	}
+	
+	/**
+	 * Checks whether a format has zone name or zone ID fields.
+	 * 
+	 * @param format  date-time format
+	 * @return true if zone text is present, else false
+	 */
+	private static boolean hasZoneText(String format){
+		boolean inQuotes = false;
+		
+		for (int i = 0; i < format.length(); i++){
+			char c = format.charAt(i);
+			if (c == '\''){
+				inQuotes = !inQuotes;
+			}else if (!inQuotes && (c == 'z' || c == 'v' || c == 'V')){
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Returns shape signature of a value.
+	 * 
+	 * @param value  value
+	 * @return signature of the value
+	 */
+	public static String getSignature(CharSequence value){
+		StringBuilder signature = new StringBuilder(value.length());
+		char prevShape = 0;
+		
+		for (int i = 0; i < value.length(); i++){
+			char c = value.charAt(i);
+			
+			char shape = c;
+			if (c >= '0' && c <= '9'){
+				shape = '9';
+			}else if (Character.isLetter(c)){
+				shape = 'a';
+			}
+			
+			// runs of digits or letters have single shape
+			if ((shape == '9' || shape == 'a') && shape == prevShape){
+				continue;
+			}
+			
+			signature.append(shape);
+			prevShape = shape;
+		}
+		
+		return signature.toString();
+	}
+
+}
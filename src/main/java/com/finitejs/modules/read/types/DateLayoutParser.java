@@ -0,0 +1,359 @@
+package com.finitejs.modules.read.types;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parser for date-time formats with a fixed layout of numeric fields, which
+ * parses digits directly into epoch values without a {@code DateTimeFormatter}.
+ * <p>
+ * Supported formats are a date part with single letter year, month and day
+ * fields in any order separated by {@code -}, {@code /} or {@code .}, for
+ * example {@code y-M-d} or {@code M/d/y}, followed by an optional time part
+ * {@code HH:mm} or {@code HH:mm:ss} separated by a space. Time part can also
+ * be used alone. This covers the numeric formats of {@link AbstractDateType}
+ * default format lists.
+ * </p>
+ * <p>
+ * Values are parsed only if the result is same as parsing with the format.
+ * Other values, like year with more than 9 digits, hour 24 or values with
+ * whitespaces, are rejected and must be parsed with the formatter, which
+ * decides whether they are valid.
+ * </p>
+ * <p>
+ * Instances are immutable and thread safe.
+ * </p>
+ */
+public class DateLayoutParser {
+
+	/**
+	 * Constant returned when a value cannot be parsed.
+	 */
+	public static final long FAILED = Long.MIN_VALUE;
+	
+	/** Constant for pattern of supported date part of formats */
+	private static final Pattern DATE_LAYOUT_PATTERN = Pattern.compile("^([yMd])([-/.])([yMd])\\2([yMd])$");
+	
+	/** Constant for pattern of supported time part of formats */
+	private static final Pattern TIME_LAYOUT_PATTERN = Pattern.compile("^HH:mm(:ss)?$");
+	
+	/** Constant for maximum number of digits in year */
+	private static final int MAX_YEAR_DIGITS = 9;
+	
+	/** Constant for number of seconds in a day */
+	private static final int SECONDS_PER_DAY = 86400;
+	
+	/** Constant for number of days from year zero to 1970 */
+	private static final long DAYS_0000_TO_1970 = 719468;
+	
+	/** Constant for parser stored in cache for unsupported formats */
+	private static final DateLayoutParser UNSUPPORTED = new DateLayoutParser();
+	
+	/** Parsers for each format, shared as they are immutable */
+	private static final ConcurrentHashMap<String, DateLayoutParser> PARSER_CACHE = 
+			new ConcurrentHashMap<>();
+	
+	/** Field order in date part, as indexes of year, month and day, null if no date part */
+	private int[] dateFieldOrder;
+	
+	/** Separator of date fields */
+	private char dateSeparator;
+	
+	/** Number of time fields, zero if no time part */
+	private int timeFieldCount;
+	
+	/**
+	 * Creates a new {@code DateLayoutParser} instance.
+	 * Used by the factory method {@code get}.
+	 */
+	private DateLayoutParser(){}
+	
+	/**
+	 * Parses a date value into epoch day.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return epoch day, or {@code FAILED} if not parsed
+	 */
+	public long parseEpochDay(CharSequence source, int offset, int length){
+		if (dateFieldOrder == null || timeFieldCount != 0){
+			return FAILED;
+		}
+		return parseDate(source, offset, offset + length);
+	}
+	
+	/**
+	 * Parses a date with time value into seconds from epoch in UTC.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return epoch second, or {@code FAILED} if not parsed
+	 */
+	public long parseEpochSecond(CharSequence source, int offset, int length){
+		if (dateFieldOrder == null || timeFieldCount == 0){
+			return FAILED;
+		}
+		
+		int end = offset + length;
+		
+		// date and time parts are separated by first space
+		int timeStart = offset;
+		while (timeStart < end && source.charAt(timeStart) != ' '){
+			timeStart++;
+		}
+		
+		long epochDay = parseDate(source, offset, timeStart);
+		if (epochDay == FAILED){
+			return FAILED;
+		}
+		
+		long secondOfDay = parseTime(source, timeStart + 1, end);
+		if (secondOfDay == FAILED){
+			return FAILED;
+		}
+		
+		return epochDay * SECONDS_PER_DAY + secondOfDay;
+	}
+	
+	/**
+	 * Parses a time value into second of day.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return second of day, or {@code FAILED} if not parsed
+	 */
+	public long parseSecondOfDay(CharSequence source, int offset, int length){
+		if (dateFieldOrder != null || timeFieldCount == 0){
+			return FAILED;
+		}
+		return parseTime(source, offset, offset + length);
+	}
+	
+	/**
+	 * Parses date part of a value.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param start  starting index of the date part
+	 * @param end  ending index of the date part, exclusive
+	 * @return epoch day, or {@code FAILED} if not parsed
+	 */
+	private long parseDate(CharSequence source, int start, int end){
+		// year, month and day
+		int[] fields = new int[3];
+		
+		int pos = start;
+		for (int i = 0; i < 3; i++){
+			if (i > 0){
+				if (pos >= end || source.charAt(pos) != dateSeparator){
+					return FAILED;
+				}
+				pos++;
+			}
+			
+			int field = dateFieldOrder[i];
+			int maxDigits = field == 0 ? MAX_YEAR_DIGITS : 2;
+			
+			int value = 0;
+			int digits = 0;
+			char c;
+			while (pos < end && (c = source.charAt(pos)) >= '0' && c <= '9'){
+				if (++digits > maxDigits){
+					return FAILED;
+				}
+				value = value * 10 + (c - '0');
+				pos++;
+			}
+			
+			if (digits == 0){
+				return FAILED;
+			}
+			fields[field] = value;
+		}
+		
+		if (pos != end){
+			return FAILED;
+		}
+		
+		int year = fields[0];
+		int month = fields[1];
+		int day = fields[2];
+		
+		// year of era starts from 1
+		if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31){
+			return FAILED;
+		}
+		
+		// day is changed to last day of month, like smart resolving of formatter
+		int monthLength = getMonthLength(year, month);
+		if (day > monthLength){
+			day = monthLength;
+		}
+		
+		return toEpochDay(year, month, day);
+	}
+	
+	/**
+	 * Parses time part of a value.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param start  starting index of the time part
+	 * @param end  ending index of the time part, exclusive
+	 * @return second of day, or {@code FAILED} if not parsed
+	 */
+	private long parseTime(CharSequence source, int start, int end){
+		// each field has two digits and a separator except the first
+		if (end - start != timeFieldCount * 3 - 1){
+			return FAILED;
+		}
+		
+		int secondOfDay = 0;
+		int pos = start;
+		for (int i = 0; i < timeFieldCount; i++){
+			if (i > 0){
+				if (source.charAt(pos) != ':'){
+					return FAILED;
+				}
+				pos++;
+			}
+			
+			char tens = source.charAt(pos);
+			char units = source.charAt(pos + 1);
+			if (tens < '0' || tens > '9' || units < '0' || units > '9'){
+				return FAILED;
+			}
+			pos += 2;
+			
+			int value = (tens - '0') * 10 + (units - '0');
+			if (value > (i == 0 ? 23 : 59)){
+				return FAILED;
+			}
+			secondOfDay = secondOfDay * 60 + value;
+		}
+		
+		// missing seconds
+		for (int i = timeFieldCount; i < 3; i++){
+			secondOfDay *= 60;
+		}
+		
+		return secondOfDay;
+	}
+	
+	/**
+	 * Returns number of days in a month.
+	 * 
+	 * @param year  year
+	 * @param month  month of year from 1 to 12
+	 * @return number of days
+	 */
+	private static int getMonthLength(int year, int month){
+		switch (month){
+			case 2:
+				boolean leapYear = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+				return leapYear ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+	
+	/**
+	 * Converts a valid date to epoch day.
+	 * 
+	 * @param year  year
+	 * @param month  month of year from 1 to 12
+	 * @param day  day of month
+	 * @return number of days from 1970-01-01
+	 */
+	private static long toEpochDay(int year, int month, int day){
+		// years starting from March, so that leap day is the last day of year
+		long marchYear = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(marchYear, 400);
+		long yearOfEra = marchYear - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		
+		return era * 146097 + dayOfEra - DAYS_0000_TO_1970;
+	}
+	
+	/**
+	 * Returns a parser for the specified format.
+	 * 
+	 * @param format  date-time format
+	 * @return parser instance, or null if format is not supported
+	 */
+	public static DateLayoutParser get(String format){
+		if (format == null){
+			return null;
+		}
+		
+		DateLayoutParser parser = PARSER_CACHE.get(format);
+		if (parser == null){
+			parser = create(format);
+			PARSER_CACHE.putIfAbsent(format, parser == null ? UNSUPPORTED : parser);
+		}
+		
+		return parser == UNSUPPORTED ? null : parser;
+	}
+	
+	/**
+	 * Creates a parser for the specified format.
+	 * 
+	 * @param format  date-time format
+	 * @return parser instance, or null if format is not supported
+	 */
+	private static DateLayoutParser create(String format){
+		
+		String datePart = format;
+		String timePart = null;
+		
+		int spaceIndex = format.indexOf(' ');
+		if (spaceIndex != -1){
+			datePart = format.substring(0, spaceIndex);
+			timePart = format.substring(spaceIndex + 1);
+		}else if (format.startsWith("H")){
+			datePart = null;
+			timePart = format;
+		}
+		
+		DateLayoutParser parser = new DateLayoutParser();
+		
+		if (datePart != null){
+			Matcher dateMatcher = DATE_LAYOUT_PATTERN.matcher(datePart);
+			if (!dateMatcher.matches()){
+				return null;
+			}
+			
+			String fieldOrder = dateMatcher.group(1) + dateMatcher.group(3) + dateMatcher.group(4);
+			parser.dateFieldOrder = new int[3];
+			for (int i = 0; i < 3; i++){
+				parser.dateFieldOrder[i] = "yMd".indexOf(fieldOrder.charAt(i));
+			}
+			
+			// each field must be present once
+			if (fieldOrder.indexOf('y') == -1 || fieldOrder.indexOf('M') == -1 ||
+					fieldOrder.indexOf('d') == -1){
+				return null;
+			}
+			parser.dateSeparator = dateMatcher.group(2).charAt(0);
+		}
+		
+		if (timePart != null){
+			Matcher timeMatcher = TIME_LAYOUT_PATTERN.matcher(timePart);
+			if (!timeMatcher.matches()){
+				return null;
+			}
+			parser.timeFieldCount = timeMatcher.group(1) != null ? 3 : 2;
+		}
+		
+		return parser;
+	}
+
+}
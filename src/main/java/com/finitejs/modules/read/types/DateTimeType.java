@@ -1,6 +1,7 @@
 package com.finitejs.modules.read.types;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -11,12 +12,26 @@ public class DateTimeType extends AbstractDateType<LocalDateTime> {
 	
 	private DateTimeType(){}
 	
+	/** 
+	 * Parser used instead of the formatter if format has a fixed numeric
+	 * layout, null if not supported.
+	 */
+	private DateLayoutParser layoutParser;
+	
 	@Override
 	public LocalDateTime parse(String stringValue) {
 		LocalDateTime value = null;
 		
 		if (stringValue != null && !stringValue.isEmpty() && formatter != null){
 			
+			// parse fixed layouts directly
+			if (layoutParser != null){
+				long parsedValue = layoutParser.parseEpochSecond(stringValue, 0, stringValue.length());
+				if (parsedValue != DateLayoutParser.FAILED){
+					return LocalDateTime.ofEpochSecond(parsedValue, 0, ZoneOffset.UTC);
+				}
+			}
+			
 			// correct am/pm format
 			stringValue = stringValue.replace("am", "AM");
 			stringValue = stringValue.replace("pm", "PM");
@@ -32,6 +47,20 @@ public class DateTimeType extends AbstractDateType<LocalDateTime> {
 		return value;
 	}
 	
+	@Override
+	public LocalDateTime parse(CharSequence source, int offset, int length) {
+		
+		// parse fixed layouts without creating a string
+		if (layoutParser != null){
+			long parsedValue = layoutParser.parseEpochSecond(source, offset, length);
+			if (parsedValue != DateLayoutParser.FAILED){
+				return LocalDateTime.ofEpochSecond(parsedValue, 0, ZoneOffset.UTC);
+			}
+		}
+		
+		return parse(source.subSequence(offset, offset + length).toString());
+	}
+	
 	@Override
 	public String toString(){
 		return String.format("%s(%s)", DATETIME_TYPE, format);
@@ -77,17 +106,23 @@ public class DateTimeType extends AbstractDateType<LocalDateTime> {
 		stringValue = stringValue.replace("pm", "PM");
 		
 		
-		// check for supported formats
+		// check only formats with same shape as the value
 		DateTimeFormatter dtf;
 		
-		// date time formats
-		for (String format : DEFAULT_DATETIME_FORMATS){
-			dtf = DateTimeFormatter.ofPattern(format);
+		for (String format : DATETIME_FORMAT_DETECTOR.getCandidateFormats(stringValue)){
+			dtf = getFormatter(format);
+			
+			// skip values that do not match the layout
+			if (!matchesLayout(stringValue, dtf)){
+				continue;
+			}
+			
 			try{
 				LocalDateTime.parse(stringValue, dtf);
 				type = new DateTimeType();
 				type.formatter = dtf;
 				type.format = format;
+				type.layoutParser = DateLayoutParser.get(format);
 				
 				// first matching format is selected
 				break;
@@ -116,10 +151,11 @@ public class DateTimeType extends AbstractDateType<LocalDateTime> {
 		}
 		
 		try{
-			DateTimeFormatter dtf = DateTimeFormatter.ofPattern(format);
+			DateTimeFormatter dtf = getFormatter(format);
 			type = new DateTimeType();
 			type.formatter = dtf;
 			type.format = format;
+			type.layoutParser = DateLayoutParser.get(format);
 		}catch(IllegalArgumentException e){
 			// do nothing
 			// return null
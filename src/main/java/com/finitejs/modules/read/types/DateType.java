@@ -11,12 +11,26 @@ public class DateType extends AbstractDateType<LocalDate>{
 	
 	private DateType(){}
 	
+	/** 
+	 * Parser used instead of the formatter if format has a fixed numeric
+	 * layout, null if not supported.
+	 */
+	private DateLayoutParser layoutParser;
+	
 	@Override
 	public LocalDate parse(String stringValue) {
 		LocalDate value = null;
 		
 		if (stringValue != null && !stringValue.isEmpty() && formatter != null){
 			
+			// parse fixed layouts directly
+			if (layoutParser != null){
+				long parsedValue = layoutParser.parseEpochDay(stringValue, 0, stringValue.length());
+				if (parsedValue != DateLayoutParser.FAILED){
+					return LocalDate.ofEpochDay(parsedValue);
+				}
+			}
+			
 			try{
 				value = LocalDate.parse(stringValue, formatter);
 			}catch(DateTimeParseException e){
@@ -28,6 +42,20 @@ public class DateType extends AbstractDateType<LocalDate>{
 		return value;
 	}
 	
+	@Override
+	public LocalDate parse(CharSequence source, int offset, int length) {
+		
+		// parse fixed layouts without creating a string
+		if (layoutParser != null){
+			long parsedValue = layoutParser.parseEpochDay(source, offset, length);
+			if (parsedValue != DateLayoutParser.FAILED){
+				return LocalDate.ofEpochDay(parsedValue);
+			}
+		}
+		
+		return parse(source.subSequence(offset, offset + length).toString());
+	}
+	
 	@Override
 	public String toString(){
 		return String.format("%s(%s)", DATE_TYPE, format);
@@ -66,17 +94,23 @@ public class DateType extends AbstractDateType<LocalDate>{
 			return type;
 		}
 		
-		// check for supported formats
+		// check only formats with same shape as the value
 		DateTimeFormatter dtf;
 		
-		// zoned date time formats
-		for (String format : DEFAULT_DATE_FORMATS){
-			dtf = DateTimeFormatter.ofPattern(format);
+		for (String format : DATE_FORMAT_DETECTOR.getCandidateFormats(stringValue)){
+			dtf = getFormatter(format);
+			
+			// skip values that do not match the layout
+			if (!matchesLayout(stringValue, dtf)){
+				continue;
+			}
+			
 			try{
 				LocalDate.parse(stringValue, dtf);
 				type = new DateType();
 				type.formatter = dtf;
 				type.format = format;
+				type.layoutParser = DateLayoutParser.get(format);
 				
 				// first matching format is selected
 				break;
@@ -109,10 +143,11 @@ public class DateType extends AbstractDateType<LocalDate>{
 		}
 		
 		try{
-			DateTimeFormatter dtf = DateTimeFormatter.ofPattern(format);
+			DateTimeFormatter dtf = getFormatter(format);
 			type = new DateType();
 			type.formatter = dtf;
 			type.format = format;
+			type.layoutParser = DateLayoutParser.get(format);
 		}catch(IllegalArgumentException e){
 			// do nothing
 			// return null
@@ -1,6 +1,7 @@
 package com.finitejs.modules.read.types;
 
 import com.finitejs.modules.read.ColumnType;
+import com.finitejs.modules.read.util.NumberScanner;
 
 /**
  * Class that represents numerical column types.
@@ -13,13 +14,22 @@ public class NumberType implements ColumnType<Double>{
 	public Double parse(String stringValue) {
 		Double value = null;
 		
-		if (stringValue != null && !stringValue.isEmpty()){
-			try{
-				value = Double.parseDouble(stringValue);
-			}catch(NumberFormatException e){
-				// do nothing
-				// returns DEFAULT_VALUE
-			}
+		// scanner returns false for invalid values instead of throwing
+		NumberScanner scanner = NumberScanner.get();
+		if (stringValue != null && scanner.scan(stringValue)){
+			value = scanner.getValue();
+		}
+		
+		return value;
+	}
+	
+	@Override
+	public Double parse(CharSequence source, int offset, int length) {
+		Double value = null;
+		
+		NumberScanner scanner = NumberScanner.get();
+		if (scanner.scan(source, offset, length)){
+			value = scanner.getValue();
 		}
 		
 		return value;
@@ -71,14 +81,8 @@ public class NumberType implements ColumnType<Double>{
 	
 	public static NumberType checkAndGetType(String stringValue){
 		NumberType type = null;
-		if (stringValue != null && !stringValue.isEmpty()){
-			try{
-				Double.parseDouble(stringValue);
-				type = new NumberType();
-			}catch(NumberFormatException e){
-				// do nothing
-				// returns null
-			}
+		if (stringValue != null && NumberScanner.get().scan(stringValue)){
+			type = new NumberType();
 		}
 		return type;
 	}
@@ -11,12 +11,26 @@ public class TimeType extends AbstractDateType<LocalTime>{
 	
 	private TimeType(){}
 	
+	/** 
+	 * Parser used instead of the formatter if format has a fixed numeric
+	 * layout, null if not supported.
+	 */
+	private DateLayoutParser layoutParser;
+	
 	@Override
 	public LocalTime parse(String stringValue) {
 		LocalTime value = null;
 		
 		if (stringValue != null && !stringValue.isEmpty() && formatter != null){
 			
+			// parse fixed layouts directly
+			if (layoutParser != null){
+				long parsedValue = layoutParser.parseSecondOfDay(stringValue, 0, stringValue.length());
+				if (parsedValue != DateLayoutParser.FAILED){
+					return LocalTime.ofSecondOfDay(parsedValue);
+				}
+			}
+			
 			// correct am/pm format
 			stringValue = stringValue.replace("am", "AM");
 			stringValue = stringValue.replace("pm", "PM");
@@ -32,6 +46,20 @@ public class TimeType extends AbstractDateType<LocalTime>{
 		return value;
 	}
 	
+	@Override
+	public LocalTime parse(CharSequence source, int offset, int length) {
+		
+		// parse fixed layouts without creating a string
+		if (layoutParser != null){
+			long parsedValue = layoutParser.parseSecondOfDay(source, offset, length);
+			if (parsedValue != DateLayoutParser.FAILED){
+				return LocalTime.ofSecondOfDay(parsedValue);
+			}
+		}
+		
+		return parse(source.subSequence(offset, offset + length).toString());
+	}
+	
 	@Override
 	public String toString(){
 		return String.format("%s(%s)", TIME_TYPE, format);
@@ -74,17 +102,23 @@ public class TimeType extends AbstractDateType<LocalTime>{
 		stringValue = stringValue.replace("am", "AM");
 		stringValue = stringValue.replace("pm", "PM");
 		
-		// check for supported formats
+		// check only formats with same shape as the value
 		DateTimeFormatter dtf;
 		
-		// zoned date time formats
-		for (String format : DEFAULT_TIME_FORMATS){
-			dtf = DateTimeFormatter.ofPattern(format);
+		for (String format : TIME_FORMAT_DETECTOR.getCandidateFormats(stringValue)){
+			dtf = getFormatter(format);
+			
+			// skip values that do not match the layout
+			if (!matchesLayout(stringValue, dtf)){
+				continue;
+			}
+			
 			try{
 				LocalTime.parse(stringValue, dtf);
 				type = new TimeType();
 				type.formatter = dtf;
 				type.format = format;
+				type.layoutParser = DateLayoutParser.get(format);
 				
 				// first matching format is selected
 				break;
@@ -116,10 +150,11 @@ public class TimeType extends AbstractDateType<LocalTime>{
 		}
 		
 		try{
-			DateTimeFormatter dtf = DateTimeFormatter.ofPattern(format);
+			DateTimeFormatter dtf = getFormatter(format);
 			type = new TimeType();
 			type.formatter = dtf;
 			type.format = format;
+			type.layoutParser = DateLayoutParser.get(format);
 		}catch(IllegalArgumentException e){
 			// do nothing
 			// return null
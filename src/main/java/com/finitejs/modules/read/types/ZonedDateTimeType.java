@@ -76,12 +76,17 @@ public class ZonedDateTimeType extends AbstractDateType<ZonedDateTime>{
 		stringValue = stringValue.replace("am", "AM");
 		stringValue = stringValue.replace("pm", "PM");
 		
-		// check for supported formats
+		// check only formats with same shape as the value
 		DateTimeFormatter dtf;
 		
-		// zoned date time formats
-		for (String format : DEFAULT_ZONEDDATETIME_FORMATS){
-			dtf = DateTimeFormatter.ofPattern(format);
+		for (String format : ZONEDDATETIME_FORMAT_DETECTOR.getCandidateFormats(stringValue)){
+			dtf = getFormatter(format);
+			
+			// skip values that do not match the layout
+			if (!matchesLayout(stringValue, dtf)){
+				continue;
+			}
+			
 			try{
 				ZonedDateTime.parse(stringValue, dtf);
 				type = new ZonedDateTimeType();
@@ -108,7 +113,7 @@ public class ZonedDateTimeType extends AbstractDateType<ZonedDateTime>{
 		}
 		
 		try{
-			DateTimeFormatter dtf = DateTimeFormatter.ofPattern(format);
+			DateTimeFormatter dtf = getFormatter(format);
 			type = new ZonedDateTimeType();
 			type.formatter = dtf;
 			type.format = format;
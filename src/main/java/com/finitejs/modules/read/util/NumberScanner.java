@@ -0,0 +1,323 @@
+package com.finitejs.modules.read.util;
+
+/**
+ * Scanner that validates and parses decimal numbers in a single pass,
+ * without throwing exceptions for invalid input.
+ * <p>
+ * Accepts the same input as {@link Double#parseDouble(String)}. Common forms
+ * like {@code -12}, {@code 3.25} and {@code 1.5e-3} are parsed directly,
+ * {@code NaN} and {@code Infinity} are matched literally. Hexadecimal values,
+ * {@code d}/{@code f} suffixes and values with more significant digits than
+ * can be converted exactly are validated first and then parsed with
+ * {@link Double#parseDouble(String)}, so that invalid values never throw.
+ * </p>
+ * <p>
+ * Instances are not thread safe, a scanner of current thread can be 
+ * reused with {@link #get()}.
+ * </p>
+ */
+public class NumberScanner {
+
+	/** Constant for maximum number of significant digits stored in mantissa */
+	private static final int MAX_MANTISSA_DIGITS = 18;
+	
+	/** Constant for largest mantissa that can be converted to double exactly */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+	
+	/** Constant for limit of exponent value, beyond which double overflows or underflows */
+	private static final int MAX_EXPONENT = 100000;
+	
+	/** Constant for powers of ten that can be represented exactly as double */
+	private static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
+	/** Constant for the literal of not-a-number value */
+	private static final String NAN = "NaN";
+	
+	/** Constant for the literal of infinite value */
+	private static final String INFINITY = "Infinity";
+	
+	/** Scanner of each thread */
+	private static final ThreadLocal<NumberScanner> THREAD_SCANNER = 
+			ThreadLocal.withInitial(NumberScanner::new);
+	
+	/** Value of last successful scan */
+	private double value;
+	
+	/**
+	 * Returns a reusable scanner of current thread.
+	 * 
+	 * @return scanner, which should not be passed to other threads
+	 */
+	public static NumberScanner get(){
+		return THREAD_SCANNER.get();
+	}
+	
+	/**
+	 * Scans a string value as a number.
+	 * 
+	 * @param stringValue  string value to scan
+	 * @return true if value is a valid number, else false
+	 */
+	public boolean scan(String stringValue){
+		if (stringValue == null){
+			return false;
+		}
+		return scan(stringValue, 0, stringValue.length());
+	}
+	
+	/**
+	 * Scans a part of a character sequence as a number. Leading and trailing
+	 * whitespaces are ignored.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param offset  starting index of the value in source
+	 * @param length  number of characters in the value
+	 * @return true if value is a valid number, else false
+	 */
+	public boolean scan(CharSequence source, int offset, int length){
+		
+		int start = offset;
+		int end = offset + length;
+		
+		// ignore whitespaces like Double.parseDouble
+		while (start < end && source.charAt(start) <= ' '){
+			start++;
+		}
+		while (end > start && source.charAt(end - 1) <= ' '){
+			end--;
+		}
+		
+		if (start >= end){
+			return false;
+		}
+		
+		int pos = start;
+		char c = source.charAt(pos);
+		
+		boolean negative = false;
+		if (c == '-' || c == '+'){
+			negative = c == '-';
+			if (++pos >= end){
+				return false;
+			}
+			c = source.charAt(pos);
+		}
+		
+		// NaN and Infinity are matched literally, values like NA are invalid
+		if (c == 'N' || c == 'I'){
+			String literal = c == 'N' ? NAN : INFINITY;
+			if (!regionEquals(source, pos, end, literal)){
+				return false;
+			}
+			value = c == 'N' ? Double.NaN : (negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+			return true;
+		}
+		
+		// hexadecimal values
+		if (c == '0' && pos + 1 < end && (source.charAt(pos + 1) == 'x' || source.charAt(pos + 1) == 'X')){
+			return isHexNumber(source, pos + 2, end) && parseExotic(source, start, end);
+		}
+		
+		long mantissa = 0;
+		int mantissaDigits = 0;
+		int exponent = 0;
+		boolean hasDigits = false;
+		boolean truncated = false;
+		
+		// integer part
+		while (pos < end && (c = source.charAt(pos)) >= '0' && c <= '9'){
+			hasDigits = true;
+			if (mantissaDigits < MAX_MANTISSA_DIGITS){
+				// leading zeros are not significant
+				if (mantissa != 0 || c != '0'){
+					mantissa = mantissa * 10 + (c - '0');
+					mantissaDigits++;
+				}
+			}else{
+				exponent++;
+				truncated |= c != '0';
+			}
+			pos++;
+		}
+		
+		// fraction part
+		if (pos < end && c == '.'){
+			pos++;
+			while (pos < end && (c = source.charAt(pos)) >= '0' && c <= '9'){
+				hasDigits = true;
+				if (mantissaDigits < MAX_MANTISSA_DIGITS){
+					if (mantissa != 0 || c != '0'){
+						mantissa = mantissa * 10 + (c - '0');
+						mantissaDigits++;
+					}
+					exponent--;
+				}else{
+					truncated |= c != '0';
+				}
+				pos++;
+			}
+		}
+		
+		if (!hasDigits){
+			return false;
+		}
+		
+		// exponent part
+		if (pos < end && (c == 'e' || c == 'E')){
+			if (++pos >= end){
+				return false;
+			}
+			
+			c = source.charAt(pos);
+			boolean negativeExponent = false;
+			if (c == '-' || c == '+'){
+				negativeExponent = c == '-';
+				if (++pos >= end){
+					return false;
+				}
+			}
+			
+			int exponentValue = 0;
+			boolean hasExponentDigits = false;
+			while (pos < end && (c = source.charAt(pos)) >= '0' && c <= '9'){
+				hasExponentDigits = true;
+				if (exponentValue < MAX_EXPONENT){
+					exponentValue = exponentValue * 10 + (c - '0');
+				}
+				pos++;
+			}
+			
+			if (!hasExponentDigits){
+				return false;
+			}
+			exponent += negativeExponent ? -exponentValue : exponentValue;
+		}
+		
+		if (pos < end){
+			// float and double suffixes
+			if (pos + 1 == end && (c == 'd' || c == 'D' || c == 'f' || c == 'F')){
+				return parseExotic(source, start, end);
+			}
+			return false;
+		}
+		
+		if (mantissa == 0){
+			value = negative ? -0.0 : 0.0;
+			return true;
+		}
+		
+		// exact when both mantissa and power of ten are exact doubles,
+		// otherwise correct rounding needs the slow path
+		if (truncated || mantissa > MAX_EXACT_MANTISSA ||
+				exponent < -(POWERS_OF_TEN.length - 1) || exponent > POWERS_OF_TEN.length - 1){
+			return parseExotic(source, start, end);
+		}
+		
+		double result = mantissa;
+		if (exponent < 0){
+			result /= POWERS_OF_TEN[-exponent];
+		}else{
+			result *= POWERS_OF_TEN[exponent];
+		}
+		
+		value = negative ? -result : result;
+		return true;
+	}
+	
+	/**
+	 * Returns the value of last successful scan.
+	 * 
+	 * @return scanned value
+	 */
+	public double getValue(){
+		return value;
+	}
+	
+	/**
+	 * Parses a valid value that cannot be handled directly with {@link Double#parseDouble(String)}.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param start  starting index of the value
+	 * @param end  ending index of the value, exclusive
+	 * @return true if value is parsed, else false
+	 */
+	private boolean parseExotic(CharSequence source, int start, int end){
+		try{
+			value = Double.parseDouble(source.subSequence(start, end).toString());
+			return true;
+		}catch(NumberFormatException e){
+			// not expected, value is already validated
+			return false;
+		}
+	}
+	
+	/**
+	 * Checks whether a part of a character sequence after {@code 0x} is a 
+	 * valid hexadecimal floating point value, like {@code 1.8p3}. Binary
+	 * exponent is required and {@code d}/{@code f} suffix is optional.
+	 * 
+	 * @param source  character sequence that contains the value
+	 * @param pos  index after {@code 0x}
+	 * @param end  ending index of the value, exclusive
+	 * @return true if valid, else false
+	 */
+	private static boolean isHexNumber(CharSequence source, int pos, int end){
+		boolean hasDigits = false;
+		boolean hasPoint = false;
+		char c = 0;
+		
+		while (pos < end){
+			c = source.charAt(pos);
+			if (Character.digit(c, 16) >= 0 && c < 0x80){
+				hasDigits = true;
+			}else if (c == '.' && !hasPoint){
+				hasPoint = true;
+			}else{
+				break;
+			}
+			pos++;
+		}
+		
+		if (!hasDigits || pos >= end || (c != 'p' && c != 'P')){
+			return false;
+		}
+		
+		if (++pos < end && (source.charAt(pos) == '-' || source.charAt(pos) == '+')){
+			pos++;
+		}
+		
+		boolean hasExponentDigits = false;
+		while (pos < end && (c = source.charAt(pos)) >= '0' && c <= '9'){
+			hasExponentDigits = true;
+			pos++;
+		}
+		
+		return hasExponentDigits && (pos == end || 
+				(pos + 1 == end && (c == 'd' || c == 'D' || c == 'f' || c == 'F')));
+	}
+	
+	/**
+	 * Checks whether a part of a character sequence is equal to a string.
+	 * 
+	 * @param source  character sequence to compare
+	 * @param start  starting index in source
+	 * @param end  ending index in source, exclusive
+	 * @param value  string to compare
+	 * @return true if equal, else false
+	 */
+	private static boolean regionEquals(CharSequence source, int start, int end, String value){
+		if (end - start != value.length()){
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++){
+			if (source.charAt(start + i) != value.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
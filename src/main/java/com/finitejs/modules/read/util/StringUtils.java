@@ -0,0 +1,57 @@
+package com.finitejs.modules.read.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Utility methods for string representations of settings, like the
+ * descriptions of built-in input functions used in cache keys.
+ */
+public class StringUtils {
+
+	private StringUtils(){}
+	
+	/**
+	 * Returns a string in double quotes, with backslashes and double quotes
+	 * escaped, so that quoted strings can be joined without ambiguity.
+	 * 
+	 * @param value  string to quote
+	 * @return quoted string, or {@code null} without quotes if value is null
+	 */
+	public static String quote(String value){
+		if (value == null){
+			return "null";
+		}
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+	
+	/**
+	 * Returns quoted strings of a list in order, separated by commas.
+	 * 
+	 * @param values  strings to quote
+	 * @return quoted strings in brackets
+	 */
+	public static String quote(List<String> values){
+		List<String> quotedValues = new ArrayList<>();
+		for (String value : values){
+			quotedValues.add(quote(value));
+		}
+		return "[" + String.join(", ", quotedValues) + "]";
+	}
+	
+	/**
+	 * Returns quoted strings of a collection sorted and separated by commas,
+	 * so that collections with same strings have same representation.
+	 * 
+	 * @param values  strings to quote
+	 * @return quoted strings in brackets
+	 */
+	public static String quoteSorted(Collection<String> values){
+		List<String> sortedValues = new ArrayList<>(values);
+		sortedValues.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+		return quote(sortedValues);
+	}
+
+}
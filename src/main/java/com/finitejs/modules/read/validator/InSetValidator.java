@@ -0,0 +1,50 @@
+package com.finitejs.modules.read.validator;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.finitejs.modules.read.InputValidator;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * 
+ * Input validator that accepts values from a set of strings.
+ * <p>
+ * Example :
+ * <pre>
+ * InputValidator validator = new InSetValidator(new String[]{"CPU", "RAM"});
+ * </pre>
+ * Above {@code validator} accepts only values {@code CPU} and {@code RAM}.
+ * </p>
+ * 
+ */
+public class InSetValidator implements InputValidator{
+
+	/** Valid values */
+	private Set<String> valueSet;
+	
+	/**
+	 * Creates a new {@code InSetValidator} with the set of valid values.
+	 * 
+	 * @param values  valid values
+	 */
+	public InSetValidator(String[] values){
+		valueSet = new HashSet<>();
+		if (values != null){
+			for (String value : values){
+				valueSet.add(value);
+			}
+		}
+	}
+	
+	@Override
+	public boolean validate(String inputValue) {
+		return inputValue != null && valueSet.contains(inputValue);
+	}
+	
+	@Override
+	public String toString(){
+		return "in(" + StringUtils.quoteSorted(valueSet) + ")";
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.finitejs.modules.read.validator;
+
+import com.finitejs.modules.read.InputValidator;
+
+/**
+ * 
+ * Input validator that accepts values with at least one non-whitespace character.
+ * 
+ */
+public class NotEmptyValidator implements InputValidator{
+
+	@Override
+	public boolean validate(String inputValue) {
+		if (inputValue == null){
+			return false;
+		}
+		for (int i = 0; i < inputValue.length(); i++){
+			if (inputValue.charAt(i) > ' '){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	@Override
+	public String toString(){
+		return "notEmpty";
+	}
+
+}
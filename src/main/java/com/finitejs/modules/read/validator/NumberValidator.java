@@ -0,0 +1,23 @@
+package com.finitejs.modules.read.validator;
+
+import com.finitejs.modules.read.InputValidator;
+import com.finitejs.modules.read.util.NumberScanner;
+
+/**
+ * 
+ * Input validator that accepts values which are valid numbers.
+ * 
+ */
+public class NumberValidator implements InputValidator{
+
+	@Override
+	public boolean validate(String inputValue) {
+		return NumberScanner.get().scan(inputValue);
+	}
+	
+	@Override
+	public String toString(){
+		return "number";
+	}
+
+}
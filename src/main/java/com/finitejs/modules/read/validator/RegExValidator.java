@@ -0,0 +1,44 @@
+package com.finitejs.modules.read.validator;
+
+import java.util.regex.Pattern;
+
+import com.finitejs.modules.read.InputValidator;
+import com.finitejs.modules.read.util.StringUtils;
+
+/**
+ * 
+ * Input validator that accepts values containing a match of a regular expression.
+ * <p>
+ * Example :
+ * <pre>
+ * InputValidator validator = new RegExValidator("^\\d{4}-\\d{1,2}-\\d{1,2}$");
+ * </pre>
+ * Above {@code validator} accepts only values like {@code 2014-04-14}.
+ * </p>
+ * 
+ */
+public class RegExValidator implements InputValidator{
+
+	/** Compiled RegEx pattern used to validate. */
+	private Pattern pattern;
+	
+	/**
+	 * Creates a new {@code RegExValidator} based on a RegEx pattern.
+	 * 
+	 * @param regex  regular expression to use
+	 */
+	public RegExValidator(String regex){
+		this.pattern = Pattern.compile(regex);
+	}
+	
+	@Override
+	public boolean validate(String inputValue) {
+		return inputValue != null && pattern.matcher(inputValue).find();
+	}
+	
+	@Override
+	public String toString(){
+		return "regex(" + StringUtils.quote(pattern.pattern()) + ")";
+	}
+
+}
@@ -18,6 +18,263 @@ var DELIMITER = {
 var PlainReader = Java.type('com.finitejs.modules.read.PlainReader');
 var InputFormatter = Java.type('com.finitejs.modules.read.InputFormatter');
 var InputValidator = Java.type('com.finitejs.modules.read.InputValidator');
+var BatchInputFormatter = Java.type('com.finitejs.modules.read.BatchInputFormatter');
+var BatchInputValidator = Java.type('com.finitejs.modules.read.BatchInputValidator');
+var EqualsFilter = Java.type('com.finitejs.modules.read.filter.EqualsFilter');
+var RangeFilter = Java.type('com.finitejs.modules.read.filter.RangeFilter');
+var InSetFilter = Java.type('com.finitejs.modules.read.filter.InSetFilter');
+var RegExFilter = Java.type('com.finitejs.modules.read.filter.RegExFilter');
+var NotNullFilter = Java.type('com.finitejs.modules.read.filter.NotNullFilter');
+var TrimFormatter = Java.type('com.finitejs.modules.read.formatter.TrimFormatter');
+var CaseFormatter = Java.type('com.finitejs.modules.read.formatter.CaseFormatter');
+var LiteralReplaceFormatter = Java.type('com.finitejs.modules.read.formatter.LiteralReplaceFormatter');
+var RegExFormatter = Java.type('com.finitejs.modules.read.formatter.RegExFormatter');
+var StripFormatter = Java.type('com.finitejs.modules.read.formatter.StripFormatter');
+var MappingFormatter = Java.type('com.finitejs.modules.read.formatter.MappingFormatter');
+var ChainedFormatter = Java.type('com.finitejs.modules.read.formatter.ChainedFormatter');
+var NotEmptyValidator = Java.type('com.finitejs.modules.read.validator.NotEmptyValidator');
+var NumberValidator = Java.type('com.finitejs.modules.read.validator.NumberValidator');
+var RegExValidator = Java.type('com.finitejs.modules.read.validator.RegExValidator');
+var InSetValidator = Java.type('com.finitejs.modules.read.validator.InSetValidator');
+var HashMap = Java.type('java.util.HashMap');
+var FileFollower = Java.type('com.finitejs.modules.read.FileFollower');
+var FollowListener = Java.type('com.finitejs.modules.read.FollowListener');
+var TableFile = Java.type('com.finitejs.modules.read.TableFile');
+var TableCache = Java.type('com.finitejs.modules.read.TableCache');
+
+/**
+ * Creates a native input filter from a predicate object.
+ * 
+ * @param {Object} predicate - predicate with one of the properties 
+ * <code>equals</code>, <code>min</code>/<code>max</code>, <code>in</code>, 
+ * <code>regex</code> or <code>notNull</code>
+ * @returns {InputFilter} input filter
+ * @ignore
+ */
+var createFilter = function(predicate){
+	
+	if (!predicate || typeof predicate !== 'object'){
+		throw "Illegal arguments";
+	}
+	
+	if (predicate.equals != null){
+		return new EqualsFilter(util.toStringWithArray(predicate.equals));
+	}
+	
+	if (predicate.min != null || predicate.max != null){
+		return new RangeFilter(predicate.min != null ? predicate.min : -Infinity, 
+				predicate.max != null ? predicate.max : Infinity);
+	}
+	
+	if (predicate['in'] && util.isSingleArray(predicate['in'])){
+		return new InSetFilter(util.toStringWithArray(predicate['in']));
+	}
+	
+	if (predicate.regex){
+		return new RegExFilter(predicate.regex);
+	}
+	
+	if (predicate.notNull === true){
+		return new NotNullFilter();
+	}
+	
+	throw "Illegal arguments";
+};
+
+/**
+ * Set native input filters from an object with column indexes as keys 
+ * and predicates as values.
+ * 
+ * @param {PlainReader} reader - reader to which filters are set
+ * @param {Object} filters - predicates for column indexes
+ * @ignore
+ */
+var setFilters = function(reader, filters){
+	var columnIndex;
+	
+	for (columnIndex in filters){
+		if (filters.hasOwnProperty(columnIndex)){
+			reader.setFilter(parseInt(columnIndex, 10), createFilter(filters[columnIndex]));
+		}
+	}
+};
+
+/**
+ * Creates a native input formatter from a formatter spec.
+ * 
+ * @param {(String|Object|Array)} spec - one of the names <code>trim</code>, 
+ * <code>lowercase</code> or <code>uppercase</code>, or an object with one of the 
+ * properties <code>replace</code>/<code>with</code>, <code>regex</code>/<code>replacement</code>, 
+ * <code>strip</code> or <code>map</code>, or an array of specs applied in order
+ * @returns {InputFormatter} input formatter
+ * @ignore
+ */
+var createFormatter = function(spec){
+	var formatters, valueMap, key;
+	
+	if (spec === 'trim'){
+		return new TrimFormatter();
+	}
+	
+	if (spec === CaseFormatter.LOWER_CASE || spec === CaseFormatter.UPPER_CASE){
+		return new CaseFormatter(spec);
+	}
+	
+	if (util.isSingleArray(spec)){
+		formatters = spec.map(createFormatter);
+		return new ChainedFormatter(Java.to(formatters, 'com.finitejs.modules.read.InputFormatter[]'));
+	}
+	
+	if (!spec || typeof spec !== 'object'){
+		throw "Illegal arguments";
+	}
+	
+	if (spec.replace != null){
+		return new LiteralReplaceFormatter(String(spec.replace), 
+				spec['with'] != null ? String(spec['with']) : '');
+	}
+	
+	if (spec.regex){
+		return new RegExFormatter(spec.regex, 
+				spec.replacement != null ? String(spec.replacement) : '');
+	}
+	
+	if (spec.strip != null){
+		return new StripFormatter(String(spec.strip));
+	}
+	
+	if (spec.map && typeof spec.map === 'object'){
+		valueMap = new HashMap();
+		for (key in spec.map){
+			if (spec.map.hasOwnProperty(key)){
+				valueMap.put(key, spec.map[key] != null ? String(spec.map[key]) : null);
+			}
+		}
+		return new MappingFormatter(valueMap);
+	}
+	
+	throw "Illegal arguments";
+};
+
+/**
+ * Creates a native input validator from a validator spec.
+ * 
+ * @param {(String|Object)} spec - one of the names <code>notEmpty</code> or 
+ * <code>number</code>, or an object with one of the properties <code>regex</code> 
+ * or <code>in</code>
+ * @returns {InputValidator} input validator
+ * @ignore
+ */
+var createValidator = function(spec){
+	
+	if (spec === 'notEmpty'){
+		return new NotEmptyValidator();
+	}
+	
+	if (spec === 'number'){
+		return new NumberValidator();
+	}
+	
+	if (!spec || typeof spec !== 'object'){
+		throw "Illegal arguments";
+	}
+	
+	if (spec.regex){
+		return new RegExValidator(spec.regex);
+	}
+	
+	if (spec['in'] && util.isSingleArray(spec['in'])){
+		return new InSetValidator(util.toStringWithArray(spec['in']));
+	}
+	
+	throw "Illegal arguments";
+};
+
+/**
+ * Set native input formatters and validators from objects with column 
+ * indexes as keys and specs as values.
+ * 
+ * @param {PlainReader} reader - reader to which formatters and validators are set
+ * @param {Object} [formatters] - formatter specs for column indexes
+ * @param {Object} [validators] - validator specs for column indexes
+ * @ignore
+ */
+var setInputFunctions = function(reader, formatters, validators){
+	var columnIndex;
+	
+	for (columnIndex in formatters){
+		if (formatters.hasOwnProperty(columnIndex)){
+			reader.setFormatter(parseInt(columnIndex, 10), createFormatter(formatters[columnIndex]));
+		}
+	}
+	
+	for (columnIndex in validators){
+		if (validators.hasOwnProperty(columnIndex)){
+			reader.setValidator(parseInt(columnIndex, 10), createValidator(validators[columnIndex]));
+		}
+	}
+};
+
+/**
+ * Reads a local file and follows it, rows appended to the file later are 
+ * added to the same table by polling the file in a separate thread.
+ * 
+ * @param {PlainReader} reader - reader with settings
+ * @param {String} path - path to the local file
+ * @param {String} delimiter - delimiter to separate columns in a row
+ * @param {Boolean} isHeaderPresent - true if first non-comment row is header row
+ * @param {(Function|Object)} follow - callback, or an object with optional 
+ * <code>callback</code> and <code>interval</code> properties
+ * @returns {Table} table to which rows are added
+ * @ignore
+ */
+var followFile = function(reader, path, delimiter, isHeaderPresent, follow){
+	var callback, interval, follower;
+	
+	if (typeof follow === 'function'){
+		callback = follow;
+	}else if (typeof follow === 'object'){
+		callback = follow.callback;
+		interval = follow.interval;
+	}else{
+		throw "Illegal arguments";
+	}
+	
+	follower = reader.follow(path, delimiter, isHeaderPresent);
+	
+	if (typeof callback === 'function'){
+		follower.setListener(new FollowListener(function(dataTable, rowCount){
+			return callback(table(dataTable), rowCount) !== false;
+		}));
+	}
+	
+	follower.start(interval || FileFollower.DEFAULT_POLL_INTERVAL);
+	return table(follower.getTable());
+};
+
+/**
+ * Creates a table cache from cache setting.
+ * 
+ * @param {(Boolean|String|Object)} cache - true for default cache, a cache 
+ * directory path, or an object with optional <code>directory</code> and 
+ * <code>maxSize</code> properties
+ * @returns {TableCache} table cache
+ * @ignore
+ */
+var createCache = function(cache){
+	var directory;
+	
+	if (cache === true){
+		return new TableCache();
+	}else if (typeof cache === 'string'){
+		return new TableCache(cache, 0);
+	}else if (typeof cache === 'object'){
+		directory = cache.directory || new TableCache().getDirectory().getPath();
+		return new TableCache(directory, cache.maxSize || 0);
+	}
+	
+	throw "Illegal arguments";
+};
 
 /**
  * Represents a file reader.
@@ -139,22 +396,44 @@ Reader.prototype.names = function(){
 
 /**
  * Set an input formatter for a column with specified index. Only result of the
- * formatter will be stored.
+ * formatter will be stored. A batch formatter is called once for a batch of rows, 
+ * which avoids calling a function for each value. Built-in formatters can be set 
+ * with a spec instead of a function, and are evaluated in Java.
  * 
  * @param {Number} columnIndex - index of the column to which the formatter is set
- * @param {Function} formatter - formatter to use, should be a function that has 
+ * @param {(Function|String|Object|Array)} formatter - formatter to use, should be a function that has 
  * a string argument representing the input value and must return a string value 
- * representing the formatted output
+ * representing the formatted output, or if batch, an array argument with input 
+ * values of a batch of rows and must return an array with formatted output values, 
+ * or a built-in formatter spec, one of <code>'trim'</code>, <code>'lowercase'</code>, 
+ * <code>'uppercase'</code>, <code>{replace: target, with: replacement}</code>, 
+ * <code>{regex: pattern, replacement: replacement}</code>, <code>{strip: characters}</code>, 
+ * <code>{map: {value: newValue}}</code> or an array of specs applied in order
+ * @param {Boolean} [batch=false] - true if formatter formats a batch of values
  * @returns {Reader} current reader instance, can be used for method chaining
  */
-Reader.prototype.format = function(columnIndex, formatter){
+Reader.prototype.format = function(columnIndex, formatter, batch){
+	
+	var inputFormatter;
 	
-	var inputFormatter = new InputFormatter(function(input){
-		return formatter(input);
-	});
+	if (typeof formatter !== 'function'){
+		inputFormatter = createFormatter(formatter);
+	}
 	
 	try{
-		this._reader.setFormatter(columnIndex, inputFormatter);
+		if (inputFormatter){
+			this._reader.setFormatter(columnIndex, inputFormatter);
+		}else if (batch === true){
+			inputFormatter = new BatchInputFormatter(function(inputValues){
+				return Java.to(formatter(Java.from(inputValues)), 'java.lang.String[]');
+			});
+			this._reader.setBatchFormatter(columnIndex, inputFormatter);
+		}else{
+			inputFormatter = new InputFormatter(function(input){
+				return formatter(input);
+			});
+			this._reader.setFormatter(columnIndex, inputFormatter);
+		}
 	}catch(ex){
 		throw "Illegal arguments";
 	}
@@ -163,22 +442,67 @@ Reader.prototype.format = function(columnIndex, formatter){
 
 /**
  * Set an input validator for a column with specified index. If validator returns
- * false for a value, then the whole row will be discarded.
+ * false for a value, then the whole row will be discarded. A batch validator is 
+ * called once for a batch of rows, which avoids calling a function for each value.
+ * Built-in validators can be set with a spec instead of a function, and are 
+ * evaluated in Java.
  * 
  * @param {Number} columnIndex - index of the column to which the formatter is set
- * @param {Function} validator - validator to use, should be a function that has 
+ * @param {(Function|String|Object)} validator - validator to use, should be a function that has 
  * a string argument representing the input value and must return a boolean value 
- * representing valid value or not
+ * representing valid value or not, or if batch, an array argument with input 
+ * values of a batch of rows and must return an array of boolean values, or a 
+ * built-in validator spec, one of <code>'notEmpty'</code>, <code>'number'</code>, 
+ * <code>{regex: pattern}</code> or <code>{in: [values]}</code>
+ * @param {Boolean} [batch=false] - true if validator validates a batch of values
+ * @returns {Reader} current reader instance, can be used for method chaining
+ */
+Reader.prototype.validate = function(columnIndex, validator, batch){
+	
+	var inputValidator;
+	
+	if (typeof validator !== 'function'){
+		inputValidator = createValidator(validator);
+	}
+	
+	try{
+		if (inputValidator){
+			this._reader.setValidator(columnIndex, inputValidator);
+		}else if (batch === true){
+			inputValidator = new BatchInputValidator(function(inputValues){
+				return Java.to(validator(Java.from(inputValues)), 'boolean[]');
+			});
+			this._reader.setBatchValidator(columnIndex, inputValidator);
+		}else{
+			inputValidator = new InputValidator(function(input){
+				return validator(input);
+			});
+			this._reader.setValidator(columnIndex, inputValidator);
+		}
+	}catch(ex){
+		throw "Illegal arguments";
+	}
+	return this;
+};
+
+/**
+ * Set a native input filter for a column with specified index. Filter is
+ * applied to raw values before parsing, and if it rejects a value, then 
+ * the whole row will be discarded. Unlike validators, filters are evaluated 
+ * in Java without calling a function for each value.
+ * 
+ * @param {Number} columnIndex - index of the column to which the filter is set
+ * @param {Object} predicate - predicate to use, one of <code>{equals: value}</code>, 
+ * <code>{min: number, max: number}</code>, <code>{in: [values]}</code>, 
+ * <code>{regex: pattern}</code> or <code>{notNull: true}</code>
  * @returns {Reader} current reader instance, can be used for method chaining
  */
-Reader.prototype.validate = function(columnIndex, validator){
+Reader.prototype.filter = function(columnIndex, predicate){
 	
-	var inputValidator = new InputValidator(function(input){
-		return validator(input);
-	});
+	var inputFilter = createFilter(predicate);
 	
 	try{
-		this._reader.setValidator(columnIndex, inputValidator);
+		this._reader.setFilter(columnIndex, inputFilter);
 	}catch(ex){
 		throw "Illegal arguments";
 	}
@@ -206,10 +530,46 @@ Reader.prototype.comment = function(commentString){
  * Read the specified file and returns the whole data as a {@link Table}.
  * Specified custom delimiter will be used to separate columns.
  * 
- * @param {String} path - path to the file, it can also be a URL
+ * @param {(String|Array)} path - path to the file, it can also be a URL or a glob 
+ * pattern like <code>'events-*.csv'</code>, or an array of paths; multiple files are 
+ * parsed concurrently and appended into a single table
  * @param {Object} [settings] - optional settings object
  * @param {Boolean} [settings.header=true] - true if first non-comment row is header row, else false
  * @param {String} [settings.delimiter=DELIMITER.CSV] - delimiter to separate columns in a row
+ * @param {Boolean} [settings.streaming=false] - true to determine column types from leading 
+ * rows and parse remaining rows directly into the table
+ * @param {Number} [settings.parallel=1] - number of threads used to parse a local file
+ * @param {Number} [settings.sampleSize=1000] - number of rows used to determine column types, 
+ * 0 to use all rows
+ * @param {String} [settings.sampleMode='first'] - 'first' to sample leading rows or 
+ * 'reservoir' to sample random rows
+ * @param {Array} [settings.columns] - names of columns to read, or column indexes if 
+ * header is not present, other columns are skipped
+ * @param {Object} [settings.filters] - predicates of native input filters with column 
+ * indexes as keys, see {@link Reader#filter}
+ * @param {Object} [settings.formatters] - built-in formatter specs with column 
+ * indexes as keys, see {@link Reader#format}
+ * @param {Object} [settings.validators] - built-in validator specs with column 
+ * indexes as keys, see {@link Reader#validate}
+ * @param {Number} [settings.nrows] - maximum number of rows to read, reading stops 
+ * when the limit is reached
+ * @param {Number} [settings.skiprows=0] - number of rows to skip after header
+ * @param {Number} [settings.byteOffset=0] - starting byte position of the part of file to read, 
+ * partial row at the start is skipped
+ * @param {Number} [settings.byteLength] - number of bytes in the part of file to read, 
+ * row at the end is read completely
+ * @param {(Function|Object)} [settings.follow] - follows a growing local file, rows 
+ * appended later are added to the returned table, polling the file in a separate thread; 
+ * a callback called with the table and number of added rows, which can return false 
+ * to stop following, or an object with <code>callback</code> and <code>interval</code> 
+ * in milliseconds (default 1000)
+ * @param {(Boolean|String|Object)} [settings.cache] - caches the table read from a local 
+ * file in a binary form and loads it on later reads until the file is modified; true for 
+ * the default cache directory, a cache directory path, or an object with optional 
+ * <code>directory</code> and <code>maxSize</code> in bytes (default 1 GB)
+ * @param {String} [settings.storage='heap'] - 'heap' to keep column values in heap or 
+ * 'offheap' to store number, date and time values in direct buffers out of heap as rows 
+ * are parsed, for tables larger than heap
  * @returns {Table}
  */
 Reader.prototype.delim = function(path, settings){
@@ -223,13 +583,72 @@ Reader.prototype.delim = function(path, settings){
 		isHeaderPresent = false;
 	}
 	
+	if (settings && settings.streaming != null){
+		this._reader.setStreaming(settings.streaming === true);
+	}
+	
+	if (settings && settings.parallel){
+		this._reader.setParallelism(settings.parallel);
+	}
+	
+	if (settings && settings.sampleSize != null){
+		this._reader.setSampleSize(settings.sampleSize);
+	}
+	
+	if (settings && settings.sampleMode){
+		this._reader.setSampleMode(settings.sampleMode);
+	}
+	
+	if (settings && settings.columns && util.isSingleArray(settings.columns)){
+		this._reader.setProjection(util.toStringWithArray(settings.columns));
+	}
+	
+	if (settings && settings.filters){
+		setFilters(this._reader, settings.filters);
+	}
+	
+	if (settings && (settings.formatters || settings.validators)){
+		setInputFunctions(this._reader, settings.formatters, settings.validators);
+	}
+	
+	if (settings && settings.nrows != null){
+		this._reader.setRowLimit(settings.nrows);
+	}
+	
+	if (settings && settings.skiprows){
+		this._reader.setSkipRows(settings.skiprows);
+	}
+	
+	if (settings && (settings.byteOffset || settings.byteLength)){
+		this._reader.setByteRange(settings.byteOffset || 0, settings.byteLength || 0);
+	}
+	
+	if (settings && settings.cache){
+		this._reader.setCache(createCache(settings.cache));
+	}
+	
+	if (settings && settings.storage){
+		this._reader.setStorage(settings.storage);
+	}
+	
+	if (settings && settings.follow){
+		return followFile(this._reader, path, delimiter, isHeaderPresent, settings.follow);
+	}
+	
+	if (util.isSingleArray(path)){
+		return table(this._reader.read(Java.to(util.toStringWithArray(path), 'java.lang.String[]'), 
+				delimiter, isHeaderPresent));
+	}
+	
 	return table(this._reader.read(path, delimiter, isHeaderPresent));
 };
 
 /**
  * Reads a CSV file and returns the whole data as a {@link Table}.
  * 
- * @param {String} path - path to the file, it can also be a URL
+ * @param {(String|Array)} path - path to the file, it can also be a URL or a glob 
+ * pattern like <code>'events-*.csv'</code>, or an array of paths; multiple files are 
+ * parsed concurrently and appended into a single table
  * @param {Object} [settings] - optional settings object
  * @param {Boolean} [settings.header=true] - true if first non-comment row is header row, else false
  * @returns {Table}
@@ -245,7 +664,9 @@ Reader.prototype.csv = function(path, settings){
 /**
  * Reads a TSV file and returns the whole data as a {@link Table}.
  * 
- * @param {String} path - path to the file, it can also be a URL
+ * @param {(String|Array)} path - path to the file, it can also be a URL or a glob 
+ * pattern like <code>'events-*.csv'</code>, or an array of paths; multiple files are 
+ * parsed concurrently and appended into a single table
  * @param {Object} [settings] - optional settings object
  * @param {Boolean} [settings.header=true] - true if first non-comment row is header row, else false
  * @returns {Table}
@@ -273,12 +694,48 @@ var read = function(){
  * Reads the specified file and returns the whole data as a {@link Table}.
  * Specified custom delimiter will be used to separate columns.
  * 
- * @param {String} path - path to the file, it can also be a URL
+ * @param {(String|Array)} path - path to the file, it can also be a URL or a glob 
+ * pattern like <code>'events-*.csv'</code>, or an array of paths; multiple files are 
+ * parsed concurrently and appended into a single table
  * @param {Object} [settings] - optional settings object
  * @param {Boolean} [settings.header=true] - true if first non-comment row is header row, else false
  * @param {Array} [settings.types] - string representations of column types
  * @param {Array} [settings.names] - column names
  * @param {String} [settings.delimiter=DELIMITER.CSV] - delimiter to separate columns in a row
+ * @param {Boolean} [settings.streaming=false] - true to determine column types from leading 
+ * rows and parse remaining rows directly into the table
+ * @param {Number} [settings.parallel=1] - number of threads used to parse a local file
+ * @param {Number} [settings.sampleSize=1000] - number of rows used to determine column types, 
+ * 0 to use all rows
+ * @param {String} [settings.sampleMode='first'] - 'first' to sample leading rows or 
+ * 'reservoir' to sample random rows
+ * @param {Array} [settings.columns] - names of columns to read, or column indexes if 
+ * header is not present, other columns are skipped
+ * @param {Object} [settings.filters] - predicates of native input filters with column 
+ * indexes as keys, see {@link Reader#filter}
+ * @param {Object} [settings.formatters] - built-in formatter specs with column 
+ * indexes as keys, see {@link Reader#format}
+ * @param {Object} [settings.validators] - built-in validator specs with column 
+ * indexes as keys, see {@link Reader#validate}
+ * @param {Number} [settings.nrows] - maximum number of rows to read, reading stops 
+ * when the limit is reached
+ * @param {Number} [settings.skiprows=0] - number of rows to skip after header
+ * @param {Number} [settings.byteOffset=0] - starting byte position of the part of file to read, 
+ * partial row at the start is skipped
+ * @param {Number} [settings.byteLength] - number of bytes in the part of file to read, 
+ * row at the end is read completely
+ * @param {(Function|Object)} [settings.follow] - follows a growing local file, rows 
+ * appended later are added to the returned table, polling the file in a separate thread; 
+ * a callback called with the table and number of added rows, which can return false 
+ * to stop following, or an object with <code>callback</code> and <code>interval</code> 
+ * in milliseconds (default 1000)
+ * @param {(Boolean|String|Object)} [settings.cache] - caches the table read from a local 
+ * file in a binary form and loads it on later reads until the file is modified; true for 
+ * the default cache directory, a cache directory path, or an object with optional 
+ * <code>directory</code> and <code>maxSize</code> in bytes (default 1 GB)
+ * @param {String} [settings.storage='heap'] - 'heap' to keep column values in heap or 
+ * 'offheap' to store number, date and time values in direct buffers out of heap as rows 
+ * are parsed, for tables larger than heap
  * @returns {Table}
  * @static
  */
@@ -302,7 +759,62 @@ read.delim = function(path, settings){
 	}
 
 	var reader = PlainReader.get(types, names);
-	var dt = reader.read(path, delimiter, isHeaderPresent);
+	
+	if (settings && settings.streaming === true){
+		reader.setStreaming(true);
+	}
+	
+	if (settings && settings.parallel){
+		reader.setParallelism(settings.parallel);
+	}
+	
+	if (settings && settings.sampleSize != null){
+		reader.setSampleSize(settings.sampleSize);
+	}
+	
+	if (settings && settings.sampleMode){
+		reader.setSampleMode(settings.sampleMode);
+	}
+	
+	if (settings && settings.columns && util.isSingleArray(settings.columns)){
+		reader.setProjection(util.toStringWithArray(settings.columns));
+	}
+	
+	if (settings && settings.filters){
+		setFilters(reader, settings.filters);
+	}
+	
+	if (settings && (settings.formatters || settings.validators)){
+		setInputFunctions(reader, settings.formatters, settings.validators);
+	}
+	
+	if (settings && settings.nrows != null){
+		reader.setRowLimit(settings.nrows);
+	}
+	
+	if (settings && settings.skiprows){
+		reader.setSkipRows(settings.skiprows);
+	}
+	
+	if (settings && (settings.byteOffset || settings.byteLength)){
+		reader.setByteRange(settings.byteOffset || 0, settings.byteLength || 0);
+	}
+	
+	if (settings && settings.cache){
+		reader.setCache(createCache(settings.cache));
+	}
+	
+	if (settings && settings.storage){
+		reader.setStorage(settings.storage);
+	}
+	
+	if (settings && settings.follow){
+		return followFile(reader, path, delimiter, isHeaderPresent, settings.follow);
+	}
+	
+	var dt = util.isSingleArray(path) ? 
+			reader.read(Java.to(util.toStringWithArray(path), 'java.lang.String[]'), delimiter, isHeaderPresent) : 
+			reader.read(path, delimiter, isHeaderPresent);
 	return table(dt);
 };
 
@@ -310,11 +822,47 @@ read.delim = function(path, settings){
 /**
  * Reads the specified CSV file and returns the whole data as a {@link Table}.
  * 
- * @param {String} path - path to the file, it can also be a URL
+ * @param {(String|Array)} path - path to the file, it can also be a URL or a glob 
+ * pattern like <code>'events-*.csv'</code>, or an array of paths; multiple files are 
+ * parsed concurrently and appended into a single table
  * @param {Object} [settings] - optional settings object
  * @param {Boolean} [settings.header=true] - true if first non-comment row is header row, else false
  * @param {Array} [settings.types] - string representations of column types
  * @param {Array} [settings.names] - column names
+ * @param {Boolean} [settings.streaming=false] - true to determine column types from leading 
+ * rows and parse remaining rows directly into the table
+ * @param {Number} [settings.parallel=1] - number of threads used to parse a local file
+ * @param {Number} [settings.sampleSize=1000] - number of rows used to determine column types, 
+ * 0 to use all rows
+ * @param {String} [settings.sampleMode='first'] - 'first' to sample leading rows or 
+ * 'reservoir' to sample random rows
+ * @param {Array} [settings.columns] - names of columns to read, or column indexes if 
+ * header is not present, other columns are skipped
+ * @param {Object} [settings.filters] - predicates of native input filters with column 
+ * indexes as keys, see {@link Reader#filter}
+ * @param {Object} [settings.formatters] - built-in formatter specs with column 
+ * indexes as keys, see {@link Reader#format}
+ * @param {Object} [settings.validators] - built-in validator specs with column 
+ * indexes as keys, see {@link Reader#validate}
+ * @param {Number} [settings.nrows] - maximum number of rows to read, reading stops 
+ * when the limit is reached
+ * @param {Number} [settings.skiprows=0] - number of rows to skip after header
+ * @param {Number} [settings.byteOffset=0] - starting byte position of the part of file to read, 
+ * partial row at the start is skipped
+ * @param {Number} [settings.byteLength] - number of bytes in the part of file to read, 
+ * row at the end is read completely
+ * @param {(Function|Object)} [settings.follow] - follows a growing local file, rows 
+ * appended later are added to the returned table, polling the file in a separate thread; 
+ * a callback called with the table and number of added rows, which can return false 
+ * to stop following, or an object with <code>callback</code> and <code>interval</code> 
+ * in milliseconds (default 1000)
+ * @param {(Boolean|String|Object)} [settings.cache] - caches the table read from a local 
+ * file in a binary form and loads it on later reads until the file is modified; true for 
+ * the default cache directory, a cache directory path, or an object with optional 
+ * <code>directory</code> and <code>maxSize</code> in bytes (default 1 GB)
+ * @param {String} [settings.storage='heap'] - 'heap' to keep column values in heap or 
+ * 'offheap' to store number, date and time values in direct buffers out of heap as rows 
+ * are parsed, for tables larger than heap
  * @returns {Table}
  * @static
  */
@@ -330,11 +878,47 @@ read.csv = function(path, settings){
 /**
  * Reads the specified TSV file and returns the whole data as a {@link Table}.
  * 
- * @param {String} path - path to the file, it can also be a URL
+ * @param {(String|Array)} path - path to the file, it can also be a URL or a glob 
+ * pattern like <code>'events-*.csv'</code>, or an array of paths; multiple files are 
+ * parsed concurrently and appended into a single table
  * @param {Object} [settings] - optional settings object
  * @param {Boolean} [settings.header=true] - true if first non-comment row is header row, else false
  * @param {Array} [settings.types] - string representations of column types
  * @param {Array} [settings.names] - column names
+ * @param {Boolean} [settings.streaming=false] - true to determine column types from leading 
+ * rows and parse remaining rows directly into the table
+ * @param {Number} [settings.parallel=1] - number of threads used to parse a local file
+ * @param {Number} [settings.sampleSize=1000] - number of rows used to determine column types, 
+ * 0 to use all rows
+ * @param {String} [settings.sampleMode='first'] - 'first' to sample leading rows or 
+ * 'reservoir' to sample random rows
+ * @param {Array} [settings.columns] - names of columns to read, or column indexes if 
+ * header is not present, other columns are skipped
+ * @param {Object} [settings.filters] - predicates of native input filters with column 
+ * indexes as keys, see {@link Reader#filter}
+ * @param {Object} [settings.formatters] - built-in formatter specs with column 
+ * indexes as keys, see {@link Reader#format}
+ * @param {Object} [settings.validators] - built-in validator specs with column 
+ * indexes as keys, see {@link Reader#validate}
+ * @param {Number} [settings.nrows] - maximum number of rows to read, reading stops 
+ * when the limit is reached
+ * @param {Number} [settings.skiprows=0] - number of rows to skip after header
+ * @param {Number} [settings.byteOffset=0] - starting byte position of the part of file to read, 
+ * partial row at the start is skipped
+ * @param {Number} [settings.byteLength] - number of bytes in the part of file to read, 
+ * row at the end is read completely
+ * @param {(Function|Object)} [settings.follow] - follows a growing local file, rows 
+ * appended later are added to the returned table, polling the file in a separate thread; 
+ * a callback called with the table and number of added rows, which can return false 
+ * to stop following, or an object with <code>callback</code> and <code>interval</code> 
+ * in milliseconds (default 1000)
+ * @param {(Boolean|String|Object)} [settings.cache] - caches the table read from a local 
+ * file in a binary form and loads it on later reads until the file is modified; true for 
+ * the default cache directory, a cache directory path, or an object with optional 
+ * <code>directory</code> and <code>maxSize</code> in bytes (default 1 GB)
+ * @param {String} [settings.storage='heap'] - 'heap' to keep column values in heap or 
+ * 'offheap' to store number, date and time values in direct buffers out of heap as rows 
+ * are parsed, for tables larger than heap
  * @returns {Table}
  * @static
  */
@@ -347,4 +931,21 @@ read.tsv = function(path, settings){
 	return read.delim(path, settings);
 };
 
+/**
+ * Loads a table saved with {@link Table#save}. Values are not parsed again, 
+ * and each column is memory mapped from the file when its values are 
+ * accessed first, so that columns which are not used are not read.
+ * 
+ * @param {String} path - path to the table file
+ * @returns {Table}
+ * @static
+ */
+read.table = function(path){
+	if (!path){
+		throw "Illegal arguments";
+	}
+	
+	return table(TableFile.load(path));
+};
+
 module.exports = read;
\ No newline at end of file
@@ -2,6 +2,7 @@
 
 // java imports
 var StatUtils = Java.type('org.apache.commons.math3.stat.StatUtils');
+var DoubleArray = Java.type('double[]');
 
 /**
  * Module for statistical functions.
@@ -10,6 +11,22 @@ var StatUtils = Java.type('org.apache.commons.math3.stat.StatUtils');
  */
 var stat = {};
 
+/**
+ * Converts values to a Java double array, Java double arrays like 
+ * number columns of tables are used without copying.
+ * 
+ * @param {Number[]} values - first argument
+ * @param {Arguments} args - all arguments
+ * @returns {double[]} values
+ * @ignore
+ */
+var toDoubleArray = function(values, args){
+	if (values instanceof DoubleArray){
+		return values;
+	}
+	return Java.to(Array.isArray(values) ? values : args, "double[]");
+};
+
 /**
  * Returns mean of the values.
  *
@@ -17,8 +34,7 @@ var stat = {};
  * @returns {Number} mean
  */
 stat.mean = function(values) {
-    return Array.isArray(values) ?
-    	StatUtils.mean(Java.to(values, "double[]")) : StatUtils.mean(Java.to(arguments, "double[]"));
+    return StatUtils.mean(toDoubleArray(values, arguments));
 };
 
 /**
@@ -29,9 +45,7 @@ stat.mean = function(values) {
  * occurring element(s) sorted in ascending order
  */
 stat.mode = function(values) {
-    return Array.isArray(values) ?
-    	Java.from(StatUtils.mode(Java.to(values, "double[]"))) : 
-    		Java.from(StatUtils.mode(Java.to(arguments, "double[]")));
+    return Java.from(StatUtils.mode(toDoubleArray(values, arguments)));
 };
 
 /**
@@ -41,8 +55,7 @@ stat.mode = function(values) {
  * @returns {Number} maximum
  */
 stat.max = function(values) {
-    return Array.isArray(values) ?
-    	StatUtils.max(Java.to(values, "double[]")) : StatUtils.max(Java.to(arguments, "double[]"));
+    return StatUtils.max(toDoubleArray(values, arguments));
 };
 
 /**
@@ -52,8 +65,7 @@ stat.max = function(values) {
  * @returns {Number} minimum
  */
 stat.min = function(values) {
-    return Array.isArray(values) ?
-    	StatUtils.min(Java.to(values, "double[]")) : StatUtils.min(Java.to(arguments, "double[]"));
+    return StatUtils.min(toDoubleArray(values, arguments));
 };
 
 /**
@@ -63,8 +75,7 @@ stat.min = function(values) {
  * @returns {Number} sum
  */
 stat.sum = function(values) {
-    return Array.isArray(values) ?
-    	StatUtils.sum(Java.to(values, "double[]")) : StatUtils.sum(Java.to(arguments, "double[]"));
+    return StatUtils.sum(toDoubleArray(values, arguments));
 };
 
 /**
@@ -74,8 +85,7 @@ stat.sum = function(values) {
  * @returns {Number} sum of the natural logs
  */
 stat.sumLog = function(values) {
-    return Array.isArray(values) ?
-    	StatUtils.sumLog(Java.to(values, "double[]")) : StatUtils.sumLog(Java.to(arguments, "double[]"));
+    return StatUtils.sumLog(toDoubleArray(values, arguments));
 };
 
 /**
@@ -85,8 +95,7 @@ stat.sumLog = function(values) {
  * @returns {Number} sum of the squares
  */
 stat.sumSq = function(values) {
-    return Array.isArray(values) ?
-    	StatUtils.sumSq(Java.to(values, "double[]")) : StatUtils.sumSq(Java.to(arguments, "double[]"));
+    return StatUtils.sumSq(toDoubleArray(values, arguments));
 };
 
 /**
@@ -96,8 +105,7 @@ stat.sumSq = function(values) {
  * @returns {Number} product
  */
 stat.product = function(values) {
-    return Array.isArray(values) ?
-    	StatUtils.product(Java.to(values, "double[]")) : StatUtils.product(Java.to(arguments, "double[]"));
+    return StatUtils.product(toDoubleArray(values, arguments));
 };
 
 /**
@@ -107,8 +115,7 @@ stat.product = function(values) {
  * @returns {Number} variance
  */
 stat.variance = function(values) {
-	return Array.isArray(values) ?
-	    StatUtils.variance(Java.to(values, "double[]")) : StatUtils.variance(Java.to(arguments, "double[]"));
+	return StatUtils.variance(toDoubleArray(values, arguments));
 };
 
 /**
@@ -118,9 +125,7 @@ stat.variance = function(values) {
  * @returns {Number} standard deviation
  */
 stat.sd = function(values) {
-    return Array.isArray(values) ?
-    	Math.sqrt(stat.variance(values)) : 
-    		Math.sqrt(stat.variance(Array.prototype.slice.call(arguments).sort()));
+    return Math.sqrt(StatUtils.variance(toDoubleArray(values, arguments)));
 };
 
 /**
@@ -130,9 +135,7 @@ stat.sd = function(values) {
  * @returns {Number[]} normalized values
  */
 stat.normalize = function(values) {
-	return Array.isArray(values) ?
-		Java.from(StatUtils.normalize(Java.to(values, "double[]"))) : 
-			Java.from(StatUtils.normalize(Java.to(arguments, "double[]")));
+	return Java.from(StatUtils.normalize(toDoubleArray(values, arguments)));
 };
 
 /**
@@ -144,11 +147,11 @@ stat.normalize = function(values) {
  */
 stat.percentile = function(values, p) {
 	
-	if (!Array.isArray(values)){
+	if (!Array.isArray(values) && !(values instanceof DoubleArray)){
 		throw 'Illegal argument';
 	}
 	
-	return StatUtils.percentile(Java.to(values, "double[]"), p);
+	return StatUtils.percentile(toDoubleArray(values), p);
 };
 
 module.exports = stat;
@@ -4,6 +4,25 @@
 
 var DataTable = Java.type('com.finitejs.modules.read.DataTable');
 var ArrayList = Java.type('java.util.ArrayList');
+var TableFile = Java.type('com.finitejs.modules.read.TableFile');
+
+/**
+ * Returns index of a column from its index or name.
+ * 
+ * @param {com.finitejs.modules.read.DataTable} dataTable - table with the column
+ * @param {(Number|String)} column - column index or name
+ * @returns {Number} column index
+ * @ignore
+ */
+var getColumnIndex = function(dataTable, column){
+	var colIndex = typeof column === 'string' ? dataTable.getNames().indexOf(column) : column;
+	
+	if (typeof colIndex !== 'number' || colIndex < 0 || colIndex >= dataTable.getColumnCount()){
+		throw "Illegal arguments";
+	}
+	
+	return colIndex;
+};
 
 /**
  * Creates a table instance for storing tabular data.
@@ -118,6 +137,107 @@ Table.prototype.toString = function(start, limit){
 	return this._table.toString();
 };
 
+/**
+ * Saves the table to a binary columnar file, which can be loaded with 
+ * {@link read.table} without parsing the values again. Rows are saved in 
+ * current order of the table, and an existing file is replaced.
+ * 
+ * @param {String} path - path to the file
+ */
+Table.prototype.save = function(path){
+	if (!path){
+		throw "Illegal arguments";
+	}
+	
+	TableFile.save(this._table, path);
+};
+
+/**
+ * Returns values of a number column in row order as a Java 
+ * <code>double[]</code>, with <code>NaN</code> for empty values. 
+ * The array can be passed to {@link stat} functions without conversion.
+ * 
+ * @param {(Number|String)} column - column index or name
+ * @returns {Number[]} column values
+ */
+Table.prototype.numbers = function(column){
+	return this._table.getDoubleColumn(getColumnIndex(this._table, column));
+};
+
+/**
+ * Returns number of true, false and empty values of a boolean column. 
+ * Values are counted without reading them one by one.
+ * 
+ * @param {(Number|String)} column - column index or name
+ * @returns {Object} counts like <code>{true: 10, false: 5, empty: 1}</code>
+ */
+Table.prototype.counts = function(column){
+	var colIndex = getColumnIndex(this._table, column);
+	
+	return {
+		'true': this._table.countTrue(colIndex),
+		'false': this._table.countFalse(colIndex),
+		'empty': this._table.countNull(colIndex)
+	};
+};
+
+/**
+ * Adds a new boolean column with values of two boolean columns combined 
+ * with AND. An empty value is unknown, so false AND empty is false, and 
+ * true AND empty is empty.
+ * 
+ * @param {String} name - name of the new column
+ * @param {(Number|String)} column - first column index or name
+ * @param {(Number|String)} otherColumn - second column index or name
+ * @returns {Table} this table
+ */
+Table.prototype.and = function(name, column, otherColumn){
+	if (typeof name !== 'string'){
+		throw "Illegal arguments";
+	}
+	
+	this._table.addAndColumn(name, getColumnIndex(this._table, column), 
+			getColumnIndex(this._table, otherColumn));
+	return this;
+};
+
+/**
+ * Adds a new boolean column with values of two boolean columns combined 
+ * with OR. An empty value is unknown, so true OR empty is true, and 
+ * false OR empty is empty.
+ * 
+ * @param {String} name - name of the new column
+ * @param {(Number|String)} column - first column index or name
+ * @param {(Number|String)} otherColumn - second column index or name
+ * @returns {Table} this table
+ */
+Table.prototype.or = function(name, column, otherColumn){
+	if (typeof name !== 'string'){
+		throw "Illegal arguments";
+	}
+	
+	this._table.addOrColumn(name, getColumnIndex(this._table, column), 
+			getColumnIndex(this._table, otherColumn));
+	return this;
+};
+
+/**
+ * Adds a new boolean column with negated values of a boolean column, 
+ * empty values remain empty.
+ * 
+ * @param {String} name - name of the new column
+ * @param {(Number|String)} column - column index or name
+ * @returns {Table} this table
+ */
+Table.prototype.not = function(name, column){
+	if (typeof name !== 'string'){
+		throw "Illegal arguments";
+	}
+	
+	this._table.addNotColumn(name, getColumnIndex(this._table, column));
+	return this;
+};
+
 /**
  * Returns underlying {@code com.finitejs.modules.read.DataTable}.
  * 
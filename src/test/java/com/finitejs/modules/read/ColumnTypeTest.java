@@ -139,4 +139,19 @@ public class ColumnTypeTest {
 		assertEquals("time(HH:mm:ss)", type.toString());
 	}
 	
+	@Test
+	public void testFindTypeWithHint(){
+		
+		// ambiguous value keeps the format of the column
+		ColumnType<?> hint = ColumnType.getType("date(M/d/y)");
+		assertEquals("date(y/M/d)", ColumnType.findType("12/11/10").toString());
+		assertEquals("date(M/d/y)", ColumnType.findType("12/11/10", hint).toString());
+		
+		// incompatible value is detected
+		assertEquals("number", ColumnType.findType("10", hint).toString());
+		
+		// only date-time hints are used
+		hint = ColumnType.getType("boolean");
+		assertEquals("string", ColumnType.findType("other", hint).toString());
+	}
 }
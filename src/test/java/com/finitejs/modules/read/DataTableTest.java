@@ -140,4 +140,48 @@ public class DataTableTest {
 		assertEquals("9", table.getFormattedColumn(2).get(1));
 		assertEquals(36, table.getFormattedColumn(2).size());
 	}
+	
+	@Test
+	public void testFindDataTypes(){
+		List<List<String>> data = new ArrayList<>();
+		data.add(Arrays.asList("a", "1", "2014-01-01"));
+		data.add(Arrays.asList("b", "2", "2014-01-02"));
+		data.add(Arrays.asList("c", "x", "2014-01-03"));
+		
+		List<ColumnType<?>> predefinedTypeList = new ArrayList<>();
+		predefinedTypeList.add(ColumnType.getType("string"));
+		
+		List<ColumnType<?>> typeList = DataTable.findDataTypes(data, predefinedTypeList);
+		assertEquals(ColumnType.getType("string"), typeList.get(1));
+		assertEquals(ColumnType.getType("date(y-M-d)"), typeList.get(2));
+		
+		typeList = DataTable.findDataTypes(data, predefinedTypeList, 2, TypeSampler.SAMPLE_FIRST);
+		assertEquals(ColumnType.getType("number"), typeList.get(1));
+	}
+	
+	@Test
+	public void testGetTableWithTypeStrings(){
+		List<List<String>> data = new ArrayList<>();
+		for (int i = 0; i < PlainReader.DEFAULT_SAMPLE_SIZE + 10; i++){
+			data.add(Arrays.asList(String.valueOf(i), i == PlainReader.DEFAULT_SAMPLE_SIZE + 5 ? "NA" : "1"));
+		}
+		
+		DataTable typedTable = DataTable.getTableWithTypeStrings(data, null, null, null);
+		assertArrayEquals(new String[]{"number", "string"}, typedTable.getTypeStrings().toArray());
+		assertEquals("NA", typedTable.getFormattedRow(PlainReader.DEFAULT_SAMPLE_SIZE + 5).get(1));
+	}
+	
+	@Test
+	public void testGetTableWithTypeStringsKeepsText(){
+		List<List<String>> data = new ArrayList<>();
+		for (int i = 0; i < PlainReader.DEFAULT_SAMPLE_SIZE + 10; i++){
+			data.add(Arrays.asList(i == PlainReader.DEFAULT_SAMPLE_SIZE + 5 ? "x" : "007.50"));
+		}
+		
+		// earlier values are parsed again from their text, not converted
+		DataTable typedTable = DataTable.getTableWithTypeStrings(data, null, null, null);
+		assertEquals(Arrays.asList("string"), typedTable.getTypeStrings());
+		assertEquals("007.50", typedTable.getFormattedRow(0).get(0));
+		assertEquals("x", typedTable.getFormattedRow(PlainReader.DEFAULT_SAMPLE_SIZE + 5).get(0));
+	}
 }
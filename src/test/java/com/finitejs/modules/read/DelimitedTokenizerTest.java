@@ -0,0 +1,135 @@
+package com.finitejs.modules.read;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DelimitedTokenizerTest {
+	
+	private List<List<String>> tokenize(String text, String delimiter, String commentString) throws IOException{
+		// small buffer to check records split across buffer refills
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(new StringReader(text), delimiter, 4);
+		tokenizer.setCommentString(commentString);
+		
+		List<List<String>> records = new ArrayList<>();
+		while (tokenizer.next()){
+			records.add(tokenizer.getFields());
+		}
+		return records;
+	}
+	
+	@Test
+	public void testRecords() throws IOException{
+		List<List<String>> records = tokenize("a,b,c\r\n1,2,3", ",", null);
+		
+		assertEquals(2, records.size());
+		assertArrayEquals(new String[]{"a", "b", "c"}, records.get(0).toArray());
+		assertArrayEquals(new String[]{"1", "2", "3"}, records.get(1).toArray());
+	}
+	
+	@Test
+	public void testEmptyFields() throws IOException{
+		List<List<String>> records = tokenize("a,,\n\n", ",", null);
+		
+		assertEquals(2, records.size());
+		assertArrayEquals(new String[]{"a", "", ""}, records.get(0).toArray());
+		assertArrayEquals(new String[]{""}, records.get(1).toArray());
+	}
+	
+	@Test
+	public void testQuotedFields() throws IOException{
+		List<List<String>> records = tokenize("\"a,b\",\"line1\nline2\",\"say \"\"hi\"\"\"\n5\" screen,x", ",", null);
+		
+		assertEquals(2, records.size());
+		assertArrayEquals(new String[]{"a,b", "line1\nline2", "say \"hi\""}, records.get(0).toArray());
+		assertArrayEquals(new String[]{"5\" screen", "x"}, records.get(1).toArray());
+	}
+	
+	@Test
+	public void testComments() throws IOException{
+		List<List<String>> records = tokenize("# comment\na,b\n# another, comment\nc,d", ",", "#");
+		
+		assertEquals(2, records.size());
+		assertArrayEquals(new String[]{"c", "d"}, records.get(1).toArray());
+	}
+	
+	@Test
+	public void testMultiCharDelimiter() throws IOException{
+		List<List<String>> records = tokenize("a||b|c||\"d||e\"", "||", null);
+		
+		assertArrayEquals(new String[]{"a", "b|c", "d||e"}, records.get(0).toArray());
+	}
+	
+	@Test
+	public void testFieldBoundaries() throws IOException{
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(new StringReader("10,\"2\"\"0\""), ",");
+		
+		assertTrue(tokenizer.next());
+		assertEquals(2, tokenizer.getFieldCount());
+		assertEquals("10", new String(tokenizer.getBuffer(), 
+				tokenizer.getFieldOffset(0), tokenizer.getFieldLength(0)));
+		assertEquals(3, tokenizer.getFieldLength(1));
+		assertEquals("2\"0", tokenizer.getCharSequence().subSequence(tokenizer.getFieldOffset(1), 
+				tokenizer.getFieldOffset(1) + tokenizer.getFieldLength(1)).toString());
+		assertFalse(tokenizer.next());
+	}
+	
+	@Test
+	public void testAppendRecord() throws IOException{
+		String text = "# comment\r\na,\"b\r\nc\"\r\nd,e";
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(new StringReader(text), ",");
+		tokenizer.setCommentString("#");
+		
+		StringBuilder records = new StringBuilder();
+		while (tokenizer.nextRaw()){
+			tokenizer.appendRecord(records);
+		}
+		
+		assertEquals("a,\"b\r\nc\"\nd,e\n", records.toString());
+		assertEquals(tokenize(text, ",", "#"), tokenize(records.toString(), ",", "#"));
+	}
+	
+	@Test
+	public void testProjection() throws IOException{
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(new StringReader("a,\"b,\"\"x\",c,d\n1,2\n"), ",", 4);
+		tokenizer.setProjection(new int[]{3, 1});
+		
+		assertTrue(tokenizer.next());
+		assertArrayEquals(new String[]{"b,\"x", "d"}, tokenizer.getFields().toArray());
+		
+		// missing fields are not returned
+		assertTrue(tokenizer.next());
+		assertArrayEquals(new String[]{"2"}, tokenizer.getFields().toArray());
+		assertFalse(tokenizer.next());
+	}
+	
+	@Test
+	public void testRawBytes() throws IOException{
+		String text = "caf\u00e9\u00a7\u00e9\u00a712.5\n\u00a7 comment\n\"\u65e5\u672c\"\u00a7\u00a7x\n";
+		DelimitedTokenizer tokenizer = new DelimitedTokenizer(new RawByteReader(
+				new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))), "\u00a7", 4);
+		tokenizer.setCommentString("\u00a7 ");
+		
+		assertTrue(tokenizer.isRawBytes());
+		assertTrue(tokenizer.next());
+		assertArrayEquals(new String[]{"caf\u00e9", "\u00e9", "12.5"}, tokenizer.getFields().toArray());
+		assertFalse(tokenizer.isDecodedField(0));
+		assertTrue(tokenizer.isDecodedField(2));
+		assertEquals("12.5", tokenizer.getCharSequence().subSequence(
+				tokenizer.getFieldOffset(2), tokenizer.getFieldOffset(2) + tokenizer.getFieldLength(2)).toString());
+		
+		assertTrue(tokenizer.next());
+		assertArrayEquals(new String[]{"\u65e5\u672c", "", "x"}, tokenizer.getFields().toArray());
+		assertFalse(tokenizer.next());
+	}
+}
@@ -1,12 +1,35 @@
 package com.finitejs.modules.read;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import com.finitejs.modules.read.filter.EqualsFilter;
+import com.finitejs.modules.read.filter.InSetFilter;
+import com.finitejs.modules.read.filter.NotNullFilter;
+import com.finitejs.modules.read.filter.RangeFilter;
+import com.finitejs.modules.read.filter.RegExFilter;
+import com.finitejs.modules.read.storage.ChunkedStorage;
+import com.finitejs.modules.read.storage.DirectNumberStorage;
+import com.finitejs.modules.read.storage.DirectTemporalStorage;
+
 public class PlainReaderTest {
 
 	private DataTable table = null;
@@ -45,6 +68,580 @@ public class PlainReaderTest {
     	assertEquals(3, table.getColumnCount());
     }
     
+    @Test
+    public void testStreamingRead() throws IOException{
+    	File file = File.createTempFile("streaming", ".csv");
+    	file.deleteOnExit();
+    	
+    	// number column with a string value after the leading sample
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.println("ID,VALUE");
+    		for (int i = 0; i < PlainReader.DEFAULT_SAMPLE_SIZE * 2; i++){
+    			writer.println(i + "," + (i == PlainReader.DEFAULT_SAMPLE_SIZE + 1 ? "NA" : i));
+    		}
+    	}
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setStreaming(true);
+    	DataTable streamedTable = reader.read(file.getPath());
+    	
+    	assertEquals(PlainReader.DEFAULT_SAMPLE_SIZE * 2, streamedTable.getRowCount());
+    	assertEquals("number", streamedTable.getTypeStrings().get(0));
+    	assertEquals("string", streamedTable.getTypeStrings().get(1));
+    	assertEquals("NA", streamedTable.getFormattedRow(PlainReader.DEFAULT_SAMPLE_SIZE + 1).get(1));
+    	assertEquals("10", streamedTable.getFormattedRow(10).get(1));
+    }
+    
+    @Test
+    public void testSampledRead() throws IOException{
+    	File file = File.createTempFile("sampled", ".csv");
+    	file.deleteOnExit();
+    	
+    	// number column with a string value outside the sample
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.println("ID,VALUE");
+    		for (int i = 0; i < 100; i++){
+    			writer.println(i + "," + (i == 50 ? "NA" : i));
+    		}
+    	}
+    	
+    	for (String sampleMode : new String[]{TypeSampler.SAMPLE_FIRST, TypeSampler.SAMPLE_RESERVOIR}){
+    		PlainReader reader = PlainReader.get();
+    		reader.setSampleSize(10);
+    		reader.setSampleMode(sampleMode);
+    		DataTable sampledTable = reader.read(file.getPath());
+    		
+    		assertEquals(100, sampledTable.getRowCount());
+    		assertEquals("number", sampledTable.getTypeStrings().get(0));
+    		assertEquals("string", sampledTable.getTypeStrings().get(1));
+    		assertEquals("NA", sampledTable.getFormattedRow(50).get(1));
+    		assertEquals("99", sampledTable.getFormattedRow(99).get(1));
+    	}
+    }
+    
+    @Test
+    public void testRetypedColumnKeepsText() throws IOException{
+    	File file = File.createTempFile("retyped", ".csv");
+    	file.deleteOnExit();
+    	
+    	// number and date columns with incompatible values after the sample
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.println("VALUE,DATE");
+    		for (int i = 0; i < 1500; i++){
+    			writer.println((i == 1200 ? "NA" : "007.50") + "," + (i == 1300 ? "x" : "2014-01-02"));
+    		}
+    	}
+    	
+    	DataTable table = PlainReader.get().read(file.getPath());
+    	
+    	assertEquals(Arrays.asList("string", "string"), table.getTypeStrings());
+    	assertEquals(Arrays.asList("007.50", "2014-01-02"), table.getFormattedRow(0));
+    	assertEquals(Arrays.asList("007.50", "2014-01-02"), table.getFormattedRow(1199));
+    	assertEquals(Arrays.asList("NA", "2014-01-02"), table.getFormattedRow(1200));
+    	assertEquals(Arrays.asList("007.50", "x"), table.getFormattedRow(1300));
+    }
+    
+    @Test
+    public void testParallelRead() throws IOException{
+    	File file = File.createTempFile("parallel", ".csv");
+    	file.deleteOnExit();
+    	
+    	int rowCount = 100000;
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.println("ID,ITEM,DATE");
+    		for (int i = 0; i < rowCount; i++){
+    			writer.println(i + ",item" + (i % 10) + ",2014-01-0" + (1 + i % 9));
+    		}
+    	}
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(4);
+    	DataTable parallelTable = reader.read(file.getPath());
+    	DataTable sequentialTable = PlainReader.get().read(file.getPath());
+    	
+    	assertEquals(rowCount, parallelTable.getRowCount());
+    	assertEquals(sequentialTable.getTypeStrings(), parallelTable.getTypeStrings());
+    	for (int i = 0; i < rowCount; i += 999){
+    		assertEquals(sequentialTable.getFormattedRow(i), parallelTable.getFormattedRow(i));
+    	}
+    	assertEquals(String.valueOf(rowCount - 1), parallelTable.getFormattedRow(rowCount - 1).get(0));
+    }
+    
+    @Test
+    public void testParallelQuotedRead() throws IOException{
+    	File file = File.createTempFile("parallelQuoted", ".csv");
+    	file.deleteOnExit();
+    	
+    	// quoted values with line breaks, including lines that look like records
+    	int rowCount = 50000;
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.print("ID,NOTE\n");
+    		for (int i = 0; i < rowCount; i++){
+    			writer.print(i + (i % 7 == 0 ? ",\"first\n" + i + ",\"\"second\"\"\n\"\n" : ",note\n"));
+    		}
+    	}
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(4);
+    	reader.setSampleSize(10);
+    	DataTable parallelTable = reader.read(file.getPath());
+    	
+    	assertEquals(rowCount, parallelTable.getRowCount());
+    	assertEquals("number", parallelTable.getTypeStrings().get(0));
+    	for (int i = 0; i < rowCount; i += 97){
+    		assertEquals(String.valueOf(i), parallelTable.getFormattedRow(i).get(0));
+    	}
+    	assertEquals("first\n49994,\"second\"\n", parallelTable.getFormattedRow(49994).get(1));
+    }
+    
+    @Test
+    public void testPipelinedRead() throws IOException{
+    	
+    	// quoted values with line breaks and comments between batches
+    	int rowCount = PipelinedReader.BATCH_LENGTH / 4;
+    	StringBuilder text = new StringBuilder("ID,NOTE\n");
+    	for (int i = 0; i < rowCount; i++){
+    		text.append(i).append(i % 100 == 0 ? ",\"multi\nline\"\n" : ",note\n");
+    		if (i % 1000 == 0){
+    			text.append("# comment\n");
+    		}
+    	}
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(4);
+    	DataTable pipelinedTable = reader.read(
+    			new BufferedReader(new StringReader(text.toString())), ",", true);
+    	DataTable sequentialTable = PlainReader.get().read(
+    			new BufferedReader(new StringReader(text.toString())), ",", true);
+    	
+    	assertEquals(rowCount, pipelinedTable.getRowCount());
+    	assertEquals(sequentialTable.getTypeStrings(), pipelinedTable.getTypeStrings());
+    	for (int i = 0; i < rowCount; i += 99){
+    		assertEquals(sequentialTable.getFormattedRow(i), pipelinedTable.getFormattedRow(i));
+    	}
+    	assertEquals("multi\nline", pipelinedTable.getFormattedRow(20000).get(1));
+    }
+    
+    @Test
+    public void testProjectedRead() throws IOException{
+    	String text = "ID,NAME,VALUE,DATE\n1,a,10,2014-01-01\n2,\"b,c\",NA,2014-01-02\n3,d\n";
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setProjection(new String[]{"VALUE", "ID"});
+    	reader.setType(1, "string");
+    	DataTable projectedTable = reader.read(new BufferedReader(new StringReader(text)), ",", true);
+    	
+    	// columns are stored in file order, and missing values are null
+    	assertEquals(3, projectedTable.getRowCount());
+    	assertEquals(Arrays.asList("ID", "VALUE"), projectedTable.getNames());
+    	assertEquals(Arrays.asList("number", "string"), projectedTable.getTypeStrings());
+    	assertEquals(Arrays.asList("2", "NA"), projectedTable.getFormattedRow(1));
+    	assertEquals(null, projectedTable.getRow(2).get(1));
+    	
+    	// columns selected by index without header
+    	reader = PlainReader.get();
+    	reader.setProjection(new String[]{"2"});
+    	projectedTable = reader.read(new BufferedReader(new StringReader(text)), ",", false);
+    	
+    	assertEquals(4, projectedTable.getRowCount());
+    	assertEquals(Arrays.asList("2"), projectedTable.getNames());
+    	assertEquals(Arrays.asList("VALUE"), projectedTable.getFormattedRow(0));
+    }
+    
+    @Test
+    public void testProjectedParallelRead() throws IOException{
+    	File file = File.createTempFile("projected", ".csv");
+    	file.deleteOnExit();
+    	
+    	int rowCount = 50000;
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.println("ID,ITEM,DATE");
+    		for (int i = 0; i < rowCount; i++){
+    			writer.println(i + ",item" + (i % 10) + ",2014-01-0" + (1 + i % 9));
+    		}
+    	}
+    	
+    	// projection resolved from the sample is applied to every range
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(4);
+    	reader.setSampleSize(10);
+    	reader.setProjection(new String[]{"DATE", "ID"});
+    	DataTable projectedTable = reader.read(file.getPath());
+    	
+    	reader = PlainReader.get();
+    	reader.setProjection(new String[]{"DATE", "ID"});
+    	DataTable sequentialTable = reader.read(file.getPath());
+    	
+    	assertEquals(rowCount, projectedTable.getRowCount());
+    	assertEquals(Arrays.asList("ID", "DATE"), projectedTable.getNames());
+    	for (int i = 0; i < rowCount; i += 999){
+    		assertEquals(sequentialTable.getFormattedRow(i), projectedTable.getFormattedRow(i));
+    	}
+    	assertEquals("49999", projectedTable.getFormattedRow(rowCount - 1).get(0));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidProjection() throws IOException{
+    	PlainReader reader = PlainReader.get();
+    	reader.setProjection(new String[]{"MISSING"});
+    	reader.read(new BufferedReader(new StringReader("ID,VALUE\n1,2\n")), ",", true);
+    }
+    
+    @Test
+    public void testFilteredRead() throws IOException{
+    	String text = "ID,ITEM,COUNT,DATE\n1,CPU,10,2014-01-01\n2,RAM,NA,2014-02-01\n" + 
+    			"3,\"HDD\",30,2014-01-15\n4,CPU,40,2014-01-20\n5,,50\n";
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setFilter(2, new RangeFilter(20, 50));
+    	reader.setFilter(3, new RegExFilter("^2014-01-"));
+    	DataTable filteredTable = reader.read(new BufferedReader(new StringReader(text)), ",", true);
+    	
+    	// rows with missing date and non-numeric count are discarded
+    	assertEquals(2, filteredTable.getRowCount());
+    	assertEquals("number", filteredTable.getTypeStrings().get(2));
+    	assertEquals(Arrays.asList("3", "HDD", "30"), filteredTable.getFormattedRow(0).subList(0, 3));
+    	
+    	reader = PlainReader.get();
+    	reader.setFilter(new InputFilter[]{new NotNullFilter(), new InSetFilter(new String[]{"RAM", "HDD"})});
+    	filteredTable = reader.read(new BufferedReader(new StringReader(text)), ",", true);
+    	
+    	assertEquals(2, filteredTable.getRowCount());
+    	assertEquals("RAM", filteredTable.getFormattedRow(0).get(1));
+    	assertEquals("HDD", filteredTable.getFormattedRow(1).get(1));
+    	
+    	// filters are applied to columns of projected table
+    	reader = PlainReader.get();
+    	reader.setProjection(new String[]{"ITEM", "COUNT"});
+    	reader.setFilter(0, new EqualsFilter("CPU"));
+    	filteredTable = reader.read(new BufferedReader(new StringReader(text)), ",", true);
+    	
+    	assertEquals(2, filteredTable.getRowCount());
+    	assertEquals(Arrays.asList("CPU", "40"), filteredTable.getFormattedRow(1));
+    }
+    
+    @Test
+    public void testPartialRead() throws IOException{
+    	File file = File.createTempFile("partial", ".csv");
+    	file.deleteOnExit();
+    	
+    	// string value after the rows read
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.print("# comment\nID,VALUE\n");
+    		for (int i = 0; i < 100; i++){
+    			writer.print(i + "," + (i == 50 ? "NA" : i) + "\n");
+    		}
+    	}
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(4);
+    	reader.setSkipRows(5);
+    	reader.setRowLimit(10);
+    	DataTable partialTable = reader.read(file.getPath());
+    	
+    	assertEquals(10, partialTable.getRowCount());
+    	assertEquals("number", partialTable.getTypeStrings().get(1));
+    	assertEquals("5", partialTable.getFormattedRow(0).get(0));
+    	assertEquals("14", partialTable.getFormattedRow(9).get(0));
+    	
+    	// byte range starting and ending within rows 10 and 19, 
+    	// rows before 10 have 4 bytes and others have 6 bytes
+    	int rowStart = "# comment\nID,VALUE\n".length() + 10 * 4;
+    	reader = PlainReader.get();
+    	reader.setByteRange(rowStart + 2, 9 * 6);
+    	partialTable = reader.read(file.getPath());
+    	
+    	assertEquals(Arrays.asList("ID", "VALUE"), partialTable.getNames());
+    	assertEquals(9, partialTable.getRowCount());
+    	assertEquals("11", partialTable.getFormattedRow(0).get(0));
+    	assertEquals("19", partialTable.getFormattedRow(8).get(0));
+    	
+    	// range at line start includes that line
+    	reader = PlainReader.get();
+    	reader.setByteRange(rowStart, 1);
+    	partialTable = reader.read(file.getPath());
+    	
+    	assertEquals(1, partialTable.getRowCount());
+    	assertEquals("10", partialTable.getFormattedRow(0).get(0));
+    }
+    
+    @Test
+    public void testBatchFunctions() throws IOException{
+    	int rowCount = PlainReader.INPUT_BATCH_SIZE * 2 + 10;
+    	StringBuilder text = new StringBuilder("ID,ITEM\n");
+    	for (int i = 0; i < rowCount; i++){
+    		text.append(i).append(",item").append(i % 10).append("\n");
+    	}
+    	
+    	int[] callCount = new int[1];
+    	PlainReader reader = PlainReader.get();
+    	
+    	// odd rows are invalid
+    	reader.setBatchValidator(0, values -> {
+    		callCount[0]++;
+    		boolean[] validValues = new boolean[values.length];
+    		for (int i = 0; i < values.length; i++){
+    			validValues[i] = Integer.parseInt(values[i]) % 2 == 0;
+    		}
+    		return validValues;
+    	});
+    	reader.setFormatter(1, value -> value + "-");
+    	reader.setBatchFormatter(1, values -> {
+    		String[] formattedValues = new String[values.length];
+    		for (int i = 0; i < values.length; i++){
+    			formattedValues[i] = values[i].toUpperCase();
+    		}
+    		return formattedValues;
+    	});
+    	
+    	DataTable batchTable = reader.read(new BufferedReader(new StringReader(text.toString())), ",", true);
+    	
+    	assertEquals(3, callCount[0]);
+    	assertEquals(rowCount / 2, batchTable.getRowCount());
+    	assertEquals(Arrays.asList("4", "ITEM4-"), batchTable.getFormattedRow(2));
+    	assertEquals(String.valueOf(rowCount - 2), batchTable.getFormattedRow(rowCount / 2 - 1).get(0));
+    }
+    
+    @Test
+    public void testUtf8Read() throws IOException{
+    	File file = File.createTempFile("utf8", ".csv");
+    	file.deleteOnExit();
+    	
+    	int rowCount = 20000;
+    	try (PrintWriter writer = new PrintWriter(file, "UTF-8")){
+    		writer.print("ID,CIT\u00c9,VALUE\n");
+    		for (int i = 0; i < rowCount; i++){
+    			writer.print(i + "," + (i % 2 == 0 ? "M\u00fcnchen" : "Paris") + "," + (i % 7) + ".5\n");
+    		}
+    	}
+    	
+    	DataTable sequentialTable = PlainReader.get().read(file.getPath());
+    	assertEquals(Arrays.asList("ID", "CIT\u00c9", "VALUE"), sequentialTable.getNames());
+    	assertEquals(Arrays.asList("number", "string", "number"), sequentialTable.getTypeStrings());
+    	assertEquals(Arrays.asList("0", "M\u00fcnchen", "0.5"), sequentialTable.getFormattedRow(0));
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(4);
+    	reader.setSampleSize(100);
+    	reader.setFilter(1, new EqualsFilter("M\u00fcnchen"));
+    	DataTable parallelTable = reader.read(file.getPath());
+    	assertEquals(rowCount / 2, parallelTable.getRowCount());
+    	assertEquals(Arrays.asList("19998", "M\u00fcnchen", "6.5"), parallelTable.getFormattedRow(rowCount / 2 - 1));
+    	
+    	// header is decoded from raw bytes for a byte range
+    	reader = PlainReader.get();
+    	reader.setByteRange(file.length() / 2, 0);
+    	DataTable rangeTable = reader.read(file.getPath());
+    	assertEquals(Arrays.asList("ID", "CIT\u00c9", "VALUE"), rangeTable.getNames());
+    	assertEquals(String.valueOf(rowCount - 1), rangeTable.getFormattedRow(rangeTable.getRowCount() - 1).get(0));
+    }
+    
+    @Test
+    public void testFollow() throws IOException{
+    	File file = File.createTempFile("follow", ".csv");
+    	file.deleteOnExit();
+    	
+    	try (FileWriter writer = new FileWriter(file)){
+    		writer.write("ID,LEVEL\n1,INFO\n2,WARN\n3,IN");
+    	}
+    	
+    	FileFollower follower = PlainReader.get().follow(file.getPath(), ",", true);
+    	DataTable followedTable = follower.getTable();
+    	assertEquals(2, followedTable.getRowCount());
+    	assertEquals(0, follower.poll());
+    	
+    	int[] addedRowCount = new int[1];
+    	follower.setListener((listenerTable, rowCount) -> {
+    		addedRowCount[0] += rowCount;
+    		return true;
+    	});
+    	
+    	// partial line is read after its line break
+    	try (FileWriter writer = new FileWriter(file, true)){
+    		writer.write("FO\n4,ERROR\n5");
+    	}
+    	assertEquals(2, follower.poll());
+    	assertEquals(2, addedRowCount[0]);
+    	assertEquals(Arrays.asList("3", "INFO"), followedTable.getFormattedRow(2));
+    	assertEquals(Arrays.asList("4", "ERROR"), followedTable.getFormattedRow(3));
+    	assertEquals("number", followedTable.getTypeStrings().get(0));
+    	
+    	// replaced file is read from beginning, skipping header
+    	try (FileWriter writer = new FileWriter(file)){
+    		writer.write("ID,LEVEL\n6,DEBUG\n");
+    	}
+    	assertEquals(1, follower.poll());
+    	assertEquals(Arrays.asList("6", "DEBUG"), followedTable.getFormattedRow(4));
+    }
+    
+    @Test
+    public void testFollowEmptyFile() throws IOException{
+    	File file = File.createTempFile("follow", ".csv");
+    	file.deleteOnExit();
+    	
+    	try (FileWriter writer = new FileWriter(file)){
+    		writer.write("ID,VALUE\n");
+    	}
+    	
+    	FileFollower follower = PlainReader.get().follow(file.getPath(), ",", true);
+    	DataTable followedTable = follower.getTable();
+    	assertEquals(0, followedTable.getRowCount());
+    	
+    	// types are determined from first rows
+    	try (FileWriter writer = new FileWriter(file, true)){
+    		writer.write("1,2.5\n2,3.5\n");
+    	}
+    	assertEquals(2, follower.poll());
+    	assertEquals(Arrays.asList("number", "number"), followedTable.getTypeStrings());
+    	assertEquals(Arrays.asList("2", "3.5"), followedTable.getFormattedRow(1));
+    }
+    
+    @Test
+    public void testMultiFileRead() throws IOException{
+    	File dir = Files.createTempDirectory("multi").toFile();
+    	dir.deleteOnExit();
+    	
+    	for (int day = 1; day <= 3; day++){
+    		File file = new File(dir, "events-2026-10-0" + day + ".csv");
+    		file.deleteOnExit();
+    		try (PrintWriter writer = new PrintWriter(file)){
+    			writer.println("ID,VALUE");
+    			for (int i = 0; i < 1000; i++){
+    				// string value in one file only
+    				writer.println((day * 1000 + i) + "," + (day == 2 && i == 500 ? "NA" : i));
+    			}
+    		}
+    	}
+    	File otherFile = new File(dir, "other.csv");
+    	otherFile.deleteOnExit();
+    	try (PrintWriter writer = new PrintWriter(otherFile)){
+    		writer.println("ID,VALUE");
+    	}
+    	
+    	String pattern = new File(dir, "events-2026-10-*.csv").getPath();
+    	assertEquals(3, MultiFileReader.expandGlob(pattern).size());
+    	
+    	DataTable multiTable = PlainReader.get().read(pattern);
+    	assertEquals(3000, multiTable.getRowCount());
+    	assertEquals(Arrays.asList("number", "string"), multiTable.getTypeStrings());
+    	assertEquals(Arrays.asList("1000", "0"), multiTable.getFormattedRow(0));
+    	assertEquals(Arrays.asList("2500", "NA"), multiTable.getFormattedRow(1500));
+    	assertEquals(Arrays.asList("3999", "999"), multiTable.getFormattedRow(2999));
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(2);
+    	DataTable listTable = reader.read(new String[]{otherFile.getPath(), 
+    			new File(dir, "events-2026-10-03.csv").getPath(), pattern}, ",", true);
+    	assertEquals(4000, listTable.getRowCount());
+    	assertEquals(Arrays.asList("3000", "0"), listTable.getFormattedRow(0));
+    	assertEquals(Arrays.asList("1000", "0"), listTable.getFormattedRow(1000));
+    }
+    
+    @Test
+    public void testBracketedFileName() throws IOException{
+    	File dir = Files.createTempDirectory("multi").toFile();
+    	dir.deleteOnExit();
+    	
+    	// existing file is read as such, not as a glob pattern
+    	File file = new File(dir, "data[2026].csv");
+    	file.deleteOnExit();
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.println("ID,VALUE");
+    		writer.println("1,10");
+    	}
+    	
+    	assertFalse(MultiFileReader.isGlob(file.getPath()));
+    	DataTable table = PlainReader.get().read(file.getPath());
+    	assertEquals(1, table.getRowCount());
+    	assertEquals(Arrays.asList("1", "10"), table.getFormattedRow(0));
+    }
+    
+    @Test(expected = FileNotFoundException.class)
+    public void testUnmatchedGlob() throws IOException{
+    	File dir = Files.createTempDirectory("multi").toFile();
+    	dir.deleteOnExit();
+    	PlainReader.get().read(new File(dir, "*.csv").getPath());
+    }
+    
+    @Test
+    public void testCompressedRead() throws IOException{
+    	File file = File.createTempFile("compressed", ".csv");
+    	file.deleteOnExit();
+    	File gzipFile = File.createTempFile("compressed", ".csv.gz");
+    	gzipFile.deleteOnExit();
+    	File zipFile = File.createTempFile("compressed", ".zip");
+    	zipFile.deleteOnExit();
+    	
+    	// larger than a decompressed chunk
+    	int rowCount = 200000;
+    	try (PrintWriter writer = new PrintWriter(file); 
+    			PrintWriter gzipWriter = new PrintWriter(new GZIPOutputStream(new FileOutputStream(gzipFile))); 
+    			ZipOutputStream zipOutput = new ZipOutputStream(new FileOutputStream(zipFile)); 
+    			PrintWriter zipWriter = new PrintWriter(zipOutput)){
+    		zipOutput.putNextEntry(new ZipEntry("data/"));
+    		zipOutput.putNextEntry(new ZipEntry("data/compressed.csv"));
+    		for (PrintWriter w : Arrays.asList(writer, gzipWriter, zipWriter)){
+    			w.println("ID,ITEM");
+    			for (int i = 0; i < rowCount; i++){
+    				w.println(i + ",item" + (i % 10));
+    			}
+    		}
+    	}
+    	
+    	DataTable plainTable = PlainReader.get().read(file.getPath());
+    	DataTable gzipTable = PlainReader.get().read(gzipFile.getPath());
+    	DataTable zipTable = PlainReader.get().read(zipFile.getPath());
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setParallelism(2);
+    	DataTable pipelinedTable = reader.read(gzipFile.getPath());
+    	
+    	for (DataTable compressedTable : Arrays.asList(gzipTable, zipTable, pipelinedTable)){
+    		assertEquals(rowCount, compressedTable.getRowCount());
+    		assertEquals(plainTable.getTypeStrings(), compressedTable.getTypeStrings());
+    		for (int i = 0; i < rowCount; i += 9999){
+    			assertEquals(plainTable.getFormattedRow(i), compressedTable.getFormattedRow(i));
+    		}
+    		assertEquals(Arrays.asList("199999", "item9"), compressedTable.getFormattedRow(rowCount - 1));
+    	}
+    }
+    
+    @Test
+    public void testOffHeapRead() throws IOException{
+    	File file = File.createTempFile("offheap", ".csv");
+    	file.deleteOnExit();
+    	
+    	try (PrintWriter writer = new PrintWriter(file)){
+    		writer.println("ID,ITEM,DATE,FLAG");
+    		for (int i = 0; i < 3000; i++){
+    			writer.println(i + ",item" + (i % 10) + ",2014-01-0" + (1 + i % 9) + "," + (i % 2 == 0));
+    		}
+    	}
+    	
+    	PlainReader reader = PlainReader.get();
+    	reader.setStorage(PlainReader.STORAGE_OFFHEAP);
+    	DataTable offHeapTable = reader.read(file.getPath());
+    	DataTable heapTable = PlainReader.get().read(file.getPath());
+    	
+    	// values are parsed into direct buffers
+    	assertTrue(((ChunkedStorage<?>) offHeapTable.getColumnList().get(0).get()).getChunk(0) instanceof DirectNumberStorage);
+    	assertTrue(((ChunkedStorage<?>) offHeapTable.getColumnList().get(2).get()).getChunk(0) instanceof DirectTemporalStorage);
+    	
+    	assertEquals(heapTable.getTypeStrings(), offHeapTable.getTypeStrings());
+    	for (int i = 0; i < 3000; i += 99){
+    		assertEquals(heapTable.getRow(i), offHeapTable.getRow(i));
+    	}
+    	
+    	offHeapTable.addRow(Arrays.asList("3000", "item0", "2014-01-01", "true"));
+    	offHeapTable.sort("ID", Column.SORT_ORDER_DESC);
+    	assertEquals(Arrays.asList("3000", "item0", "2014-1-1", "true"), offHeapTable.getFormattedRow(0));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStorage(){
+    	PlainReader.get().setStorage("off-heap");
+    }
+    
     @Test
     public void printTable(){
     	System.out.println(table.getIndexMap());
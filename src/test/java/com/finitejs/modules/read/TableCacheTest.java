@@ -0,0 +1,154 @@
+package com.finitejs.modules.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.filter.EqualsFilter;
+import com.finitejs.modules.read.storage.MappedStorage;
+
+public class TableCacheTest {
+
+	private static File createCsvFile(int rowCount) throws IOException{
+		File file = File.createTempFile("table", ".csv");
+		file.deleteOnExit();
+		try (PrintWriter writer = new PrintWriter(file)){
+			writer.println("ID,NAME");
+			for (int i = 0; i < rowCount; i++){
+				writer.println(i + ",name" + i);
+			}
+		}
+		return file;
+	}
+	
+	private static File createCacheDirectory() throws IOException{
+		File directory = Files.createTempDirectory("cache").toFile();
+		directory.deleteOnExit();
+		return directory;
+	}
+	
+	private static int countEntries(File directory){
+		File[] entries = directory.listFiles((dir, name) -> name.endsWith(".fjt"));
+		return entries == null ? 0 : entries.length;
+	}
+	
+	private static void deleteEntries(File directory){
+		File[] entries = directory.listFiles();
+		if (entries != null){
+			for (File entry : entries){
+				entry.delete();
+			}
+		}
+	}
+	
+	@Test
+	public void testCacheHit() throws IOException{
+		File csvFile = createCsvFile(10);
+		File directory = createCacheDirectory();
+		
+		PlainReader reader = PlainReader.get();
+		reader.setCache(new TableCache(directory.getPath(), 0));
+		DataTable table = reader.read(csvFile.getPath());
+		assertEquals(1, countEntries(directory));
+		assertFalse(table.getColumnList().get(0).get() instanceof MappedStorage);
+		
+		DataTable cachedTable = reader.read(csvFile.getPath());
+		assertTrue(cachedTable.getColumnList().get(0).get() instanceof MappedStorage);
+		assertEquals(table.getNames(), cachedTable.getNames());
+		assertEquals(table.getTypeStrings(), cachedTable.getTypeStrings());
+		for (int i = 0; i < table.getRowCount(); i++){
+			assertEquals(table.getRow(i), cachedTable.getRow(i));
+		}
+		
+		// loaded table is not affected by deleted entries
+		deleteEntries(directory);
+		assertEquals(Arrays.asList(9.0, "name9"), cachedTable.getRow(9));
+	}
+	
+	@Test
+	public void testSettingsAndModification() throws IOException{
+		File csvFile = createCsvFile(10);
+		File directory = createCacheDirectory();
+		TableCache cache = new TableCache(directory.getPath(), 0);
+		
+		PlainReader reader = PlainReader.get();
+		reader.setCache(cache);
+		reader.read(csvFile.getPath());
+		
+		PlainReader filterReader = PlainReader.get();
+		filterReader.setCache(cache);
+		filterReader.setFilter(1, new EqualsFilter("name3"));
+		DataTable filteredTable = filterReader.read(csvFile.getPath());
+		assertEquals(1, filteredTable.getRowCount());
+		assertEquals(2, countEntries(directory));
+		
+		// script functions cannot be cached
+		PlainReader formatterReader = PlainReader.get();
+		formatterReader.setCache(cache);
+		formatterReader.setFormatter(1, value -> value.toUpperCase());
+		assertEquals("NAME0", formatterReader.read(csvFile.getPath()).getRow(0).get(1));
+		assertEquals(2, countEntries(directory));
+		
+		File entry = cache.getEntry(csvFile, "key");
+		try (PrintWriter writer = new PrintWriter(csvFile)){
+			writer.println("ID,NAME");
+			writer.println("1,changed");
+		}
+		assertTrue(csvFile.setLastModified(csvFile.lastModified() + 2000));
+		assertNotEquals(entry, cache.getEntry(csvFile, "key"));
+		
+		DataTable changedTable = reader.read(csvFile.getPath());
+		assertEquals(1, changedTable.getRowCount());
+		assertEquals("changed", changedTable.getRow(0).get(1));
+		assertEquals(3, countEntries(directory));
+		
+		deleteEntries(directory);
+	}
+	
+	@Test
+	public void testEviction() throws IOException{
+		File directory = createCacheDirectory();
+		File firstFile = createCsvFile(1000);
+		File secondFile = createCsvFile(1000);
+		
+		PlainReader reader = PlainReader.get();
+		reader.setCache(new TableCache(directory.getPath(), 0));
+		reader.read(firstFile.getPath());
+		File[] entries = directory.listFiles();
+		assertEquals(1, entries.length);
+		
+		// limit fits only one entry
+		assertTrue(entries[0].setLastModified(entries[0].lastModified() - 10000));
+		reader.setCache(new TableCache(directory.getPath(), entries[0].length() * 3 / 2));
+		reader.read(secondFile.getPath());
+		assertEquals(1, countEntries(directory));
+		assertFalse(entries[0].exists());
+		
+		deleteEntries(directory);
+	}
+	
+	@Test
+	public void testInvalidEntry() throws IOException{
+		File directory = createCacheDirectory();
+		TableCache cache = new TableCache(directory.getPath(), 0);
+		File entry = new File(directory, "invalid.fjt");
+		try (PrintWriter writer = new PrintWriter(entry)){
+			writer.println("ID");
+		}
+		
+		assertNull(cache.load(entry));
+		assertFalse(entry.exists());
+		
+		deleteEntries(directory);
+	}
+}
@@ -0,0 +1,106 @@
+package com.finitejs.modules.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.storage.MappedStorage;
+
+public class TableFileTest {
+
+	private static File createFile(String suffix) throws IOException{
+		File file = File.createTempFile("table", suffix);
+		file.deleteOnExit();
+		return file;
+	}
+	
+	@Test
+	public void testSaveAndLoad() throws IOException{
+		File csvFile = createFile(".csv");
+		try (PrintWriter writer = new PrintWriter(csvFile, "UTF-8")){
+			writer.println("N,S,B,D,DT,T,Z");
+			writer.println("1.5,caf\u00e9,true,2014-01-02,2014-01-02 10:11:12,10:11:12,2014-01-02T10:11:12+05:30");
+			writer.println(",,false,,,,");
+			writer.println("-3,abc,,2015-12-31,1900-02-03 00:00:01,23:59:59,2014-01-02T10:11:12Z");
+		}
+		
+		DataTable table = PlainReader.get().read(csvFile.getPath());
+		table.sort("N", Column.SORT_ORDER_DESC);
+		
+		File tableFile = createFile(".fjt");
+		TableFile.save(table, tableFile.getPath());
+		DataTable loadedTable = TableFile.load(tableFile.getPath());
+		
+		assertEquals(table.getNames(), loadedTable.getNames());
+		assertEquals(table.getTypeStrings(), loadedTable.getTypeStrings());
+		assertEquals(3, loadedTable.getRowCount());
+		
+		// columns are mapped when accessed
+		MappedStorage<?> storage = (MappedStorage<?>) loadedTable.getColumnList().get(0).get();
+		assertFalse(storage.isMapped());
+		
+		for (int i = 0; i < table.getRowCount(); i++){
+			assertEquals(table.getRow(i), loadedTable.getRow(i));
+		}
+		assertTrue(storage.isMapped());
+		assertEquals(Arrays.asList("1.5", "caf\u00e9", "true", "2014-1-2", "2014-1-2 10:11:12",
+				"10:11:12", "2014-1-2T10:11:12+05:30"), loadedTable.getFormattedRow(0));
+		assertNull(loadedTable.getRow(2).get(0));
+		assertEquals(Arrays.asList(0), loadedTable.getIndexMap().get("0"));
+	}
+	
+	@Test
+	public void testModifyLoaded() throws IOException{
+		DataTable table = DataTable.getTableWithTypeStrings(Arrays.asList(
+				Arrays.asList("b", "2"), Arrays.asList("a", "1")), null, null, null);
+		
+		File tableFile = createFile(".fjt");
+		TableFile.save(table, tableFile.getPath());
+		DataTable loadedTable = TableFile.load(tableFile.getPath());
+		
+		loadedTable.addRow(Arrays.asList("c", "0"));
+		loadedTable.sort("1", Column.SORT_ORDER_ASC);
+		
+		assertEquals(Arrays.asList("c", "a", "b"), loadedTable.getFormattedColumn(0));
+		assertEquals(Arrays.asList(2), loadedTable.getIndexMap().get("2"));
+	}
+	
+	@Test
+	public void testManyDistinctStrings() throws IOException{
+		File csvFile = createFile(".csv");
+		try (PrintWriter writer = new PrintWriter(csvFile)){
+			writer.println("ID");
+			for (int i = 0; i < 70000; i++){
+				writer.println("id" + i);
+			}
+		}
+		
+		DataTable table = PlainReader.get().read(csvFile.getPath());
+		File tableFile = createFile(".fjt");
+		TableFile.save(table, tableFile.getPath());
+		DataTable loadedTable = TableFile.load(tableFile.getPath());
+		
+		assertEquals(70000, loadedTable.getRowCount());
+		assertEquals("id0", loadedTable.getRow(0).get(0));
+		assertEquals("id69999", loadedTable.getRow(69999).get(0));
+	}
+	
+	@Test(expected = IOException.class)
+	public void testInvalidFile() throws IOException{
+		File file = createFile(".fjt");
+		try (PrintWriter writer = new PrintWriter(file)){
+			writer.println("ID,VALUE");
+			writer.println("1,2");
+		}
+		
+		TableFile.load(file.getPath());
+	}
+}
@@ -0,0 +1,70 @@
+package com.finitejs.modules.read.formatter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.InputFormatter;
+
+public class RegExFormatterTest {
+	
+	@Test
+	public void testFormat(){
+		RegExFormatter formatter = new RegExFormatter("^(\\d{4})-(\\d{1,2})-(\\d{1,2})$", "$3-$2-$1");
+		
+		assertEquals("14-04-2014", formatter.format("2014-04-14"));
+		assertEquals("14/04/2014", formatter.format("14/04/2014"));
+		assertNull(formatter.format(null));
+	}
+	
+	@Test
+	public void testLiteralFormat(){
+		String[] values = {"1,234,567", ",", "", "no separator", ",,"};
+		
+		RegExFormatter formatter = new RegExFormatter(",", "");
+		for (String value : values){
+			assertEquals(value.replaceAll(",", ""), formatter.format(value));
+		}
+		
+		formatter = new RegExFormatter(",", " - ");
+		for (String value : values){
+			assertEquals(value.replaceAll(",", " - "), formatter.format(value));
+		}
+		
+		formatter = new RegExFormatter("USD", "dollar ");
+		assertEquals("dollar 0", formatter.format("USD0"));
+	}
+	
+	@Test
+	public void testLiteralReplace(){
+		LiteralReplaceFormatter formatter = new LiteralReplaceFormatter("aa", "b");
+		
+		assertEquals("bba", formatter.format("aaaaa"));
+		assertEquals("xyz", formatter.format("xyz"));
+		assertNull(formatter.format(null));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptyLiteralReplace(){
+		new LiteralReplaceFormatter("", "b");
+	}
+	
+	@Test
+	public void testChainedFormat(){
+		Map<String, String> valueMap = new HashMap<>();
+		valueMap.put("yes", "true");
+		valueMap.put("no", "false");
+		
+		ChainedFormatter formatter = new ChainedFormatter(new InputFormatter[]{
+				new TrimFormatter(), new CaseFormatter(CaseFormatter.LOWER_CASE), 
+				new StripFormatter("."), new MappingFormatter(valueMap)});
+		
+		assertEquals("true", formatter.format(" Yes. "));
+		assertEquals("false", formatter.format("NO"));
+		assertEquals("maybe", formatter.format("Maybe"));
+	}
+}
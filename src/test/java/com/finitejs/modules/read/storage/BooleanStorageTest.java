@@ -0,0 +1,170 @@
+package com.finitejs.modules.read.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.Column;
+import com.finitejs.modules.read.DataTable;
+import com.finitejs.modules.read.types.BooleanType;
+import com.finitejs.modules.read.types.NumberType;
+
+public class BooleanStorageTest {
+	
+	private static BooleanStorage create(Boolean... values){
+		BooleanStorage storage = new BooleanStorage();
+		for (Boolean value : values){
+			storage.add(value);
+		}
+		return storage;
+	}
+	
+	@Test
+	public void testAdd(){
+		BooleanStorage storage = create(true, null, false);
+		
+		assertEquals(Arrays.asList(true, null, false), storage);
+		assertTrue(storage.getBoolean(0));
+		assertFalse(storage.getBoolean(1));
+		assertTrue(storage.isNull(1));
+		
+		storage.set(0, null);
+		storage.set(1, true);
+		storage.set(2, false);
+		assertEquals(Arrays.asList(null, true, false), storage);
+	}
+	
+	@Test
+	public void testCount(){
+		BooleanStorage storage = new BooleanStorage();
+		for (int i = 0; i < 1000; i++){
+			storage.add(i % 10 == 0 ? null : i % 2 == 1);
+		}
+		
+		assertEquals(500, storage.countTrue());
+		assertEquals(100, storage.countNull());
+		assertEquals(400, storage.countFalse());
+	}
+	
+	@Test
+	public void testCombine(){
+		BooleanStorage first = create(true, true, true, false, false, false, null, null, null);
+		BooleanStorage second = create(true, false, null, true, false, null, true, false, null);
+		
+		assertEquals(Arrays.asList(true, false, null, false, false, false, null, false, null), 
+				first.and(second));
+		assertEquals(Arrays.asList(true, true, true, true, false, null, true, null, null), 
+				first.or(second));
+		assertEquals(Arrays.asList(false, false, false, true, true, true, null, null, null), 
+				first.not());
+		
+		// unused bits of last word are not counted
+		assertEquals(3, first.not().countFalse());
+		assertEquals(3, first.not().countNull());
+	}
+	
+	@Test
+	public void testCombineWords(){
+		List<Boolean> values = new ArrayList<>();
+		BooleanStorage first = new BooleanStorage();
+		BooleanStorage second = new BooleanStorage();
+		for (int i = 0; i < 130; i++){
+			first.add(i % 3 == 0);
+			second.add(i % 5 == 0);
+			values.add(i % 15 == 0);
+		}
+		
+		BooleanStorage combined = first.and(second);
+		assertEquals(values, combined);
+		assertEquals(9, combined.countTrue());
+		
+		combined.add(true);
+		assertEquals(131, combined.size());
+		assertEquals(10, combined.countTrue());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testDifferentSizes(){
+		create(true).and(create(true, false));
+	}
+	
+	@Test
+	public void testColumn(){
+		Column<Boolean> column = Column.create("B", BooleanType.getType(null));
+		column.parseAndAdd("true");
+		column.parseAndAdd("");
+		
+		assertTrue(((ChunkedStorage<Boolean>) column.get()).getChunk(0) instanceof BooleanStorage);
+		assertNull(column.get(1));
+	}
+	
+	@Test
+	public void testColumnCombine(){
+		Column<Boolean> first = Column.create("A", BooleanType.getType(null));
+		Column<Boolean> second = Column.create("B", BooleanType.getType(null));
+		int rowCount = ChunkedStorage.CHUNK_SIZE + 10;
+		for (int i = 0; i < rowCount; i++){
+			first.add(i % 10 == 0 ? null : i % 2 == 0);
+			second.add(i % 3 == 0);
+		}
+		
+		// counted and combined by chunks
+		assertEquals(rowCount / 10 + 1, first.countNull());
+		assertEquals(rowCount / 2, first.countFalse());
+		assertEquals(rowCount - first.countNull() - first.countFalse(), first.countTrue());
+		
+		Column<Boolean> and = first.and("AND", second);
+		Column<Boolean> or = first.or("OR", second);
+		Column<Boolean> not = first.not("NOT");
+		assertEquals("AND", and.getName());
+		assertEquals(2, ((ChunkedStorage<Boolean>) and.get()).getChunkCount());
+		for (int i = ChunkedStorage.CHUNK_SIZE - 20; i < rowCount; i++){
+			Boolean a = first.get(i);
+			boolean b = second.get(i);
+			assertEquals(a == null ? (b ? null : Boolean.FALSE) : Boolean.valueOf(a && b), and.get(i));
+			assertEquals(a == null ? (b ? Boolean.TRUE : null) : Boolean.valueOf(a || b), or.get(i));
+			assertEquals(a == null ? null : Boolean.valueOf(!a), not.get(i));
+		}
+		
+		// chunks with different row boundaries are combined by rows
+		Column<Boolean> shifted = Column.create("C", BooleanType.getType(null));
+		shifted.add(true);
+		Column<Boolean> rest = Column.create("C", BooleanType.getType(null));
+		for (int i = 1; i < rowCount; i++){
+			rest.add(second.get(i));
+		}
+		shifted.addAll(rest);
+		assertEquals(and.get(), first.and("AND", shifted).get());
+	}
+	
+	@Test
+	public void testTableCombine(){
+		DataTable table = DataTable.getTableWithTypeStrings(Arrays.asList(
+				Arrays.asList("true", "true"), Arrays.asList("false", ""), Arrays.asList("", "false")),
+				Arrays.asList("boolean", "boolean"), Arrays.asList("A", "B"), null);
+		
+		assertEquals(1, table.countTrue(0));
+		assertEquals(1, table.countFalse(0));
+		assertEquals(1, table.countNull(1));
+		
+		table.addAndColumn("AND", 0, 1);
+		table.addOrColumn("OR", 0, 1);
+		table.addNotColumn("NOT", 0);
+		assertEquals(Arrays.asList("A", "B", "AND", "OR", "NOT"), table.getNames());
+		assertEquals(Arrays.asList(true, false, false), table.getColumn(2));
+		assertEquals(Arrays.asList(true, null, null), table.getColumn(3));
+		assertEquals(Arrays.asList(false, true, null), table.getColumn(4));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testCountNotBoolean(){
+		Column.create("N", NumberType.getType()).countTrue();
+	}
+}
@@ -0,0 +1,147 @@
+package com.finitejs.modules.read.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.Column;
+import com.finitejs.modules.read.types.DateType;
+import com.finitejs.modules.read.types.NumberType;
+
+public class ChunkedStorageTest {
+
+	@Test
+	public void testAdd(){
+		ChunkedStorage<Double> storage = new ChunkedStorage<>(NumberStorage::new);
+		for (int i = 0; i < ChunkedStorage.CHUNK_SIZE + 10; i++){
+			storage.add(i % 3 == 0 ? null : (double) i);
+		}
+		
+		assertEquals(ChunkedStorage.CHUNK_SIZE + 10, storage.size());
+		assertEquals(2, storage.getChunkCount());
+		assertEquals(ChunkedStorage.CHUNK_SIZE, storage.getChunkStart(1));
+		assertEquals(ChunkedStorage.CHUNK_SIZE, storage.getChunk(0).size());
+		assertEquals(1, storage.getChunkIndex(ChunkedStorage.CHUNK_SIZE));
+		assertEquals(Double.valueOf(ChunkedStorage.CHUNK_SIZE - 2), storage.get(ChunkedStorage.CHUNK_SIZE - 2));
+		assertEquals(Double.valueOf(ChunkedStorage.CHUNK_SIZE + 1), storage.get(ChunkedStorage.CHUNK_SIZE + 1));
+		assertNull(storage.get(ChunkedStorage.CHUNK_SIZE + 8));
+	}
+	
+	@Test
+	public void testDecodeChunk(){
+		ChunkedStorage<LocalDate> storage = new ChunkedStorage<>(DateStorage::new);
+		for (int i = 0; i < ChunkedStorage.CHUNK_SIZE; i++){
+			storage.add(LocalDate.ofEpochDay(i));
+		}
+		storage.add(LocalDate.MAX);
+		
+		// only the chunk that cannot store the value is stored as objects
+		assertTrue(storage.getChunk(0) instanceof DateStorage);
+		assertTrue(storage.getChunk(1) instanceof ObjectStorage);
+		assertEquals(LocalDate.MAX, storage.get(ChunkedStorage.CHUNK_SIZE));
+	}
+	
+	@Test
+	public void testAddAll(){
+		ChunkedStorage<Double> storage = new ChunkedStorage<>(NumberStorage::new);
+		storage.addAll(Arrays.asList(1.0, 2.0));
+		
+		ChunkedStorage<Double> otherStorage = new ChunkedStorage<>(NumberStorage::new);
+		for (int i = 0; i < ChunkedStorage.CHUNK_SIZE + 3; i++){
+			otherStorage.add((double) i);
+		}
+		
+		storage.addAll(otherStorage);
+		assertEquals(ChunkedStorage.CHUNK_SIZE + 5, storage.size());
+		assertEquals(3, storage.getChunkCount());
+		assertEquals(2, storage.getChunkStart(1));
+		
+		// full chunk is shared, small chunk is copied
+		assertSame(otherStorage.getChunk(0), storage.getChunk(1));
+		assertEquals(Double.valueOf(0), storage.get(2));
+		assertEquals(Double.valueOf(ChunkedStorage.CHUNK_SIZE + 2), storage.get(ChunkedStorage.CHUNK_SIZE + 4));
+		
+		// shared chunk is copied before it is modified
+		storage.set(2, -1.0);
+		assertEquals(Double.valueOf(-1), storage.get(2));
+		assertEquals(Double.valueOf(0), otherStorage.get(0));
+		
+		// values are appended to a new chunk after a shared chunk
+		otherStorage.add(null);
+		assertEquals(ChunkedStorage.CHUNK_SIZE + 4, otherStorage.size());
+		assertEquals(ChunkedStorage.CHUNK_SIZE + 5, storage.size());
+	}
+	
+	@Test
+	public void testUnalignedGet(){
+		ChunkedStorage<Double> storage = new ChunkedStorage<>(NumberStorage::new);
+		storage.add(-1.0);
+		
+		ChunkedStorage<Double> otherStorage = new ChunkedStorage<>(NumberStorage::new);
+		for (int i = 0; i < 2 * ChunkedStorage.CHUNK_SIZE; i++){
+			otherStorage.add((double) i);
+		}
+		storage.addAll(otherStorage);
+		storage.addNumber("7", 0, 1);
+		
+		int size = 2 * ChunkedStorage.CHUNK_SIZE + 2;
+		assertEquals(size, storage.size());
+		assertEquals(4, storage.getChunkCount());
+		
+		// rows are found in any order after shared chunks
+		for (int i = 1; i < size - 1; i += 997){
+			assertEquals(Double.valueOf(i - 1), storage.get(i));
+		}
+		for (int i = size - 2; i > 0; i -= 991){
+			assertEquals(Double.valueOf(i - 1), storage.get(i));
+		}
+		assertEquals(Double.valueOf(-1), storage.get(0));
+		assertEquals(Double.valueOf(7), storage.get(size - 1));
+		assertEquals(3, storage.getChunkIndex(size - 1));
+	}
+	
+	@Test
+	public void testColumn(){
+		Column<Double> column = Column.create("N", NumberType.getType());
+		Column<Double> otherColumn = Column.create("N", NumberType.getType());
+		for (int i = 0; i < ChunkedStorage.CHUNK_SIZE; i++){
+			column.parseAndAdd("1");
+			otherColumn.parseAndAdd(i == 0 ? "" : "2");
+		}
+		column.addAll(otherColumn);
+		
+		double[] values = column.getDoubles();
+		assertEquals(2 * ChunkedStorage.CHUNK_SIZE, values.length);
+		assertArrayEquals(new double[]{1, Double.NaN, 2},
+				Arrays.copyOfRange(values, ChunkedStorage.CHUNK_SIZE - 1, ChunkedStorage.CHUNK_SIZE + 2), 0);
+	}
+	
+	@Test
+	public void testSort(){
+		Column<LocalDate> column = Column.create("D", DateType.getType("yyyy-MM-dd"));
+		for (int i = ChunkedStorage.CHUNK_SIZE; i >= 0; i--){
+			column.add(LocalDate.ofEpochDay(i));
+		}
+		column.add(null);
+		
+		List<String> sortedValues = column.sort(Column.SORT_ORDER_ASC);
+		assertEquals(ChunkedStorage.CHUNK_SIZE + 2, sortedValues.size());
+		assertEquals("1970-01-01", sortedValues.get(1));
+		assertEquals(LocalDate.ofEpochDay(ChunkedStorage.CHUNK_SIZE).toString(),
+				sortedValues.get(sortedValues.size() - 1));
+		
+		// nulls are last in descending order
+		sortedValues = column.sort(Column.SORT_ORDER_DESC);
+		assertEquals(LocalDate.ofEpochDay(ChunkedStorage.CHUNK_SIZE).toString(), sortedValues.get(0));
+		assertEquals("1970-01-01", sortedValues.get(sortedValues.size() - 2));
+		assertEquals("", sortedValues.get(sortedValues.size() - 1));
+	}
+}
@@ -0,0 +1,113 @@
+package com.finitejs.modules.read.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.Column;
+import com.finitejs.modules.read.types.StringType;
+
+public class DictionaryStorageTest {
+	
+	@Test
+	public void testAdd(){
+		DictionaryStorage storage = new DictionaryStorage();
+		storage.add("CPU");
+		storage.add(null);
+		storage.add("x,RAM,y", 2, 3);
+		storage.add("CPU");
+		
+		assertEquals(Arrays.asList("CPU", null, "RAM", "CPU"), storage);
+		assertEquals(Arrays.asList("CPU", "RAM"), storage.getDictionary());
+		assertArrayEquals(new int[]{1, 2, 1}, storage.getCodeCounts());
+		assertSame(storage.get(0), storage.get(3));
+		assertEquals(0, storage.getCode(1));
+		
+		storage.set(1, "RAM");
+		assertEquals(2, storage.getCode(1));
+	}
+	
+	@Test
+	public void testAddAll(){
+		DictionaryStorage storage = new DictionaryStorage();
+		storage.add("a");
+		storage.add("b");
+		
+		DictionaryStorage otherStorage = new DictionaryStorage();
+		otherStorage.add("c");
+		otherStorage.add(null);
+		otherStorage.add("a");
+		
+		assertTrue(storage.addAll(otherStorage));
+		assertEquals(Arrays.asList("a", "b", "c", null, "a"), storage);
+		assertEquals(Arrays.asList("a", "b", "c"), storage.getDictionary());
+	}
+	
+	@Test
+	public void testFull(){
+		DictionaryStorage storage = new DictionaryStorage();
+		for (int i = 0; i < DictionaryStorage.MAX_DICTIONARY_SIZE; i++){
+			storage.add(String.valueOf(i));
+		}
+		
+		assertTrue(storage.accepts("0"));
+		assertTrue(storage.accepts(null));
+		assertFalse(storage.accepts("new"));
+		assertFalse(storage.add("new", 0, 3));
+		assertTrue(storage.add("x10x", 1, 2));
+		assertEquals("10", storage.get(storage.size() - 1));
+	}
+	
+	@Test
+	public void testColumnDecode(){
+		Column<String> column = Column.create("id", StringType.getType());
+		assertTrue(column.isDictionaryEncoded());
+		
+		int rowCount = DictionaryStorage.MAX_DICTIONARY_SIZE + 10;
+		for (int i = rowCount - 1; i >= 0; i--){
+			column.parseAndAdd(String.valueOf(i));
+		}
+		
+		assertFalse(column.isDictionaryEncoded());
+		assertEquals(rowCount, column.get().size());
+		assertEquals(String.valueOf(rowCount - 1), column.get(0));
+		assertNull(Column.create("id", null));
+	}
+	
+	@Test
+	public void testColumnSort(){
+		Column<String> column = Column.create("item", StringType.getType());
+		for (String value : new String[]{"RAM", "CPU", null, "RAM", "Disk"}){
+			column.add(value);
+		}
+		
+		assertEquals(Arrays.asList("", "CPU", "Disk", "RAM", "RAM"), column.sort(Column.SORT_ORDER_ASC));
+		assertEquals(Arrays.asList("RAM", "RAM", "Disk", "CPU", ""), column.sort(Column.SORT_ORDER_DESC));
+		assertEquals(Arrays.asList("RAM", "CPU", "", "RAM", "Disk"), column.getFormattedValues());
+	}
+	
+	@Test
+	public void testCodeChunks(){
+		DictionaryStorage storage = new DictionaryStorage();
+		for (int i = 0; i < ChunkedStorage.CHUNK_SIZE + 2; i++){
+			storage.add(i % 2 == 0 ? "even" : null);
+		}
+		
+		DictionaryStorage otherStorage = new DictionaryStorage();
+		otherStorage.add("odd");
+		storage.addAll(otherStorage);
+		
+		assertEquals(ChunkedStorage.CHUNK_SIZE + 3, storage.size());
+		assertEquals("even", storage.get(ChunkedStorage.CHUNK_SIZE));
+		assertEquals("odd", storage.get(ChunkedStorage.CHUNK_SIZE + 2));
+		assertArrayEquals(new int[]{ChunkedStorage.CHUNK_SIZE / 2 + 1, ChunkedStorage.CHUNK_SIZE / 2 + 1, 1}, 
+				storage.getCodeCounts());
+	}
+}
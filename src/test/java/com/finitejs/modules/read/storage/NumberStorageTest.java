@@ -0,0 +1,136 @@
+package com.finitejs.modules.read.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.Column;
+import com.finitejs.modules.read.DataTable;
+import com.finitejs.modules.read.types.NumberType;
+
+public class NumberStorageTest {
+
+	@Test
+	public void testAdd(){
+		NumberStorage storage = new NumberStorage();
+		storage.add(1.5);
+		storage.add((Double) null);
+		storage.add("x,-2,y", 2, 2);
+		storage.add("NA", 0, 2);
+		storage.addDouble(3);
+		
+		assertEquals(Arrays.asList(1.5, null, -2.0, null, 3.0), storage);
+		assertTrue(storage.isNull(1));
+		assertFalse(storage.isNull(2));
+		assertEquals(-2.0, storage.getDouble(2), 0);
+		assertTrue(Double.isNaN(storage.getDouble(3)));
+		
+		storage.set(1, 4.0);
+		storage.set(0, null);
+		assertEquals(Arrays.asList(null, 4.0, -2.0, null, 3.0), storage);
+	}
+	
+	@Test
+	public void testGetDoubles(){
+		NumberStorage storage = new NumberStorage();
+		for (int i = 0; i < 200; i++){
+			storage.add(i % 70 == 0 ? null : (double) i);
+		}
+		
+		double[] values = new double[10];
+		storage.getDoubles(135, 145, values, 0);
+		assertEquals(135, values[0], 0);
+		assertTrue(Double.isNaN(values[5]));
+		assertEquals(144, values[9], 0);
+		
+		double[] allValues = storage.toDoubleArray();
+		assertEquals(200, allValues.length);
+		assertTrue(Double.isNaN(allValues[0]));
+		assertTrue(Double.isNaN(allValues[70]));
+		assertEquals(199, allValues[199], 0);
+	}
+	
+	@Test
+	public void testAddAll(){
+		NumberStorage storage = new NumberStorage();
+		storage.add(1.0);
+		
+		NumberStorage otherStorage = new NumberStorage();
+		otherStorage.add((Double) null);
+		otherStorage.add(2.0);
+		
+		storage.addAll(otherStorage);
+		assertEquals(Arrays.asList(1.0, null, 2.0), storage);
+	}
+	
+	@Test
+	public void testColumn(){
+		Column<Double> column = Column.create("N", NumberType.getType());
+		column.parseAndAdd("x,10,", 2, 2);
+		column.parseAndAdd("", 0, 0);
+		column.parseAndAdd("2.5");
+		
+		assertTrue(((ChunkedStorage<Double>) column.get()).getChunk(0) instanceof NumberStorage);
+		assertEquals(10, column.getDouble(0), 0);
+		assertNull(column.get(1));
+		assertArrayEquals(new double[]{10, Double.NaN, 2.5}, column.getDoubles(), 0);
+	}
+	
+	@Test
+	public void testDirect(){
+		DirectNumberStorage storage = new DirectNumberStorage();
+		for (int i = 0; i < 3000; i++){
+			if (i % 7 == 0){
+				storage.add((Double) null);
+			}else{
+				storage.addDouble(i);
+			}
+		}
+		storage.add("x12.5", 1, 4);
+		storage.set(7, 1.5);
+		
+		// values are kept when buffer grows
+		assertEquals(3001, storage.size());
+		assertNull(storage.get(0));
+		assertEquals(Double.valueOf(1.5), storage.get(7));
+		assertEquals(2999, storage.getDouble(2999), 0);
+		assertEquals(12.5, storage.getDouble(3000), 0);
+		
+		double[] values = new double[4];
+		storage.getDoubles(2996, 3000, values, 0);
+		assertArrayEquals(new double[]{Double.NaN, 2997, 2998, 2999}, values, 0);
+	}
+	
+	@Test
+	public void testOffHeapColumn(){
+		Column<Double> column = Column.create("N", NumberType.getType(), true);
+		column.parseAndAdd("10");
+		column.parseAndAdd("");
+		column.parseAndAdd("2.5");
+		
+		assertTrue(((ChunkedStorage<Double>) column.get()).getChunk(0) instanceof DirectNumberStorage);
+		assertArrayEquals(new double[]{10, Double.NaN, 2.5}, column.getDoubles(), 0);
+	}
+	
+	@Test
+	public void testDoubleColumn(){
+		DataTable table = DataTable.getTableWithTypeStrings(Arrays.asList(
+				Arrays.asList("b", "2"), Arrays.asList("a", ""), Arrays.asList("c", "1")), null, null, null);
+		table.sort("1", Column.SORT_ORDER_ASC);
+		
+		assertArrayEquals(new double[]{Double.NaN, 1, 2}, table.getDoubleColumn(1), 0);
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testStringColumn(){
+		DataTable table = DataTable.getTableWithTypeStrings(Arrays.asList(
+				Arrays.asList("b", "2")), null, null, null);
+		table.getDoubleColumn(0);
+	}
+}
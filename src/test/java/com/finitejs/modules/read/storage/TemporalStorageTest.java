@@ -0,0 +1,147 @@
+package com.finitejs.modules.read.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.Column;
+import com.finitejs.modules.read.ColumnType;
+import com.finitejs.modules.read.DataTable;
+import com.finitejs.modules.read.types.DateTimeType;
+import com.finitejs.modules.read.types.ZonedDateTimeType;
+
+public class TemporalStorageTest {
+
+	@Test
+	public void testDate(){
+		DateStorage storage = new DateStorage();
+		storage.add(LocalDate.of(2014, 1, 2));
+		storage.add(null);
+		storage.add(LocalDate.of(1900, 12, 31));
+		
+		assertEquals(Arrays.asList(LocalDate.of(2014, 1, 2), null, LocalDate.of(1900, 12, 31)), storage);
+		assertEquals(LocalDate.of(2014, 1, 2).toEpochDay(), storage.getLong(0));
+		assertTrue(storage.compare(1, 2) < 0);
+		assertTrue(storage.compare(0, 2) > 0);
+		assertFalse(storage.accepts(LocalDate.MAX));
+		
+		storage.set(1, LocalDate.of(2000, 1, 1));
+		storage.set(0, null);
+		assertEquals(Arrays.asList(null, LocalDate.of(2000, 1, 1), LocalDate.of(1900, 12, 31)), storage);
+	}
+	
+	@Test
+	public void testTime(){
+		TimeStorage storage = new TimeStorage();
+		storage.add(LocalTime.of(23, 59, 59, 999999999));
+		storage.add(LocalTime.MIDNIGHT);
+		
+		assertEquals(Arrays.asList(LocalTime.of(23, 59, 59, 999999999), LocalTime.MIDNIGHT), storage);
+		assertTrue(storage.compare(0, 1) > 0);
+	}
+	
+	@Test
+	public void testDateTime(){
+		DateTimeStorage storage = new DateTimeStorage();
+		LocalDateTime before = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999000);
+		storage.add(before);
+		storage.add(LocalDateTime.of(1970, 1, 1, 0, 0));
+		
+		assertEquals(before, storage.get(0));
+		assertEquals(-1, storage.getLong(0));
+		assertTrue(storage.compare(0, 1) < 0);
+		assertFalse(storage.accepts(LocalDateTime.of(2014, 1, 2, 10, 11, 12, 1)));
+		assertFalse(storage.accepts(LocalDateTime.MAX));
+	}
+	
+	@Test
+	public void testZonedDateTime(){
+		ZonedDateTimeStorage storage = new ZonedDateTimeStorage();
+		ZonedDateTime utc = ZonedDateTime.of(2014, 1, 2, 10, 11, 12, 0, ZoneOffset.UTC);
+		ZonedDateTime india = utc.withZoneSameInstant(ZoneOffset.ofHoursMinutes(5, 30));
+		ZonedDateTime paris = ZonedDateTime.of(2014, 10, 26, 2, 30, 0, 0, ZoneId.of("Europe/Paris"))
+				.withLaterOffsetAtOverlap();
+		storage.add(india);
+		storage.add(utc);
+		storage.add(paris);
+		storage.add(null);
+		
+		assertEquals(Arrays.asList(india, utc, paris, null), storage);
+		assertEquals(storage.getLong(0), storage.getLong(1));
+		assertEquals(Integer.signum(india.compareTo(utc)), Integer.signum(storage.compare(0, 1)));
+		assertTrue(storage.compare(3, 0) < 0);
+	}
+	
+	@Test
+	public void testColumn(){
+		Column<LocalDateTime> column = Column.create("DT", DateTimeType.getType("yyyy-MM-dd HH:mm:ss"));
+		column.parseAndAdd("2014-01-02 10:11:12");
+		ChunkedStorage<LocalDateTime> storage = (ChunkedStorage<LocalDateTime>) column.get();
+		assertTrue(storage.getChunk(0) instanceof DateTimeStorage);
+		
+		// values with nanoseconds are stored as objects
+		column.add(LocalDateTime.of(2014, 1, 2, 10, 11, 12, 1));
+		assertTrue(storage.getChunk(0) instanceof ObjectStorage);
+		assertEquals(LocalDateTime.of(2014, 1, 2, 10, 11, 12), column.get(0));
+		assertEquals(LocalDateTime.of(2014, 1, 2, 10, 11, 12, 1), column.get(1));
+	}
+	
+	@Test
+	public void testSort(){
+		DataTable table = DataTable.getTableWithTypeStrings(Arrays.asList(
+				Arrays.asList("2015-01-01", "10:00:00", "a"), Arrays.asList("", "", "b"),
+				Arrays.asList("2014-06-01", "09:30:00", "c"), Arrays.asList("2014-06-01", "23:00:00", "d")),
+				Arrays.asList("date(yyyy-MM-dd)", "time(HH:mm:ss)", "string"), null, null);
+		
+		table.sort("0", Column.SORT_ORDER_ASC);
+		assertEquals(Arrays.asList("b", "c", "d", "a"), table.getFormattedColumn(2));
+		
+		table.sort("1", Column.SORT_ORDER_DESC);
+		assertEquals(Arrays.asList("d", "a", "c", "b"), table.getFormattedColumn(2));
+		assertNull(table.getRow(3).get(0));
+	}
+	
+	@Test
+	public void testZonedSort(){
+		Column<ZonedDateTime> column = Column.create("Z", ZonedDateTimeType.getType("yyyy-MM-dd HH:mm:ss XXX"));
+		ZonedDateTime utc = ZonedDateTime.of(2014, 1, 2, 10, 11, 12, 0, ZoneOffset.UTC);
+		ZonedDateTime india = utc.withZoneSameInstant(ZoneOffset.ofHoursMinutes(5, 30));
+		ZonedDateTime earlier = utc.minusHours(1);
+		column.add(india);
+		column.add(null);
+		column.add(utc);
+		column.add(earlier);
+		
+		// same instant in different zones are ordered by local date-time
+		ColumnType<ZonedDateTime> type = column.getType();
+		assertEquals(Arrays.asList(type.format(null), type.format(earlier), type.format(utc), type.format(india)),
+				column.sort(Column.SORT_ORDER_ASC));
+		assertEquals(Arrays.asList(type.format(india), type.format(utc), type.format(earlier), type.format(null)),
+				column.sort(Column.SORT_ORDER_DESC));
+	}
+	
+	@Test
+	public void testDirectDateTime(){
+		DirectTemporalStorage<LocalDateTime> storage = DirectTemporalStorage.ofDateTimes();
+		for (int i = 0; i < 2000; i++){
+			storage.add(i == 1 ? null : LocalDateTime.of(2014, 1, 2, 3, 4, 5).plusSeconds(i));
+		}
+		
+		assertEquals(2000, storage.size());
+		assertNull(storage.get(1));
+		assertEquals(LocalDateTime.of(2014, 1, 2, 3, 4, 5).plusSeconds(1999), storage.get(1999));
+		assertTrue(storage.compare(2, 1999) < 0);
+		assertFalse(storage.accepts(LocalDateTime.MAX));
+	}
+}
@@ -0,0 +1,39 @@
+package com.finitejs.modules.read.types;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DateFormatDetectorTest {
+	
+	@Test
+	public void testGetSignature(){
+		assertEquals("9-9-9", DateFormatDetector.getSignature("2014-01-02"));
+		assertEquals("9/9/9 9:9 a", DateFormatDetector.getSignature("1/2/2014 10:30 PM"));
+		assertEquals("9-9-9a9:9:9+9:9", DateFormatDetector.getSignature("2014-01-02T10:30:15+05:30"));
+		assertEquals("", DateFormatDetector.getSignature(""));
+	}
+	
+	@Test
+	public void testGetCandidateFormats(){
+		
+		assertArrayEquals(new String[]{"y-M-d", "d-M-y"}, 
+				AbstractDateType.DATE_FORMAT_DETECTOR.getCandidateFormats("2014-01-02").toArray());
+		assertArrayEquals(new String[]{"y/M/d", "M/d/y"}, 
+				AbstractDateType.DATE_FORMAT_DETECTOR.getCandidateFormats("1/2/2014").toArray());
+		assertArrayEquals(new String[]{"hh:mm a"}, 
+				AbstractDateType.TIME_FORMAT_DETECTOR.getCandidateFormats("10:30 PM").toArray());
+		assertArrayEquals(new String[]{"y-M-d'T'HH:mm:ssXXX", "EEE MMM d HH:mm:ss zzz y"}, 
+				AbstractDateType.ZONEDDATETIME_FORMAT_DETECTOR.getCandidateFormats("2014-01-02T10:30:15Z").toArray());
+		
+		// zone IDs have any shape
+		assertArrayEquals(new String[]{"EEE MMM d HH:mm:ss zzz y"}, 
+				AbstractDateType.ZONEDDATETIME_FORMAT_DETECTOR.getCandidateFormats(
+						"Tue Oct 06 20:10:00 America/Argentina/Buenos_Aires 2015").toArray());
+		
+		assertTrue(AbstractDateType.DATE_FORMAT_DETECTOR.getCandidateFormats("other").isEmpty());
+		assertTrue(AbstractDateType.DATE_FORMAT_DETECTOR.getCandidateFormats(null).isEmpty());
+	}
+}
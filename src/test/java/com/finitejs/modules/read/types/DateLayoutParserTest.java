@@ -0,0 +1,62 @@
+package com.finitejs.modules.read.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+public class DateLayoutParserTest {
+	
+	@Test
+	public void testGet(){
+		assertNull(DateLayoutParser.get(null));
+		assertNull(DateLayoutParser.get("yyyy-MM-dd"));
+		assertNull(DateLayoutParser.get("y-M-d hh:mm a"));
+		assertNull(DateLayoutParser.get("y-M-y"));
+	}
+	
+	@Test
+	public void testParseEpochDay(){
+		DateLayoutParser parser = DateLayoutParser.get("y-M-d");
+		
+		assertEquals(LocalDate.of(2014, 1, 2).toEpochDay(), parser.parseEpochDay("2014-01-02", 0, 10));
+		assertEquals(LocalDate.of(2014, 1, 2).toEpochDay(), parser.parseEpochDay("2014-1-2", 0, 8));
+		assertEquals(LocalDate.of(1969, 12, 31).toEpochDay(), parser.parseEpochDay("1969-12-31", 0, 10));
+		
+		// day is adjusted to end of month
+		assertEquals(LocalDate.of(2016, 2, 29).toEpochDay(), parser.parseEpochDay("2016-2-31", 0, 9));
+		
+		assertEquals(DateLayoutParser.FAILED, parser.parseEpochDay("2014-13-02", 0, 10));
+		assertEquals(DateLayoutParser.FAILED, parser.parseEpochDay("2014/01/02", 0, 10));
+		assertEquals(DateLayoutParser.FAILED, parser.parseEpochDay(" 2014-01-02", 0, 11));
+		
+		parser = DateLayoutParser.get("M/d/y");
+		assertEquals(LocalDate.of(2014, 1, 2).toEpochDay(), parser.parseEpochDay("1/2/2014", 0, 8));
+	}
+	
+	@Test
+	public void testParseEpochSecond(){
+		DateLayoutParser parser = DateLayoutParser.get("y-M-d HH:mm:ss");
+		
+		long epochSecond = LocalDateTime.of(2014, 1, 2, 10, 30, 15).toEpochSecond(ZoneOffset.UTC);
+		assertEquals(epochSecond, parser.parseEpochSecond("x,2014-01-02 10:30:15", 2, 19));
+		
+		assertEquals(DateLayoutParser.FAILED, parser.parseEpochSecond("2014-01-02 24:00:00", 0, 19));
+		assertEquals(DateLayoutParser.FAILED, parser.parseEpochSecond("2014-01-02 10:30", 0, 16));
+		assertEquals(DateLayoutParser.FAILED, parser.parseEpochSecond("2014-01-02", 0, 10));
+	}
+	
+	@Test
+	public void testParseSecondOfDay(){
+		DateLayoutParser parser = DateLayoutParser.get("HH:mm");
+		
+		assertEquals(LocalTime.of(10, 30).toSecondOfDay(), parser.parseSecondOfDay("10:30", 0, 5));
+		assertEquals(DateLayoutParser.FAILED, parser.parseSecondOfDay("10:60", 0, 5));
+		assertEquals(DateLayoutParser.FAILED, parser.parseSecondOfDay("1:30", 0, 4));
+	}
+}
@@ -68,6 +68,16 @@ public class NumberTypeTest {
 		
 		assertEquals(10d, type.parse("10"), 0.0);
 		assertEquals(10.2567, type.parse("10.2567"), 0.0);
+		assertEquals(-1.5e3, type.parse("-1.5E3"), 0.0);
+	}
+	
+	@Test
+	public void testParseRange(){
+		
+		NumberType type = NumberType.getType();
+		
+		assertNull(type.parse("10,abc", 3, 3));
+		assertEquals(10d, type.parse("10,abc", 0, 2), 0.0);
 	}
 	
 	@Test
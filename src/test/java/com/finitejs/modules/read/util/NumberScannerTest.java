@@ -0,0 +1,94 @@
+package com.finitejs.modules.read.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class NumberScannerTest {
+	
+	@Test
+	public void testScan(){
+		NumberScanner scanner = new NumberScanner();
+		
+		assertTrue(scanner.scan("10"));
+		assertEquals(10d, scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan("-10.25"));
+		assertEquals(-10.25, scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan(".5"));
+		assertEquals(0.5, scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan("1.5e-3"));
+		assertEquals(1.5e-3, scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan(" 12 "));
+		assertEquals(12d, scanner.getValue(), 0.0);
+	}
+	
+	@Test
+	public void testScanInvalid(){
+		NumberScanner scanner = new NumberScanner();
+		
+		assertFalse(scanner.scan((String) null));
+		assertFalse(scanner.scan(""));
+		assertFalse(scanner.scan("."));
+		assertFalse(scanner.scan("-"));
+		assertFalse(scanner.scan("1e"));
+		assertFalse(scanner.scan("1..2"));
+		assertFalse(scanner.scan("11.sss"));
+		assertFalse(scanner.scan("other"));
+	}
+	
+	@Test
+	public void testScanExotic(){
+		NumberScanner scanner = new NumberScanner();
+		
+		assertTrue(scanner.scan("NaN"));
+		assertTrue(Double.isNaN(scanner.getValue()));
+		
+		assertTrue(scanner.scan("-Infinity"));
+		assertEquals(Double.NEGATIVE_INFINITY, scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan("0x1p3"));
+		assertEquals(8d, scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan("1.5f"));
+		assertEquals(1.5, scanner.getValue(), 0.0);
+		
+		// more digits than can be converted exactly
+		assertTrue(scanner.scan("0.1234567890123456789"));
+		assertEquals(Double.parseDouble("0.1234567890123456789"), scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan("1e400"));
+		assertEquals(Double.POSITIVE_INFINITY, scanner.getValue(), 0.0);
+		
+		assertTrue(scanner.scan("0X1.8P1d"));
+		assertEquals(3d, scanner.getValue(), 0.0);
+	}
+	
+	@Test
+	public void testScanInvalidExotic(){
+		NumberScanner scanner = NumberScanner.get();
+		
+		// values starting like NaN or Infinity are invalid without parsing
+		for (String value : new String[]{"NA", "N/A", "NULL", "None", "No", "India", "New York",
+				"Infinit", "NaNx", "-Inf", "0x", "0x1", "0x.p1", "0x1p", "0x1pz", "0x1p1e"}){
+			assertFalse(value, scanner.scan(value));
+		}
+		assertSame(scanner, NumberScanner.get());
+	}
+	
+	@Test
+	public void testScanRange(){
+		NumberScanner scanner = new NumberScanner();
+		
+		assertTrue(scanner.scan("a,42.5,b", 2, 4));
+		assertEquals(42.5, scanner.getValue(), 0.0);
+		
+		assertFalse(scanner.scan("a,42.5,b", 0, 4));
+	}
+}
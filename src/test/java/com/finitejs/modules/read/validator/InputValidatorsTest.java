@@ -0,0 +1,48 @@
+package com.finitejs.modules.read.validator;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.finitejs.modules.read.InputValidator;
+
+public class InputValidatorsTest {
+	
+	@Test
+	public void testNotEmpty(){
+		InputValidator validator = new NotEmptyValidator();
+		
+		assertTrue(validator.validate("a"));
+		assertFalse(validator.validate(""));
+		assertFalse(validator.validate(" \t"));
+		assertFalse(validator.validate(null));
+	}
+	
+	@Test
+	public void testNumber(){
+		InputValidator validator = new NumberValidator();
+		
+		assertTrue(validator.validate("-10.5"));
+		assertFalse(validator.validate("10a"));
+		assertFalse(validator.validate(null));
+	}
+	
+	@Test
+	public void testRegEx(){
+		InputValidator validator = new RegExValidator("^\\d{4}-\\d{1,2}-\\d{1,2}$");
+		
+		assertTrue(validator.validate("2014-04-14"));
+		assertFalse(validator.validate("14-04-2014"));
+		assertFalse(validator.validate(null));
+	}
+	
+	@Test
+	public void testInSet(){
+		InputValidator validator = new InSetValidator(new String[]{"CPU", "RAM"});
+		
+		assertTrue(validator.validate("CPU"));
+		assertFalse(validator.validate("cpu"));
+		assertFalse(validator.validate(null));
+	}
+}